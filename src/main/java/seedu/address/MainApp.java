@@ -2,13 +2,18 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.core.StatsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -23,10 +28,13 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -46,51 +54,126 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private StartupTimer startupTimer;
+    private CompletableFuture<ReadOnlyAddressBook> initialData;
+    private CompletableFuture<List<String>> initialCommandStrings;
+    /** Completes once the settings files have been rewritten at startup. */
+    private CompletableFuture<Void> settingsSaved;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        startupTimer = new StartupTimer();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        Path configFilePath = getConfigFilePath(appParameters.getConfigPath());
+        config = startupTimer.time("config", () -> initConfig(configFilePath));
         initLogging(config);
+        StatsCenter.init(config);
 
+        // the data files are named in the preferences, so only the preferences are read before the UI is built
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = startupTimer.time("prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        CommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // the settings files are rewritten, and the data files read, while the UI is built and shown
+        settingsSaved = CompletableFuture.runAsync(() -> startupTimer.run("settings save", () -> {
+            saveConfig(config, configFilePath);
+            savePrefs(userPrefsStorage, userPrefs);
+        }));
+        initialData = CompletableFuture.supplyAsync(() -> startupTimer.time("data", () -> readInitialData(storage)))
+                .exceptionally(e -> {
+                    logger.severe("Data file could not be read : " + StringUtil.getDetails(e));
+                    return new AddressBook();
+                });
+        initialCommandStrings = CompletableFuture.supplyAsync(() ->
+                startupTimer.time("history", () -> readCommandHistory(storage)))
+                .exceptionally(e -> {
+                    logger.warning("Command history file could not be read : " + StringUtil.getDetails(e));
+                    return List.of();
+                });
 
+        model = new ModelManager(new AddressBook(), userPrefs);
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the {@code AddressBookStorage} for the data file layout chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        if (!userPrefs.isShardedStorage()) {
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+
+        int bucketCount = userPrefs.getShardBucketCount();
+        if (bucketCount < 1) {
+            logger.warning("Shard bucket count " + bucketCount + " is not positive. Using 1 bucket per type.");
+            bucketCount = 1;
+        }
+        return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(), bucketCount);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = storage.readAddressBookSnapshot();
             if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
+                addressBookOptional = storage.readAddressBook();
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (!addressBookOptional.isPresent()) {
+                // the sample data is loaded as saved, so the data file is only written once it is first changed
+                logger.info("Data file " + storage.getAddressBookFilePath() + " not found. Using a sample AddressBook,"
+                        + " which will be saved to it once it is changed.");
+            }
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new AddressBook();
+        }
+    }
+
+    /**
+     * Returns the command strings in {@code storage}'s command history, or none if errors occur when reading it.
+     */
+    private List<String> readCommandHistory(Storage storage) {
+        try {
+            return storage.readCommandHistory();
+        } catch (DataLoadingException e) {
+            logger.warning("Command history file at " + storage.getCommandHistoryFilePath() + " could not be loaded."
+                    + " Will be starting with an empty command history.");
+            return List.of();
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Adds {@code commandStrings}, read from {@code storage}'s command history, to {@code model}. <br>
+     * The command history file is compacted if most of it is made up of duplicates and evicted command strings.
+     */
+    private void initCommandHistory(Storage storage, Model model, List<String> commandStrings) {
+        commandStrings.forEach(model::addCommandString);
+
+        List<String> keptCommandStrings = model.getCommandStrings();
+        if (commandStrings.size() > 2 * keptCommandStrings.size()) {
+            try {
+                storage.saveCommandHistory(keptCommandStrings);
+            } catch (IOException e) {
+                logger.warning("Failed to compact command history file : " + StringUtil.getDetails(e));
+            }
+        }
     }
 
     private void initLogging(Config config) {
@@ -98,42 +181,47 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * Returns {@code configFilePath}, or the default file path {@code Config#DEFAULT_CONFIG_FILE}
      * if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
+    private Path getConfigFilePath(Path configFilePath) {
         if (configFilePath != null) {
             logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+            return configFilePath;
         }
+        return Config.DEFAULT_CONFIG_FILE;
+    }
 
-        logger.info("Using config file : " + configFilePathUsed);
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath},
+     * or a new {@code Config} with default properties if errors occur when reading from the file.
+     */
+    protected Config initConfig(Path configFilePath) {
+        logger.info("Using config file : " + configFilePath);
 
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePath);
             if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
+                logger.info("Creating new config file " + configFilePath);
             }
-            initializedConfig = configOptional.orElse(new Config());
+            return configOptional.orElse(new Config());
         } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
                     + " Using default config properties.");
-            initializedConfig = new Config();
+            return new Config();
         }
+    }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Saves {@code config} to {@code configFilePath}, in case the file was missing to begin with
+     * or there are new/unused fields.
+     */
+    private void saveConfig(Config config, Path configFilePath) {
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            ConfigUtil.saveConfig(config, configFilePath);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-        return initializedConfig;
     }
 
     /**
@@ -145,42 +233,73 @@ public class MainApp extends Application {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using preference file : " + prefsFilePath);
 
-        UserPrefs initializedPrefs;
         try {
             Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
             if (!prefsOptional.isPresent()) {
                 logger.info("Creating new preference file " + prefsFilePath);
             }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+            return prefsOptional.orElse(new UserPrefs());
         } catch (DataLoadingException e) {
             logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
                     + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
+            return new UserPrefs();
         }
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Saves {@code userPrefs} to {@code storage}, in case the file was missing to begin with
+     * or there are new/unused fields.
+     */
+    private void savePrefs(UserPrefsStorage storage, UserPrefs userPrefs) {
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+        startupTimer.run("ui", () -> ui.start(primaryStage));
+
+        // the persons are shown once the data files are read, and commands entered before then wait for them
+        CompletableFuture<Void> dataShown = initialData.thenAcceptBothAsync(initialCommandStrings,
+                this::showInitialData, Platform::runLater);
+        logic.holdCommandsUntil(dataShown);
+        dataShown.whenComplete((result, error) -> startupTimer.logSummary(logger));
+    }
+
+    /**
+     * Fills the model, and so the UI already shown, with the data and command strings read at startup.
+     */
+    private void showInitialData(ReadOnlyAddressBook data, List<String> commandStrings) {
+        startupTimer.run("data shown", () -> {
+            model.loadAddressBook(data);
+            initCommandHistory(storage, model, commandStrings);
+            ui.showLoadedData();
+        });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        // the address book changes still being saved are written before the app exits
+        logic.shutdown();
+        // the preferences saved at startup must not be written over the ones saved now
+        settingsSaved.handle((result, error) -> null).join();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (StatsCenter.isEnabled()) {
+            try {
+                StatsCenter.saveReport(config.getStatsFilePath());
+            } catch (IOException e) {
+                logger.warning("Failed to save command statistics " + StringUtil.getDetails(e));
+            }
+        }
+        LogsCenter.shutdown();
     }
 }
@@ -0,0 +1,217 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a dedicated writer thread through a bounded queue, so that logging
+ *   never performs I/O on the calling thread.
+ * The writer thread publishes each record to the target handlers in the order the records were logged.
+ * When the queue is full, records are either dropped or the caller is blocked, according to the
+ *   {@link OverflowPolicy}. Dropped records are counted and reported through the target handlers.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a log record when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Discards the record, so the caller never waits. */
+        DROP,
+        /** Blocks the caller until there is space in the queue, so no record is lost. */
+        BLOCK
+    }
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final long FLUSH_POLL_MILLIS = 1;
+    private static final LogRecord SHUTDOWN_SIGNAL = new LogRecord(Level.OFF, "");
+
+    private final BlockingQueue<LogRecord> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final List<Handler> targets;
+    private final Thread writer;
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile boolean isShutdown = false;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that publishes to {@code targets} and holds at most {@code capacity}
+     *   pending records.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        requireNonNull(overflowPolicy);
+        requireNonNull(targets);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.targets = new ArrayList<>(Arrays.asList(targets));
+        setLevel(Level.ALL);
+
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public int getCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns the handlers that records are published to.
+     */
+    public Handler[] getTargets() {
+        return targets.toArray(new Handler[0]);
+    }
+
+    /**
+     * Returns the number of records dropped since the last time dropped records were reported.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isShutdown || !isLoggable(record)) {
+            return;
+        }
+        // The caller of the logger is inferred lazily from the current stack, so it must be inferred here,
+        // before the record is handed to the writer thread.
+        record.getSourceClassName();
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                queue.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount.incrementAndGet();
+                return;
+            }
+        } else if (!queue.offer(record)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        enqueuedCount.incrementAndGet();
+    }
+
+    /**
+     * Waits until every record published before this call has been written, then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        long target = enqueuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        while (writtenCount.get() < target && writer.isAlive() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(FLUSH_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes every pending record and stops the writer thread, without closing the target handlers.
+     * Records published after this call are ignored.
+     */
+    public void shutdown() {
+        if (isShutdown) {
+            return;
+        }
+        isShutdown = true;
+        try {
+            if (queue.offer(SHUTDOWN_SIGNAL, SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes every pending record, stops the writer thread and closes the target handlers.
+     */
+    @Override
+    public void close() {
+        shutdown();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Runs on the writer thread, publishing records to the targets until the shutdown signal is received.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // Only shutdown() stops the writer; keep draining the queue.
+                continue;
+            }
+            queue.drainTo(batch);
+
+            boolean isShutdownReceived = false;
+            for (LogRecord record : batch) {
+                if (record == SHUTDOWN_SIGNAL) {
+                    isShutdownReceived = true;
+                    continue;
+                }
+                publishToTargets(record);
+                writtenCount.incrementAndGet();
+            }
+            batch.clear();
+            reportDroppedRecords();
+
+            if (isShutdownReceived) {
+                return;
+            }
+            if (queue.isEmpty()) {
+                targets.forEach(Handler::flush);
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING,
+                    dropped + " log records were dropped because the log queue was full");
+            record.setLoggerName(AsyncLogHandler.class.getName());
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            record.setSourceMethodName("publish");
+            publishToTargets(record);
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Log handler failed to publish a record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -16,7 +17,11 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private int logQueueSize = 1024;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.DROP;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean statsEnabled = true;
+    private Path statsFilePath = Paths.get("stats.json");
 
     public Level getLogLevel() {
         return logLevel;
@@ -26,6 +31,22 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public int getLogQueueSize() {
+        return logQueueSize;
+    }
+
+    public void setLogQueueSize(int logQueueSize) {
+        this.logQueueSize = logQueueSize;
+    }
+
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -34,6 +55,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isStatsEnabled() {
+        return statsEnabled;
+    }
+
+    public void setStatsEnabled(boolean statsEnabled) {
+        this.statsEnabled = statsEnabled;
+    }
+
+    public Path getStatsFilePath() {
+        return statsFilePath;
+    }
+
+    public void setStatsFilePath(Path statsFilePath) {
+        this.statsFilePath = statsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,19 +84,27 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && logQueueSize == otherConfig.logQueueSize
+                && Objects.equals(logOverflowPolicy, otherConfig.logOverflowPolicy)
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && statsEnabled == otherConfig.statsEnabled
+                && Objects.equals(statsFilePath, otherConfig.statsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logQueueSize, logOverflowPolicy, userPrefsFilePath, statsEnabled, statsFilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
+                .add("logQueueSize", logQueueSize)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("statsEnabled", statsEnabled)
+                .add("statsFilePath", statsFilePath)
                 .toString();
     }
 
@@ -0,0 +1,192 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A lock-free histogram of latencies, recorded in nanoseconds.
+ * Values are grouped into log-linear buckets: every power of two is split into {@code SUB_BUCKET_COUNT} equally
+ *   sized sub-buckets, so any reported percentile is within 1/{@code SUB_BUCKET_COUNT} of the recorded value.
+ * Recording only performs atomic increments, so it is safe to call from any thread without locking.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // 2^43 ns is a little over two hours; anything longer falls into a single overflow bucket.
+    private static final int MAX_EXPONENT = 42;
+    private static final int OVERFLOW_BUCKET = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final int BUCKET_COUNT = OVERFLOW_BUCKET + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a single latency of {@code nanos} nanoseconds. Negative values are treated as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : totalNanos.sum() / currentCount;
+    }
+
+    /**
+     * Returns the latency in nanoseconds at or below which {@code percentile} percent of the recorded values fall.
+     * Returns 0 if nothing has been recorded.
+     *
+     * @param percentile a value between 0 (exclusive) and 100 (inclusive).
+     */
+    public long getPercentileNanos(double percentile) {
+        assert percentile > 0 && percentile <= 100;
+
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = buckets.get(i);
+            total += bucketCounts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns an immutable summary of the current state of this histogram.
+     */
+    public Summary getSummary() {
+        return new Summary(getCount(), toMicros(getMeanNanos()), toMicros(getPercentileNanosOrZero(50)),
+                toMicros(getPercentileNanosOrZero(95)), toMicros(getPercentileNanosOrZero(99)),
+                toMicros(getMaxNanos()));
+    }
+
+    private long getPercentileNanosOrZero(double percentile) {
+        return getCount() == 0 ? 0 : getPercentileNanos(percentile);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * Returns the index of the bucket that {@code value} falls into.
+     */
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return OVERFLOW_BUCKET;
+        }
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into the bucket at {@code index}.
+     */
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        if (index == OVERFLOW_BUCKET) {
+            return Long.MAX_VALUE;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long lowerBound = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * An immutable summary of a {@code LatencyHistogram}, with all latencies in microseconds.
+     */
+    public static class Summary {
+        private final long count;
+        private final long meanMicros;
+        private final long p50Micros;
+        private final long p95Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+
+        /**
+         * Constructs a {@code Summary} with the given values.
+         */
+        public Summary(long count, long meanMicros, long p50Micros, long p95Micros, long p99Micros,
+                       long maxMicros) {
+            this.count = count;
+            this.meanMicros = meanMicros;
+            this.p50Micros = p50Micros;
+            this.p95Micros = p95Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMeanMicros() {
+            return meanMicros;
+        }
+
+        public long getP50Micros() {
+            return p50Micros;
+        }
+
+        public long getP95Micros() {
+            return p95Micros;
+        }
+
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("count", count)
+                    .add("meanMicros", meanMicros)
+                    .add("p50Micros", p50Micros)
+                    .add("p95Micros", p95Micros)
+                    .add("p99Micros", p99Micros)
+                    .add("maxMicros", maxMicros)
+                    .toString();
+        }
+    }
+}
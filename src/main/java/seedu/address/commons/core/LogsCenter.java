@@ -6,16 +6,23 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not perform
+ *   I/O on the calling thread. Pending messages are written when {@link #shutdown()} is called, or when the JVM
+ *   exits.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -24,11 +31,13 @@ public class LogsCenter {
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler;
 
     // This static block ensures essential loggers are created early
     static {
         setBaseLogger();
         logger = LogsCenter.getLogger(LogsCenter.class);
+        Runtime.getRuntime().addShutdownHook(new Thread(LogsCenter::shutdown, "log-shutdown"));
     }
 
     /**
@@ -40,6 +49,19 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        setAsyncHandler(config.getLogQueueSize(), config.getLogOverflowPolicy());
+    }
+
+    /**
+     * Writes all pending log messages and closes the log handlers. Messages logged afterwards are discarded.
+     */
+    public static synchronized void shutdown() {
+        if (asyncHandler == null) {
+            return;
+        }
+        baseLogger.removeHandler(asyncHandler);
+        asyncHandler.close();
+        asyncHandler = null;
     }
 
     /**
@@ -75,7 +97,35 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
+     * Replaces the {@code AsyncLogHandler} of the {@code baseLogger} with one that holds at most {@code queueSize}
+     * pending messages and handles overflow according to {@code overflowPolicy}. Pending messages of the replaced
+     * handler are written before the new handler is attached, so no message is written by both. Does nothing if the
+     * current handler already uses these settings.
+     */
+    private static synchronized void setAsyncHandler(int queueSize, OverflowPolicy overflowPolicy) {
+        if (asyncHandler == null) {
+            return;
+        }
+        if (queueSize <= 0) {
+            logger.warning("Log queue size must be positive, ignoring: " + queueSize);
+            return;
+        }
+        if (asyncHandler.getCapacity() == queueSize && asyncHandler.getOverflowPolicy() == overflowPolicy) {
+            return;
+        }
+        AsyncLogHandler oldHandler = asyncHandler;
+        AsyncLogHandler newHandler = new AsyncLogHandler(queueSize, overflowPolicy, oldHandler.getTargets());
+        // the old handler is detached and drained before the new one is attached, as a record published to both
+        // would be written twice to the same targets
+        baseLogger.removeHandler(oldHandler);
+        oldHandler.shutdown();
+        asyncHandler = newHandler;
+        baseLogger.addHandler(newHandler);
+    }
+
+    /**
+     * Creates a logger named 'ab3', containing an {@code AsyncLogHandler} that writes to a {@code ConsoleHandler}
+     * and a {@code FileHandler}.
      * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
@@ -89,17 +139,25 @@ public class LogsCenter {
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
 
         // add a FileHandler to log to a file
+        Handler[] targets;
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            targets = new Handler[] {consoleHandler, fileHandler};
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            // logger has not been created yet, so the warning is logged directly to the console
+            consoleHandler.publish(new LogRecord(Level.WARNING,
+                    "Error adding file handler for logger."));
+            targets = new Handler[] {consoleHandler};
         }
+
+        Config defaultConfig = new Config();
+        asyncHandler = new AsyncLogHandler(defaultConfig.getLogQueueSize(), defaultConfig.getLogOverflowPolicy(),
+                targets);
+        baseLogger.addHandler(asyncHandler);
     }
 
 
@@ -3,8 +3,10 @@ package seedu.address.commons.core;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.CommandWord;
@@ -59,6 +61,13 @@ public class ShortcutSettings implements Serializable {
         return shortcutMap.getOrDefault(alias, alias);
     }
 
+    /**
+     * Returns a copy of the aliases that have a mapping registered.
+     */
+    public Set<String> getShortcutAliases() {
+        return new LinkedHashSet<>(shortcutMap.keySet());
+    }
+
     /**
      * Cleans up bad mappings from the shortcutMap.
      * Duplicate keys are handled automatically.
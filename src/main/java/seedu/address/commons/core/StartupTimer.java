@@ -0,0 +1,85 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Records how long each phase of startup takes, so that slow startups can be traced to the phase responsible.
+ * Phases may be timed on different threads at the same time, so the sum of the phases can exceed the total.
+ */
+public class StartupTimer {
+
+    private final long startNanos;
+    private final Map<String, Long> phaseNanos = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Creates a {@code StartupTimer} whose total is timed from now.
+     */
+    public StartupTimer() {
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs {@code task} and records the time it takes against {@code phase}, even if it fails.
+     *
+     * @return the result of {@code task}.
+     */
+    public <T> T time(String phase, Supplier<T> task) {
+        requireNonNull(phase);
+        requireNonNull(task);
+        final long phaseStartNanos = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            phaseNanos.put(phase, System.nanoTime() - phaseStartNanos);
+        }
+    }
+
+    /**
+     * Runs {@code task} and records the time it takes against {@code phase}, even if it fails.
+     */
+    public void run(String phase, Runnable task) {
+        requireNonNull(task);
+        time(phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the time taken by each phase in milliseconds, in the order the phases completed.
+     */
+    public Map<String, Long> getPhaseMillis() {
+        synchronized (phaseNanos) {
+            return phaseNanos.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                    entry -> TimeUnit.NANOSECONDS.toMillis(entry.getValue()), (first, second) -> second,
+                    LinkedHashMap::new));
+        }
+    }
+
+    /**
+     * Returns a summary of the time taken since this timer was created, and by each phase completed so far.
+     */
+    public String getSummary() {
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        String phases = getPhaseMillis().entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue() + " ms")
+                .collect(Collectors.joining(", "));
+        return "Started in " + totalMillis + " ms (" + phases + ")";
+    }
+
+    /**
+     * Logs the summary given by {@link #getSummary()} to {@code logger}.
+     */
+    public void logSummary(Logger logger) {
+        requireNonNull(logger);
+        logger.info(getSummary());
+    }
+}
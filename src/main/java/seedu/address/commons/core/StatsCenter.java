@@ -0,0 +1,154 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records and reports the latencies of the phases of command execution, and of each command word.
+ * Timings are recorded into lock-free {@link LatencyHistogram}s so that recording never blocks the caller.
+ * When disabled through {@link Config}, {@link #startTimer()} and {@link #stopTimer(Phase, long)} do nothing
+ *   but read a single flag.
+ */
+public class StatsCenter {
+
+    /**
+     * The phases of command execution that are timed.
+     * A command's execution is timed without the commits it makes, which are timed as their own phase.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        COMMIT("commit"),
+        SAVE("save");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(StatsCenter.class);
+    private static final Map<Phase, LatencyHistogram> phaseHistograms = new ConcurrentHashMap<>();
+    /** The time recorded against each phase by each thread, so that a phase can leave out the phases within it. */
+    private static final ThreadLocal<long[]> threadPhaseNanos =
+            ThreadLocal.withInitial(() -> new long[Phase.values().length]);
+    private static final Map<String, LatencyHistogram> commandHistograms = new ConcurrentHashMap<>();
+    private static volatile boolean isEnabled = true;
+
+    static {
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Enables or disables the recording of statistics as specified in the {@code config} object.
+     */
+    public static void init(Config config) {
+        setEnabled(config.isStatsEnabled());
+        logger.info("Command statistics will be " + (isEnabled ? "recorded" : "ignored"));
+    }
+
+    public static void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Returns a timestamp in nanoseconds to be passed to {@link #stopTimer(Phase, long)}, or 0 if disabled.
+     */
+    public static long startTimer() {
+        return isEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} against {@code phase}.
+     *
+     * @return the current timestamp, so that the next phase can be timed from it; 0 if disabled.
+     */
+    public static long stopTimer(Phase phase, long startNanos) {
+        if (!isEnabled || startNanos == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        phaseHistograms.get(phase).record(now - startNanos);
+        threadPhaseNanos.get()[phase.ordinal()] += now - startNanos;
+        return now;
+    }
+
+    /**
+     * Returns the total time recorded against {@code phase} by the current thread, so that the time recorded between
+     * two calls can be left out of an enclosing phase. Returns 0 if disabled.
+     */
+    public static long getThreadNanos(Phase phase) {
+        requireNonNull(phase);
+        return threadPhaseNanos.get()[phase.ordinal()];
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} against the command with the given {@code commandWord}.
+     */
+    public static void stopCommandTimer(String commandWord, long startNanos) {
+        requireNonNull(commandWord);
+        if (!isEnabled || startNanos == 0) {
+            return;
+        }
+        commandHistograms.computeIfAbsent(commandWord, word -> new LatencyHistogram())
+                .record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns summaries of the latencies of every phase, followed by those of every command word.
+     * Phases are in execution order and command words are in alphabetical order.
+     */
+    public static Map<String, Map<String, LatencyHistogram.Summary>> getReport() {
+        Map<String, LatencyHistogram.Summary> phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            phases.put(phase.toString(), phaseHistograms.get(phase).getSummary());
+        }
+
+        Map<String, LatencyHistogram.Summary> commands = new TreeMap<>();
+        commandHistograms.forEach((word, histogram) -> commands.put(word, histogram.getSummary()));
+
+        Map<String, Map<String, LatencyHistogram.Summary>> report = new LinkedHashMap<>();
+        report.put("phases", phases);
+        report.put("commands", commands);
+        return report;
+    }
+
+    /**
+     * Saves the report given by {@link #getReport()} to {@code filePath} as JSON.
+     */
+    public static void saveReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.saveJsonFile(getReport(), filePath);
+    }
+
+    /**
+     * Discards all recorded latencies.
+     */
+    public static void reset() {
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+        commandHistograms.clear();
+    }
+}
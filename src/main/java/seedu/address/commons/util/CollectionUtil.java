@@ -2,9 +2,13 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +36,37 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an unmodifiable view of {@code items} with {@code mapper} applied to each element.
+     * Elements are mapped only when they are accessed, and again each time they are accessed,
+     * so only the elements that are looked at are ever mapped.
+     */
+    public static <S, T> List<T> mapLazily(List<S> items, Function<? super S, ? extends T> mapper) {
+        requireAllNonNull(items, mapper);
+        return new LazilyMappedList<>(items, mapper);
+    }
+
+    /**
+     * An unmodifiable view of a list with a function applied to each element as it is accessed.
+     */
+    private static class LazilyMappedList<S, T> extends AbstractList<T> implements RandomAccess {
+        private final List<S> items;
+        private final Function<? super S, ? extends T> mapper;
+
+        LazilyMappedList(List<S> items, Function<? super S, ? extends T> mapper) {
+            this.items = items;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T get(int index) {
+            return mapper.apply(items.get(index));
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+    }
 }
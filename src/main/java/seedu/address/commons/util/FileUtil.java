@@ -1,17 +1,27 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The extension of files that are compressed with gzip as they are written, and decompressed as they are read. */
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +90,67 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns true if {@code file} is compressed, as given by its {@link #COMPRESSED_FILE_EXTENSION}.
+     */
+    public static boolean isCompressed(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Opens {@code file} for reading, decompressing it as it is read if it is compressed.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        InputStream fileStream = Files.newInputStream(file);
+        if (!isCompressed(file)) {
+            return fileStream;
+        }
+        try {
+            return new GZIPInputStream(fileStream, COMPRESSION_BUFFER_SIZE);
+        } catch (IOException e) {
+            fileStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens {@code file} for writing, compressing what is written if it is compressed.
+     * Will create the file if it does not exist yet, and replaces its content otherwise.
+     */
+    public static OutputStream openForWriting(Path file) throws IOException {
+        return openForWriting(file, isCompressed(file));
+    }
+
+    /**
+     * Opens {@code file} for writing, compressing what is written if {@code isCompressed}, e.g. when it is a
+     * temporary file to be moved into place of a compressed file.
+     * Will create the file if it does not exist yet, and replaces its content otherwise.
+     */
+    public static OutputStream openForWriting(Path file, boolean isCompressed) throws IOException {
+        OutputStream fileStream = Files.newOutputStream(file);
+        if (!isCompressed) {
+            return fileStream;
+        }
+        try {
+            return new GZIPOutputStream(fileStream, COMPRESSION_BUFFER_SIZE);
+        } catch (IOException e) {
+            fileStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic where the file system supports it, so readers see either the old or the new file.
+     */
+    public static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -15,6 +17,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,13 +42,42 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is serialized, without holding all of the JSON
+     * text in memory. Compressed files are not meant to be read by hand, so they are written without indentation.
+     * The JSON is written to a temporary file that is then moved into place, so {@code jsonFile} is left as it was
+     * if the write fails part way, and the temporary file is deleted.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        boolean isCompressed = FileUtil.isCompressed(jsonFile);
+        ObjectWriter writer = isCompressed
+                ? objectMapper.writer()
+                : objectMapper.writerWithDefaultPrettyPrinter();
+        Path tempFile = jsonFile.resolveSibling(jsonFile.getFileName() + ".tmp");
+        try {
+            try (OutputStream outputStream = FileUtil.openForWriting(tempFile, isCompressed)) {
+                writer.writeValue(outputStream, objectToSerialize);
+            }
+            FileUtil.moveIntoPlace(tempFile, jsonFile);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
     }
 
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from {@code jsonFile} as it is deserialized,
+     * without holding all of the JSON text in memory.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = FileUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -63,14 +95,14 @@ public class JsonUtil {
         if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-        logger.info("JSON file " + filePath + " found.");
+        LogUtil.log(logger, Level.INFO, "JSON file found", "filePath", filePath);
 
         T jsonFile;
 
         try {
             jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
         } catch (IOException e) {
-            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            LogUtil.log(logger, Level.WARNING, "Error reading from JSON file", "filePath", filePath, "error", e);
             throw new DataLoadingException(e);
         }
 
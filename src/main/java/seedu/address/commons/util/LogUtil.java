@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Helper functions for logging structured messages of the form {@code "event: key1=value1, key2=value2"}.
+ * The message is only built if {@code logger} would log at {@code level}, and the values are only converted to
+ *   strings then. As such, a disabled log statement allocates nothing, as long as the values passed in are
+ *   existing objects (primitives passed in are boxed before the level is checked).
+ */
+public class LogUtil {
+
+    private static final String EVENT_SEPARATOR = ": ";
+    private static final String PAIR_SEPARATOR = ", ";
+    private static final String KEY_VALUE_SEPARATOR = "=";
+
+    /**
+     * Logs {@code event} with one key/value pair at {@code level}, if {@code logger} is enabled for it.
+     */
+    public static void log(Logger logger, Level level, String event, String key, Object value) {
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(event).append(EVENT_SEPARATOR);
+        appendPair(message, key, value);
+        logger.log(level, message.toString());
+    }
+
+    /**
+     * Logs {@code event} with two key/value pairs at {@code level}, if {@code logger} is enabled for it.
+     */
+    public static void log(Logger logger, Level level, String event, String key1, Object value1,
+                           String key2, Object value2) {
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(event).append(EVENT_SEPARATOR);
+        appendPair(message, key1, value1).append(PAIR_SEPARATOR);
+        appendPair(message, key2, value2);
+        logger.log(level, message.toString());
+    }
+
+    /**
+     * Logs {@code event} with three key/value pairs at {@code level}, if {@code logger} is enabled for it.
+     */
+    public static void log(Logger logger, Level level, String event, String key1, Object value1,
+                           String key2, Object value2, String key3, Object value3) {
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(event).append(EVENT_SEPARATOR);
+        appendPair(message, key1, value1).append(PAIR_SEPARATOR);
+        appendPair(message, key2, value2).append(PAIR_SEPARATOR);
+        appendPair(message, key3, value3);
+        logger.log(level, message.toString());
+    }
+
+    private static StringBuilder appendPair(StringBuilder message, String key, Object value) {
+        return message.append(key).append(KEY_VALUE_SEPARATOR).append(value);
+    }
+}
@@ -12,6 +12,10 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** The Soundex digit of each letter from A to Z, where 0 marks the letters that are not coded. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+    private static final int SOUNDEX_LENGTH = 4;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -63,6 +67,77 @@ public class StringUtil {
                 .anyMatch(sentenceWord -> sentenceWord.toLowerCase().contains(preppedWord.toLowerCase()));
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * single character insertions, deletions and substitutions needed to change one into the other.
+     *   <br>examples:<pre>
+     *       getEditDistance("john", "jon") == 1
+     *       getEditDistance("john", "jonh") == 2 // a transposition is two substitutions
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}: its first letter followed by three digits encoding how
+     * the consonants after it sound, so that words which sound alike, such as "Jon" and "John", share a code.
+     * Characters other than the letters A to Z are ignored.
+     * Returns an empty string if {@code word} has no such letters.
+     *   <br>examples:<pre>
+     *       getSoundex("Robert") == "R163"
+     *       getSoundex("Rupert") == "R163"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String getSoundex(String word) {
+        requireNonNull(word);
+
+        String letters = word.toUpperCase().replaceAll("[^A-Z]", "");
+        if (letters.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder code = new StringBuilder().append(letters.charAt(0));
+        char previousDigit = SOUNDEX_DIGITS.charAt(letters.charAt(0) - 'A');
+        for (int i = 1; i < letters.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            // letters coded the same are only coded once unless a vowel separates them, but H and W do not separate
+            if (letter != 'H' && letter != 'W') {
+                previousDigit = digit;
+            }
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
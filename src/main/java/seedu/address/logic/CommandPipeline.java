@@ -0,0 +1,269 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.commons.util.LogUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs submitted commands one at a time, in the order they are submitted, without holding up the model thread.
+ *
+ * Commands are run by a single worker thread. Each command is parsed and executed on the model thread, as parsing
+ * reads the selected person and the shortcuts, and the model's lists are shown by the UI and so can only be changed
+ * on the JavaFX application thread. In between, the worker prepares the command, doing the work that only reads the
+ * model, e.g. finding the persons to list; the model is only changed by commands, so it cannot change meanwhile.
+ * The worker then saves the changes made by the command from a snapshot of the address book, while the model thread
+ * is free to handle the UI, and passes the outcome back to the model thread in a single task. The worker waits for
+ * each command to be executed and saved before moving on to the next, so every command sees the changes made by the
+ * commands submitted before it, and the saves are written in order.
+ * Commands held back by {@link LogicManager#holdCommandsUntil} wait on the worker, so they stay queued in order.
+ *
+ * Only the preparing and the saving are taken off the model thread. Executing a command, and the commit that records
+ * it for undo, still run there, so a command that changes many persons, e.g. a bulk delete, still holds up the UI
+ * while it is executed.
+ */
+class CommandPipeline {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    /** How long {@link #shutdown()} waits for the queued commands to be executed and saved. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    /** How often {@link #shutdown()} checks whether the worker has stopped while it runs the model tasks. */
+    private static final long SHUTDOWN_POLL_MILLIS = 10;
+
+    private final LogicManager logic;
+    private final Executor modelThreadExecutor;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-pipeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The number of commands submitted but not yet completed. Only accessed on the model thread. */
+    private int pendingCount;
+    /** Completes once {@link #shutdown()} is called, after which held commands are dropped. */
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+    /** The tasks given to the model thread that it has yet to run, which {@link #shutdown()} runs itself. */
+    private final BlockingQueue<Runnable> pendingModelTasks = new LinkedBlockingQueue<>();
+
+    /**
+     * Creates a {@code CommandPipeline} that runs commands with {@code logic}, on the model thread run by
+     * {@code modelThreadExecutor}.
+     */
+    CommandPipeline(LogicManager logic, Executor modelThreadExecutor) {
+        requireNonNull(logic);
+        requireNonNull(modelThreadExecutor);
+        this.logic = logic;
+        this.modelThreadExecutor = modelThreadExecutor;
+    }
+
+    /**
+     * Submits {@code commandText} to be run after the commands submitted before it.
+     * Must be called on the model thread.
+     *
+     * @return a future completed on the model thread with the result of the command, or with the
+     *     {@code CommandException} or {@code ParseException} it failed with, or with a {@code CancellationException}
+     *     if it is held back until the data is loaded when the pipeline is shut down.
+     */
+    CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        pendingCount++;
+        logic.setBusy(true);
+
+        CompletableFuture<CommandResult> outcome = new CompletableFuture<>();
+        worker.execute(() -> {
+            CommandResult commandResult = null;
+            Exception failure = null;
+            try {
+                commandResult = run(commandText);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                failure = e;
+            }
+
+            CommandResult result = commandResult;
+            Exception exception = failure;
+            executeOnModelThread(() -> {
+                pendingCount--;
+                logic.setBusy(pendingCount > 0);
+                if (exception == null) {
+                    outcome.complete(result);
+                } else {
+                    outcome.completeExceptionally(exception);
+                }
+            });
+        });
+        return outcome;
+    }
+
+    /**
+     * Runs {@code task} on the worker after the commands submitted before it have been executed and saved.
+     * Can be called from any thread.
+     */
+    void execute(Runnable task) {
+        requireNonNull(task);
+        worker.execute(task);
+    }
+
+    /**
+     * Stops the worker, waiting for the commands still queued to be executed and saved, and for the tasks given to
+     * {@link #execute} to be done. Commands held back until the data is loaded are dropped, so that they are not
+     * executed on an empty address book. Must be called on the model thread.
+     */
+    void shutdown() {
+        stopped.complete(null);
+        worker.shutdown();
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        try {
+            // the worker waits on the model thread for each command to be executed, and this is the model thread,
+            // so the tasks it hands over are run here until it has gone through its queue
+            while (!worker.isTerminated()) {
+                if (System.nanoTime() - deadlineNanos > 0) {
+                    LogUtil.log(logger, Level.WARNING, "Command pipeline did not finish saving in time",
+                            "timeoutSeconds", SHUTDOWN_TIMEOUT_SECONDS);
+                    return;
+                }
+                Runnable task = pendingModelTasks.poll(SHUTDOWN_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    task.run();
+                }
+            }
+            Runnable task;
+            while ((task = pendingModelTasks.poll()) != null) {
+                task.run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parses, prepares, executes and saves the command, waiting for it to be parsed and executed on the model thread.
+     * Runs on the worker thread.
+     */
+    private CommandResult run(String commandText) throws CommandException, ParseException {
+        if (!logic.awaitCommandsReleased(stopped)) {
+            LogUtil.log(logger, Level.WARNING, "Held command dropped on exit", "commandText", commandText);
+            throw new CancellationException();
+        }
+        final long startNanos = StatsCenter.startTimer();
+        Command command = callOnModelThread(() -> logic.parseCommand(commandText));
+        logic.prepareCommand(command);
+        ExecutedCommand executedCommand = callOnModelThread(() -> new ExecutedCommand(logic.executeCommand(command),
+                logic.takeUnsavedAddressBook(), logic.getCommandWord(commandText)));
+
+        if (executedCommand.unsavedAddressBook.isPresent()) {
+            try {
+                logic.saveAddressBook(executedCommand.unsavedAddressBook.get());
+            } catch (CommandException e) {
+                LogUtil.log(logger, Level.WARNING, "Address book could not be saved", "error", e);
+                // tasks on the model thread run in order, so this runs before the next command is executed
+                executeOnModelThread(logic::markAddressBookUnsaved);
+                throw e;
+            }
+        }
+
+        logic.recordCommandLatency(executedCommand.commandWord, startNanos);
+        return executedCommand.commandResult;
+    }
+
+    /**
+     * Runs {@code task} on the model thread and waits for its result.
+     */
+    private <T> T callOnModelThread(ModelTask<T> task) throws CommandException, ParseException {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeOnModelThread(() -> {
+            try {
+                future.complete(task.call());
+            } catch (CommandException | ParseException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * Runs {@code task} on the model thread, or in {@link #shutdown()} if the model thread is already in it.
+     */
+    private void executeOnModelThread(Runnable task) {
+        Runnable pendingTask = new PendingModelTask(task);
+        pendingModelTasks.add(pendingTask);
+        modelThreadExecutor.execute(pendingTask);
+    }
+
+    /**
+     * A task given to the model thread, which runs at most once whether the model thread or {@link #shutdown()}
+     * gets to it first.
+     */
+    private class PendingModelTask implements Runnable {
+        private final Runnable task;
+        /** Only accessed on the model thread. */
+        private boolean isRun;
+
+        PendingModelTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (isRun) {
+                return;
+            }
+            isRun = true;
+            pendingModelTasks.remove(this);
+            task.run();
+        }
+    }
+
+    /**
+     * Represents a task run on the model thread.
+     */
+    @FunctionalInterface
+    private interface ModelTask<T> {
+        T call() throws CommandException, ParseException;
+    }
+
+    /**
+     * A command executed on the model thread, with what is needed to finish it on the worker thread.
+     */
+    private static class ExecutedCommand {
+        private final CommandResult commandResult;
+        private final Optional<ReadOnlyAddressBook> unsavedAddressBook;
+        private final String commandWord;
+
+        ExecutedCommand(CommandResult commandResult, Optional<ReadOnlyAddressBook> unsavedAddressBook,
+                String commandWord) {
+            this.commandResult = commandResult;
+            this.unsavedAddressBook = unsavedAddressBook;
+            this.commandWord = commandWord;
+        }
+    }
+}
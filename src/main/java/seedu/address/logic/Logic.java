@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,8 +14,10 @@ import seedu.address.commons.core.ShortcutSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Theme;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 
 /**
@@ -26,6 +33,34 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Submits a command to be executed after the commands submitted before it, without holding up the JavaFX
+     * application thread, which it must be called on.
+     * @param commandText The command as entered by the user.
+     * @return a future completed on the JavaFX application thread with the result of the command execution,
+     *     or with the {@code CommandException} or {@code ParseException} it failed with.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Waits for the changes made by the submitted commands, and the command strings added, to be saved, and stops
+     * running submitted commands.
+     * Commands still queued are executed and saved first, except those held back until the data is loaded, which are
+     * dropped. Must be called on the JavaFX application thread.
+     */
+    void shutdown();
+
+    /**
+     * Returns whether any submitted command has yet to complete.
+     */
+    ReadOnlyBooleanProperty busyProperty();
+
+    /**
+     * Holds back the commands submitted from now on until {@code released} completes, e.g. while the address book
+     * is still being loaded at startup. Commands submitted in the meantime are queued and run in order once it does.
+     */
+    void holdCommandsUntil(CompletionStage<?> released);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,12 +68,33 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest published snapshot of the AddressBook, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
     /** Returns a person that is selected*/
     Person getSelectedPerson();
 
+    /**
+     * Returns the persons referred to or from {@code person}.
+     *
+     * @see seedu.address.model.Model#getReferrals(Person)
+     */
+    List<Person> getReferrals(Person person);
+
+    /**
+     * Returns the appointments of {@code person} in the time slot they are shown for.
+     *
+     * @see seedu.address.model.Model#getScheduleWindow()
+     */
+    List<Appointment> getScheduledAppointments(Person person);
+
     /** Update the selected person*/
     void updateSelectedPerson(Person person);
 
@@ -76,8 +132,29 @@ public interface Logic {
      * Returns the command string of the previous most recent command executed.
      */
     String getPassedCommandString(String currentCommandString);
+
+    /**
+     * Returns up to {@link seedu.address.logic.autocomplete.Autocompleter#MAX_COMPLETIONS} completions of the
+     * word being typed at the end of {@code commandText}, each being the whole completed command text.
+     * Can be called from any thread.
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Returns the most recent command string executed containing {@code query}, ignoring case, starting from the
+     * command string currently shown.
+     */
+    Optional<String> searchCommandString(String query);
+
+    /**
+     * Returns the next older command string executed containing {@code query}, ignoring case, than the command
+     * string currently shown.
+     */
+    Optional<String> searchPrevCommandString(String query);
+
     /**
-     * Adds the most recent command string input by the user to the CommandStringStash.
+     * Adds the most recent command string input by the user to the CommandStringStash, and appends it to the
+     * command history file without holding up the JavaFX application thread, which it must be called on.
      */
     void addCommandString(String commandString);
 
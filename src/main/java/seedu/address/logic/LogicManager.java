@@ -1,23 +1,41 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.ShortcutSettings;
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.commons.core.StatsCenter.Phase;
+import seedu.address.commons.util.LogUtil;
+import seedu.address.logic.autocomplete.Autocompleter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Theme;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -36,33 +54,200 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Autocompleter autocompleter;
+    private final Executor modelThreadExecutor;
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+    /** Completes once submitted commands may be run, see {@link #holdCommandsUntil(CompletionStage)}. */
+    private volatile CompletableFuture<?> commandsReleased = CompletableFuture.completedFuture(null);
+    /** Created when the first command is submitted, so that no worker thread is started until it is needed. */
+    private CommandPipeline commandPipeline;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose submitted commands
+     * are executed on the JavaFX application thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose submitted commands
+     * are executed by {@code modelThreadExecutor}, which must run tasks one at a time in the order given.
+     */
+    public LogicManager(Model model, Storage storage, Executor modelThreadExecutor) {
         this.model = model;
         this.storage = storage;
+        this.modelThreadExecutor = modelThreadExecutor;
         addressBookParser = new AddressBookParser(model);
+        autocompleter = new Autocompleter(model.getAddressBook().getPersonList(), model.getShortcutSettings());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        final long startNanos = StatsCenter.startTimer();
+        Command command = parseCommand(commandText);
+        CommandResult commandResult = executeCommand(command);
+
+        Optional<ReadOnlyAddressBook> unsavedAddressBook = takeUnsavedAddressBook();
+        if (unsavedAddressBook.isPresent()) {
+            try {
+                saveAddressBook(unsavedAddressBook.get());
+            } catch (CommandException e) {
+                markAddressBookUnsaved();
+                throw e;
+            }
+        }
+
+        recordCommandLatency(getCommandWord(commandText), startNanos);
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        return getCommandPipeline().submit(commandText);
+    }
+
+    private CommandPipeline getCommandPipeline() {
+        if (commandPipeline == null) {
+            commandPipeline = new CommandPipeline(this, modelThreadExecutor);
+        }
+        return commandPipeline;
+    }
 
-        CommandResult commandResult;
+    @Override
+    public void shutdown() {
+        if (commandPipeline != null) {
+            commandPipeline.shutdown();
+        }
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    @Override
+    public void holdCommandsUntil(CompletionStage<?> released) {
+        requireNonNull(released);
+        commandsReleased = released.toCompletableFuture();
+    }
+
+    /**
+     * Waits until submitted commands may be run, or until {@code stopped} completes. Commands are released whether
+     * or not the stage they were held until completes normally, as the user can always run them on whatever data is
+     * in the model.
+     * Must be called on the worker thread, never the model thread.
+     *
+     * @return whether the commands were released, rather than {@code stopped} completing first.
+     */
+    boolean awaitCommandsReleased(CompletableFuture<?> stopped) {
+        CompletableFuture.anyOf(commandsReleased, stopped).handle((result, error) -> null).join();
+        return commandsReleased.isDone();
+    }
+
+    /**
+     * Parses {@code commandText} into a command.
+     * Must be called on the model thread.
+     */
+    Command parseCommand(String commandText) throws ParseException {
+        // the message is only built if it is logged, in the format the log has always had for user commands
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("----------------[USER COMMAND][" + commandText + "]");
+        }
+
+        final long startNanos = StatsCenter.startTimer();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        StatsCenter.stopTimer(Phase.PARSE, startNanos);
+        return command;
+    }
+
+    /**
+     * Prepares {@code command} to be executed on the model, doing the work that only reads the model.
+     * Can be called from any thread, as long as the model is not changed until the command is executed.
+     */
+    void prepareCommand(Command command) {
+        command.prepare(model);
+    }
+
+    /**
+     * Executes {@code command} on the model, without saving the changes it makes.
+     * Must be called on the model thread.
+     */
+    CommandResult executeCommand(Command command) throws CommandException {
+        final long startNanos = StatsCenter.startTimer();
+        final long commitNanos = StatsCenter.getThreadNanos(Phase.COMMIT);
+        CommandResult commandResult = command.execute(model);
+        // the commits made by the command are timed as their own phase, so they are left out of its execution
+        StatsCenter.stopTimer(Phase.EXECUTE, startNanos + StatsCenter.getThreadNanos(Phase.COMMIT) - commitNanos);
+        // shortcuts are changed in place by commands, including undo and redo
+        autocompleter.setShortcutSettings(model.getShortcutSettings());
+        return commandResult;
+    }
+
+    /**
+     * Returns a snapshot of the address book to be saved if it has changed since it was last saved, and marks it
+     * as saved. The snapshot can then be saved on any thread while the model goes on being changed.
+     * Must be called on the model thread.
+     */
+    Optional<ReadOnlyAddressBook> takeUnsavedAddressBook() {
+        // read-only commands leave the address book unchanged, so there is nothing to write
+        ChangeSet changes = model.getAddressBook().getChanges();
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+        AddressBookSnapshot unsavedAddressBook = model.getAddressBookSnapshot().withChanges(changes);
+        model.markAddressBookSaved();
+        return Optional.of(unsavedAddressBook);
+    }
 
+    /**
+     * Saves {@code addressBook}, which was taken by {@link #takeUnsavedAddressBook()}.
+     * Can be called from any thread.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook) throws CommandException {
+        final long startNanos = StatsCenter.startTimer();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(addressBook);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        StatsCenter.stopTimer(Phase.SAVE, startNanos);
+    }
 
-        return commandResult;
+    /**
+     * Marks the whole address book as unsaved after it failed to be saved, so that all of it is saved next time.
+     * Must be called on the model thread.
+     */
+    void markAddressBookUnsaved() {
+        model.markAddressBookUnsaved();
+    }
+
+    /**
+     * Sets whether any submitted command has yet to complete.
+     * Must be called on the model thread.
+     */
+    void setBusy(boolean isBusy) {
+        busy.set(isBusy);
+    }
+
+    /**
+     * Records the time taken by the command with {@code commandWord} since {@code startNanos}.
+     */
+    void recordCommandLatency(String commandWord, long startNanos) {
+        if (StatsCenter.isEnabled()) {
+            StatsCenter.stopCommandTimer(commandWord, startNanos);
+        }
+    }
+
+    /**
+     * Returns the default command word of {@code commandText}, resolving any shortcut alias.
+     * Must be called on the model thread.
+     */
+    String getCommandWord(String commandText) {
+        String[] tokens = commandText.trim().split("\\s+", 2);
+        return model.getShortcut(tokens[0]);
     }
 
     @Override
@@ -70,6 +255,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -95,6 +285,16 @@ public class LogicManager implements Logic {
         return model.getSelectedPerson();
     }
 
+    @Override
+    public List<Person> getReferrals(Person person) {
+        return model.getReferrals(person);
+    }
+
+    @Override
+    public List<Appointment> getScheduledAppointments(Person person) {
+        return model.getAppointments(person, model.getScheduleWindow());
+    }
+
     @Override
     public void updateSelectedPerson(Person person) {
         model.updateSelectedPerson(person);
@@ -108,6 +308,7 @@ public class LogicManager implements Logic {
     @Override
     public void setShortcutSettings(ShortcutSettings shortcutSettings) {
         model.setShortcutSettings(shortcutSettings);
+        autocompleter.setShortcutSettings(model.getShortcutSettings());
     }
 
     @Override
@@ -123,6 +324,31 @@ public class LogicManager implements Logic {
     @Override
     public void addCommandString(String commandString) {
         model.addCommandString(commandString);
+        // the command history is appended to on the worker, in order with the saves of the address book
+        getCommandPipeline().execute(() -> {
+            try {
+                storage.appendCommandString(commandString);
+            } catch (IOException e) {
+                // the command history is a convenience, so failing to save it does not fail the command
+                LogUtil.log(logger, Level.WARNING, "Command history could not be saved",
+                        "filePath", storage.getCommandHistoryFilePath(), "error", e);
+            }
+        });
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return autocompleter.getCompletions(commandText);
+    }
+
+    @Override
+    public Optional<String> searchCommandString(String query) {
+        return model.searchCommandString(query);
+    }
+
+    @Override
+    public Optional<String> searchPrevCommandString(String query) {
+        return model.searchPrevCommandString(query);
     }
 
     @Override
@@ -0,0 +1,149 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMMAND_WORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.ShortcutSettings;
+import seedu.address.logic.commands.CommandWord;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+
+/**
+ * Completes the word being typed at the end of a command: the command word, or the value of a name, tag, specialty,
+ * location or medical history prefix, from the values currently held by the persons in the address book.
+ *
+ * The values of each prefix are kept in a {@link CompletionIndex}, which is updated as persons are added to,
+ * removed from and replaced in the address book. Completions can be looked up from any thread, so that looking
+ * them up does not hold up the UI, while the address book is only changed from the JavaFX application thread.
+ */
+public class Autocompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private final Map<Prefix, CompletionIndex> fieldIndexes = new LinkedHashMap<>();
+    private final CompletionIndex defaultCommandWords = new CompletionIndex();
+    /** The default command words and the shortcut aliases, replaced whenever the shortcuts may have changed. */
+    private volatile CompletionIndex commandWords;
+
+    /**
+     * Creates an {@code Autocompleter} for the values held by {@code persons}, which it keeps up to date with,
+     * and for the command words and the aliases in {@code shortcutSettings}.
+     */
+    public Autocompleter(ObservableList<Person> persons, ShortcutSettings shortcutSettings) {
+        requireNonNull(persons);
+        for (Prefix prefix : List.of(PREFIX_NAME, PREFIX_TAG, PREFIX_SPECIALTY, PREFIX_LOCATION,
+                PREFIX_MEDICALHISTORY)) {
+            fieldIndexes.put(prefix, new CompletionIndex());
+        }
+        CommandWord.getCommandWords().forEach(defaultCommandWords::add);
+        setShortcutSettings(shortcutSettings);
+
+        persons.forEach(person -> forEachValue(person, CompletionIndex::add));
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(person -> forEachValue(person, CompletionIndex::remove));
+                change.getAddedSubList().forEach(person -> forEachValue(person, CompletionIndex::add));
+            }
+        });
+    }
+
+    /**
+     * Replaces the shortcut aliases that command words can be completed to with those in {@code shortcutSettings}.
+     */
+    public void setShortcutSettings(ShortcutSettings shortcutSettings) {
+        requireNonNull(shortcutSettings);
+        CompletionIndex newCommandWords = new CompletionIndex();
+        CommandWord.getCommandWords().forEach(newCommandWords::add);
+        shortcutSettings.getShortcutAliases().forEach(newCommandWords::add);
+        commandWords = newCommandWords;
+    }
+
+    /**
+     * Calls {@code action} with the index of each prefix and each of {@code person}'s values for that prefix.
+     */
+    private void forEachValue(Person person, IndexAction action) {
+        action.apply(fieldIndexes.get(PREFIX_NAME), person.getName().fullName);
+        person.getTags().forEach(tag -> action.apply(fieldIndexes.get(PREFIX_TAG), tag.tagName));
+        if (person instanceof Patient) {
+            Patient patient = (Patient) person;
+            CompletionIndex medicalHistories = fieldIndexes.get(PREFIX_MEDICALHISTORY);
+            patient.getMedicalHistory().forEach(history -> action.apply(medicalHistories, history.value));
+        } else if (person instanceof Specialist) {
+            Specialist specialist = (Specialist) person;
+            action.apply(fieldIndexes.get(PREFIX_SPECIALTY), specialist.getSpecialty().value);
+            action.apply(fieldIndexes.get(PREFIX_LOCATION), specialist.getLocation().value);
+        }
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, each being {@code commandText}
+     * with the word being typed at its end completed, in sorted order.
+     * The word being typed is the command word if {@code commandText} has no whitespace, or otherwise the value
+     * after the last prefix that can be completed.
+     */
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        if (commandText.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        String trimmedText = commandText.stripLeading();
+        if (trimmedText.chars().noneMatch(Character::isWhitespace)) {
+            String leadingWhitespace = commandText.substring(0, commandText.length() - trimmedText.length());
+            return complete(leadingWhitespace, commandWords, trimmedText);
+        }
+
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix prefix : fieldIndexes.keySet()) {
+            int position = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = prefix;
+                lastPrefixPosition = position;
+            }
+        }
+        int commandWordPosition = commandText.lastIndexOf(" " + PREFIX_COMMAND_WORD.getPrefix());
+        CompletionIndex index;
+        if (commandWordPosition > lastPrefixPosition) {
+            lastPrefix = PREFIX_COMMAND_WORD;
+            lastPrefixPosition = commandWordPosition;
+            index = defaultCommandWords;
+        } else if (lastPrefix != null) {
+            index = fieldIndexes.get(lastPrefix);
+        } else {
+            return new ArrayList<>();
+        }
+
+        int valuePosition = lastPrefixPosition + 1 + lastPrefix.getPrefix().length();
+        return complete(commandText.substring(0, valuePosition), index, commandText.substring(valuePosition));
+    }
+
+    private static List<String> complete(String textBefore, CompletionIndex index, String partialValue) {
+        return index.getCompletions(partialValue, MAX_COMPLETIONS).stream()
+                .map(value -> textBefore + value)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Represents an update of a {@code CompletionIndex} with a value.
+     */
+    @FunctionalInterface
+    private interface IndexAction {
+        void apply(CompletionIndex index, String value);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A set of values that can be looked up by prefix, ignoring case, in sorted order.
+ * Each value is counted, so a value added by several persons is only removed once all of them have removed it.
+ *
+ * Values are kept in a concurrent skip list keyed by their lower case form, so adding and removing a value
+ * take O(log n) time, and the values starting with a prefix are a contiguous range of the keys that can be found
+ * in O(log n) time. Values can be looked up from any thread while they are being added and removed.
+ */
+public class CompletionIndex {
+
+    private final ConcurrentSkipListMap<String, CountedValue> values = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds one occurrence of {@code value}.
+     * If values differing only in case are added, the first one added is the one completed to.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        values.compute(value.toLowerCase(), (key, counted) -> counted == null
+                ? new CountedValue(value, 1)
+                : new CountedValue(counted.value, counted.count + 1));
+    }
+
+    /**
+     * Removes one occurrence of {@code value}. Does nothing if {@code value} is not in the index.
+     */
+    public void remove(String value) {
+        requireNonNull(value);
+        values.computeIfPresent(value.toLowerCase(), (key, counted) -> counted.count == 1
+                ? null
+                : new CountedValue(counted.value, counted.count - 1));
+    }
+
+    /**
+     * Returns up to {@code limit} values starting with {@code prefix}, ignoring case, in sorted order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.toLowerCase();
+        ConcurrentNavigableMap<String, CountedValue> matches = values.tailMap(lowerCasePrefix);
+
+        List<String> completions = new ArrayList<>();
+        for (Map.Entry<String, CountedValue> match : matches.entrySet()) {
+            if (completions.size() == limit || !match.getKey().startsWith(lowerCasePrefix)) {
+                break;
+            }
+            completions.add(match.getValue().value);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the number of distinct values, ignoring case.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * A value and the number of times it has been added.
+     */
+    private static class CountedValue {
+        private final String value;
+        private final int count;
+
+        CountedValue(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+}
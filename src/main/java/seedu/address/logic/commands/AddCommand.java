@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PATIENT_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
@@ -59,11 +60,13 @@ public class AddCommand extends Command {
             + ": Adds a specialist to the address book. \n"
             + MESSAGE_USAGE_GENERAL
             + PREFIX_LOCATION + "LOCATION "
+            + "[" + PREFIX_COORDINATES + "LATITUDE,LONGITUDE] "
             + PREFIX_SPECIALTY + "SPECIALTY \n"
             + "Example: " + COMMAND_WORD + " "
             + SPECIALIST_TAG + " "
             + PERSON_EXAMPLE
             + PREFIX_LOCATION + "311, Clementi Ave 2, #02-25 "
+            + PREFIX_COORDINATES + "1.3119,103.7649 "
             + PREFIX_SPECIALTY + "Physiotherapist ";
 
     private final Person toAdd;
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Books an appointment between the person being viewed and the person identified by its displayed index, one of
+ * whom must be a patient and the other a specialist.
+ */
+public class BookCommand extends Command {
+
+    public static final String COMMAND_WORD = "book";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Books an appointment between the person being viewed and the person identified by the index "
+            + "number used in the displayed person list, one of whom must be a patient and the other a specialist.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_START + "START (YYYY-MM-DD HH:MM) "
+            + PREFIX_END + "END (HH:MM)\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_START + "2023-11-20 14:00 "
+            + PREFIX_END + "14:30";
+
+    public static final String MESSAGE_BOOK_SUCCESS = "Booked appointment: %1$s";
+    public static final String MESSAGE_CONFLICT = "This appointment overlaps another appointment: %1$s";
+    public static final String MESSAGE_NO_PERSON_VIEWED = "There is no person being viewed to book an appointment for.";
+    public static final String MESSAGE_NOT_PATIENT_AND_SPECIALIST =
+            "Appointments are between a patient and a specialist. "
+                    + "View one of them, then give the index of the other in the displayed person list.";
+
+    private final Index targetIndex;
+    private final TimeSlot timeSlot;
+
+    /**
+     * @param targetIndex of the person in the displayed list to book the appointment with
+     * @param timeSlot of the appointment
+     */
+    public BookCommand(Index targetIndex, TimeSlot timeSlot) {
+        requireAllNonNull(targetIndex, timeSlot);
+        this.targetIndex = targetIndex;
+        this.timeSlot = timeSlot;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PatientAndSpecialist persons = PatientAndSpecialist.of(model, targetIndex, MESSAGE_NO_PERSON_VIEWED,
+                MESSAGE_NOT_PATIENT_AND_SPECIALIST);
+        Appointment toBook = new Appointment(persons.patient.getName(), persons.specialist.getName(), timeSlot);
+
+        Optional<Appointment> conflict = model.findAppointmentConflict(toBook);
+        if (conflict.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CONFLICT, conflict.get().format()));
+        }
+        model.addAppointment(toBook);
+        model.commit();
+        return new CommandResult(String.format(MESSAGE_BOOK_SUCCESS, toBook.format()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BookCommand)) {
+            return false;
+        }
+
+        BookCommand otherBookCommand = (BookCommand) other;
+        return targetIndex.equals(otherBookCommand.targetIndex)
+                && timeSlot.equals(otherBookCommand.timeSlot);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("timeSlot", timeSlot)
+                .toString();
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PATIENT_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_REMOVE;
+import static seedu.address.logic.parser.CliSyntax.SPECIALIST_TAG;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditCommand.EditPatientDescriptor;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EditCommand.EditSpecialistDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Edits the details of every person in the displayed person list in the same way.
+ * Tags can be set, or added to and removed from the tags each person already has.
+ */
+public class BulkEditCommand extends Command {
+
+    public static final String COMMAND_WORD = "bulkedit";
+    public static final String MESSAGE_BULK_EDIT_SUCCESS_HEADER = "Edited %d Person(s):";
+    public static final String MESSAGE_NOT_EDITED = "At least one field to edit, or tag to add or remove, "
+            + "must be provided.";
+    public static final String MESSAGE_NO_PERSONS_SHOWN = "There are no persons in the displayed person list to edit.";
+    public static final String MESSAGE_PERSON_TYPE_MISMATCH =
+            "The person type tag does not match the type of every person in the displayed person list.";
+    public static final String MESSAGE_TAGS_SET_AND_CHANGED =
+            "Tags cannot be both set, and added or removed, in the same bulk edit.";
+    private static final String MESSAGE_USAGE_GENERAL = "Parameters: "
+            + "[" + PREFIX_PHONE + "PHONE] "
+            + "[" + PREFIX_EMAIL + "EMAIL] "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_TAG_ADD + "TAG TO ADD]... "
+            + "[" + PREFIX_TAG_REMOVE + "TAG TO REMOVE]... ";
+
+    public static final String MESSAGE_USAGE_PATIENT = COMMAND_WORD + " "
+            + PATIENT_TAG
+            + ": Edits every patient in the displayed person list. "
+            + PREFIX_TAG + " replaces their tags, while " + PREFIX_TAG_ADD + " and " + PREFIX_TAG_REMOVE
+            + " add to and remove from the tags they already have.\n"
+            + MESSAGE_USAGE_GENERAL
+            + "[" + PREFIX_AGE + "AGE] "
+            + "[" + PREFIX_MEDICALHISTORY + "MEDICAL HISTORY]... \n"
+            + "Example: " + COMMAND_WORD + " "
+            + PATIENT_TAG + " "
+            + PREFIX_TAG_ADD + "EastClinic "
+            + PREFIX_TAG_REMOVE + "WestClinic";
+
+    public static final String MESSAGE_USAGE_SPECIALIST = COMMAND_WORD + " "
+            + SPECIALIST_TAG
+            + ": Edits every specialist in the displayed person list. "
+            + PREFIX_TAG + " replaces their tags, while " + PREFIX_TAG_ADD + " and " + PREFIX_TAG_REMOVE
+            + " add to and remove from the tags they already have.\n"
+            + MESSAGE_USAGE_GENERAL
+            + "[" + PREFIX_LOCATION + "LOCATION] "
+            + "[" + PREFIX_SPECIALTY + "SPECIALTY] \n"
+            + "Example: " + COMMAND_WORD + " "
+            + SPECIALIST_TAG + " "
+            + PREFIX_LOCATION + "311, Clementi Ave 2, #02-25 "
+            + PREFIX_TAG_ADD + "EastClinic";
+
+    private final EditPersonDescriptor editPersonDescriptor;
+    private final Set<Tag> tagsToAdd;
+    private final Set<Tag> tagsToRemove;
+
+    /**
+     * @param editPersonDescriptor details to edit every person with
+     * @param tagsToAdd tags to add to the tags of every person
+     * @param tagsToRemove tags to remove from the tags of every person
+     */
+    public BulkEditCommand(EditPersonDescriptor editPersonDescriptor, Set<Tag> tagsToAdd, Set<Tag> tagsToRemove) {
+        CollectionUtil.requireAllNonNull(editPersonDescriptor, tagsToAdd, tagsToRemove);
+        if (editPersonDescriptor instanceof EditPatientDescriptor) {
+            this.editPersonDescriptor = new EditPatientDescriptor((EditPatientDescriptor) editPersonDescriptor);
+        } else {
+            this.editPersonDescriptor = new EditSpecialistDescriptor((EditSpecialistDescriptor) editPersonDescriptor);
+        }
+        this.tagsToAdd = Set.copyOf(tagsToAdd);
+        this.tagsToRemove = Set.copyOf(tagsToRemove);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS_SHOWN);
+        }
+
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        for (Person personToEdit : lastShownList) {
+            replacements.put(personToEdit, createEditedPerson(personToEdit));
+        }
+
+        // all the persons are replaced in one pass, with a single update of the displayed list and one undo entry
+        model.replacePersons(replacements);
+        model.commit();
+
+        List<Person> editedPersons = new ArrayList<>(replacements.values());
+        return new CommandResult(String.format(MESSAGE_BULK_EDIT_SUCCESS_HEADER, editedPersons.size()),
+                CollectionUtil.mapLazily(editedPersons, Messages::formatShortForm));
+    }
+
+    /**
+     * Creates and returns a {@code Person} with the details of {@code personToEdit} edited with the descriptor,
+     * and the tags to add and remove.
+     */
+    private Person createEditedPerson(Person personToEdit) throws CommandException {
+        if (personToEdit instanceof Patient && editPersonDescriptor instanceof EditPatientDescriptor) {
+            EditPatientDescriptor descriptor = new EditPatientDescriptor((EditPatientDescriptor) editPersonDescriptor);
+            descriptor.setTags(getEditedTags(personToEdit));
+            return EditCommand.createEditedPatient((Patient) personToEdit, descriptor);
+        }
+        if (personToEdit instanceof Specialist && editPersonDescriptor instanceof EditSpecialistDescriptor) {
+            EditSpecialistDescriptor descriptor =
+                    new EditSpecialistDescriptor((EditSpecialistDescriptor) editPersonDescriptor);
+            descriptor.setTags(getEditedTags(personToEdit));
+            return EditCommand.createEditedSpecialist((Specialist) personToEdit, descriptor);
+        }
+        throw new CommandException(MESSAGE_PERSON_TYPE_MISMATCH);
+    }
+
+    private Set<Tag> getEditedTags(Person personToEdit) {
+        Set<Tag> editedTags = new HashSet<>(editPersonDescriptor.getTags().orElse(personToEdit.getTags()));
+        editedTags.addAll(tagsToAdd);
+        editedTags.removeAll(tagsToRemove);
+        return editedTags;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditCommand)) {
+            return false;
+        }
+
+        BulkEditCommand otherBulkEditCommand = (BulkEditCommand) other;
+        return editPersonDescriptor.equals(otherBulkEditCommand.editPersonDescriptor)
+                && tagsToAdd.equals(otherBulkEditCommand.tagsToAdd)
+                && tagsToRemove.equals(otherBulkEditCommand.tagsToRemove);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("editPersonDescriptor", editPersonDescriptor)
+                .add("tagsToAdd", tagsToAdd)
+                .add("tagsToRemove", tagsToRemove)
+                .toString();
+    }
+}
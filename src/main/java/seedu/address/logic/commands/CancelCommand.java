@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Person;
+
+/**
+ * Cancels the appointment of the person being viewed that starts at a given time.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Cancels the appointment of the person being viewed that starts at the given time.\n"
+            + "Parameters: "
+            + PREFIX_START + "START (YYYY-MM-DD HH:MM)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START + "2023-11-20 14:00";
+
+    public static final String MESSAGE_CANCEL_SUCCESS = "Cancelled appointment: %1$s";
+    public static final String MESSAGE_NO_PERSON_VIEWED =
+            "There is no person being viewed to cancel an appointment for.";
+    public static final String MESSAGE_NO_APPOINTMENT = "The person being viewed has no appointment starting at %1$s.";
+
+    private final LocalDateTime start;
+
+    /**
+     * @param start of the appointment to cancel
+     */
+    public CancelCommand(LocalDateTime start) {
+        requireNonNull(start);
+        this.start = start;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person viewedPerson = model.getSelectedPerson();
+        if (viewedPerson == null) {
+            throw new CommandException(MESSAGE_NO_PERSON_VIEWED);
+        }
+        Optional<Appointment> appointment = model.getAppointmentAt(viewedPerson, start);
+        if (appointment.isEmpty()) {
+            String formattedStart = start.format(TimeSlot.DATE_TIME_FORMATTER);
+            throw new CommandException(String.format(MESSAGE_NO_APPOINTMENT, formattedStart));
+        }
+
+        Appointment toCancel = appointment.get();
+        model.deleteAppointment(toCancel);
+        model.commit();
+        return new CommandResult(String.format(MESSAGE_CANCEL_SUCCESS, toCancel.format()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CancelCommand)) {
+            return false;
+        }
+
+        CancelCommand otherCancelCommand = (CancelCommand) other;
+        return start.equals(otherCancelCommand.start);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .toString();
+    }
+}
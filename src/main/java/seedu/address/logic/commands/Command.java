@@ -17,4 +17,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Does the work of the command that only reads the model, so that it can be done before the command is executed
+     * without holding up the thread the model is changed on. The model must not be changed until the command is
+     * executed. Does nothing by default.
+     *
+     * @param model {@code Model} which the command will then be executed on.
+     */
+    public void prepare(Model model) {
+    }
+
 }
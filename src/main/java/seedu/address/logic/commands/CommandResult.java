@@ -2,17 +2,23 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the result of a command execution.
+ * Besides a summary, the result may list items such as the persons a command acted on. The items may be
+ * formatted lazily, so that only the items displayed to the user are formatted however many there are.
  */
 public class CommandResult {
 
     private final String feedbackToUser;
 
+    /** The items listed under the feedback, which may be formatted only as they are accessed. */
+    private final List<String> feedbackItems;
+
     /** Help information should be shown to the user. */
     private final boolean showHelp;
 
@@ -23,7 +29,20 @@ public class CommandResult {
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, List.of(), showHelp, exit);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} summarising the
+     * {@code feedbackItems} listed under it, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, List<String> feedbackItems) {
+        this(feedbackToUser, feedbackItems, false, false);
+    }
+
+    private CommandResult(String feedbackToUser, List<String> feedbackItems, boolean showHelp, boolean exit) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.feedbackItems = requireNonNull(feedbackItems);
         this.showHelp = showHelp;
         this.exit = exit;
     }
@@ -40,6 +59,10 @@ public class CommandResult {
         return feedbackToUser;
     }
 
+    public List<String> getFeedbackItems() {
+        return feedbackItems;
+    }
+
     public boolean isShowHelp() {
         return showHelp;
     }
@@ -61,19 +84,21 @@ public class CommandResult {
 
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+                && feedbackItems.equals(otherCommandResult.feedbackItems)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, feedbackItems.size(), showHelp, exit);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("feedbackToUser", feedbackToUser)
+                .add("feedbackItemCount", feedbackItems.size())
                 .add("showHelp", showHelp)
                 .add("exit", exit)
                 .toString();
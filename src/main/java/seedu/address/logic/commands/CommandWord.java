@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Represents a default command keyword.
@@ -19,7 +20,10 @@ public class CommandWord {
         DeleteCommand.COMMAND_WORD, DeleteShortcutCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
         ExitCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
         ListCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD,
-        ThemeCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD
+        ThemeCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+        BulkEditCommand.COMMAND_WORD, ExplainCommand.COMMAND_WORD, ReferCommand.COMMAND_WORD,
+        UnreferCommand.COMMAND_WORD, BookCommand.COMMAND_WORD, CancelCommand.COMMAND_WORD,
+        ScheduleCommand.COMMAND_WORD, NearestCommand.COMMAND_WORD
     };
 
     public final String keyword;
@@ -41,6 +45,13 @@ public class CommandWord {
         return Arrays.asList(VALID_COMMAND_WORDS).contains(test);
     }
 
+    /**
+     * Returns all the valid command words.
+     */
+    public static List<String> getCommandWords() {
+        return List.of(VALID_COMMAND_WORDS);
+    }
+
     @Override
     public String toString() {
         return keyword;
@@ -2,9 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,47 +19,65 @@ import seedu.address.model.person.Person;
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
+    public static final String ALL_SHOWN_KEYWORD = "all-shown";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number(s) used in the displayed person list.\n"
-            + "Parameters: INDEX... (must be a positive integer and within range of displayed person list)\n"
+            + ": Deletes the person identified by the index number(s) used in the displayed person list, "
+            + "or every person in the displayed person list.\n"
+            + "Parameters: INDEX... (must be a positive integer and within range of displayed person list) "
+            + "or " + ALL_SHOWN_KEYWORD + "\n"
             + "INDEX... must be whitespace separated and must not contain duplicates\n"
             + "Example: " + COMMAND_WORD + " "
             + "1 3 4";
     public static final String MESSAGE_DELETE_PERSON_SUCCESS_HEADER = "Deleted %d Person(s):";
+    public static final String MESSAGE_NO_PERSONS_SHOWN =
+            "There are no persons in the displayed person list to delete.";
     private final List<Index> targetIndexes;
+    private final boolean isAllShown;
 
     /**
      * @param targetIndexes of the persons in the list to delete
      */
     public DeleteCommand(List<Index> targetIndexes) {
         this.targetIndexes = targetIndexes;
+        this.isAllShown = false;
+    }
+
+    /**
+     * Creates a {@code DeleteCommand} that deletes every person in the displayed person list.
+     */
+    public DeleteCommand() {
+        this.targetIndexes = List.of();
+        this.isAllShown = true;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
-        for (Index targetIndex: targetIndexes) {
-            if (targetIndex.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToDelete;
+        if (isAllShown) {
+            if (lastShownList.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_PERSONS_SHOWN);
+            }
+            personsToDelete = new ArrayList<>(lastShownList);
+        } else {
+            for (Index targetIndex : targetIndexes) {
+                if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                    throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+                }
+            }
+            personsToDelete = new ArrayList<>(targetIndexes.size());
+            for (Index targetIndex : targetIndexes) {
+                personsToDelete.add(lastShownList.get(targetIndex.getZeroBased()));
             }
         }
-        StringBuilder resultMessage =
-                new StringBuilder(String.format(MESSAGE_DELETE_PERSON_SUCCESS_HEADER, targetIndexes.size()));
-        for (int i = 0; i < targetIndexes.size(); i++) {
-            Index targetIndex = targetIndexes.get(i);
-            Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-            resultMessage.append(String.format("\n%1$d. %2$s", i + 1,
-                            Messages.formatShortForm(personToDelete)));
-        }
-        for (int i = targetIndexes.size() - 1; i >= 0; i--) {
-            Index targetIndex = targetIndexes.get(i);
-            Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-            model.deletePerson(personToDelete);
-        }
+        // the persons are removed in one pass, with a single update of the displayed list
+        model.deletePersons(personsToDelete);
         model.commit();
-        return new CommandResult(resultMessage.toString());
+        // the deleted persons are only formatted as they are displayed, however many are deleted
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS_HEADER, personsToDelete.size()),
+                CollectionUtil.mapLazily(personsToDelete, Messages::formatShortForm));
     }
 
     @Override
@@ -72,13 +92,15 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes)
+                && isAllShown == otherDeleteCommand.isAllShown;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("targetIndexes", targetIndexes)
+                .add("isAllShown", isAllShown)
                 .toString();
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
@@ -23,6 +24,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Age;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.MedicalHistory;
@@ -70,6 +72,7 @@ public class EditCommand extends Command {
             + ": Edit a specialist in the address book. \n"
             + MESSAGE_USAGE_GENERAL
             + "[" + PREFIX_LOCATION + "LOCATION] "
+            + "[" + PREFIX_COORDINATES + "LATITUDE,LONGITUDE] "
             + "[" + PREFIX_SPECIALTY + "SPECIALTY] \n"
             + "Example: " + COMMAND_WORD + " "
             + PERSON_EXAMPLE
@@ -125,7 +128,7 @@ public class EditCommand extends Command {
      * Creates and returns a {@code Patient} with the details of {@code patientToEdit}
      * edited with {@code editPatientDescriptor}.
      */
-    private static Patient createEditedPatient(Patient patientToEdit, EditPatientDescriptor editPatientDescriptor) {
+    static Patient createEditedPatient(Patient patientToEdit, EditPatientDescriptor editPatientDescriptor) {
         assert patientToEdit != null;
 
         Name updatedName = editPatientDescriptor.getName().orElse(patientToEdit.getName());
@@ -137,21 +140,28 @@ public class EditCommand extends Command {
                 .orElse(patientToEdit.getMedicalHistory());
 
         return new Patient(updatedName, updatedPhone, updatedEmail, updatedTags, updatedAge,
-                updatedMedicalHistory);
+                updatedMedicalHistory, patientToEdit.getReferrals());
     }
 
     /**
      * Creates and returns a {@code Specialist} with the details of {@code specialistToEdit}
      * edited with {@code editSpecialistDescriptor}.
      */
-    private static Specialist createEditedSpecialist(Specialist specialistToEdit,
+    static Specialist createEditedSpecialist(Specialist specialistToEdit,
                                                      EditSpecialistDescriptor editSpecialistDescriptor) {
         assert specialistToEdit != null;
 
         Name updatedName = editSpecialistDescriptor.getName().orElse(specialistToEdit.getName());
         Phone updatedPhone = editSpecialistDescriptor.getPhone().orElse(specialistToEdit.getPhone());
         Email updatedEmail = editSpecialistDescriptor.getEmail().orElse(specialistToEdit.getEmail());
-        Location updatedLocation = editSpecialistDescriptor.getLocation().orElse(specialistToEdit.getLocation());
+        Location location = specialistToEdit.getLocation();
+        Location updatedLocation = editSpecialistDescriptor.getLocation().orElse(location);
+        // the coordinates of a location moved away from are of the old place, so they are only kept if it is not
+        boolean isCoordinatesKept = updatedLocation.value.equals(location.value)
+                && !editSpecialistDescriptor.isCoordinatesCleared();
+        Coordinates updatedCoordinates = editSpecialistDescriptor.getCoordinates()
+                .orElse(isCoordinatesKept ? location.getCoordinates().orElse(null) : null);
+        updatedLocation = updatedLocation.withCoordinates(updatedCoordinates);
         Set<Tag> updatedTags = editSpecialistDescriptor.getTags().orElse(specialistToEdit.getTags());
         Specialty updatedSpecialty = editSpecialistDescriptor.getSpecialty().orElse(specialistToEdit.getSpecialty());
 
@@ -351,6 +361,8 @@ public class EditCommand extends Command {
     public static class EditSpecialistDescriptor extends EditPersonDescriptor {
         private Specialty specialty;
         private Location location;
+        private Coordinates coordinates;
+        private boolean isCoordinatesCleared;
         /**
          * Copy constructor.
          * A defensive copy of {@code tags} is used internally.
@@ -358,6 +370,8 @@ public class EditCommand extends Command {
         public EditSpecialistDescriptor(EditSpecialistDescriptor toCopy) {
             super(toCopy);
             setLocation(toCopy.location);
+            setCoordinates(toCopy.coordinates);
+            isCoordinatesCleared = toCopy.isCoordinatesCleared;
             setSpecialty(toCopy.specialty);
         }
         public EditSpecialistDescriptor() {}
@@ -369,6 +383,28 @@ public class EditCommand extends Command {
         public Optional<Location> getLocation() {
             return Optional.ofNullable(location);
         }
+
+        public void setCoordinates(Coordinates coordinates) {
+            this.coordinates = coordinates;
+            isCoordinatesCleared = false;
+        }
+
+        public Optional<Coordinates> getCoordinates() {
+            return Optional.ofNullable(coordinates);
+        }
+
+        /**
+         * Sets the coordinates of the location to be removed.
+         */
+        public void clearCoordinates() {
+            coordinates = null;
+            isCoordinatesCleared = true;
+        }
+
+        public boolean isCoordinatesCleared() {
+            return isCoordinatesCleared;
+        }
+
         public void setSpecialty(Specialty specialty) {
             this.specialty = specialty;
         }
@@ -383,14 +419,17 @@ public class EditCommand extends Command {
             if (super.equals(other) && other instanceof EditSpecialistDescriptor) {
                 EditSpecialistDescriptor otherEditSpecialistDescriptor = (EditSpecialistDescriptor) other;
                 return Objects.equals(specialty, otherEditSpecialistDescriptor.specialty)
-                        && Objects.equals(location, otherEditSpecialistDescriptor.location);
+                        && Objects.equals(location, otherEditSpecialistDescriptor.location)
+                        && Objects.equals(coordinates, otherEditSpecialistDescriptor.coordinates)
+                        && isCoordinatesCleared == otherEditSpecialistDescriptor.isCoordinatesCleared;
             }
             return false;
         }
 
         @Override
         public String toString() {
-            String stringToAdd = ", location=" + location + ", specialty=" + specialty;
+            String stringToAdd = ", location=" + location + ", coordinates=" + coordinates
+                    + ", specialty=" + specialty;
             return StringUtil.addFieldToPersonToString(stringToAdd, super.toString());
         }
 
@@ -399,7 +438,8 @@ public class EditCommand extends Command {
          */
         @Override
         public boolean isAnyFieldEdited() {
-            return super.isAnyFieldEdited() || CollectionUtil.isAnyNonNull(location, specialty);
+            return super.isAnyFieldEdited() || CollectionUtil.isAnyNonNull(location, coordinates, specialty)
+                    || isCoordinatesCleared;
         }
     }
 }
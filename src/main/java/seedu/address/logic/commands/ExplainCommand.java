@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Shows how the persons of a find command are found, without listing them.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how the persons of a find command are found: the steps chosen, the number of persons each "
+            + "step was estimated to leave and did leave, and the time each step took. "
+            + "The persons found are not listed.\n"
+            + "Parameters: FIND_COMMAND\n"
+            + "Example: " + COMMAND_WORD + " " + FindCommand.COMMAND_WORD + " -pa t/diabetic a/>=60";
+
+    private final FindCommand findCommand;
+
+    /**
+     * @param findCommand The find command to explain
+     */
+    public ExplainCommand(FindCommand findCommand) {
+        requireNonNull(findCommand);
+        this.findCommand = findCommand;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(findCommand.explain(model));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return findCommand.equals(otherExplainCommand.findCommand);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("findCommand", findCommand)
+                .toString();
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PATIENT_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -12,22 +13,31 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.SPECIALIST_TAG;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.FindPlan;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
+import seedu.address.model.person.predicates.FindQuery;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case-insensitive.
+ * Persons can also be found by fuzzy name keywords, which match names with words spelt or sounding like them,
+ * in which case the persons found are listed from the closest match.
  */
 public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
     private static final String MESSAGE_USAGE_GENERAL = "Parameters: "
             + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_FUZZY_NAME + "FUZZY NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_TAG + "TAG]... ";
@@ -39,6 +49,9 @@ public class FindCommand extends Command {
             + PREFIX_TAG + "friends "
             + PREFIX_TAG + "owesMoney ";
 
+    private static final String MESSAGE_USAGE_QUERY = "\nAttributes can also be combined with AND, OR, NOT and "
+            + "parentheses, e.g. " + COMMAND_WORD + " ";
+
     public static final String MESSAGE_USAGE_PATIENT = COMMAND_WORD + " "
             + PATIENT_TAG
             + ": Finds all Patients whose attributes contain any of "
@@ -49,8 +62,11 @@ public class FindCommand extends Command {
             + "Example: " + COMMAND_WORD + " "
             + PATIENT_TAG + " "
             + PERSON_EXAMPLE
-            + PREFIX_AGE + "30 "
-            + PREFIX_MEDICALHISTORY + "Osteoporosis";
+            + PREFIX_AGE + "60-75 "
+            + PREFIX_MEDICALHISTORY + "Osteoporosis"
+            + MESSAGE_USAGE_QUERY + PATIENT_TAG + " "
+            + "(" + PREFIX_TAG + "diabetic OR " + PREFIX_MEDICALHISTORY + "hypertension) AND NOT "
+            + PREFIX_TAG + "discharged";
 
     public static final String MESSAGE_USAGE_SPECIALIST = COMMAND_WORD + " "
             + SPECIALIST_TAG
@@ -63,33 +79,121 @@ public class FindCommand extends Command {
             + SPECIALIST_TAG + " "
             + PERSON_EXAMPLE
             + PREFIX_LOCATION + "311, Clementi Ave 2, #02-25 "
-            + PREFIX_SPECIALTY + "Physiotherapist ";
+            + PREFIX_SPECIALTY + "Physiotherapist "
+            + MESSAGE_USAGE_QUERY + SPECIALIST_TAG + " "
+            + PREFIX_SPECIALTY + "Physiotherapist OR NOT " + PREFIX_LOCATION + "Clementi";
+
 
+    private static final String MESSAGE_EXPLAIN_FUZZY_NAME =
+            "%nThen fuzzy name index lookup of %s: %d persons, %.3f ms";
+    private static final String MESSAGE_EXPLAIN_TIMINGS = "%nPlanned in %.3f ms, executed in %.3f ms";
 
     private final FindPredicateMap findPredicateMap;
     private final PersonType personType;
+    private final List<String> fuzzyNameKeywords;
+    private final Optional<FindQuery> query;
+    /** The persons found by {@link #prepare(Model)}, which the next execution lists rather than finding them again. */
+    private Selection preparedSelection;
 
     /**
      * @param findPredicateMap The predicate map that encapsulates the attributes being searched for
      * @param personType The type of person being searched for i.e. patient or specialist
      */
     public FindCommand(FindPredicateMap findPredicateMap, PersonType personType) {
+        this(findPredicateMap, personType, List.of());
+    }
+
+    /**
+     * @param findPredicateMap The predicate map that encapsulates the attributes being searched for
+     * @param personType The type of person being searched for i.e. patient or specialist
+     * @param fuzzyNameKeywords The keywords that names are fuzzily matched against, or an empty list if none
+     */
+    public FindCommand(FindPredicateMap findPredicateMap, PersonType personType, List<String> fuzzyNameKeywords) {
+        requireNonNull(fuzzyNameKeywords);
         this.findPredicateMap = findPredicateMap;
         this.personType = personType;
+        this.fuzzyNameKeywords = List.copyOf(fuzzyNameKeywords);
+        this.query = Optional.empty();
+    }
+
+    /**
+     * @param query The boolean query of the attributes being searched for
+     * @param personType The type of person being searched for i.e. patient or specialist
+     */
+    public FindCommand(FindQuery query, PersonType personType) {
+        requireNonNull(query);
+        this.findPredicateMap = new FindPredicateMap();
+        this.personType = personType;
+        this.fuzzyNameKeywords = List.of();
+        this.query = Optional.of(query);
+    }
+
+    @Override
+    public void prepare(Model model) {
+        requireNonNull(model);
+        preparedSelection = select(model);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Predicate<Person> predicate = person -> findPredicateMap.getAllPredicates().stream()
-                .map(pred -> pred.test(person))
-                .reduce(true, (x, y) -> x && y);
-        model.updateFilteredPersonList(predicate.and(personType.getSearchPredicate()));
+        Selection selection = preparedSelection != null ? preparedSelection : select(model);
+        preparedSelection = null;
+        if (selection.fuzzyNameMatches.isEmpty()) {
+            model.updateFilteredPersonList(selection.predicate);
+        } else {
+            Map<Person, Integer> fuzzyNameMatches = selection.fuzzyNameMatches.get();
+            model.updateFilteredPersonList(selection.predicate.and(fuzzyNameMatches::containsKey));
+            model.updateSortedPersonList(Comparator.comparing(fuzzyNameMatches::get));
+        }
         model.commit();
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Finds the persons without listing them, and returns how they were found: the steps of the plan chosen, the
+     * persons each step was estimated to leave and did leave, and the time each took.
+     */
+    public String explain(Model model) {
+        requireNonNull(model);
+        long start = System.nanoTime();
+        FindPlan plan = plan(model);
+        long planned = System.nanoTime();
+        plan.execute();
+        long executed = System.nanoTime();
+        StringBuilder explanation = new StringBuilder(plan.explain());
+        if (!fuzzyNameKeywords.isEmpty()) {
+            int fuzzyNameMatches = model.getFuzzyNameMatches(fuzzyNameKeywords).size();
+            double fuzzyNameMillis = (System.nanoTime() - executed) / 1e6;
+            explanation.append(String.format(MESSAGE_EXPLAIN_FUZZY_NAME, fuzzyNameKeywords, fuzzyNameMatches,
+                    fuzzyNameMillis));
+        }
+        double planningMillis = (planned - start) / 1e6;
+        double executionMillis = (executed - planned) / 1e6;
+        explanation.append(String.format(MESSAGE_EXPLAIN_TIMINGS, planningMillis, executionMillis));
+        return explanation.toString();
+    }
+
+    /**
+     * Finds the persons without listing them.
+     */
+    private Selection select(Model model) {
+        Predicate<Person> predicate = plan(model).execute();
+        if (fuzzyNameKeywords.isEmpty()) {
+            return new Selection(predicate, Optional.empty());
+        }
+        // the matches are looked up in the name index rather than by testing every person
+        return new Selection(predicate, Optional.of(model.getFuzzyNameMatches(fuzzyNameKeywords)));
+    }
+
+    private FindPlan plan(Model model) {
+        List<Predicate<Person>> predicates = query.isPresent()
+                ? query.get().getConjuncts()
+                : findPredicateMap.getAllPredicates();
+        return model.planFind(personType, predicates);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -103,15 +207,19 @@ public class FindCommand extends Command {
 
         FindCommand otherFindCommand = (FindCommand) other;
         return findPredicateMap.equals(otherFindCommand.findPredicateMap)
-                && personType.equals(otherFindCommand.personType);
+                && personType.equals(otherFindCommand.personType)
+                && fuzzyNameKeywords.equals(otherFindCommand.fuzzyNameKeywords)
+                && query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
+        ToStringBuilder builder = new ToStringBuilder(this)
                 .add("predicate", findPredicateMap)
                 .add("personType", personType)
-                .toString();
+                .add("fuzzyNameKeywords", fuzzyNameKeywords);
+        query.ifPresent(presentQuery -> builder.add("query", presentQuery));
+        return builder.toString();
     }
 
     public PersonType getPersonType() {
@@ -121,4 +229,18 @@ public class FindCommand extends Command {
     public FindPredicateMap getPredicate() {
         return findPredicateMap;
     }
+
+    /**
+     * The persons found by a find command: those matching its predicate, and, if it has fuzzy name keywords,
+     * also matching them, from the closest match.
+     */
+    private static class Selection {
+        private final Predicate<Person> predicate;
+        private final Optional<Map<Person, Integer>> fuzzyNameMatches;
+
+        Selection(Predicate<Person> predicate, Optional<Map<Person, Integer>> fuzzyNameMatches) {
+            this.predicate = predicate;
+            this.fuzzyNameMatches = fuzzyNameMatches;
+        }
+    }
 }
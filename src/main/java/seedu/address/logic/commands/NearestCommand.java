@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+
+/**
+ * Lists the specialists nearest a place, nearest first, out of those whose specialty and tags match the keywords
+ * given, if any.
+ */
+public class NearestCommand extends Command {
+
+    public static final String COMMAND_WORD = "nearest";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the specialists with coordinates nearest the given coordinates, nearest first. "
+            + "Only specialists whose specialty and tags contain any of the given keywords are listed.\n"
+            + "Parameters: "
+            + PREFIX_COORDINATES + "LATITUDE,LONGITUDE "
+            + "[" + PREFIX_COUNT + "COUNT (default " + DEFAULT_COUNT + ")] "
+            + "[" + PREFIX_SPECIALTY + "SPECIALTY KEYWORDS] "
+            + "[" + PREFIX_TAG + "TAG KEYWORDS]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_COORDINATES + "1.3521,103.8198 "
+            + PREFIX_COUNT + "3 "
+            + PREFIX_SPECIALTY + "Physiotherapy";
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of specialists to list should be a positive "
+            + "integer.";
+    public static final String MESSAGE_SUCCESS = "%1$d nearest specialists to %2$s listed!";
+    public static final String MESSAGE_SPECIALIST_DISTANCE = "%1$s (%2$s): %3$.2f km";
+
+    private final Coordinates target;
+    private final int count;
+    private final Optional<SpecialtyContainsKeywordsPredicate> specialtyPredicate;
+    private final Optional<TagsContainsKeywordsPredicate> tagsPredicate;
+
+    /**
+     * @param target The coordinates to find the specialists nearest to
+     * @param count The most specialists to list, which must be positive
+     * @param specialtyPredicate The keywords the specialty of a specialist must match, if any
+     * @param tagsPredicate The keywords the tags of a specialist must match, if any
+     */
+    public NearestCommand(Coordinates target, int count,
+            Optional<SpecialtyContainsKeywordsPredicate> specialtyPredicate,
+            Optional<TagsContainsKeywordsPredicate> tagsPredicate) {
+        requireNonNull(target);
+        requireNonNull(specialtyPredicate);
+        requireNonNull(tagsPredicate);
+        assert count > 0;
+        this.target = target;
+        this.count = count;
+        this.specialtyPredicate = specialtyPredicate;
+        this.tagsPredicate = tagsPredicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Predicate<String> specialtyTest = specialtyPredicate.<Predicate<String>>map(predicate ->
+                predicate::testSpecialty).orElse(specialty -> true);
+        Predicate<Person> filter = tagsPredicate.<Predicate<Person>>map(predicate -> predicate)
+                .orElse(person -> true);
+        List<Specialist> nearest = model.findNearestSpecialists(target, count, specialtyTest, filter);
+
+        Map<Person, Integer> ranks = new HashMap<>();
+        List<String> items = new ArrayList<>();
+        for (Specialist specialist : nearest) {
+            ranks.put(specialist, ranks.size());
+            double distance = specialist.getLocation().getCoordinates().orElseThrow().distanceTo(target);
+            items.add(String.format(MESSAGE_SPECIALIST_DISTANCE, specialist.getName(), specialist.getSpecialty(),
+                    distance));
+        }
+        model.updateFilteredPersonList(ranks::containsKey);
+        model.updateSortedPersonList(Comparator.comparing(ranks::get));
+        model.commit();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, nearest.size(), target), items);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NearestCommand)) {
+            return false;
+        }
+
+        NearestCommand otherNearestCommand = (NearestCommand) other;
+        return target.equals(otherNearestCommand.target)
+                && count == otherNearestCommand.count
+                && specialtyPredicate.equals(otherNearestCommand.specialtyPredicate)
+                && tagsPredicate.equals(otherNearestCommand.tagsPredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("count", count)
+                .add("specialtyPredicate", specialtyPredicate)
+                .add("tagsPredicate", tagsPredicate)
+                .toString();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+
+/**
+ * The person being viewed and the person identified by its displayed index, one of whom is a patient and the other
+ * a specialist, as a command between a patient and a specialist is given.
+ */
+class PatientAndSpecialist {
+
+    final Patient patient;
+    final Specialist specialist;
+    final boolean isPatientViewed;
+
+    private PatientAndSpecialist(Patient patient, Specialist specialist, boolean isPatientViewed) {
+        this.patient = patient;
+        this.specialist = specialist;
+        this.isPatientViewed = isPatientViewed;
+    }
+
+    /**
+     * Returns the person being viewed in {@code model} and the person at {@code targetIndex} of its displayed person
+     * list, as a patient and a specialist.
+     *
+     * @throws CommandException with {@code messageNoPersonViewed} if no person is being viewed, or with
+     *     {@code messageNotPatientAndSpecialist} if the persons are not a patient and a specialist
+     */
+    static PatientAndSpecialist of(Model model, Index targetIndex, String messageNoPersonViewed,
+            String messageNotPatientAndSpecialist) throws CommandException {
+        Person viewedPerson = model.getSelectedPerson();
+        if (viewedPerson == null) {
+            throw new CommandException(messageNoPersonViewed);
+        }
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        Person targetPerson = lastShownList.get(targetIndex.getZeroBased());
+
+        if (viewedPerson instanceof Patient && targetPerson instanceof Specialist) {
+            return new PatientAndSpecialist((Patient) viewedPerson, (Specialist) targetPerson, true);
+        }
+        if (viewedPerson instanceof Specialist && targetPerson instanceof Patient) {
+            return new PatientAndSpecialist((Patient) targetPerson, (Specialist) viewedPerson, false);
+        }
+        throw new CommandException(messageNotPatientAndSpecialist);
+    }
+}
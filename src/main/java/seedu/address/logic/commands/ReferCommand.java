@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Name;
+
+/**
+ * Refers the patient being viewed to a specialist in the displayed person list, or a patient in the displayed
+ * person list to the specialist being viewed.
+ */
+public class ReferCommand extends ReferralCommand {
+
+    public static final String COMMAND_WORD = "refer";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Refers the patient being viewed to the specialist identified by the index number used in the "
+            + "displayed person list, or that patient to the specialist being viewed.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + "1";
+
+    public static final String MESSAGE_REFER_SUCCESS = "Referred %1$s to %2$s";
+    public static final String MESSAGE_DUPLICATE_REFERRAL = "This patient is already referred to this specialist.";
+
+    /**
+     * @param targetIndex of the person in the displayed list on the other side of the referral
+     */
+    public ReferCommand(Index targetIndex) {
+        super(targetIndex);
+    }
+
+    @Override
+    protected Set<Name> updateReferrals(Set<Name> referrals, Name specialistName) throws CommandException {
+        if (referrals.contains(specialistName)) {
+            throw new CommandException(MESSAGE_DUPLICATE_REFERRAL);
+        }
+        Set<Name> updatedReferrals = new HashSet<>(referrals);
+        updatedReferrals.add(specialistName);
+        return updatedReferrals;
+    }
+
+    @Override
+    protected String getSuccessMessage() {
+        return MESSAGE_REFER_SUCCESS;
+    }
+}
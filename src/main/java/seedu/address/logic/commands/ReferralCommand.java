@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Specialist;
+
+/**
+ * Changes the referral between the person being viewed and the person identified by its displayed index, one of
+ * whom must be a patient and the other a specialist.
+ */
+public abstract class ReferralCommand extends Command {
+
+    public static final String MESSAGE_NO_PERSON_VIEWED = "There is no person being viewed to refer.";
+    public static final String MESSAGE_NOT_PATIENT_AND_SPECIALIST =
+            "Referrals are between a patient and a specialist. "
+                    + "View one of them, then give the index of the other in the displayed person list.";
+
+    private final Index targetIndex;
+
+    /**
+     * @param targetIndex of the person in the displayed list on the other side of the referral
+     */
+    protected ReferralCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PatientAndSpecialist persons = PatientAndSpecialist.of(model, targetIndex, MESSAGE_NO_PERSON_VIEWED,
+                MESSAGE_NOT_PATIENT_AND_SPECIALIST);
+        Patient patient = persons.patient;
+        Specialist specialist = persons.specialist;
+
+        Patient editedPatient = patient.withReferrals(updateReferrals(patient.getReferrals(), specialist.getName()));
+        model.setPerson(patient, editedPatient);
+        if (persons.isPatientViewed) {
+            model.updateSelectedPerson(editedPatient);
+        }
+        model.commit();
+        return new CommandResult(String.format(getSuccessMessage(), patient.getName(), specialist.getName()));
+    }
+
+    /**
+     * Returns the names of the specialists a patient referred to the specialists named in {@code referrals} is
+     * referred to once the referral to the specialist named {@code specialistName} is changed.
+     *
+     * @throws CommandException if the referral cannot be changed
+     */
+    protected abstract Set<Name> updateReferrals(Set<Name> referrals, Name specialistName) throws CommandException;
+
+    /**
+     * Returns the message shown once the referral is changed, given the names of the patient and the specialist.
+     */
+    protected abstract String getSuccessMessage();
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // handles nulls and the other referral commands
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        ReferralCommand otherReferralCommand = (ReferralCommand) other;
+        return targetIndex.equals(otherReferralCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
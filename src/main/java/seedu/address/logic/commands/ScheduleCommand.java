@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the appointments of the person being viewed in a day or a week, with the free time slots between them in
+ * working hours.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the appointments of the person being viewed on a day or in the week of a day, "
+            + "with the free time slots between them in working hours. Shows today if no day is given.\n"
+            + "Parameters: ["
+            + PREFIX_DAY + "DATE (YYYY-MM-DD) | "
+            + PREFIX_WEEK + "DATE (YYYY-MM-DD)]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_WEEK + "2023-11-20";
+
+    public static final String MESSAGE_SUCCESS = "%1$d appointments of %2$s from %3$s to %4$s";
+    public static final String MESSAGE_NO_PERSON_VIEWED = "There is no person being viewed to show the schedule of.";
+    public static final String MESSAGE_FREE_SLOT = "%1$s: free";
+
+    /** Free time slots are only shown in working hours. */
+    public static final LocalTime WORKING_HOURS_START = LocalTime.of(9, 0);
+    public static final LocalTime WORKING_HOURS_END = LocalTime.of(18, 0);
+
+    private final TimeSlot window;
+
+    /**
+     * @param window of the schedule to show, made up of whole days
+     */
+    public ScheduleCommand(TimeSlot window) {
+        requireNonNull(window);
+        this.window = window;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person viewedPerson = model.getSelectedPerson();
+        if (viewedPerson == null) {
+            throw new CommandException(MESSAGE_NO_PERSON_VIEWED);
+        }
+        model.updateScheduleWindow(window);
+
+        List<Appointment> appointments = model.getAppointments(viewedPerson, window);
+        List<String> items = new ArrayList<>();
+        int nextAppointment = 0;
+        LocalDate lastDay = window.getEnd().toLocalDate();
+        for (LocalDate day = window.getStart().toLocalDate(); day.isBefore(lastDay); day = day.plusDays(1)) {
+            TimeSlot workingHours = new TimeSlot(day.atTime(WORKING_HOURS_START), day.atTime(WORKING_HOURS_END));
+            // the appointments and the free time slots are each in order, so merging them keeps the schedule in order
+            for (TimeSlot freeSlot : model.getFreeSlots(viewedPerson, workingHours)) {
+                while (nextAppointment < appointments.size()
+                        && appointments.get(nextAppointment).getStart().isBefore(freeSlot.getStart())) {
+                    items.add(appointments.get(nextAppointment++).format());
+                }
+                items.add(String.format(MESSAGE_FREE_SLOT, freeSlot.format()));
+            }
+        }
+        while (nextAppointment < appointments.size()) {
+            items.add(appointments.get(nextAppointment++).format());
+        }
+
+        String summary = String.format(MESSAGE_SUCCESS, appointments.size(), viewedPerson.getName(),
+                window.getStart().toLocalDate().format(TimeSlot.DATE_FORMATTER),
+                lastDay.minusDays(1).format(TimeSlot.DATE_FORMATTER));
+        return new CommandResult(summary, items);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleCommand)) {
+            return false;
+        }
+
+        ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
+        return window.equals(otherScheduleCommand.window);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("window", window)
+                .toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Sorts the listed persons by one or more of their attributes, and keeps them sorted until sorted again.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts the listed persons by the given attributes, each in ascending (asc, the default) or "
+            + "descending (desc) order. Later attributes only order persons that are tied on the earlier ones. "
+            + "Without any attributes, the persons go back to the order they were added in.\n"
+            + "Parameters: [n/[asc|desc]] [p/[asc|desc]] [e/[asc|desc]] [a/[asc|desc]] [s/[asc|desc]] "
+            + "[l/[asc|desc]]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_AGE + "desc " + PREFIX_NAME;
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+
+    public static final String MESSAGE_UNSORTED = "Persons are listed in the order they were added";
+
+    private final PersonSortOrder sortOrder;
+
+    /**
+     * @param sortOrder The order to sort the persons in
+     */
+    public SortCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updatePersonSortOrder(sortOrder);
+        model.commit();
+        return new CommandResult(sortOrder.isEmpty()
+                ? MESSAGE_UNSORTED
+                : String.format(MESSAGE_SUCCESS, sortOrder.getDescription()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
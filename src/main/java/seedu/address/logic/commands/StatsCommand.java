@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.model.Model;
+
+/**
+ * Shows the latencies of command execution recorded in this session.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each phase of command execution and each command has taken in this session.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_STATS_DISABLED =
+            "Command statistics are disabled. Set \"statsEnabled\" to true in config.json to enable them.";
+
+    public static final String MESSAGE_HEADER = "Latencies in microseconds (count / mean / p50 / p95 / p99 / max)";
+
+    private static final String ROW_FORMAT = "%n  %-10s %6d / %d / %d / %d / %d / %d";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (!StatsCenter.isEnabled()) {
+            return new CommandResult(MESSAGE_STATS_DISABLED);
+        }
+
+        Map<String, Map<String, LatencyHistogram.Summary>> report = StatsCenter.getReport();
+        StringBuilder feedback = new StringBuilder(MESSAGE_HEADER);
+        report.forEach((section, summaries) -> {
+            feedback.append(String.format("%n%s:", section));
+            summaries.forEach((name, summary) -> feedback.append(String.format(ROW_FORMAT, name,
+                    summary.getCount(), summary.getMeanMicros(), summary.getP50Micros(), summary.getP95Micros(),
+                    summary.getP99Micros(), summary.getMaxMicros())));
+        });
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof StatsCommand;
+    }
+}
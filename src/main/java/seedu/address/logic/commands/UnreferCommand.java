@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Name;
+
+/**
+ * Removes the referral between the person being viewed and a person in the displayed person list.
+ */
+public class UnreferCommand extends ReferralCommand {
+
+    public static final String COMMAND_WORD = "unrefer";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes the referral of the patient being viewed to the specialist identified by the index number "
+            + "used in the displayed person list, or of that patient to the specialist being viewed.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + "1";
+
+    public static final String MESSAGE_UNREFER_SUCCESS = "Removed the referral of %1$s to %2$s";
+    public static final String MESSAGE_NOT_REFERRED = "This patient is not referred to this specialist.";
+
+    /**
+     * @param targetIndex of the person in the displayed list on the other side of the referral
+     */
+    public UnreferCommand(Index targetIndex) {
+        super(targetIndex);
+    }
+
+    @Override
+    protected Set<Name> updateReferrals(Set<Name> referrals, Name specialistName) throws CommandException {
+        if (!referrals.contains(specialistName)) {
+            throw new CommandException(MESSAGE_NOT_REFERRED);
+        }
+        Set<Name> updatedReferrals = new HashSet<>(referrals);
+        updatedReferrals.remove(specialistName);
+        return updatedReferrals;
+    }
+
+    @Override
+    protected String getSuccessMessage() {
+        return MESSAGE_UNREFER_SUCCESS;
+    }
+}
@@ -4,6 +4,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_TYPE;
 import static seedu.address.logic.parser.ArgumentMultimap.arePrefixesPresent;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
@@ -80,7 +81,7 @@ public class AddCommandParser implements ParserComplex<AddCommand> {
     private Specialist parseSpecialist(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOCATION,
-                        PREFIX_TAG, PREFIX_SPECIALTY);
+                        PREFIX_TAG, PREFIX_SPECIALTY, PREFIX_COORDINATES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_LOCATION, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_SPECIALTY)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -88,15 +89,18 @@ public class AddCommandParser implements ParserComplex<AddCommand> {
                     AddCommand.MESSAGE_USAGE_SPECIALIST));
         }
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_LOCATION, PREFIX_SPECIALTY);
+                PREFIX_LOCATION, PREFIX_SPECIALTY, PREFIX_COORDINATES);
         Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         Location location = ParserUtil.parseLocation(argMultimap.getValue(PREFIX_LOCATION).get());
+        if (argMultimap.getValue(PREFIX_COORDINATES).isPresent()) {
+            location = location.withCoordinates(
+                    ParserUtil.parseCoordinates(argMultimap.getValue(PREFIX_COORDINATES).get()));
+        }
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         Specialty specialty = ParserUtil.parseSpecialty(argMultimap.getValue(PREFIX_SPECIALTY).get());
 
-
         Specialist specialist = new Specialist(name, phone, email, location, tagList, specialty);
         return specialist;
     }
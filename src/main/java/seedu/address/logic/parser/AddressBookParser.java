@@ -7,25 +7,37 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PATIENT_TAG;
 import static seedu.address.logic.parser.CliSyntax.SPECIALIST_TAG;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.LogUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddShortcutCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteShortcutCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NearestCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReferCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnreferCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -80,8 +92,8 @@ public class AddressBookParser {
             // Note to developers: Change the log level in config.json to enable lower level
             // (i.e., FINE, FINER and lower) log messages such as the one below.
             // Lower level log messages are used sparingly to minimize noise in the code.
-            logger.fine(
-                    "Command word: " + commandWord + "; Person type: " + personTypeWord + "; Arguments: " + arguments);
+            LogUtil.log(logger, Level.FINE, "Parsing command", "commandWord", commandWord,
+                    "personType", personTypeWord, "arguments", arguments);
 
             PersonType personType;
             if (personTypeWord.equals(PATIENT_TAG)) {
@@ -89,7 +101,7 @@ public class AddressBookParser {
             } else if (personTypeWord.equals(SPECIALIST_TAG)) {
                 personType = PersonType.SPECIALIST;
             } else {
-                logger.finer("This user input caused a ParseException: " + userInput);
+                LogUtil.log(logger, Level.FINER, "This user input caused a ParseException", "userInput", userInput);
                 throw new ParseException(MESSAGE_INVALID_PERSON_TYPE);
             }
 
@@ -104,6 +116,9 @@ public class AddressBookParser {
             case ListCommand.COMMAND_WORD:
                 return new ListCommand(personType);
 
+            case BulkEditCommand.COMMAND_WORD:
+                return new BulkEditCommandParser().parse(personType, arguments);
+
             case EditCommand.COMMAND_WORD:
                 if (model.getSelectedPerson() instanceof Patient) {
                     throw new ParseException(
@@ -138,8 +153,35 @@ public class AddressBookParser {
             case ThemeCommand.COMMAND_WORD:
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ThemeCommand.MESSAGE_USAGE));
 
+            case StatsCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+
+            case SortCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+            case ExplainCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+
+            case ReferCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReferCommand.MESSAGE_USAGE));
+
+            case UnreferCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnreferCommand.MESSAGE_USAGE));
+
+            case BookCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BookCommand.MESSAGE_USAGE));
+
+            case CancelCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelCommand.MESSAGE_USAGE));
+
+            case ScheduleCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+
+            case NearestCommand.COMMAND_WORD:
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearestCommand.MESSAGE_USAGE));
+
             default:
-                logger.finer("This user input caused a ParseException: " + userInput);
+                LogUtil.log(logger, Level.FINER, "This user input caused a ParseException", "userInput", userInput);
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
             }
         } else if (matcherBasic.matches()) {
@@ -149,7 +191,7 @@ public class AddressBookParser {
             // Note to developers: Change the log level in config.json to enable lower level
             // (i.e., FINE, FINER and lower) log messages such as the one below.
             // Lower level log messages are used sparingly to minimize noise in the code.
-            logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+            LogUtil.log(logger, Level.FINE, "Parsing command", "commandWord", commandWord, "arguments", arguments);
 
             switch (commandWord) {
             case EditCommand.COMMAND_WORD:
@@ -191,13 +233,41 @@ public class AddressBookParser {
             case ThemeCommand.COMMAND_WORD:
                 return new ThemeCommandParser().parse(arguments);
 
+            case StatsCommand.COMMAND_WORD:
+                return new StatsCommand();
+
+            case SortCommand.COMMAND_WORD:
+                return new SortCommandParser().parse(arguments);
+
+            case ExplainCommand.COMMAND_WORD:
+                return new ExplainCommandParser(this).parse(arguments);
+
+            case ReferCommand.COMMAND_WORD:
+                return new ReferCommandParser().parse(arguments);
+
+            case UnreferCommand.COMMAND_WORD:
+                return new UnreferCommandParser().parse(arguments);
+
+            case BookCommand.COMMAND_WORD:
+                return new BookCommandParser().parse(arguments);
+
+            case CancelCommand.COMMAND_WORD:
+                return new CancelCommandParser().parse(arguments);
+
+            case ScheduleCommand.COMMAND_WORD:
+                return new ScheduleCommandParser().parse(arguments);
+
+            case NearestCommand.COMMAND_WORD:
+                return new NearestCommandParser().parse(arguments);
+
             case AddCommand.COMMAND_WORD:
             case FindCommand.COMMAND_WORD:
             case ListCommand.COMMAND_WORD:
+            case BulkEditCommand.COMMAND_WORD:
                 throw new ParseException(MESSAGE_INVALID_PERSON_TYPE);
 
             default:
-                logger.finer("This user input caused a ParseException: " + userInput);
+                LogUtil.log(logger, Level.FINER, "This user input caused a ParseException", "userInput", userInput);
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
             }
         }
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new BookCommand object
+ */
+public class BookCommandParser implements ParserBasic<BookCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BookCommand
+     * and returns a BookCommand object for execution.
+     * The appointment ends on the day it starts.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BookCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START, PREFIX_END);
+
+        if (!ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_START, PREFIX_END)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BookCommand.MESSAGE_USAGE));
+        }
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BookCommand.MESSAGE_USAGE), pe);
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START, PREFIX_END);
+
+        LocalDateTime start = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START).get());
+        LocalTime endTime = ParserUtil.parseTime(argMultimap.getValue(PREFIX_END).get());
+        LocalDateTime end = start.toLocalDate().atTime(endTime);
+        if (!TimeSlot.isValidTimeSlot(start, end)) {
+            throw new ParseException(TimeSlot.MESSAGE_CONSTRAINTS);
+        }
+        return new BookCommand(index, new TimeSlot(start, end));
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_BLANK_ARGUMENTS;
+import static seedu.address.logic.Messages.MESSAGE_ERROR_STATE;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_REMOVE;
+
+import java.util.Set;
+
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new BulkEditCommand object
+ */
+public class BulkEditCommandParser implements ParserComplex<BulkEditCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkEditCommand
+     * and returns a BulkEditCommand object for execution.
+     * Names cannot be bulk edited, as persons with the same name are the same person.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkEditCommand parse(PersonType personType, String args) throws ParseException {
+        String messageUsage;
+        ArgumentMultimap argMultimap;
+        if (personType.equals(PersonType.PATIENT)) {
+            messageUsage = BulkEditCommand.MESSAGE_USAGE_PATIENT;
+            argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG, PREFIX_TAG_ADD,
+                    PREFIX_TAG_REMOVE, PREFIX_AGE, PREFIX_MEDICALHISTORY);
+        } else if (personType.equals(PersonType.SPECIALIST)) {
+            messageUsage = BulkEditCommand.MESSAGE_USAGE_SPECIALIST;
+            argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG, PREFIX_TAG_ADD,
+                    PREFIX_TAG_REMOVE, PREFIX_LOCATION, PREFIX_SPECIALTY);
+        } else {
+            throw new ParseException(MESSAGE_ERROR_STATE);
+        }
+
+        if (!argMultimap.getPreamble().isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        if (argMultimap.anyValuesBlank(PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG_ADD, PREFIX_TAG_REMOVE, PREFIX_AGE,
+                PREFIX_LOCATION, PREFIX_SPECIALTY)) {
+            throw new ParseException(String.format(MESSAGE_BLANK_ARGUMENTS, messageUsage));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_EMAIL, PREFIX_AGE, PREFIX_LOCATION,
+                PREFIX_SPECIALTY);
+
+        EditPersonDescriptor editPersonDescriptor = personType.equals(PersonType.PATIENT)
+                ? EditCommandParser.parsePatientForEdit(argMultimap)
+                : EditCommandParser.parseSpecialistForEdit(argMultimap);
+        Set<Tag> tagsToAdd = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG_ADD));
+        Set<Tag> tagsToRemove = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG_REMOVE));
+
+        if (editPersonDescriptor.getTags().isPresent() && !(tagsToAdd.isEmpty() && tagsToRemove.isEmpty())) {
+            throw new ParseException(BulkEditCommand.MESSAGE_TAGS_SET_AND_CHANGED);
+        }
+        if (!editPersonDescriptor.isAnyFieldEdited() && tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+            throw new ParseException(BulkEditCommand.MESSAGE_NOT_EDITED + "\n" + messageUsage);
+        }
+        return new BulkEditCommand(editPersonDescriptor, tagsToAdd, tagsToRemove);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import seedu.address.logic.commands.CancelCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CancelCommand object
+ */
+public class CancelCommandParser implements ParserBasic<CancelCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CancelCommand
+     * and returns a CancelCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CancelCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START);
+
+        if (!ArgumentMultimap.arePrefixesPresent(argMultimap, PREFIX_START)
+                || !argMultimap.getPreamble().isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START);
+
+        return new CancelCommand(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START).get()));
+    }
+
+}
@@ -7,11 +7,15 @@ public class CliSyntax {
 
     /* Prefix definitions */
     public static final Prefix PREFIX_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("n~/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_LOCATION = new Prefix("l/");
+    public static final Prefix PREFIX_COORDINATES = new Prefix("g/");
 
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_TAG_ADD = new Prefix("t+/");
+    public static final Prefix PREFIX_TAG_REMOVE = new Prefix("t-/");
     public static final Prefix PREFIX_AGE = new Prefix("a/");
     public static final Prefix PREFIX_MEDICALHISTORY = new Prefix("m/");
     public static final Prefix PREFIX_SPECIALTY = new Prefix("s/");
@@ -20,6 +24,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_SHORTCUT = new Prefix("sc/");
     public static final Prefix PREFIX_THEME = new Prefix("th/");
 
+    public static final Prefix PREFIX_START = new Prefix("at/");
+    public static final Prefix PREFIX_END = new Prefix("to/");
+    public static final Prefix PREFIX_DAY = new Prefix("d/");
+    public static final Prefix PREFIX_WEEK = new Prefix("w/");
+
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
+
     /* Tag definitions */
     public static final String PATIENT_TAG = "-pa";
     public static final String SPECIALIST_TAG = "-sp";
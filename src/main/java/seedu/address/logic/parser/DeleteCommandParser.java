@@ -21,6 +21,9 @@ public class DeleteCommandParser implements ParserBasic<DeleteCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteCommand parse(String args) throws ParseException {
+        if (args.trim().equals(DeleteCommand.ALL_SHOWN_KEYWORD)) {
+            return new DeleteCommand();
+        }
         try {
             List<Index> indexList = ParserUtil.parseIndexes(args);
             return new DeleteCommand(indexList);
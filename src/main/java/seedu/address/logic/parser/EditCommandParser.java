@@ -4,6 +4,7 @@ import static seedu.address.logic.Messages.MESSAGE_BLANK_ARGUMENTS;
 import static seedu.address.logic.Messages.MESSAGE_ERROR_STATE;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
@@ -64,15 +65,7 @@ public class EditCommandParser implements ParserComplex<EditCommand> {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                 PREFIX_AGE);
 
-        EditPatientDescriptor editPatientDescriptor = new EditPatientDescriptor();
-        parseCommonPersonForEdit(editPatientDescriptor, argMultimap);
-
-        if (argMultimap.getValue(PREFIX_AGE).isPresent()) {
-            editPatientDescriptor.setAge(ParserUtil.parseAge(argMultimap
-                    .getValue(PREFIX_AGE).get()));
-        }
-        parseMedicalHistoriesForEdit(argMultimap.getAllValues(PREFIX_MEDICALHISTORY))
-                .ifPresent(editPatientDescriptor::setMedicalHistory);
+        EditPatientDescriptor editPatientDescriptor = parsePatientForEdit(argMultimap);
 
         if (!editPatientDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED + "\n" + EditCommand.MESSAGE_USAGE_PATIENT);
@@ -83,43 +76,78 @@ public class EditCommandParser implements ParserComplex<EditCommand> {
     private EditCommand parseSpecialist(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOCATION,
-                        PREFIX_TAG, PREFIX_SPECIALTY);
+                        PREFIX_TAG, PREFIX_SPECIALTY, PREFIX_COORDINATES);
 
         if (!argMultimap.getPreamble().isBlank() && !args.isBlank()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     EditCommand.MESSAGE_USAGE_SPECIALIST));
         }
 
+        // an empty g/ clears the coordinates, so it may be blank
         if (argMultimap.anyValuesBlank(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOCATION, PREFIX_SPECIALTY)) {
             throw new ParseException(String.format(MESSAGE_BLANK_ARGUMENTS,
                     EditCommand.MESSAGE_USAGE_SPECIALIST));
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_LOCATION, PREFIX_SPECIALTY);
+                PREFIX_LOCATION, PREFIX_SPECIALTY, PREFIX_COORDINATES);
+
+        EditSpecialistDescriptor editSpecialistDescriptor = parseSpecialistForEdit(argMultimap);
 
+        if (!editSpecialistDescriptor.isAnyFieldEdited()) {
+            throw new ParseException(EditCommand.MESSAGE_NOT_EDITED + "\n" + EditCommand.MESSAGE_USAGE_SPECIALIST);
+        }
+        return new EditCommand(editSpecialistDescriptor);
+    }
+
+    /**
+     * Creates an {@code EditPatientDescriptor} by checking if each attribute of a {@code Patient}
+     * is present within the user input arguments.
+     */
+    static EditPatientDescriptor parsePatientForEdit(ArgumentMultimap argMultimap) throws ParseException {
+        EditPatientDescriptor editPatientDescriptor = new EditPatientDescriptor();
+        parseCommonPersonForEdit(editPatientDescriptor, argMultimap);
+
+        if (argMultimap.getValue(PREFIX_AGE).isPresent()) {
+            editPatientDescriptor.setAge(ParserUtil.parseAge(argMultimap
+                    .getValue(PREFIX_AGE).get()));
+        }
+        parseMedicalHistoriesForEdit(argMultimap.getAllValues(PREFIX_MEDICALHISTORY))
+                .ifPresent(editPatientDescriptor::setMedicalHistory);
+        return editPatientDescriptor;
+    }
+
+    /**
+     * Creates an {@code EditSpecialistDescriptor} by checking if each attribute of a {@code Specialist}
+     * is present within the user input arguments.
+     */
+    static EditSpecialistDescriptor parseSpecialistForEdit(ArgumentMultimap argMultimap) throws ParseException {
         EditSpecialistDescriptor editSpecialistDescriptor = new EditSpecialistDescriptor();
         parseCommonPersonForEdit(editSpecialistDescriptor, argMultimap);
 
         if (argMultimap.getValue(PREFIX_LOCATION).isPresent()) {
             editSpecialistDescriptor.setLocation(ParserUtil.parseLocation(argMultimap.getValue(PREFIX_LOCATION).get()));
         }
+        if (argMultimap.getValue(PREFIX_COORDINATES).isPresent()) {
+            String coordinates = argMultimap.getValue(PREFIX_COORDINATES).get();
+            if (coordinates.isBlank()) {
+                editSpecialistDescriptor.clearCoordinates();
+            } else {
+                editSpecialistDescriptor.setCoordinates(ParserUtil.parseCoordinates(coordinates));
+            }
+        }
         if (argMultimap.getValue(PREFIX_SPECIALTY).isPresent()) {
             editSpecialistDescriptor.setSpecialty(ParserUtil.parseSpecialty(
                     argMultimap.getValue(PREFIX_SPECIALTY).get()));
         }
-
-        if (!editSpecialistDescriptor.isAnyFieldEdited()) {
-            throw new ParseException(EditCommand.MESSAGE_NOT_EDITED + "\n" + EditCommand.MESSAGE_USAGE_SPECIALIST);
-        }
-        return new EditCommand(editSpecialistDescriptor);
+        return editSpecialistDescriptor;
     }
 
     /**
      * Creates an {@code EditPersonDescriptor} by checking if each attribute of a {@code Person}
      * is present within the user input arguments.
      */
-    private EditPersonDescriptor parseCommonPersonForEdit(EditPersonDescriptor editPersonDescriptor,
+    private static EditPersonDescriptor parseCommonPersonForEdit(EditPersonDescriptor editPersonDescriptor,
                                                           ArgumentMultimap argMultimap) throws ParseException {
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             editPersonDescriptor.setName(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
@@ -139,7 +167,7 @@ public class EditCommandParser implements ParserComplex<EditCommand> {
      * If {@code tags} contain only one element which is an empty string, it will be parsed into a
      * {@code Set<Tag>} containing zero tags.
      */
-    private Optional<Set<Tag>> parseTagsForEdit(Collection<String> tags) throws ParseException {
+    private static Optional<Set<Tag>> parseTagsForEdit(Collection<String> tags) throws ParseException {
         assert tags != null;
 
         if (tags.isEmpty()) {
@@ -155,7 +183,7 @@ public class EditCommandParser implements ParserComplex<EditCommand> {
      * If {@code medicalHistories} contain only one element which is an empty string, it will be parsed into a
      * {@code Set<MedicalHistories>} containing zero medical history.
      */
-    private Optional<Set<MedicalHistory>> parseMedicalHistoriesForEdit(Collection<String> medicalHistories)
+    private static Optional<Set<MedicalHistory>> parseMedicalHistoriesForEdit(Collection<String> medicalHistories)
             throws ParseException {
         assert medicalHistories != null;
         if (medicalHistories.isEmpty()) {
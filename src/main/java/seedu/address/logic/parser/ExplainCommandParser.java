@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExplainCommand object
+ */
+public class ExplainCommandParser implements ParserBasic<ExplainCommand> {
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Constructs an ExplainCommandParser that parses the command to explain with {@code addressBookParser}.
+     */
+    public ExplainCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExplainCommand
+     * and returns an ExplainCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExplainCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+
+        Command command = addressBookParser.parseCommand(trimmedArgs);
+        if (!(command instanceof FindCommand)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+        return new ExplainCommand((FindCommand) command);
+    }
+}
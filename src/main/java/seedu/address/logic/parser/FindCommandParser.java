@@ -5,6 +5,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -12,14 +13,18 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindPredicateMap;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
-import seedu.address.model.person.predicates.AgeContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.LocationContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
@@ -33,6 +38,11 @@ import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
  */
 public class FindCommandParser implements ParserComplex<FindCommand> {
 
+    private static final List<Prefix> PATIENT_QUERY_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_TAG, PREFIX_AGE, PREFIX_MEDICALHISTORY);
+    private static final List<Prefix> SPECIALIST_QUERY_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_LOCATION, PREFIX_TAG, PREFIX_SPECIALTY);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -49,8 +59,13 @@ public class FindCommandParser implements ParserComplex<FindCommand> {
     }
 
     private FindCommand parsePatient(String args) throws ParseException {
+        if (FindQueryParser.isQuery(args)) {
+            FindQueryParser queryParser = new FindQueryParser(PATIENT_QUERY_PREFIXES, this::parseQueryTerm,
+                    FindCommand.MESSAGE_USAGE_PATIENT);
+            return new FindCommand(queryParser.parse(args), PersonType.PATIENT);
+        }
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                         PREFIX_TAG, PREFIX_AGE, PREFIX_MEDICALHISTORY);
 
         if (!argMultimap.getPreamble().isBlank() && !args.isBlank()) {
@@ -58,46 +73,54 @@ public class FindCommandParser implements ParserComplex<FindCommand> {
                     FindCommand.MESSAGE_USAGE_PATIENT));
         }
 
-        if (argMultimap.anyValuesBlank(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+        if (argMultimap.anyValuesBlank(PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                 PREFIX_TAG, PREFIX_AGE, PREFIX_MEDICALHISTORY)) {
             throw new ParseException(String.format(MESSAGE_BLANK_ARGUMENTS,
                     FindCommand.MESSAGE_USAGE_PATIENT));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                 PREFIX_AGE, PREFIX_MEDICALHISTORY);
 
         FindPredicateMap findPredicateMap = setupPersonPredicates(argMultimap);
 
         if (argMultimap.getValue(PREFIX_AGE).isPresent()) {
-            List<String> ageKeyWords = splitKeywordsByWhitespace(argMultimap, PREFIX_AGE);
-            findPredicateMap.put(PREFIX_AGE, new AgeContainsKeywordsPredicate(ageKeyWords));
+            List<AgeRange> ageRanges = new ArrayList<>();
+            for (String ageKeyword : splitKeywordsByWhitespace(argMultimap, PREFIX_AGE)) {
+                ageRanges.add(ParserUtil.parseAgeRange(ageKeyword));
+            }
+            findPredicateMap.put(PREFIX_AGE, new AgeInRangesPredicate(ageRanges));
         }
         if (argMultimap.getValue(PREFIX_MEDICALHISTORY).isPresent()) {
             List<String> medHistKeywords = splitKeywordsByWhitespace(argMultimap, PREFIX_MEDICALHISTORY);
             findPredicateMap.put(PREFIX_MEDICALHISTORY,
                     new MedHistoryContainsKeywordsPredicate(medHistKeywords));
         }
-        return new FindCommand(findPredicateMap, PersonType.PATIENT);
+        return new FindCommand(findPredicateMap, PersonType.PATIENT, getFuzzyNameKeywords(argMultimap));
     }
 
     private FindCommand parseSpecialist(String args) throws ParseException {
+        if (FindQueryParser.isQuery(args)) {
+            FindQueryParser queryParser = new FindQueryParser(SPECIALIST_QUERY_PREFIXES, this::parseQueryTerm,
+                    FindCommand.MESSAGE_USAGE_SPECIALIST);
+            return new FindCommand(queryParser.parse(args), PersonType.SPECIALIST);
+        }
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOCATION,
-                        PREFIX_TAG, PREFIX_SPECIALTY);
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                        PREFIX_LOCATION, PREFIX_TAG, PREFIX_SPECIALTY);
 
         if (!argMultimap.getPreamble().isBlank() && !args.isBlank()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindCommand.MESSAGE_USAGE_SPECIALIST));
         }
 
-        if (argMultimap.anyValuesBlank(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOCATION,
+        if (argMultimap.anyValuesBlank(PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LOCATION,
                 PREFIX_TAG, PREFIX_SPECIALTY)) {
             throw new ParseException(String.format(MESSAGE_BLANK_ARGUMENTS,
                     FindCommand.MESSAGE_USAGE_SPECIALIST));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                 PREFIX_LOCATION, PREFIX_SPECIALTY);
 
         FindPredicateMap findPredicateMap = setupPersonPredicates(argMultimap);
@@ -111,7 +134,35 @@ public class FindCommandParser implements ParserComplex<FindCommand> {
             findPredicateMap.put(PREFIX_SPECIALTY, new SpecialtyContainsKeywordsPredicate(specialtyKeywords));
         }
 
-        return new FindCommand(findPredicateMap, PersonType.SPECIALIST);
+        return new FindCommand(findPredicateMap, PersonType.SPECIALIST, getFuzzyNameKeywords(argMultimap));
+    }
+
+    /**
+     * Returns the predicate of a term of a boolean query, which matches as {@code prefix} does on its own.
+     */
+    private Predicate<Person> parseQueryTerm(Prefix prefix, String keywords) throws ParseException {
+        List<String> splitKeywords = Arrays.asList(keywords.trim().split("\\s+"));
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagsContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_MEDICALHISTORY)) {
+            return new MedHistoryContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_LOCATION)) {
+            return new LocationContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_SPECIALTY)) {
+            return new SpecialtyContainsKeywordsPredicate(splitKeywords);
+        }
+        assert prefix.equals(PREFIX_AGE);
+        List<AgeRange> ageRanges = new ArrayList<>();
+        for (String ageKeyword : splitKeywords) {
+            ageRanges.add(ParserUtil.parseAgeRange(ageKeyword));
+        }
+        return new AgeInRangesPredicate(ageRanges);
     }
 
     private List<String> splitKeywordsByWhitespace(ArgumentMultimap argMultimap, Prefix prefix) {
@@ -121,6 +172,13 @@ public class FindCommandParser implements ParserComplex<FindCommand> {
         return Arrays.asList(keywords);
     }
 
+    private List<String> getFuzzyNameKeywords(ArgumentMultimap argMultimap) {
+        if (argMultimap.getValue(PREFIX_FUZZY_NAME).isEmpty()) {
+            return List.of();
+        }
+        return splitKeywordsByWhitespace(argMultimap, PREFIX_FUZZY_NAME);
+    }
+
     private FindPredicateMap setupPersonPredicates(ArgumentMultimap argMultimap) {
         FindPredicateMap findPredicateMap = new FindPredicateMap();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
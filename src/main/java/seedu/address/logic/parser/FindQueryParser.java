@@ -0,0 +1,238 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_BLANK_ARGUMENTS;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.FindQuery;
+
+/**
+ * Parses the arguments of a {@code find} command written as a boolean query, such as
+ * {@code (t/diabetic OR m/hypertension) AND NOT t/discharged}.
+ *
+ * A term is a prefix followed by its keywords, which match as they do in a {@code find} command without operators.
+ * Terms are combined with {@code NOT}, {@code AND} and {@code OR}, in that order of precedence, and grouped with
+ * parentheses. Terms next to each other without an operator must both match. Operators are only recognised in
+ * capitals, and a term's keywords end at the next operator, parenthesis or prefix.
+ */
+public class FindQueryParser {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    /**
+     * An operator, a parenthesis on its own, or an opening parenthesis before a term, operator or group. Other
+     * parentheses are taken as part of a term's keywords, e.g. {@code l/Blk 5 (East)}.
+     */
+    private static final Pattern QUERY_SYNTAX = Pattern.compile("(^|[\\s(])\\((?=\\s*([a-z]+~?/|\\(|NOT[\\s(]))"
+            + "|(^|\\s)[()](?=\\s|$)|(^|\\s)(AND|OR|NOT)(?=[\\s()]|$)");
+
+    /**
+     * Turns the keywords of a term into a predicate.
+     */
+    @FunctionalInterface
+    public interface TermParser {
+        Predicate<Person> parse(Prefix prefix, String keywords) throws ParseException;
+    }
+
+    private final List<Prefix> prefixes;
+    private final TermParser termParser;
+    private final String messageUsage;
+    private List<Token> tokens;
+    private int next;
+
+    /**
+     * Creates a {@code FindQueryParser} of queries with terms of {@code prefixes}, parsed by {@code termParser}.
+     * Invalid queries are reported with {@code messageUsage}.
+     */
+    public FindQueryParser(List<Prefix> prefixes, TermParser termParser, String messageUsage) {
+        requireAllNonNull(prefixes, termParser, messageUsage);
+        // longer prefixes are tried first, so that a prefix that begins another is not taken for it
+        this.prefixes = new ArrayList<>(prefixes);
+        this.prefixes.sort(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed());
+        this.termParser = termParser;
+        this.messageUsage = messageUsage;
+    }
+
+    /**
+     * Returns true if {@code args} uses the operators or parentheses of a boolean query. Parentheses within the
+     * keywords of a term, which do not enclose other terms, do not make a query.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        return QUERY_SYNTAX.matcher(args).find();
+    }
+
+    /**
+     * Parses {@code args} into a {@code FindQuery}.
+     * @throws ParseException if {@code args} is not a valid query
+     */
+    public FindQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        next = 0;
+        FindQuery query = parseOr();
+        if (next < tokens.size()) {
+            throw invalidQuery();
+        }
+        return query;
+    }
+
+    private FindQuery parseOr() throws ParseException {
+        FindQuery query = parseAnd();
+        while (isNext(OR)) {
+            next++;
+            query = FindQuery.or(query, parseAnd());
+        }
+        return query;
+    }
+
+    private FindQuery parseAnd() throws ParseException {
+        FindQuery query = parseNot();
+        while (next < tokens.size() && !isNext(OR) && !isNext(")")) {
+            if (isNext(AND)) {
+                next++;
+            }
+            query = FindQuery.and(query, parseNot());
+        }
+        return query;
+    }
+
+    private FindQuery parseNot() throws ParseException {
+        if (next == tokens.size()) {
+            throw invalidQuery();
+        }
+        Token token = tokens.get(next++);
+        if (token.isSymbol(NOT)) {
+            return FindQuery.not(parseNot());
+        }
+        if (token.isSymbol("(")) {
+            FindQuery query = parseOr();
+            if (!isNext(")")) {
+                throw invalidQuery();
+            }
+            next++;
+            return query;
+        }
+        if (token.prefix == null) {
+            throw invalidQuery();
+        }
+        if (token.text.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_BLANK_ARGUMENTS, messageUsage));
+        }
+        return FindQuery.of(termParser.parse(token.prefix, token.text));
+    }
+
+    private boolean isNext(String symbol) {
+        return next < tokens.size() && tokens.get(next).isSymbol(symbol);
+    }
+
+    private ParseException invalidQuery() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+    }
+
+    //=========== Tokenizing =================================================================================
+
+    private List<Token> tokenize(String args) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int position = skipWhitespace(args, 0);
+        while (position < args.length()) {
+            char c = args.charAt(position);
+            String operator = operatorAt(args, position);
+            Prefix prefix = prefixAt(args, position);
+            if (c == '(' || c == ')') {
+                tokens.add(new Token(String.valueOf(c), null));
+                position++;
+            } else if (operator != null) {
+                tokens.add(new Token(operator, null));
+                position += operator.length();
+            } else if (prefix != null) {
+                int start = position + prefix.getPrefix().length();
+                int end = endOfKeywords(args, start);
+                tokens.add(new Token(args.substring(start, end).trim(), prefix));
+                position = end;
+            } else {
+                throw invalidQuery();
+            }
+            position = skipWhitespace(args, position);
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the position at which the keywords of a term starting at {@code start} end.
+     */
+    private int endOfKeywords(String args, int start) {
+        for (int position = start; position < args.length(); position++) {
+            char c = args.charAt(position);
+            if (c == '(' || c == ')') {
+                return position;
+            }
+            if (Character.isWhitespace(c)) {
+                int nextWord = skipWhitespace(args, position);
+                if (nextWord < args.length() && (args.charAt(nextWord) == '(' || args.charAt(nextWord) == ')'
+                        || operatorAt(args, nextWord) != null || prefixAt(args, nextWord) != null)) {
+                    return position;
+                }
+            }
+        }
+        return args.length();
+    }
+
+    private static int skipWhitespace(String args, int position) {
+        while (position < args.length() && Character.isWhitespace(args.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the operator at {@code position}, or null if there is none. An operator is a whole word.
+     */
+    private static String operatorAt(String args, int position) {
+        for (String operator : List.of(AND, OR, NOT)) {
+            int end = position + operator.length();
+            if (args.startsWith(operator, position)
+                    && (end == args.length() || Character.isWhitespace(args.charAt(end))
+                            || args.charAt(end) == '(' || args.charAt(end) == ')')) {
+                return operator;
+            }
+        }
+        return null;
+    }
+
+    private Prefix prefixAt(String args, int position) {
+        for (Prefix prefix : prefixes) {
+            if (args.startsWith(prefix.getPrefix(), position)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * An operator or parenthesis, or a term of a prefix and its keywords.
+     */
+    private static class Token {
+        private final String text;
+        private final Prefix prefix;
+
+        Token(String text, Prefix prefix) {
+            this.text = text;
+            this.prefix = prefix;
+        }
+
+        boolean isSymbol(String symbol) {
+            return prefix == null && text.equals(symbol);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.ArgumentMultimap.arePrefixesPresent;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.NearestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new NearestCommand object
+ */
+public class NearestCommandParser implements ParserBasic<NearestCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NearestCommand
+     * and returns a NearestCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NearestCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COORDINATES, PREFIX_COUNT,
+                PREFIX_SPECIALTY, PREFIX_TAG);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_COORDINATES) || !argMultimap.getPreamble().isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearestCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_COORDINATES, PREFIX_COUNT, PREFIX_SPECIALTY, PREFIX_TAG);
+
+        Coordinates target = ParserUtil.parseCoordinates(argMultimap.getValue(PREFIX_COORDINATES).get());
+        int count = NearestCommand.DEFAULT_COUNT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            String trimmedCount = argMultimap.getValue(PREFIX_COUNT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+                throw new ParseException(NearestCommand.MESSAGE_INVALID_COUNT);
+            }
+            count = Integer.parseInt(trimmedCount);
+        }
+        Optional<SpecialtyContainsKeywordsPredicate> specialtyPredicate = getKeywords(argMultimap, PREFIX_SPECIALTY)
+                .map(SpecialtyContainsKeywordsPredicate::new);
+        Optional<TagsContainsKeywordsPredicate> tagsPredicate = getKeywords(argMultimap, PREFIX_TAG)
+                .map(TagsContainsKeywordsPredicate::new);
+        return new NearestCommand(target, count, specialtyPredicate, tagsPredicate);
+    }
+
+    private static Optional<List<String>> getKeywords(ArgumentMultimap argMultimap, Prefix prefix)
+            throws ParseException {
+        if (argMultimap.getValue(prefix).isEmpty()) {
+            return Optional.empty();
+        }
+        String trimmedArgs = argMultimap.getValue(prefix).get().trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearestCommand.MESSAGE_USAGE));
+        }
+        return Optional.of(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
@@ -2,6 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -17,7 +21,10 @@ import seedu.address.logic.commands.CommandWord;
 import seedu.address.logic.commands.ShortcutAlias;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Theme;
+import seedu.address.model.appointment.TimeSlot;
 import seedu.address.model.person.Age;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.MedicalHistory;
@@ -164,6 +171,21 @@ public class ParserUtil {
         return new Location(trimmedAddress);
     }
 
+    /**
+     * Parses a {@code String coordinates} into a {@code Coordinates}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code coordinates} is invalid.
+     */
+    public static Coordinates parseCoordinates(String coordinates) throws ParseException {
+        requireNonNull(coordinates);
+        String trimmedCoordinates = coordinates.trim();
+        if (!Coordinates.isValidCoordinates(trimmedCoordinates)) {
+            throw new ParseException(Coordinates.MESSAGE_CONSTRAINTS);
+        }
+        return new Coordinates(trimmedCoordinates);
+    }
+
     /**
      * Parses a {@code String email} into an {@code Email}.
      * Leading and trailing whitespaces will be trimmed.
@@ -221,6 +243,21 @@ public class ParserUtil {
         return new Age(trimmedAge);
     }
 
+    /**
+     * Parses {@code String ageRange} into an {@code AgeRange}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code ageRange} is invalid.
+     */
+    public static AgeRange parseAgeRange(String ageRange) throws ParseException {
+        requireNonNull(ageRange);
+        String trimmedAgeRange = ageRange.trim();
+        if (!AgeRange.isValidAgeRange(trimmedAgeRange)) {
+            throw new ParseException(AgeRange.MESSAGE_CONSTRAINTS);
+        }
+        return new AgeRange(trimmedAgeRange);
+    }
+
     /**
      * Parses {@code String commandWord} into a {@code CommandWord}.
      * Leading and trailing whitespaces will be trimmed.
@@ -266,4 +303,49 @@ public class ParserUtil {
             throw new ParseException(Theme.MESSAGE_CONSTRAINTS);
         }
     }
+
+    /**
+     * Parses a {@code String dateTime} in the format YYYY-MM-DD HH:MM into a {@code LocalDateTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dateTime} is invalid.
+     */
+    public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
+        requireNonNull(dateTime);
+        try {
+            return LocalDateTime.parse(dateTime.trim(), TimeSlot.DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(TimeSlot.MESSAGE_DATE_TIME_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Parses a {@code String date} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), TimeSlot.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(TimeSlot.MESSAGE_DATE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Parses a {@code String time} in the format HH:MM into a {@code LocalTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code time} is invalid.
+     */
+    public static LocalTime parseTime(String time) throws ParseException {
+        requireNonNull(time);
+        try {
+            return LocalTime.parse(time.trim(), TimeSlot.TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(TimeSlot.MESSAGE_TIME_CONSTRAINTS);
+        }
+    }
 }
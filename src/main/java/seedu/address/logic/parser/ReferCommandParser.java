@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ReferCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ReferCommand object
+ */
+public class ReferCommandParser implements ParserBasic<ReferCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReferCommand
+     * and returns a ReferCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReferCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new ReferCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReferCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object
+ */
+public class ScheduleCommandParser implements ParserBasic<ScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     * The schedule of today is shown if neither a day nor a week is given.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAY, PREFIX_WEEK);
+
+        boolean isDayPresent = argMultimap.getValue(PREFIX_DAY).isPresent();
+        boolean isWeekPresent = argMultimap.getValue(PREFIX_WEEK).isPresent();
+        if (!argMultimap.getPreamble().isBlank() || (isDayPresent && isWeekPresent)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAY, PREFIX_WEEK);
+
+        if (isWeekPresent) {
+            LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_WEEK).get());
+            return new ScheduleCommand(TimeSlot.ofWeek(date));
+        }
+        if (isDayPresent) {
+            LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DAY).get());
+            return new ScheduleCommand(TimeSlot.ofDay(date));
+        }
+        return new ScheduleCommand(TimeSlot.ofDay(LocalDate.now()));
+    }
+
+}
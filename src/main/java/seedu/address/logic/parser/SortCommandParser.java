@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.SortField;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements ParserBasic<SortCommand> {
+
+    public static final String MESSAGE_INVALID_DIRECTION =
+            "The sort order of an attribute should be either asc or desc, or left empty for asc.";
+
+    private static final Map<Prefix, SortField> SORT_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SORT_FIELDS.put(PREFIX_NAME, SortField.NAME);
+        SORT_FIELDS.put(PREFIX_PHONE, SortField.PHONE);
+        SORT_FIELDS.put(PREFIX_EMAIL, SortField.EMAIL);
+        SORT_FIELDS.put(PREFIX_AGE, SortField.AGE);
+        SORT_FIELDS.put(PREFIX_SPECIALTY, SortField.SPECIALTY);
+        SORT_FIELDS.put(PREFIX_LOCATION, SortField.LOCATION);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * The attributes are sorted by in the order their prefixes appear in {@code args}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        Prefix[] prefixes = SORT_FIELDS.keySet().toArray(new Prefix[0]);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, prefixes);
+
+        if (!argMultimap.getPreamble().isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(prefixes);
+
+        List<Prefix> givenPrefixes = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                givenPrefixes.add(prefix);
+            }
+        }
+        // each prefix is given at most once, so its first occurrence is its only one
+        givenPrefixes.sort(Comparator.comparingInt(prefix -> args.indexOf(" " + prefix.getPrefix())));
+
+        List<PersonSortOrder.Criterion> criteria = new ArrayList<>();
+        for (Prefix prefix : givenPrefixes) {
+            boolean isDescending = parseIsDescending(argMultimap.getValue(prefix).get());
+            criteria.add(new PersonSortOrder.Criterion(SORT_FIELDS.get(prefix), isDescending));
+        }
+        return new SortCommand(new PersonSortOrder(criteria));
+    }
+
+    private static boolean parseIsDescending(String direction) throws ParseException {
+        String trimmedDirection = direction.trim().toLowerCase();
+        switch (trimmedDirection) {
+        case "":
+        case "asc":
+            return false;
+        case "desc":
+            return true;
+        default:
+            throw new ParseException(MESSAGE_INVALID_DIRECTION);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.UnreferCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnreferCommand object
+ */
+public class UnreferCommandParser implements ParserBasic<UnreferCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnreferCommand
+     * and returns a UnreferCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnreferCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new UnreferCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnreferCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -2,20 +2,50 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ReferralIndex;
+import seedu.address.model.person.Specialist;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Patients are only referred to specialists in the address book: referrals follow a specialist that is renamed, and
+ * are removed with a specialist that is removed.
+ * Appointments are only of patients and specialists in the address book, and never overlap for the same person:
+ * appointments follow a person that is renamed, and are cancelled with a person that is removed.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ReferralIndex referralIndex;
+    private final AppointmentList appointments = new AppointmentList();
+    private final ChangeSet changes = new ChangeSet();
+    /**
+     * Counts the changes made to the persons and appointments, so that a snapshot is only taken again once they
+     * have changed.
+     */
+    private long version;
+    private AddressBookSnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +56,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        referralIndex = new ReferralIndex(persons.asUnmodifiableObservableList());
     }
 
     public AddressBook() {
@@ -44,17 +75,43 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The appointments of persons no longer in the address book are cancelled.
      */
     public void setPersons(List<Person> persons) {
+        if (this.persons.asUnmodifiableObservableList().equals(persons)) {
+            return;
+        }
         this.persons.setPersons(persons);
+        changes.recordReset();
+        version++;
+        setAppointments(appointments.asList());
+    }
+
+    /**
+     * Replaces the appointments with {@code appointments}, leaving out those of persons not in the address book.
+     * {@code appointments} must not contain appointments that overlap for the same patient or specialist.
+     */
+    public void setAppointments(List<Appointment> appointments) {
+        requireNonNull(appointments);
+        List<Appointment> knownAppointments = withoutUnknownPersons(appointments);
+        if (this.appointments.size() == knownAppointments.size()
+                && new HashSet<>(this.appointments.asList()).equals(new HashSet<>(knownAppointments))) {
+            return;
+        }
+        this.appointments.setAppointments(knownAppointments);
+        changes.recordAppointmentsChange();
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData} and {@code shortcutSettings}.
+     * Referrals to specialists not in {@code newData}, and appointments of persons not in it, e.g. of a data file
+     * edited by hand, are dropped.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setPersons(newData.getPersonList());
+        setPersons(withoutUnknownReferrals(newData.getPersonList()));
+        setAppointments(newData.getAppointmentList());
     }
 
     //// person-level operations
@@ -73,25 +130,300 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        changes.recordAdd(p);
+        version++;
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Patients referred to a specialist that is renamed are referred to it by its new name, and the appointments
+     * of a person that is renamed are moved to its new name.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        if (isRenamedSpecialist(target, editedPerson)
+                && !referralIndex.getPatientsReferredTo(target.getName()).isEmpty()) {
+            replacePersons(Map.of(target, editedPerson));
+            return;
+        }
         persons.setPerson(target, editedPerson);
+        changes.recordReplace(target, editedPerson);
+        if (appointments.rename(target, editedPerson)) {
+            changes.recordAppointmentsChange();
+        }
+        version++;
+    }
+
+    /**
+     * Replaces each person that is a key of {@code replacements} with the person it maps to, at once.
+     * The persons replaced must all exist in the address book.
+     * The person identity of each replacement must not be the same as another existing person in the address book.
+     * Patients referred to a specialist that is renamed are referred to it by its new name, and the appointments
+     * of a person that is renamed are moved to its new name.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        Map<Name, Name> renamedSpecialists = new HashMap<>();
+        replacements.forEach((target, replacement) -> {
+            if (isRenamedSpecialist(target, replacement)) {
+                renamedSpecialists.put(target.getName(), replacement.getName());
+            }
+        });
+        Map<Person, Person> allReplacements = new LinkedHashMap<>(replacements);
+        allReplacements.replaceAll((target, replacement) -> updateReferrals(replacement, renamedSpecialists));
+        getReferralUpdates(renamedSpecialists).forEach(allReplacements::putIfAbsent);
+
+        persons.replaceAll(allReplacements);
+        allReplacements.forEach(changes::recordReplace);
+        replacements.forEach((target, replacement) -> {
+            if (appointments.rename(target, replacement)) {
+                changes.recordAppointmentsChange();
+            }
+        });
+        version++;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
+     * Patients referred to a specialist that is removed are no longer referred to it, and the appointments of
+     * the person removed are cancelled.
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        changes.recordRemove(key);
+        removeReferralsTo(List.of(key));
+        removeAppointmentsOf(List.of(key));
+        version++;
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} at once.
+     * {@code keys} must all exist in the address book.
+     * Patients referred to a specialist that is removed are no longer referred to it, and the appointments of
+     * the persons removed are cancelled.
+     */
+    public void removePersons(Collection<Person> keys) {
+        Set<Person> distinctKeys = new LinkedHashSet<>(keys);
+        persons.removeAll(distinctKeys);
+        distinctKeys.forEach(changes::recordRemove);
+        removeReferralsTo(distinctKeys);
+        removeAppointmentsOf(distinctKeys);
+        version++;
+    }
+
+    //// referrals
+
+    /**
+     * Returns the persons referred to or from {@code person}: the specialists a patient is referred to, or the
+     * patients referred to a specialist.
+     */
+    public List<Person> getReferrals(Person person) {
+        requireNonNull(person);
+        return referralIndex.getReferrals(person);
+    }
+
+    /**
+     * Removes the referrals of the patients left in the address book to the specialists among {@code removed}.
+     */
+    private void removeReferralsTo(Collection<Person> removed) {
+        Map<Name, Name> removedSpecialists = new HashMap<>();
+        for (Person person : removed) {
+            if (person instanceof Specialist) {
+                removedSpecialists.put(person.getName(), null);
+            }
+        }
+        Map<Person, Person> referralUpdates = getReferralUpdates(removedSpecialists);
+        if (!referralUpdates.isEmpty()) {
+            persons.replaceAll(referralUpdates);
+            referralUpdates.forEach(changes::recordReplace);
+        }
+    }
+
+    private static boolean isRenamedSpecialist(Person target, Person replacement) {
+        return target instanceof Specialist && !target.getName().equals(replacement.getName());
+    }
+
+    /**
+     * Returns the patients referred to the specialists named by the keys of {@code renamedSpecialists}, each mapped
+     * to the patient with those referrals updated by {@link #updateReferrals}.
+     */
+    private Map<Person, Person> getReferralUpdates(Map<Name, Name> renamedSpecialists) {
+        Map<Person, Person> referralUpdates = new LinkedHashMap<>();
+        for (Name specialistName : renamedSpecialists.keySet()) {
+            for (Person patient : referralIndex.getPatientsReferredTo(specialistName)) {
+                referralUpdates.computeIfAbsent(patient, unused -> updateReferrals(patient, renamedSpecialists));
+            }
+        }
+        return referralUpdates;
+    }
+
+    /**
+     * Returns {@code person} with its referrals to the specialists named by the keys of {@code renamedSpecialists}
+     * changed to the names they map to, or removed where they map to null.
+     */
+    private static Person updateReferrals(Person person, Map<Name, Name> renamedSpecialists) {
+        if (!(person instanceof Patient)) {
+            return person;
+        }
+        Patient patient = (Patient) person;
+        if (patient.getReferrals().stream().noneMatch(renamedSpecialists::containsKey)) {
+            return patient;
+        }
+        Set<Name> referrals = new LinkedHashSet<>();
+        for (Name specialistName : patient.getReferrals()) {
+            if (!renamedSpecialists.containsKey(specialistName)) {
+                referrals.add(specialistName);
+            } else if (renamedSpecialists.get(specialistName) != null) {
+                referrals.add(renamedSpecialists.get(specialistName));
+            }
+        }
+        return patient.withReferrals(referrals);
+    }
+
+    /**
+     * Returns {@code persons}, or a copy of it without the referrals of its patients to specialists not in it.
+     */
+    private static List<Person> withoutUnknownReferrals(List<Person> persons) {
+        Set<Name> specialistNames = persons.stream()
+                .filter(person -> person instanceof Specialist)
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        boolean hasUnknownReferrals = persons.stream()
+                .filter(person -> person instanceof Patient)
+                .anyMatch(patient -> !specialistNames.containsAll(((Patient) patient).getReferrals()));
+        if (!hasUnknownReferrals) {
+            return persons;
+        }
+        return persons.stream().map(person -> {
+            if (!(person instanceof Patient)) {
+                return person;
+            }
+            Set<Name> referrals = new LinkedHashSet<>(((Patient) person).getReferrals());
+            referrals.retainAll(specialistNames);
+            return ((Patient) person).withReferrals(referrals);
+        }).collect(Collectors.toList());
+    }
+
+    //// appointments
+
+    /**
+     * Returns an appointment of the patient or the specialist of {@code appointment} that overlaps it, if any.
+     */
+    public Optional<Appointment> findAppointmentConflict(Appointment appointment) {
+        requireNonNull(appointment);
+        return appointments.findConflict(appointment);
+    }
+
+    /**
+     * Adds an appointment to the address book.
+     * Its patient and specialist must exist in the address book, and it must not overlap any of their appointments.
+     */
+    public void addAppointment(Appointment appointment) {
+        appointments.add(appointment);
+        changes.recordAppointmentsChange();
+        version++;
+    }
+
+    /**
+     * Removes {@code appointment} from this {@code AddressBook}.
+     * {@code appointment} must exist in the address book.
+     */
+    public void removeAppointment(Appointment appointment) {
+        appointments.remove(appointment);
+        changes.recordAppointmentsChange();
+        version++;
+    }
+
+    /**
+     * Returns the appointment of {@code person} starting at {@code start}, if any.
+     */
+    public Optional<Appointment> getAppointmentAt(Person person, LocalDateTime start) {
+        return appointments.getAppointmentAt(person, start);
+    }
+
+    /**
+     * Returns the appointments of {@code person} overlapping {@code window}, in order of their start times.
+     */
+    public List<Appointment> getAppointmentsIn(Person person, TimeSlot window) {
+        return appointments.getAppointmentsIn(person, window);
+    }
+
+    /**
+     * Returns the time slots in {@code window} that no appointment of {@code person} overlaps, in order.
+     */
+    public List<TimeSlot> getFreeSlotsIn(Person person, TimeSlot window) {
+        return appointments.getFreeSlotsIn(person, window);
+    }
+
+    /**
+     * Cancels the appointments of the persons among {@code removed}.
+     */
+    private void removeAppointmentsOf(Collection<Person> removed) {
+        boolean isAnyRemoved = false;
+        for (Person person : removed) {
+            isAnyRemoved |= appointments.removeAppointmentsOf(person);
+        }
+        if (isAnyRemoved) {
+            changes.recordAppointmentsChange();
+        }
+    }
+
+    /**
+     * Returns the appointments in {@code appointments} of patients and specialists in the address book.
+     */
+    private List<Appointment> withoutUnknownPersons(List<Appointment> appointments) {
+        Set<Name> patientNames = new HashSet<>();
+        Set<Name> specialistNames = new HashSet<>();
+        for (Person person : persons) {
+            if (person instanceof Patient) {
+                patientNames.add(person.getName());
+            } else if (person instanceof Specialist) {
+                specialistNames.add(person.getName());
+            }
+        }
+        return appointments.stream()
+                .filter(appointment -> patientNames.contains(appointment.getPatientName())
+                        && specialistNames.contains(appointment.getSpecialistName()))
+                .collect(Collectors.toList());
+    }
+
+    //// change tracking
+
+    @Override
+    public ChangeSet getChanges() {
+        return new ChangeSet(changes);
+    }
+
+    /**
+     * Marks this {@code AddressBook} as saved, clearing its change set.
+     */
+    public void markSaved() {
+        changes.clear();
+    }
+
+    /**
+     * Marks the whole of this {@code AddressBook} as changed, e.g. after changes it was marked saved with failed
+     * to be saved.
+     */
+    public void markUnsaved() {
+        changes.recordReset();
+    }
+
+    //// snapshots
+
+    /**
+     * Returns an immutable snapshot of the persons and appointments currently in this {@code AddressBook}.
+     * The snapshot is only taken again once they have changed, so taking it repeatedly is cheap.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = new AddressBookSnapshot(version, persons.asUnmodifiableObservableList(), appointments.asList());
+        }
+        return snapshot;
     }
 
     //// util methods
@@ -100,6 +432,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("persons", persons)
+                .add("appointments", appointments)
                 .toString();
     }
 
@@ -107,6 +440,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
     }
+
+    @Override
+    public List<Appointment> getAppointmentList() {
+        return appointments.asList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -119,7 +458,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && appointments.equals(otherAddressBook.appointments);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable version of the persons and appointments in an address book, as they were when the version was
+ * published.
+ *
+ * As persons and appointments are themselves immutable, a snapshot can be read from any thread while the address
+ * book it was taken from goes on being changed, e.g. to export, save or compute statistics in the background.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final ObservableList<Person> persons;
+    private final List<Appointment> appointments;
+    private final ChangeSet changes;
+
+    /**
+     * Creates a snapshot of {@code persons} and {@code appointments} at {@code version}.
+     */
+    public AddressBookSnapshot(long version, List<Person> persons, List<Appointment> appointments) {
+        requireNonNull(persons);
+        requireNonNull(appointments);
+        this.version = version;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(persons)));
+        this.appointments = List.copyOf(appointments);
+        this.changes = ChangeSet.fullReset();
+    }
+
+    private AddressBookSnapshot(AddressBookSnapshot toBeCopied, ChangeSet changes) {
+        this.version = toBeCopied.version;
+        this.persons = toBeCopied.persons;
+        this.appointments = toBeCopied.appointments;
+        this.changes = new ChangeSet(changes);
+    }
+
+    /**
+     * Returns a snapshot of the same persons and appointments, which reports {@code changes} as the changes made
+     * to them since they were last saved, so that only those changes need to be saved.
+     */
+    public AddressBookSnapshot withChanges(ChangeSet changes) {
+        requireNonNull(changes);
+        return new AddressBookSnapshot(this, changes);
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at.
+     * Later snapshots of the same address book have greater versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public List<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    @Override
+    public ChangeSet getChanges() {
+        return new ChangeSet(changes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return version == otherSnapshot.version
+                && persons.equals(otherSnapshot.persons)
+                && appointments.equals(otherSnapshot.appointments);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .add("appointments", appointments)
+                .toString();
+    }
+}
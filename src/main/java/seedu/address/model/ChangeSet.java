@@ -0,0 +1,221 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+
+/**
+ * The persons added, removed and replaced in an address book since it was last saved, and whether its
+ *   appointments have changed.
+ * Changes to the same person are combined, e.g. a person added and then removed is not in the change set at all.
+ * When the whole address book has been replaced, the individual changes are not tracked, and the change set
+ *   is a full reset instead.
+ */
+public class ChangeSet {
+
+    private final Set<Person> added = new LinkedHashSet<>();
+    private final List<Person> removed = new ArrayList<>();
+    /** Maps each replaced person, as it was when last saved, to the person currently replacing it. */
+    private final Map<Person, Person> replaced = new LinkedHashMap<>();
+    /** The inverse of {@code replaced}, so that a person being changed again is found without a scan. */
+    private final Map<Person, Person> originalsByCurrent = new HashMap<>();
+    private boolean isFullReset;
+    private boolean areAppointmentsChanged;
+
+    /**
+     * Creates an empty change set.
+     */
+    public ChangeSet() {
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public ChangeSet(ChangeSet toBeCopied) {
+        requireNonNull(toBeCopied);
+        added.addAll(toBeCopied.added);
+        removed.addAll(toBeCopied.removed);
+        replaced.putAll(toBeCopied.replaced);
+        originalsByCurrent.putAll(toBeCopied.originalsByCurrent);
+        isFullReset = toBeCopied.isFullReset;
+        areAppointmentsChanged = toBeCopied.areAppointmentsChanged;
+    }
+
+    /**
+     * Returns a change set in which the whole address book has been replaced.
+     */
+    public static ChangeSet fullReset() {
+        ChangeSet changeSet = new ChangeSet();
+        changeSet.recordReset();
+        return changeSet;
+    }
+
+    void recordAdd(Person person) {
+        requireNonNull(person);
+        if (isFullReset) {
+            return;
+        }
+        added.add(person);
+    }
+
+    void recordRemove(Person person) {
+        requireNonNull(person);
+        if (isFullReset || added.remove(person)) {
+            return;
+        }
+        Person original = originalsByCurrent.remove(person);
+        if (original != null) {
+            replaced.remove(original);
+            removed.add(original);
+            return;
+        }
+        removed.add(person);
+    }
+
+    void recordReplace(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        if (isFullReset) {
+            return;
+        }
+        if (added.remove(target)) {
+            added.add(editedPerson);
+            return;
+        }
+        Person original = originalsByCurrent.remove(target);
+        if (original == null) {
+            original = target;
+        }
+        replaced.put(original, editedPerson);
+        originalsByCurrent.put(editedPerson, original);
+    }
+
+    void recordAppointmentsChange() {
+        areAppointmentsChanged = true;
+    }
+
+    void recordReset() {
+        added.clear();
+        removed.clear();
+        replaced.clear();
+        originalsByCurrent.clear();
+        isFullReset = true;
+    }
+
+    void clear() {
+        added.clear();
+        removed.clear();
+        replaced.clear();
+        originalsByCurrent.clear();
+        isFullReset = false;
+        areAppointmentsChanged = false;
+    }
+
+    /**
+     * Returns true if nothing has changed.
+     */
+    public boolean isEmpty() {
+        return !isFullReset && !areAppointmentsChanged && added.isEmpty() && removed.isEmpty() && replaced.isEmpty();
+    }
+
+    /**
+     * Returns true if the whole address book has been replaced.
+     */
+    public boolean isFullReset() {
+        return isFullReset;
+    }
+
+    /**
+     * Returns true if any appointment has been booked or cancelled, or if this is a full reset.
+     */
+    public boolean areAppointmentsChanged() {
+        return isFullReset || areAppointmentsChanged;
+    }
+
+    /**
+     * Returns the added persons. A person that was added and then edited is listed after the others.
+     */
+    public List<Person> getAdded() {
+        return List.copyOf(added);
+    }
+
+    public List<Person> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Returns the replaced persons, mapping each person as it was when last saved to the person replacing it.
+     */
+    public Map<Person, Person> getReplaced() {
+        return Collections.unmodifiableMap(replaced);
+    }
+
+    /**
+     * Returns the types of the persons that have changed. Every type has changed if this is a full reset.
+     */
+    public Set<PersonType> getAffectedTypes() {
+        if (isFullReset) {
+            return EnumSet.allOf(PersonType.class);
+        }
+        Set<PersonType> affectedTypes = EnumSet.noneOf(PersonType.class);
+        Stream.of(added.stream(), removed.stream(), replaced.keySet().stream(), replaced.values().stream())
+                .flatMap(persons -> persons)
+                .forEach(person -> {
+                    for (PersonType type : PersonType.values()) {
+                        if (type.getSearchPredicate().test(person)) {
+                            affectedTypes.add(type);
+                        }
+                    }
+                });
+        return affectedTypes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeSet)) {
+            return false;
+        }
+
+        ChangeSet otherChangeSet = (ChangeSet) other;
+        return isFullReset == otherChangeSet.isFullReset
+                && areAppointmentsChanged == otherChangeSet.areAppointmentsChanged
+                && added.equals(otherChangeSet.added)
+                && removed.equals(otherChangeSet.removed)
+                && replaced.equals(otherChangeSet.replaced);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, removed, replaced, isFullReset, areAppointmentsChanged);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("added", added)
+                .add("removed", removed)
+                .add("replaced", replaced)
+                .add("isFullReset", isFullReset)
+                .add("areAppointmentsChanged", areAppointmentsChanged)
+                .toString();
+    }
+}
@@ -1,33 +1,71 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Represents a stash that stores the history of the command String of the 20 most recent
- * commands executed.
+ * Represents a stash that stores the history of the command Strings of the most recently executed commands,
+ * up to its capacity, and remembers which of them the user is currently looking at.
+ *
+ * The command strings are kept in a doubly linked list ordered from least to most recently added, with a hash index
+ * from each command string to its entry, so adding, de-duplicating and evicting are all O(1).
+ * Command strings can also be searched by substring, through an index from each trigram (three consecutive
+ * characters) to the entries containing it.
  */
 public class CommandStringStash {
-    private List<String> cmdStringStack;
-    private int currentCmdIndex;
+
+    public static final int DEFAULT_CAPACITY = 20;
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private Entry oldest;
+    private Entry newest;
+    /** The entry the user is currently looking at, or null if the user is past the newest entry. */
+    private Entry current;
+    private long nextSequence;
+
+    /**
+     * Maps each trigram to the entries containing it, in the order they were added.
+     * Entries that have been removed are skipped when searching, and dropped when the index is rebuilt.
+     */
+    private final Map<String, List<Entry>> trigramIndex = new HashMap<>();
+    private int indexedEntryCount;
 
     /**
      * Basic empty constructor for the CommandStringStash.
      */
     public CommandStringStash() {
-        this.cmdStringStack = new ArrayList<>();
-        this.currentCmdIndex = 0;
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty CommandStringStash holding up to {@code capacity} command strings.
+     */
+    public CommandStringStash(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.capacity = capacity;
     }
 
     /**
      * Creates the CommandStringStash using the initial values provided.
      */
     public CommandStringStash(List<String> cmdStringStack, int currentCmd) {
-        this.cmdStringStack = cmdStringStack;
-        this.currentCmdIndex = currentCmd;
+        this();
+        cmdStringStack.forEach(this::addCommandString);
+        current = oldest;
+        for (int i = 0; i < currentCmd && current != null; i++) {
+            current = current.next;
+        }
     }
 
     /**
@@ -37,13 +75,12 @@ public class CommandStringStash {
      */
     public String getPrevCommandString(String commandInputString) {
         assert commandInputString != null;
-        if (cmdStringStack.isEmpty() || currentCmdIndex == 0) {
+        if (oldest == null || current == oldest) {
             return commandInputString;
         }
 
-        currentCmdIndex -= 1;
-        String prevCommandString = cmdStringStack.get(currentCmdIndex);
-        return prevCommandString;
+        current = current == null ? newest : current.prev;
+        return current.value;
     }
 
     /**
@@ -53,39 +90,205 @@ public class CommandStringStash {
      */
     public String getPassedCommandString(String commandInputString) {
         assert commandInputString != null;
-        if (cmdStringStack.isEmpty() || currentCmdIndex >= cmdStringStack.size() - 1) {
+        if (current == null || current == newest) {
             return commandInputString;
         }
 
-        currentCmdIndex += 1;
-        String passedCommandString = cmdStringStack.get(currentCmdIndex);
-        return passedCommandString;
+        current = current.next;
+        return current.value;
+    }
+
+    /**
+     * Returns the most recently added command string containing {@code query}, ignoring case, starting from the
+     * command string the user is currently looking at. The user is then looking at the returned command string.
+     * Returns {@code Optional.empty()} if there is none.
+     */
+    public Optional<String> searchCommandString(String query) {
+        assert query != null;
+        return search(query, current == null ? Long.MAX_VALUE : current.sequence);
+    }
+
+    /**
+     * Similar to {@link #searchCommandString(String)}, but starts from the command string added before the one
+     * the user is currently looking at, to find the next older match.
+     */
+    public Optional<String> searchPrevCommandString(String query) {
+        assert query != null;
+        return search(query, current == null ? Long.MAX_VALUE : current.sequence - 1);
+    }
+
+    private Optional<String> search(String query, long maxSequence) {
+        String lowerCaseQuery = query.toLowerCase();
+        if (lowerCaseQuery.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry match = lowerCaseQuery.length() < TRIGRAM_LENGTH
+                ? scan(lowerCaseQuery, maxSequence)
+                : searchIndex(lowerCaseQuery, maxSequence);
+        if (match == null) {
+            return Optional.empty();
+        }
+        current = match;
+        return Optional.of(match.value);
+    }
+
+    /**
+     * Returns the newest entry up to {@code maxSequence} containing {@code lowerCaseQuery}, by checking every entry.
+     */
+    private Entry scan(String lowerCaseQuery, long maxSequence) {
+        for (Entry entry = newest; entry != null; entry = entry.prev) {
+            if (entry.sequence <= maxSequence && entry.lowerCaseValue.contains(lowerCaseQuery)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the newest entry up to {@code maxSequence} containing {@code lowerCaseQuery}, by checking only the
+     * entries containing the query's rarest trigram.
+     */
+    private Entry searchIndex(String lowerCaseQuery, long maxSequence) {
+        List<Entry> candidates = null;
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseQuery.length(); i++) {
+            List<Entry> postings = trigramIndex.get(lowerCaseQuery.substring(i, i + TRIGRAM_LENGTH));
+            if (postings == null) {
+                return null;
+            }
+            if (candidates == null || postings.size() < candidates.size()) {
+                candidates = postings;
+            }
+        }
+
+        for (int i = lastIndexAtMost(candidates, maxSequence); i >= 0; i--) {
+            Entry entry = candidates.get(i);
+            if (!entry.isRemoved && entry.lowerCaseValue.contains(lowerCaseQuery)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the last entry in {@code postings} with a sequence number of at most {@code maxSequence},
+     * or -1 if there is none. {@code postings} is ordered by sequence number.
+     */
+    private static int lastIndexAtMost(List<Entry> postings, long maxSequence) {
+        int low = 0;
+        int high = postings.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (postings.get(middle).sequence <= maxSequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low - 1;
     }
 
     /**
      * Adds the {@code commandString} to the stash of command Strings.
-     * If the stash has size > 20, the least recently added command string is evicted.
+     * If the stash is over capacity, the least recently added command string is evicted.
      * Also resets the state of the stash.
      * @param commandInputString A non-null command input String.
      */
     public void addCommandString(String commandInputString) {
         assert commandInputString != null;
 
-        // remove existing command String from stack if it already exists as it will be replaced by new command
-        if (cmdStringStack.contains(commandInputString)) {
-            cmdStringStack.remove(commandInputString);
+        // remove existing command String from stash if it already exists as it will be replaced by new command
+        Entry existing = entries.remove(commandInputString);
+        if (existing != null) {
+            unlink(existing);
         }
 
         // evict least recently added command string if necessary
-        if (cmdStringStack.size() == 20) {
-            cmdStringStack.remove(0);
+        if (entries.size() == capacity) {
+            entries.remove(oldest.value);
+            unlink(oldest);
         }
 
         // add command string
-        cmdStringStack.add(commandInputString);
+        Entry entry = new Entry(commandInputString, nextSequence++);
+        entries.put(commandInputString, entry);
+        entry.prev = newest;
+        if (newest == null) {
+            oldest = entry;
+        } else {
+            newest.next = entry;
+        }
+        newest = entry;
+        index(entry);
+
+        // reset the command string pointer
+        current = null;
+    }
 
-        // reset the command string index pointer
-        currentCmdIndex = cmdStringStack.size();
+    private void unlink(Entry entry) {
+        if (entry.prev == null) {
+            oldest = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next == null) {
+            newest = entry.prev;
+        } else {
+            entry.next.prev = entry.prev;
+        }
+        entry.isRemoved = true;
+    }
+
+    private void index(Entry entry) {
+        // rebuild the index once most of its entries have been removed, so it stays proportional to the stash
+        if (indexedEntryCount > 2 * entries.size() + DEFAULT_CAPACITY) {
+            trigramIndex.clear();
+            indexedEntryCount = 0;
+            for (Entry live = oldest; live != entry; live = live.next) {
+                addTrigrams(live);
+            }
+        }
+        addTrigrams(entry);
+    }
+
+    private void addTrigrams(Entry entry) {
+        String value = entry.lowerCaseValue;
+        for (int i = 0; i + TRIGRAM_LENGTH <= value.length(); i++) {
+            List<Entry> postings = trigramIndex.computeIfAbsent(value.substring(i, i + TRIGRAM_LENGTH),
+                    unused -> new ArrayList<>());
+            // a trigram appearing more than once in the same command string is only indexed once
+            if (postings.isEmpty() || postings.get(postings.size() - 1) != entry) {
+                postings.add(entry);
+            }
+        }
+        indexedEntryCount++;
+    }
+
+    /**
+     * Returns the command strings in the stash, from least to most recently added.
+     */
+    public List<String> getCommandStrings() {
+        List<String> commandStrings = new ArrayList<>(entries.size());
+        for (Entry entry = oldest; entry != null; entry = entry.next) {
+            commandStrings.add(entry.value);
+        }
+        return commandStrings;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the position of the command string the user is currently looking at, where the least recently added
+     * command string is at 0, and the position after the most recently added command string means none.
+     */
+    private int getCurrentCmdIndex() {
+        int index = 0;
+        for (Entry entry = oldest; entry != current; entry = entry.next) {
+            index++;
+        }
+        return index;
     }
 
     @Override
@@ -94,20 +297,39 @@ public class CommandStringStash {
             return false;
         }
         CommandStringStash commandStringStash = (CommandStringStash) object;
-        return Objects.equals(cmdStringStack, commandStringStash.cmdStringStack)
-                && currentCmdIndex == commandStringStash.currentCmdIndex;
+        return capacity == commandStringStash.capacity
+                && getCommandStrings().equals(commandStringStash.getCommandStrings())
+                && getCurrentCmdIndex() == commandStringStash.getCurrentCmdIndex();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cmdStringStack, currentCmdIndex);
+        return Objects.hash(getCommandStrings(), getCurrentCmdIndex());
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("command string stack", cmdStringStack)
-                .add("command string stack current index", currentCmdIndex)
+                .add("command string stack", getCommandStrings())
+                .add("command string stack current index", getCurrentCmdIndex())
                 .toString();
     }
+
+    /**
+     * A command string in the stash. Its sequence number orders it among every command string ever added.
+     */
+    private static class Entry {
+        private final String value;
+        private final String lowerCaseValue;
+        private final long sequence;
+        private Entry prev;
+        private Entry next;
+        private boolean isRemoved;
+
+        Entry(String value, long sequence) {
+            this.value = value;
+            this.lowerCaseValue = value.toLowerCase();
+            this.sequence = sequence;
+        }
+    }
 }
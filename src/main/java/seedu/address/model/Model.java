@@ -1,6 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ChangeListener;
@@ -9,7 +15,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.ShortcutSettings;
 import seedu.address.logic.commands.CommandWord;
 import seedu.address.logic.commands.ShortcutAlias;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.FindPlan;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Specialist;
 
 /**
  * The API of the Model component.
@@ -77,6 +91,29 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Replaces the address book data with {@code addressBook}, loaded after the model was created.
+     * The loaded data is treated as saved, the first person shown is selected, and the undo history starts afresh.
+     */
+    void loadAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns the snapshot of the address book published when the model was last committed, undone or redone.
+     * Unlike the other methods, this can be called from any thread, and the snapshot can be read there while
+     * the model goes on being changed.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Marks the address book as saved, so that it has no changes until it is next modified.
+     */
+    void markAddressBookSaved();
+
+    /**
+     * Marks the whole address book as changed, so that all of it is saved when it is next saved.
+     */
+    void markAddressBookUnsaved();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -88,6 +125,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons at once.
+     * The persons must all exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -101,15 +144,112 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person that is a key of {@code replacements} with the person it maps to, at once.
+     * The persons replaced must all exist in the address book.
+     * The person identity of each replacement must not be the same as another existing person in the address book.
+     */
+    void replacePersons(Map<Person, Person> replacements);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filtered person list goes back to the person sort order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Orders the filtered person list by the given {@code comparator}, e.g. by relevance to a search, where the sort
+     * order set by {@link #updatePersonSortOrder} ties, until its filter is next updated. The order is committed,
+     * so undoing and redoing restores it.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
+    /**
+     * Orders the filtered person list by the given {@code sortOrder}, which it keeps to as persons are added,
+     * edited and filtered.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void updatePersonSortOrder(PersonSortOrder sortOrder);
+
+    /** Returns the order the filtered person list is kept in. */
+    PersonSortOrder getPersonSortOrder();
+
+    /**
+     * Returns the persons with a name word spelt like, or sounding like, any of {@code keywords}, each mapped to
+     * its rank among the matches, the lower the closer.
+     */
+    Map<Person, Integer> getFuzzyNameMatches(List<String> keywords);
+
+    /**
+     * Returns the patients whose ages are in any of {@code ageRanges}.
+     */
+    Set<Person> getPatientsInAgeRanges(List<AgeRange> ageRanges);
+
+    /**
+     * Returns up to {@code count} of the specialists nearest {@code target}, nearest first, out of those with
+     * coordinates and a specialty that passes {@code specialtyTest} who pass {@code filter}.
+     */
+    List<Specialist> findNearestSpecialists(Coordinates target, int count, Predicate<String> specialtyTest,
+            Predicate<Person> filter);
+
+    /**
+     * Returns a plan of finding the persons of {@code personType} matching all of {@code predicates}, whose
+     * execution gives a predicate to filter the person list with.
+     */
+    FindPlan planFind(PersonType personType, List<Predicate<Person>> predicates);
+
+    /**
+     * Returns the persons referred to or from {@code person}: the specialists a patient is referred to, or the
+     * patients referred to a specialist.
+     */
+    List<Person> getReferrals(Person person);
+
+    /**
+     * Returns an appointment of the patient or the specialist of {@code appointment} that overlaps it, if any.
+     */
+    Optional<Appointment> findAppointmentConflict(Appointment appointment);
+
+    /**
+     * Adds the given appointment.
+     * Its patient and specialist must exist in the address book, and it must not overlap any of their appointments.
+     */
+    void addAppointment(Appointment appointment);
+
+    /**
+     * Deletes the given appointment.
+     * The appointment must exist in the address book.
+     */
+    void deleteAppointment(Appointment appointment);
+
+    /**
+     * Returns the appointment of {@code person} starting at {@code start}, if any.
+     */
+    Optional<Appointment> getAppointmentAt(Person person, LocalDateTime start);
+
+    /**
+     * Returns the appointments of {@code person} overlapping {@code window}, in order of their start times.
+     */
+    List<Appointment> getAppointments(Person person, TimeSlot window);
+
+    /**
+     * Returns the time slots in {@code window} that no appointment of {@code person} overlaps, in order.
+     */
+    List<TimeSlot> getFreeSlots(Person person, TimeSlot window);
+
+    /** Returns the time slot of which the appointments of the person viewed are shown. */
+    TimeSlot getScheduleWindow();
+
+    /**
+     * Shows the appointments of the person viewed in {@code window}.
+     * @throws NullPointerException if {@code window} is null.
+     */
+    void updateScheduleWindow(TimeSlot window);
+
     Person getSelectedPerson();
 
     void updateSelectedPerson(Person person);
@@ -130,6 +270,23 @@ public interface Model {
      */
     void addCommandString(String commandString);
 
+    /**
+     * Returns the most recent command string containing {@code query}, ignoring case, starting from the
+     * command string currently shown from the CommandStringStash.
+     */
+    Optional<String> searchCommandString(String query);
+
+    /**
+     * Returns the next older command string containing {@code query}, ignoring case, than the command string
+     * currently shown from the CommandStringStash.
+     */
+    Optional<String> searchPrevCommandString(String query);
+
+    /**
+     * Returns the command strings in the CommandStringStash, from least to most recently added.
+     */
+    List<String> getCommandStrings();
+
     /**
      * Sets the current theme of the application to be {@code theme}
      */
@@ -4,22 +4,48 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.ShortcutSettings;
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.commons.core.StatsCenter.Phase;
 import seedu.address.commons.core.ThemeProperty;
+import seedu.address.commons.util.LogUtil;
 import seedu.address.logic.commands.CommandWord;
 import seedu.address.logic.commands.ShortcutAlias;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.AgeIndex;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.CategoryIndex;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.FindPlan;
+import seedu.address.model.person.FindPlanner;
+import seedu.address.model.person.FoundPersonsPredicate;
+import seedu.address.model.person.FuzzyNameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Specialist;
+import seedu.address.model.person.SpecialistLocationIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -30,9 +56,24 @@ public class ModelManager implements Model {
     private final List<ReadOnlyModelManager> modelManagerStateList;
     private int currentStatePointer;
     private final AddressBook addressBook;
+    /** The latest version of the address book published for readers on other threads. */
+    private volatile AddressBookSnapshot publishedSnapshot;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private PersonSortOrder sortOrder = PersonSortOrder.NONE;
+    /** The order of the persons listed by relevance to the search that listed them, if any, under the sort order. */
+    private Comparator<Person> relevanceOrder;
+    private final FuzzyNameIndex fuzzyNameIndex;
+    private final AgeIndex ageIndex;
+    private final CategoryIndex categoryIndex;
+    private final SpecialistLocationIndex specialistLocationIndex;
+    private final FindPlanner findPlanner;
+    /** The columns of the address book, created on the model thread once it is large enough to be scanned. */
+    private PersonColumns personColumns;
     private Person selectedPerson;
+    /** The time slot of which the appointments of the selected person are shown, the current week at first. */
+    private TimeSlot scheduleWindow = TimeSlot.ofWeek(LocalDate.now());
     private final CommandStringStash commandStringStash;
     /**
      * Ideally theme property should be under UserPrefs, but due to limitations of the
@@ -47,12 +88,36 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        LogUtil.log(logger, Level.FINE, "Initializing ModelManager",
+                "addressBook", addressBook, "userPrefs", userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        // the initial data has just been loaded, so there is nothing to save yet
+        this.addressBook.markSaved();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.commandStringStash = new CommandStringStash();
+        sortedPersons = new SortedList<>(filteredPersons);
+        fuzzyNameIndex = new FuzzyNameIndex(this.addressBook.getPersonList());
+        ageIndex = new AgeIndex(this.addressBook.getPersonList());
+        categoryIndex = new CategoryIndex(this.addressBook.getPersonList());
+        specialistLocationIndex = new SpecialistLocationIndex(this.addressBook.getPersonList());
+        findPlanner = new FindPlanner(this.addressBook.getPersonList(), categoryIndex, ageIndex,
+                this::getPersonColumns);
+        createPersonColumnsIfLarge();
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            createPersonColumnsIfLarge();
+            while (change.next()) {
+                change.getRemoved().forEach(person -> sortOrder.forget(person));
+                // the viewed person follows a replacement made by the address book, e.g. of its referrals
+                int selectedPosition = change.getRemoved().indexOf(selectedPerson);
+                if (selectedPosition >= 0 && selectedPosition < change.getAddedSize()
+                        && selectedPerson.isSamePerson(change.getAddedSubList().get(selectedPosition))) {
+                    selectedPerson = change.getAddedSubList().get(selectedPosition);
+                }
+            }
+        });
+        // a capacity that is not positive is treated as keeping only the latest command
+        this.commandStringStash = new CommandStringStash(Math.max(1, userPrefs.getCommandHistoryCapacity()));
         this.themeProperty = new ThemeProperty();
         this.modelManagerStateList = new ArrayList<>();
         this.currentStatePointer = -1;
@@ -60,7 +125,7 @@ public class ModelManager implements Model {
         // DoConnek Pro shows all patients on startup by default.
         updateFilteredPersonList(PersonType.PATIENT.getSearchPredicate());
 
-        this.selectedPerson = filteredPersons.size() == 0 ? null : filteredPersons.get(0);
+        this.selectedPerson = sortedPersons.size() == 0 ? null : sortedPersons.get(0);
         commit();
     }
 
@@ -80,7 +145,10 @@ public class ModelManager implements Model {
                 : toCopyFrom.selectedPerson.getCopy();
         updateSelectedPerson(personCopy);
         Predicate<Person> predicateCopy = toCopyFrom.filteredPersons.getPredicate()::test;
+        updatePersonSortOrder(toCopyFrom.sortOrder);
         updateFilteredPersonList(predicateCopy);
+        relevanceOrder = toCopyFrom.relevanceOrder;
+        applyListOrder();
         setTheme(toCopyFrom.themeProperty.getValue());
     }
 
@@ -151,11 +219,45 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void loadAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook.resetData(addressBook);
+        this.addressBook.markSaved();
+        selectedPerson = sortedPersons.size() == 0 ? null : sortedPersons.get(0);
+        modelManagerStateList.clear();
+        currentStatePointer = -1;
+        commit();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return publishedSnapshot;
+    }
+
+    /**
+     * Publishes a snapshot of the address book as it is now, replacing the snapshot readers get from now on.
+     * Readers still holding an older snapshot go on reading it undisturbed.
+     */
+    private void publishSnapshot() {
+        publishedSnapshot = addressBook.getSnapshot();
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        addressBook.markSaved();
+    }
+
+    @Override
+    public void markAddressBookUnsaved() {
+        addressBook.markUnsaved();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -167,6 +269,12 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
@@ -180,6 +288,15 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        addressBook.replacePersons(replacements);
+        if (selectedPerson != null && replacements.containsKey(selectedPerson)) {
+            selectedPerson = replacements.get(selectedPerson);
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -188,13 +305,141 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        relevanceOrder = null;
+        applyListOrder();
+    }
+
+    @Override
+    public void updatePersonSortOrder(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        if (!sortOrder.equals(this.sortOrder)) {
+            this.sortOrder.forgetAll();
+        }
+        this.sortOrder = sortOrder;
+        applyListOrder();
+    }
+
+    @Override
+    public PersonSortOrder getPersonSortOrder() {
+        return sortOrder;
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        relevanceOrder = comparator;
+        applyListOrder();
+    }
+
+    /**
+     * Orders the persons listed by the sort order, with ties broken by the relevance order, if any.
+     */
+    private void applyListOrder() {
+        if (relevanceOrder == null) {
+            sortedPersons.setComparator(sortOrder.isEmpty() ? null : sortOrder);
+        } else {
+            sortedPersons.setComparator(sortOrder.isEmpty() ? relevanceOrder : sortOrder.thenComparing(relevanceOrder));
+        }
+    }
+
+    @Override
+    public Map<Person, Integer> getFuzzyNameMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        return fuzzyNameIndex.getMatches(keywords, userPrefs.getFuzzyNameMaxDistance());
+    }
+
+    @Override
+    public Set<Person> getPatientsInAgeRanges(List<AgeRange> ageRanges) {
+        requireNonNull(ageRanges);
+        return ageIndex.getPatientsInRanges(ageRanges);
+    }
+
+    @Override
+    public List<Specialist> findNearestSpecialists(Coordinates target, int count, Predicate<String> specialtyTest,
+            Predicate<Person> filter) {
+        requireAllNonNull(target, specialtyTest, filter);
+        return specialistLocationIndex.findNearest(target, count, specialtyTest, filter);
+    }
+
+    @Override
+    public FindPlan planFind(PersonType personType, List<Predicate<Person>> predicates) {
+        return findPlanner.plan(personType, predicates);
+    }
+
+    @Override
+    public List<Person> getReferrals(Person person) {
+        requireNonNull(person);
+        return addressBook.getReferrals(person);
+    }
+
+    //=========== Appointments ===============================================================================
+
+    @Override
+    public Optional<Appointment> findAppointmentConflict(Appointment appointment) {
+        return addressBook.findAppointmentConflict(appointment);
+    }
+
+    @Override
+    public void addAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        addressBook.addAppointment(appointment);
+    }
+
+    @Override
+    public void deleteAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        addressBook.removeAppointment(appointment);
+    }
+
+    @Override
+    public Optional<Appointment> getAppointmentAt(Person person, LocalDateTime start) {
+        requireAllNonNull(person, start);
+        return addressBook.getAppointmentAt(person, start);
+    }
+
+    @Override
+    public List<Appointment> getAppointments(Person person, TimeSlot window) {
+        requireAllNonNull(person, window);
+        return addressBook.getAppointmentsIn(person, window);
+    }
+
+    @Override
+    public List<TimeSlot> getFreeSlots(Person person, TimeSlot window) {
+        requireAllNonNull(person, window);
+        return addressBook.getFreeSlotsIn(person, window);
+    }
+
+    @Override
+    public TimeSlot getScheduleWindow() {
+        return scheduleWindow;
+    }
+
+    @Override
+    public void updateScheduleWindow(TimeSlot window) {
+        requireNonNull(window);
+        scheduleWindow = window;
+    }
+
+    /**
+     * Creates the columns of the address book once it has enough persons for a find command to scan them. They listen
+     * to the person list, so they are created here on the model thread rather than by a command prepared elsewhere.
+     */
+    private void createPersonColumnsIfLarge() {
+        if (personColumns == null && addressBook.getPersonList().size() >= FindPlanner.COLUMNAR_SCAN_THRESHOLD) {
+            personColumns = new PersonColumns(addressBook.getPersonList());
+        }
+    }
+
+    private PersonColumns getPersonColumns() {
+        assert personColumns != null : "the columns are only scanned once the address book is large enough";
+        return personColumns;
     }
 
     //=========== Selected Person Accessors ==================================================================
@@ -204,7 +449,7 @@ public class ModelManager implements Model {
         if (null == selectedPerson || hasPerson(selectedPerson)) {
             return selectedPerson;
         }
-        this.selectedPerson = filteredPersons.size() == 0 ? null : filteredPersons.get(0);
+        this.selectedPerson = sortedPersons.size() == 0 ? null : sortedPersons.get(0);
         return selectedPerson;
     }
 
@@ -235,6 +480,21 @@ public class ModelManager implements Model {
         commandStringStash.addCommandString(commandString);
     }
 
+    @Override
+    public Optional<String> searchCommandString(String query) {
+        return commandStringStash.searchCommandString(query);
+    }
+
+    @Override
+    public Optional<String> searchPrevCommandString(String query) {
+        return commandStringStash.searchPrevCommandString(query);
+    }
+
+    @Override
+    public List<String> getCommandStrings() {
+        return commandStringStash.getCommandStrings();
+    }
+
     //=========== Theme =============================================================
     @Override
     public void setTheme(Theme theme) {
@@ -260,6 +520,7 @@ public class ModelManager implements Model {
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
                 && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortOrder.equals(otherModelManager.sortOrder)
                 && ((this.isSelectedEmpty() && otherModelManager.isSelectedEmpty())
                 || (this.isSelectedEmpty() == otherModelManager.isSelectedEmpty()
                 && selectedPerson.equals(otherModelManager.selectedPerson)));
@@ -283,6 +544,7 @@ public class ModelManager implements Model {
         }
         currentStatePointer++;
         resetData(modelManagerStateList.get(currentStatePointer));
+        publishSnapshot();
     }
 
     /**
@@ -291,6 +553,7 @@ public class ModelManager implements Model {
      */
     @Override
     public void commit() {
+        final long startNanos = StatsCenter.startTimer();
         removeStatesAfterCurrentPointer();
         Person personCopy =
                 this.selectedPerson == null
@@ -300,16 +563,25 @@ public class ModelManager implements Model {
         UniquePersonList obListCopy = new UniquePersonList();
         obListCopy.setPersons(this.addressBook.getPersonList());
         FilteredList<Person> filteredListCopy = new FilteredList<>(obListCopy.asUnmodifiableObservableList());
-        filteredListCopy.setPredicate(this.filteredPersons.getPredicate());
+        Predicate<? super Person> predicate = this.filteredPersons.getPredicate();
+        if (predicate instanceof FoundPersonsPredicate) {
+            // the query matches the same persons without holding on to what they were found with
+            predicate = ((FoundPersonsPredicate) predicate).getQuery();
+        }
+        filteredListCopy.setPredicate(predicate);
 
         modelManagerStateList.add(new ReadOnlyModelManager(
                 new AddressBook(this.addressBook),
                 filteredListCopy,
+                this.sortOrder,
+                this.relevanceOrder,
                 this.userPrefs.getCopy(),
                 personCopy,
                 this.themeProperty.getCopy()
         ));
         currentStatePointer++;
+        publishSnapshot();
+        StatsCenter.stopTimer(Phase.COMMIT, startNanos);
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -326,6 +598,7 @@ public class ModelManager implements Model {
         }
         currentStatePointer--;
         resetData(modelManagerStateList.get(currentStatePointer));
+        publishSnapshot();
     }
     /**
      * Thrown when trying to {@code undo()} but can't.
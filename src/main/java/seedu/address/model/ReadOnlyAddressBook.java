@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +17,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable list of the appointments, ordered by start time.
+     * No patient or specialist has appointments that overlap. By default, there are no appointments.
+     */
+    default List<Appointment> getAppointmentList() {
+        return List.of();
+    }
+
+    /**
+     * Returns the changes made to this address book since it was last saved.
+     * By default, the whole address book is considered to have changed.
+     */
+    default ChangeSet getChanges() {
+        return ChangeSet.fullReset();
+    }
+
 }
@@ -1,8 +1,11 @@
 package seedu.address.model;
 
+import java.util.Comparator;
+
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ThemeProperty;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
 
 /**
  * Represents commited frames of ModelManager
@@ -10,6 +13,9 @@ import seedu.address.model.person.Person;
 public class ReadOnlyModelManager {
     public final AddressBook addressBook;
     public final FilteredList<Person> filteredPersons;
+    public final PersonSortOrder sortOrder;
+    /** The order of the persons listed by relevance to a search under the sort order, or null if there is none. */
+    public final Comparator<Person> relevanceOrder;
     public final UserPrefs userPrefs;
     public final Person selectedPerson;
     public final ThemeProperty themeProperty;
@@ -18,14 +24,19 @@ public class ReadOnlyModelManager {
      * Constructor
      * @param addressBook
      * @param filteredPersons
+     * @param sortOrder
+     * @param relevanceOrder
      * @param userPrefs
      * @param selectedPerson
      * @param themeProperty
      */
     public ReadOnlyModelManager(AddressBook addressBook, FilteredList<Person> filteredPersons,
-                                 UserPrefs userPrefs, Person selectedPerson, ThemeProperty themeProperty) {
+                                 PersonSortOrder sortOrder, Comparator<Person> relevanceOrder, UserPrefs userPrefs,
+                                 Person selectedPerson, ThemeProperty themeProperty) {
         this.addressBook = addressBook;
         this.filteredPersons = filteredPersons;
+        this.sortOrder = sortOrder;
+        this.relevanceOrder = relevanceOrder;
         this.userPrefs = userPrefs;
         this.selectedPerson = selectedPerson;
         this.themeProperty = themeProperty;
@@ -16,4 +16,14 @@ public interface ReadOnlyUserPrefs {
 
     ShortcutSettings getShortcutSettings();
 
+    boolean isShardedStorage();
+
+    int getShardBucketCount();
+
+    Path getCommandHistoryFilePath();
+
+    int getCommandHistoryCapacity();
+
+    int getFuzzyNameMaxDistance();
+
 }
@@ -16,6 +16,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private ShortcutSettings shortcutSettings = new ShortcutSettings();
+    private boolean isShardedStorage = false;
+    private int shardBucketCount = 1;
+    private Path commandHistoryFilePath = Paths.get("data" , "commandhistory.txt");
+    private int commandHistoryCapacity = 1000;
+    private int fuzzyNameMaxDistance = 2;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +45,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .removeBadMappings();
         setShortcutSettings(newShortcutSettings);
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setShardedStorage(newUserPrefs.isShardedStorage());
+        setShardBucketCount(newUserPrefs.getShardBucketCount());
+        setCommandHistoryFilePath(newUserPrefs.getCommandHistoryFilePath());
+        setCommandHistoryCapacity(newUserPrefs.getCommandHistoryCapacity());
+        setFuzzyNameMaxDistance(newUserPrefs.getFuzzyNameMaxDistance());
     }
 
     public GuiSettings getGuiSettings() {
@@ -69,6 +79,47 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isShardedStorage() {
+        return isShardedStorage;
+    }
+
+    public void setShardedStorage(boolean isShardedStorage) {
+        this.isShardedStorage = isShardedStorage;
+    }
+
+    public int getShardBucketCount() {
+        return shardBucketCount;
+    }
+
+    public void setShardBucketCount(int shardBucketCount) {
+        this.shardBucketCount = shardBucketCount;
+    }
+
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        requireNonNull(commandHistoryFilePath);
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public int getCommandHistoryCapacity() {
+        return commandHistoryCapacity;
+    }
+
+    public void setCommandHistoryCapacity(int commandHistoryCapacity) {
+        this.commandHistoryCapacity = commandHistoryCapacity;
+    }
+
+    public int getFuzzyNameMaxDistance() {
+        return fuzzyNameMaxDistance;
+    }
+
+    public void setFuzzyNameMaxDistance(int fuzzyNameMaxDistance) {
+        this.fuzzyNameMaxDistance = fuzzyNameMaxDistance;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -83,7 +134,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && shortcutSettings.equals(otherUserPrefs.shortcutSettings);
+                && shortcutSettings.equals(otherUserPrefs.shortcutSettings)
+                && isShardedStorage == otherUserPrefs.isShardedStorage
+                && shardBucketCount == otherUserPrefs.shardBucketCount
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && commandHistoryCapacity == otherUserPrefs.commandHistoryCapacity
+                && fuzzyNameMaxDistance == otherUserPrefs.fuzzyNameMaxDistance;
     }
 
     @Override
@@ -97,11 +153,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nShortcutAlias Settings : " + shortcutSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSharded storage : " + isShardedStorage + " (" + shardBucketCount + " bucket(s) per type)");
+        sb.append("\nCommand history location : " + commandHistoryFilePath
+                + " (up to " + commandHistoryCapacity + " commands)");
+        sb.append("\nFuzzy name search distance : " + fuzzyNameMaxDistance);
         return sb.toString();
     }
 
+    /**
+     * Returns a copy of these preferences, with its own copy of the shortcut settings.
+     */
     public UserPrefs getCopy() {
-        UserPrefs newPrefs = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs(this);
         newPrefs.setShortcutSettings(this.shortcutSettings.getCopy());
         return newPrefs;
     }
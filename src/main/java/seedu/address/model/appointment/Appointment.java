@@ -0,0 +1,102 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+
+/**
+ * Represents an appointment of a patient with a specialist in the address book.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class Appointment {
+
+    private final Name patientName;
+    private final Name specialistName;
+    private final TimeSlot timeSlot;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Appointment(Name patientName, Name specialistName, TimeSlot timeSlot) {
+        requireAllNonNull(patientName, specialistName, timeSlot);
+        this.patientName = patientName;
+        this.specialistName = specialistName;
+        this.timeSlot = timeSlot;
+    }
+
+    public Name getPatientName() {
+        return patientName;
+    }
+
+    public Name getSpecialistName() {
+        return specialistName;
+    }
+
+    public TimeSlot getTimeSlot() {
+        return timeSlot;
+    }
+
+    public LocalDateTime getStart() {
+        return timeSlot.getStart();
+    }
+
+    public LocalDateTime getEnd() {
+        return timeSlot.getEnd();
+    }
+
+    /**
+     * Returns this appointment with the patient named {@code patientName} instead.
+     */
+    public Appointment withPatientName(Name patientName) {
+        return new Appointment(patientName, specialistName, timeSlot);
+    }
+
+    /**
+     * Returns this appointment with the specialist named {@code specialistName} instead.
+     */
+    public Appointment withSpecialistName(Name specialistName) {
+        return new Appointment(patientName, specialistName, timeSlot);
+    }
+
+    /**
+     * Returns this appointment for display to the user.
+     */
+    public String format() {
+        return timeSlot.format() + ": " + patientName + " with " + specialistName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Appointment)) {
+            return false;
+        }
+
+        Appointment otherAppointment = (Appointment) other;
+        return patientName.equals(otherAppointment.patientName)
+                && specialistName.equals(otherAppointment.specialistName)
+                && timeSlot.equals(otherAppointment.timeSlot);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(patientName, specialistName, timeSlot);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("patientName", patientName)
+                .add("specialistName", specialistName)
+                .add("timeSlot", timeSlot)
+                .toString();
+    }
+}
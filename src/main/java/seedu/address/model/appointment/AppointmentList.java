@@ -0,0 +1,235 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+
+/**
+ * The appointments of the patients and specialists in an address book, in which no patient or specialist has
+ * appointments that overlap.
+ *
+ * Each appointment is kept in the {@link Schedule} of its patient and of its specialist, so the appointments of a
+ * person in a time slot, and whether a new appointment conflicts with either person's, are found without checking
+ * every appointment. Patients and specialists are told apart by type as well as by name, as a patient and a
+ * specialist may share a name.
+ */
+public class AppointmentList {
+
+    /** Orders appointments by start time, then by the names of their specialists and patients. */
+    private static final Comparator<Appointment> ORDER = Comparator.comparing(Appointment::getStart)
+            .thenComparing(appointment -> appointment.getSpecialistName().fullName)
+            .thenComparing(appointment -> appointment.getPatientName().fullName);
+
+    private final Map<Name, Schedule> patientSchedules = new HashMap<>();
+    private final Map<Name, Schedule> specialistSchedules = new HashMap<>();
+    private int size;
+    /** All the appointments in order, kept until they next change, or null if they have changed since. */
+    private List<Appointment> sortedAppointments;
+
+    /**
+     * Returns an appointment of the patient or the specialist of {@code toCheck} that overlaps it, if any.
+     */
+    public Optional<Appointment> findConflict(Appointment toCheck) {
+        requireNonNull(toCheck);
+        Optional<Appointment> specialistConflict = getSchedule(specialistSchedules, toCheck.getSpecialistName())
+                .flatMap(schedule -> schedule.findConflict(toCheck.getTimeSlot()));
+        if (specialistConflict.isPresent()) {
+            return specialistConflict;
+        }
+        return getSchedule(patientSchedules, toCheck.getPatientName())
+                .flatMap(schedule -> schedule.findConflict(toCheck.getTimeSlot()));
+    }
+
+    /**
+     * Adds an appointment to the list.
+     * The appointment must not overlap any appointment of its patient or its specialist.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        if (findConflict(toAdd).isPresent()) {
+            throw new AppointmentConflictException();
+        }
+        patientSchedules.computeIfAbsent(toAdd.getPatientName(), unused -> new Schedule()).add(toAdd);
+        specialistSchedules.computeIfAbsent(toAdd.getSpecialistName(), unused -> new Schedule()).add(toAdd);
+        size++;
+        sortedAppointments = null;
+    }
+
+    /**
+     * Removes the equivalent appointment from the list.
+     * The appointment must exist in the list, in the schedules of both its specialist and its patient, or the list is
+     * left unchanged.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        if (!isIn(specialistSchedules, toRemove.getSpecialistName(), toRemove)
+                || !isIn(patientSchedules, toRemove.getPatientName(), toRemove)) {
+            throw new AppointmentNotFoundException();
+        }
+        removeFrom(specialistSchedules, toRemove.getSpecialistName(), toRemove);
+        removeFrom(patientSchedules, toRemove.getPatientName(), toRemove);
+        size--;
+        sortedAppointments = null;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code appointments}.
+     * {@code appointments} must not contain appointments that overlap for the same patient or specialist, or the
+     * list is left unchanged.
+     */
+    public void setAppointments(List<Appointment> appointments) {
+        requireAllNonNull(appointments);
+        AppointmentList replacement = new AppointmentList();
+        appointments.forEach(replacement::add);
+        patientSchedules.clear();
+        patientSchedules.putAll(replacement.patientSchedules);
+        specialistSchedules.clear();
+        specialistSchedules.putAll(replacement.specialistSchedules);
+        size = replacement.size;
+        sortedAppointments = null;
+    }
+
+    /**
+     * Returns the appointment of {@code person} starting at {@code start}, if any.
+     */
+    public Optional<Appointment> getAppointmentAt(Person person, LocalDateTime start) {
+        requireAllNonNull(person, start);
+        return getSchedule(person).flatMap(schedule -> schedule.getAppointmentAt(start));
+    }
+
+    /**
+     * Returns the appointments of {@code person} overlapping {@code window}, in order of their start times.
+     */
+    public List<Appointment> getAppointmentsIn(Person person, TimeSlot window) {
+        requireAllNonNull(person, window);
+        return getSchedule(person).map(schedule -> schedule.getAppointmentsIn(window)).orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Returns the time slots in {@code window} that no appointment of {@code person} overlaps, in order.
+     */
+    public List<TimeSlot> getFreeSlotsIn(Person person, TimeSlot window) {
+        requireAllNonNull(person, window);
+        return getSchedule(person).orElseGet(Schedule::new).getFreeSlotsIn(window);
+    }
+
+    /**
+     * Removes the appointments of {@code person}, and returns true if it had any.
+     */
+    public boolean removeAppointmentsOf(Person person) {
+        requireNonNull(person);
+        List<Appointment> appointments = getSchedule(person).map(Schedule::getAppointments).orElseGet(List::of);
+        appointments.forEach(this::remove);
+        return !appointments.isEmpty();
+    }
+
+    /**
+     * Moves the appointments of {@code target} to {@code editedPerson}, of the same type, if its name changed,
+     * and returns true if any appointment was moved.
+     */
+    public boolean rename(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Name newName = editedPerson.getName();
+        if (target.getName().equals(newName)) {
+            return false;
+        }
+        Function<Appointment, Appointment> renaming;
+        if (target instanceof Patient) {
+            renaming = appointment -> appointment.withPatientName(newName);
+        } else if (target instanceof Specialist) {
+            renaming = appointment -> appointment.withSpecialistName(newName);
+        } else {
+            return false;
+        }
+        List<Appointment> appointments = getSchedule(target).map(Schedule::getAppointments).orElseGet(List::of);
+        appointments.forEach(this::remove);
+        appointments.stream().map(renaming).forEach(this::add);
+        return !appointments.isEmpty();
+    }
+
+    /**
+     * Returns all the appointments as an unmodifiable list, ordered by start time, then by the names of their
+     * specialists and patients. The list is only sorted again once the appointments have changed.
+     */
+    public List<Appointment> asList() {
+        if (sortedAppointments == null) {
+            List<Appointment> appointments = new ArrayList<>(size);
+            specialistSchedules.values().forEach(schedule -> appointments.addAll(schedule.getAppointments()));
+            appointments.sort(ORDER);
+            sortedAppointments = List.copyOf(appointments);
+        }
+        return sortedAppointments;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Optional<Schedule> getSchedule(Person person) {
+        if (person instanceof Patient) {
+            return getSchedule(patientSchedules, person.getName());
+        }
+        if (person instanceof Specialist) {
+            return getSchedule(specialistSchedules, person.getName());
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Schedule> getSchedule(Map<Name, Schedule> schedules, Name name) {
+        return Optional.ofNullable(schedules.get(name));
+    }
+
+    private static boolean isIn(Map<Name, Schedule> schedules, Name name, Appointment appointment) {
+        Schedule schedule = schedules.get(name);
+        return schedule != null && schedule.contains(appointment);
+    }
+
+    private static void removeFrom(Map<Name, Schedule> schedules, Name name, Appointment toRemove) {
+        Schedule schedule = schedules.get(name);
+        schedule.remove(toRemove);
+        if (schedule.isEmpty()) {
+            schedules.remove(name);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentList)) {
+            return false;
+        }
+
+        // every appointment is in the schedule of its specialist, so the schedules of the specialists hold them all
+        AppointmentList otherAppointmentList = (AppointmentList) other;
+        return specialistSchedules.equals(otherAppointmentList.specialistSchedules);
+    }
+
+    @Override
+    public int hashCode() {
+        return specialistSchedules.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+
+/**
+ * The appointments of one person, which never overlap, kept by their start times.
+ *
+ * As the appointments do not overlap, ordering them by start time orders them by end time as well, so the only
+ * appointment starting before a time slot that can overlap it is the last one to start before it. A conflict with
+ * a time slot is thus found in O(log n) time for n appointments, and the k appointments in a time slot, or the free
+ * time slots between them, in O(log n + k) time.
+ */
+public class Schedule {
+
+    private final NavigableMap<LocalDateTime, Appointment> appointmentsByStart = new TreeMap<>();
+
+    /**
+     * Returns an appointment that overlaps {@code timeSlot}, if any: the last of them to start.
+     */
+    public Optional<Appointment> findConflict(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        Map.Entry<LocalDateTime, Appointment> lastToStart = appointmentsByStart.lowerEntry(timeSlot.getEnd());
+        if (lastToStart == null || !lastToStart.getValue().getTimeSlot().overlaps(timeSlot)) {
+            return Optional.empty();
+        }
+        return Optional.of(lastToStart.getValue());
+    }
+
+    /**
+     * Adds an appointment to the schedule.
+     * The appointment must not overlap any appointment already in the schedule.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        if (findConflict(toAdd.getTimeSlot()).isPresent()) {
+            throw new AppointmentConflictException();
+        }
+        appointmentsByStart.put(toAdd.getStart(), toAdd);
+    }
+
+    /**
+     * Removes the equivalent appointment from the schedule.
+     * The appointment must exist in the schedule.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        if (!appointmentsByStart.remove(toRemove.getStart(), toRemove)) {
+            throw new AppointmentNotFoundException();
+        }
+    }
+
+    /**
+     * Returns true if the schedule has an appointment equivalent to {@code appointment}.
+     */
+    public boolean contains(Appointment appointment) {
+        requireNonNull(appointment);
+        return appointment.equals(appointmentsByStart.get(appointment.getStart()));
+    }
+
+    /**
+     * Returns the appointment starting at {@code start}, if any.
+     */
+    public Optional<Appointment> getAppointmentAt(LocalDateTime start) {
+        requireNonNull(start);
+        return Optional.ofNullable(appointmentsByStart.get(start));
+    }
+
+    /**
+     * Returns the appointments overlapping {@code window}, in order of their start times.
+     */
+    public List<Appointment> getAppointmentsIn(TimeSlot window) {
+        requireNonNull(window);
+        List<Appointment> appointments = new ArrayList<>();
+        // only the last appointment to start before the window can still be going on when it starts
+        Map.Entry<LocalDateTime, Appointment> startedBefore = appointmentsByStart.lowerEntry(window.getStart());
+        if (startedBefore != null && startedBefore.getValue().getTimeSlot().overlaps(window)) {
+            appointments.add(startedBefore.getValue());
+        }
+        appointments.addAll(appointmentsByStart.subMap(window.getStart(), true, window.getEnd(), false).values());
+        return appointments;
+    }
+
+    /**
+     * Returns the time slots in {@code window} that no appointment overlaps, in order.
+     */
+    public List<TimeSlot> getFreeSlotsIn(TimeSlot window) {
+        requireNonNull(window);
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        LocalDateTime freeFrom = window.getStart();
+        for (Appointment appointment : getAppointmentsIn(window)) {
+            if (freeFrom.isBefore(appointment.getStart())) {
+                freeSlots.add(new TimeSlot(freeFrom, appointment.getStart()));
+            }
+            if (freeFrom.isBefore(appointment.getEnd())) {
+                freeFrom = appointment.getEnd();
+            }
+        }
+        if (freeFrom.isBefore(window.getEnd())) {
+            freeSlots.add(new TimeSlot(freeFrom, window.getEnd()));
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns all the appointments in the schedule, in order of their start times.
+     */
+    public List<Appointment> getAppointments() {
+        return new ArrayList<>(appointmentsByStart.values());
+    }
+
+    public boolean isEmpty() {
+        return appointmentsByStart.isEmpty();
+    }
+
+    public int size() {
+        return appointmentsByStart.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Schedule)) {
+            return false;
+        }
+
+        Schedule otherSchedule = (Schedule) other;
+        return appointmentsByStart.equals(otherSchedule.appointmentsByStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return appointmentsByStart.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return appointmentsByStart.values().toString();
+    }
+}
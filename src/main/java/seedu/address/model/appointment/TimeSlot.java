@@ -0,0 +1,121 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Objects;
+
+/**
+ * Represents a period of time, from its start inclusive to its end exclusive.
+ * Guarantees: immutable; starts before it ends as declared in {@link #isValidTimeSlot(LocalDateTime, LocalDateTime)}
+ */
+public class TimeSlot {
+
+    public static final String MESSAGE_CONSTRAINTS = "A time slot should end after it starts.";
+    public static final String MESSAGE_DATE_CONSTRAINTS = "Dates should be in the format YYYY-MM-DD, "
+            + "such as 2023-11-20.";
+    public static final String MESSAGE_TIME_CONSTRAINTS = "Times should be in the format HH:MM, such as 14:00.";
+    public static final String MESSAGE_DATE_TIME_CONSTRAINTS = "Dates and times should be in the format "
+            + "YYYY-MM-DD HH:MM, such as 2023-11-20 14:00.";
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a {@code TimeSlot}.
+     *
+     * @param start The start of the time slot.
+     * @param end The end of the time slot, which must be after its start.
+     */
+    public TimeSlot(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(isValidTimeSlot(start, end), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the time slot of the whole of {@code date}.
+     */
+    public static TimeSlot ofDay(LocalDate date) {
+        return new TimeSlot(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns the time slot of the week, from Monday to Sunday, that {@code date} is in.
+     */
+    public static TimeSlot ofWeek(LocalDate date) {
+        LocalDate monday = date.minusDays(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        return new TimeSlot(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay());
+    }
+
+    /**
+     * Returns true if a time slot from {@code start} to {@code end} is valid.
+     */
+    public static boolean isValidTimeSlot(LocalDateTime start, LocalDateTime end) {
+        return start.isBefore(end);
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if this time slot and {@code other} share any time. Time slots that only meet, with one ending
+     * as the other starts, do not overlap.
+     */
+    public boolean overlaps(TimeSlot other) {
+        return start.isBefore(other.end) && other.start.isBefore(end);
+    }
+
+    /**
+     * Returns this time slot for display to the user, e.g. {@code 2023-11-20 14:00-15:00}.
+     */
+    public String format() {
+        String endFormat = end.toLocalDate().equals(start.toLocalDate())
+                ? end.format(TIME_FORMATTER)
+                : end.format(DATE_TIME_FORMATTER);
+        return start.format(DATE_TIME_FORMATTER) + "-" + endFormat;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimeSlot)) {
+            return false;
+        }
+
+        TimeSlot otherTimeSlot = (TimeSlot) other;
+        return start.equals(otherTimeSlot.start) && end.equals(otherTimeSlot.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
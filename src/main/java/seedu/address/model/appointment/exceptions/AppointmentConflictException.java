@@ -0,0 +1,10 @@
+package seedu.address.model.appointment.exceptions;
+
+/**
+ * Signals that the operation will result in a patient or a specialist having appointments that overlap.
+ */
+public class AppointmentConflictException extends RuntimeException {
+    public AppointmentConflictException() {
+        super("Operation would result in overlapping appointments");
+    }
+}
@@ -0,0 +1,6 @@
+package seedu.address.model.appointment.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified appointment.
+ */
+public class AppointmentNotFoundException extends RuntimeException {}
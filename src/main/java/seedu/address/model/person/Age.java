@@ -12,7 +12,17 @@ public class Age {
     public static final String MESSAGE_CONSTRAINTS =
             "Age should only contain integers between 0 and 149 both inclusive.";
     public static final String VALIDATION_REGEX = "\\b[0-9]|[1-9][0-9]|1[0-4][0-9]\\b";
-    public final String value;
+    public static final int MIN_AGE = 0;
+    public static final int MAX_AGE = 149;
+    /** Every valid age, so that persons can share them rather than each hold their own. */
+    private static final Age[] AGES = new Age[MAX_AGE - MIN_AGE + 1];
+    public final int value;
+
+    static {
+        for (int age = MIN_AGE; age <= MAX_AGE; age++) {
+            AGES[age - MIN_AGE] = new Age(age);
+        }
+    }
 
     /**
      * Constructs a {@code Age}.
@@ -22,9 +32,23 @@ public class Age {
     public Age(String age) {
         requireNonNull(age);
         checkArgument(isValidAge(age), MESSAGE_CONSTRAINTS);
+        value = Integer.parseInt(age);
+    }
+
+    private Age(int age) {
         value = age;
     }
 
+    /**
+     * Returns the {@code Age} of {@code age} years, shared by every caller.
+     *
+     * @param age A valid age, between {@link #MIN_AGE} and {@link #MAX_AGE} inclusive.
+     */
+    public static Age of(int age) {
+        checkArgument(age >= MIN_AGE && age <= MAX_AGE, MESSAGE_CONSTRAINTS);
+        return AGES[age - MIN_AGE];
+    }
+
     /**
      * Returns true if a given string is a valid age.
      */
@@ -34,7 +58,7 @@ public class Age {
 
     @Override
     public String toString() {
-        return value;
+        return Integer.toString(value);
     }
 
     @Override
@@ -49,15 +73,15 @@ public class Age {
         }
 
         Age otherAge = (Age) other;
-        return value.equals(otherAge.value);
+        return value == otherAge.value;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(value);
     }
 
     public Age getCopy() {
-        return new Age(this.value);
+        return new Age(toString());
     }
 }
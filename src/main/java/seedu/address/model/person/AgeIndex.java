@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Finds the patients whose ages are in a range without checking every person.
+ *
+ * As ages are bounded, the patients are kept in one bucket per age, so the patients in a range are found by
+ * visiting the buckets of the ages in the range, in O(r + k) time for r ages in the range and k patients found.
+ * The index is kept up to date with a list of persons as persons are added to, removed from and replaced in it.
+ */
+public class AgeIndex {
+
+    private final List<Set<Person>> patientsByAge = new ArrayList<>(Age.MAX_AGE + 1);
+
+    /**
+     * Creates an {@code AgeIndex} of the patients in {@code persons}, which it keeps up to date with.
+     */
+    public AgeIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (int age = Age.MIN_AGE; age <= Age.MAX_AGE; age++) {
+            patientsByAge.add(new HashSet<>());
+        }
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the patients whose ages are in any of {@code ageRanges}, from the youngest.
+     */
+    public Set<Person> getPatientsInRanges(List<AgeRange> ageRanges) {
+        boolean[] isAgeInRanges = getAgesInRanges(ageRanges);
+        Set<Person> patients = new LinkedHashSet<>();
+        for (int age = Age.MIN_AGE; age <= Age.MAX_AGE; age++) {
+            if (isAgeInRanges[age]) {
+                patients.addAll(patientsByAge.get(age));
+            }
+        }
+        return patients;
+    }
+
+    /**
+     * Returns the number of patients whose ages are in any of {@code ageRanges}, without finding them.
+     */
+    public int countPatientsInRanges(List<AgeRange> ageRanges) {
+        boolean[] isAgeInRanges = getAgesInRanges(ageRanges);
+        int count = 0;
+        for (int age = Age.MIN_AGE; age <= Age.MAX_AGE; age++) {
+            if (isAgeInRanges[age]) {
+                count += patientsByAge.get(age).size();
+            }
+        }
+        return count;
+    }
+
+    private static boolean[] getAgesInRanges(List<AgeRange> ageRanges) {
+        requireNonNull(ageRanges);
+        boolean[] isAgeInRanges = new boolean[Age.MAX_AGE + 1];
+        for (AgeRange ageRange : ageRanges) {
+            for (int age = ageRange.min; age <= ageRange.max; age++) {
+                isAgeInRanges[age] = true;
+            }
+        }
+        return isAgeInRanges;
+    }
+
+    private void add(Person person) {
+        if (person instanceof Patient) {
+            patientsByAge.get(((Patient) person).getAge().value).add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        if (person instanceof Patient) {
+            patientsByAge.get(((Patient) person).getAge().value).remove(person);
+        }
+    }
+}
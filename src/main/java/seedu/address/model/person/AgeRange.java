@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a range of ages that a patient's age can be searched by.
+ * Guarantees: immutable; is valid as declared in {@link #isValidAgeRange(String)}
+ */
+public class AgeRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ages should be searched by an age, such as 65, "
+            + "two ages separated by a hyphen, such as 60-75, or an age preceded by >=, <=, > or <, such as >=65. "
+            + "Ages should be between 0 and 149 both inclusive, and a range should contain at least one age.";
+
+    private static final Pattern FORMAT = Pattern.compile(
+            "(?<comparison>>=|<=|>|<)?(?<first>[0-9]+)(-(?<second>[0-9]+))?");
+
+    /** The least age in this range, inclusive. */
+    public final int min;
+    /** The greatest age in this range, inclusive. */
+    public final int max;
+    private final String value;
+
+    /**
+     * Constructs an {@code AgeRange}.
+     *
+     * @param ageRange A valid age range.
+     */
+    public AgeRange(String ageRange) {
+        requireNonNull(ageRange);
+        checkArgument(isValidAgeRange(ageRange), MESSAGE_CONSTRAINTS);
+        int[] bounds = parseBounds(ageRange);
+        min = bounds[0];
+        max = bounds[1];
+        value = ageRange;
+    }
+
+    /**
+     * Returns true if a given string is a valid age range.
+     */
+    public static boolean isValidAgeRange(String test) {
+        int[] bounds = parseBounds(test);
+        return bounds != null && bounds[0] <= bounds[1];
+    }
+
+    /**
+     * Returns the least and greatest ages in {@code ageRange}, limited to valid ages, or null if it does not
+     * follow the format of an age range or contains an age that is not valid.
+     */
+    private static int[] parseBounds(String ageRange) {
+        Matcher matcher = FORMAT.matcher(ageRange);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String comparison = matcher.group("comparison");
+        String first = matcher.group("first");
+        String second = matcher.group("second");
+        if (!Age.isValidAge(first) || (second != null && !Age.isValidAge(second))
+                || (comparison != null && second != null)) {
+            return null;
+        }
+
+        int age = Integer.parseInt(first);
+        if (second != null) {
+            return new int[] {age, Integer.parseInt(second)};
+        }
+        switch (comparison == null ? "" : comparison) {
+        case ">=":
+            return new int[] {age, Age.MAX_AGE};
+        case "<=":
+            return new int[] {Age.MIN_AGE, age};
+        case ">":
+            return new int[] {age + 1, Age.MAX_AGE};
+        case "<":
+            return new int[] {Age.MIN_AGE, age - 1};
+        default:
+            return new int[] {age, age};
+        }
+    }
+
+    /**
+     * Returns true if {@code age} is in this range.
+     */
+    public boolean contains(Age age) {
+        requireNonNull(age);
+        return min <= age.value && age.value <= max;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgeRange)) {
+            return false;
+        }
+
+        AgeRange otherAgeRange = (AgeRange) other;
+        return min == otherAgeRange.min && max == otherAgeRange.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min + max;
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Finds the persons of a type, or with a tag, medical history or specialty, as bitmaps that queries combine.
+ *
+ * Each person is given an id, and each value of these fields is mapped to a {@link CompressedBitmap} of the ids of
+ * the persons with it. A value is matched against a keyword once, however many persons have it, and the persons
+ * matching a boolean query are found by combining bitmaps a word at a time. The index is kept up to date with a
+ * list of persons as persons are added to, removed from and replaced in it.
+ */
+public class CategoryIndex {
+
+    /** The fewest unused ids that are reclaimed by giving every person a new id. */
+    private static final int MIN_IDS_TO_RECLAIM = 1024;
+
+    private final ObservableList<Person> source;
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private Person[] personsById;
+    /** A copy of {@code personsById} shared by the predicates made since the persons last changed, if any. */
+    private Person[] personsByIdSnapshot;
+    private int nextId;
+    private CompressedBitmap allPersons;
+    private CompressedBitmap patients;
+    private CompressedBitmap specialists;
+    private Map<String, CompressedBitmap> personsByTag;
+    private Map<String, CompressedBitmap> personsByMedicalHistory;
+    private Map<String, CompressedBitmap> personsBySpecialty;
+
+    /**
+     * Creates a {@code CategoryIndex} of the persons in {@code persons}, which it keeps up to date with.
+     */
+    public CategoryIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.source = persons;
+        rebuild();
+        persons.addListener((ListChangeListener<Person>) change -> {
+            personsByIdSnapshot = null;
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+            // ids of removed persons are not reused, so they are reclaimed once they outnumber the persons
+            if (nextId - ids.size() >= Math.max(MIN_IDS_TO_RECLAIM, ids.size())) {
+                rebuild();
+            }
+        });
+    }
+
+    /**
+     * Returns the persons in the index.
+     */
+    public CompressedBitmap getAllPersons() {
+        return allPersons.copy();
+    }
+
+    /**
+     * Returns the persons of {@code personType}.
+     */
+    public CompressedBitmap getPersonsOfType(PersonType personType) {
+        requireNonNull(personType);
+        return personType == PersonType.PATIENT ? patients.copy() : specialists.copy();
+    }
+
+    /**
+     * Returns the persons with a tag whose name matches {@code tagNameTest}.
+     */
+    public CompressedBitmap getPersonsWithTag(Predicate<String> tagNameTest) {
+        return getPersonsWithValue(personsByTag, tagNameTest);
+    }
+
+    /**
+     * Returns the patients with a medical history that matches {@code medicalHistoryTest}.
+     */
+    public CompressedBitmap getPersonsWithMedicalHistory(Predicate<String> medicalHistoryTest) {
+        return getPersonsWithValue(personsByMedicalHistory, medicalHistoryTest);
+    }
+
+    /**
+     * Returns the specialists with a specialty that matches {@code specialtyTest}.
+     */
+    public CompressedBitmap getPersonsWithSpecialty(Predicate<String> specialtyTest) {
+        return getPersonsWithValue(personsBySpecialty, specialtyTest);
+    }
+
+    /**
+     * Returns the persons that match {@code predicate}, testing each person, for fields that are not indexed.
+     */
+    public CompressedBitmap getPersonsMatching(Predicate<Person> predicate) {
+        return filter(allPersons, predicate);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match {@code predicate}, testing each of them.
+     */
+    public CompressedBitmap filter(CompressedBitmap persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        CompressedBitmap matches = new CompressedBitmap();
+        persons.forEach(id -> {
+            if (predicate.test(personsById[id])) {
+                matches.add(id);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the ids of those of {@code persons} that are in the index.
+     */
+    public CompressedBitmap getIds(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        CompressedBitmap personIds = new CompressedBitmap();
+        for (Person person : persons) {
+            Integer id = ids.get(person);
+            if (id != null) {
+                personIds.add(id);
+            }
+        }
+        return personIds;
+    }
+
+    /**
+     * Returns up to {@code sampleSize} of {@code persons}, spread evenly across them.
+     */
+    public List<Person> getSample(CompressedBitmap persons, int sampleSize) {
+        requireNonNull(persons);
+        int[] personIds = persons.toArray();
+        int step = Math.max(1, personIds.length / Math.max(1, sampleSize));
+        List<Person> sample = new ArrayList<>();
+        for (int i = 0; i < personIds.length && sample.size() < sampleSize; i += step) {
+            sample.add(personsById[personIds[i]]);
+        }
+        return sample;
+    }
+
+    /**
+     * Returns a predicate that matches the persons in {@code selection}, a bitmap found from this index.
+     * Persons that have been added or replaced since are tested against {@code fallback} instead.
+     */
+    public Predicate<Person> toPredicate(CompressedBitmap selection, Predicate<Person> fallback) {
+        requireAllNonNull(selection, fallback);
+        // the persons the ids are of now, as the ids of persons may change later; the copy is only taken again once
+        // they do, so that finds in between share it
+        if (personsByIdSnapshot == null) {
+            personsByIdSnapshot = Arrays.copyOf(personsById, nextId);
+        }
+        Person[] personsWhenSelected = personsByIdSnapshot;
+        return person -> {
+            Integer id = ids.get(person);
+            if (id == null || id >= personsWhenSelected.length || personsWhenSelected[id] != person) {
+                return fallback.test(person);
+            }
+            return selection.contains(id);
+        };
+    }
+
+    private CompressedBitmap getPersonsWithValue(Map<String, CompressedBitmap> personsByValue,
+            Predicate<String> valueTest) {
+        requireNonNull(valueTest);
+        CompressedBitmap persons = new CompressedBitmap();
+        for (Map.Entry<String, CompressedBitmap> entry : personsByValue.entrySet()) {
+            if (valueTest.test(entry.getKey())) {
+                persons = persons.or(entry.getValue());
+            }
+        }
+        return persons;
+    }
+
+    //=========== Maintenance ================================================================================
+
+    private void rebuild() {
+        ids.clear();
+        personsByIdSnapshot = null;
+        personsById = new Person[Math.max(16, source.size())];
+        nextId = 0;
+        allPersons = new CompressedBitmap();
+        patients = new CompressedBitmap();
+        specialists = new CompressedBitmap();
+        personsByTag = new HashMap<>();
+        personsByMedicalHistory = new HashMap<>();
+        personsBySpecialty = new HashMap<>();
+        source.forEach(this::add);
+    }
+
+    private void add(Person person) {
+        int id = nextId++;
+        if (id == personsById.length) {
+            personsById = Arrays.copyOf(personsById, id * 2);
+        }
+        personsById[id] = person;
+        ids.put(person, id);
+        allPersons.add(id);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag.tagName, unused -> new CompressedBitmap()).add(id);
+        }
+        if (person instanceof Patient) {
+            patients.add(id);
+            for (MedicalHistory medicalHistory : ((Patient) person).getMedicalHistory()) {
+                personsByMedicalHistory.computeIfAbsent(medicalHistory.value, unused -> new CompressedBitmap())
+                        .add(id);
+            }
+        } else if (person instanceof Specialist) {
+            specialists.add(id);
+            personsBySpecialty.computeIfAbsent(((Specialist) person).getSpecialty().value,
+                    unused -> new CompressedBitmap()).add(id);
+        }
+    }
+
+    private void remove(Person person) {
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+        personsById[id] = null;
+        allPersons.remove(id);
+        for (Tag tag : person.getTags()) {
+            removeFromValue(personsByTag, tag.tagName, id);
+        }
+        if (person instanceof Patient) {
+            patients.remove(id);
+            for (MedicalHistory medicalHistory : ((Patient) person).getMedicalHistory()) {
+                removeFromValue(personsByMedicalHistory, medicalHistory.value, id);
+            }
+        } else if (person instanceof Specialist) {
+            specialists.remove(id);
+            removeFromValue(personsBySpecialty, ((Specialist) person).getSpecialty().value, id);
+        }
+    }
+
+    private static void removeFromValue(Map<String, CompressedBitmap> personsByValue, String value, int id) {
+        CompressedBitmap bitmap = personsByValue.get(value);
+        bitmap.remove(id);
+        if (bitmap.isEmpty()) {
+            personsByValue.remove(value);
+        }
+    }
+}
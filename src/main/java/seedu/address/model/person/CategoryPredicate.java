@@ -0,0 +1,18 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * A {@code Predicate<Person>} on a field indexed by {@link CategoryIndex}, whose matches can be found from the index
+ * without testing each person.
+ */
+public interface CategoryPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that match this predicate.
+     * The persons returned must be those that {@link #test(Person)} is true for.
+     */
+    CompressedBitmap selectFrom(CategoryIndex index);
+}
@@ -0,0 +1,19 @@
+package seedu.address.model.person;
+
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can also be tested on the rows of {@link PersonColumns}, without reading the
+ * {@code Person} objects themselves.
+ */
+public interface ColumnarPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a test of whether the person in a row of {@code columns} matches this predicate.
+     * The work that does not depend on the row, such as matching the values in a dictionary, is done here once.
+     * The test returned must agree with {@link #test(Person)}, and must only read {@code columns}, as rows are
+     * tested on several threads at once.
+     */
+    IntPredicate bindTo(PersonColumns columns);
+}
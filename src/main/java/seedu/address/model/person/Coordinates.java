@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents the latitude and longitude of a Specialist's location in the address book, in degrees.
+ * Guarantees: immutable; is valid as declared in {@link #isValidCoordinates(String)}
+ */
+public class Coordinates {
+
+    public static final String MESSAGE_CONSTRAINTS = "Coordinates should be a latitude between -90 and 90 and a "
+            + "longitude between -180 and 180, in degrees and separated by a comma, such as 1.3521,103.8198";
+    public static final String VALIDATION_REGEX = "\\s*[+-]?\\d+(\\.\\d+)?\\s*,\\s*[+-]?\\d+(\\.\\d+)?\\s*";
+
+    /** The mean radius of the Earth, with which distances along its surface are found. */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    public final double latitude;
+    public final double longitude;
+
+    /**
+     * Constructs a {@code Coordinates}.
+     *
+     * @param coordinates Valid coordinates, as a latitude and a longitude separated by a comma.
+     */
+    public Coordinates(String coordinates) {
+        requireNonNull(coordinates);
+        checkArgument(isValidCoordinates(coordinates), MESSAGE_CONSTRAINTS);
+        String[] parts = coordinates.split(",");
+        latitude = Double.parseDouble(parts[0].trim());
+        longitude = Double.parseDouble(parts[1].trim());
+    }
+
+    /**
+     * Returns true if a given string is a valid pair of coordinates.
+     */
+    public static boolean isValidCoordinates(String test) {
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        String[] parts = test.split(",");
+        double latitude = Double.parseDouble(parts[0].trim());
+        double longitude = Double.parseDouble(parts[1].trim());
+        return Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180;
+    }
+
+    /**
+     * Returns the distance from these coordinates to {@code other} along the surface of the Earth, in kilometres.
+     */
+    public double distanceTo(Coordinates other) {
+        requireNonNull(other);
+        return toDistanceKm(chordLengthTo(other));
+    }
+
+    /**
+     * Returns the point on the unit sphere at these coordinates, as its x, y and z.
+     * Straight-line distances between such points order pairs of coordinates as distances along the surface of the
+     * Earth do, so points near each other on the Earth are near each other in space as well.
+     */
+    double[] toUnitVector() {
+        double latitudeRadians = Math.toRadians(latitude);
+        double longitudeRadians = Math.toRadians(longitude);
+        return new double[] {
+            Math.cos(latitudeRadians) * Math.cos(longitudeRadians),
+            Math.cos(latitudeRadians) * Math.sin(longitudeRadians),
+            Math.sin(latitudeRadians)
+        };
+    }
+
+    /**
+     * Returns the distance along the surface of the Earth between two points on the unit sphere
+     * {@code chordLength} apart in a straight line, in kilometres.
+     */
+    static double toDistanceKm(double chordLength) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, chordLength / 2));
+    }
+
+    private double chordLengthTo(Coordinates other) {
+        double[] point = toUnitVector();
+        double[] otherPoint = other.toUnitVector();
+        double squaredLength = 0;
+        for (int axis = 0; axis < point.length; axis++) {
+            double difference = point[axis] - otherPoint[axis];
+            squaredLength += difference * difference;
+        }
+        return Math.sqrt(squaredLength);
+    }
+
+    /**
+     * Returns these coordinates as they are entered, without exponents, so that they are valid when read back.
+     */
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(latitude).toPlainString() + "," + BigDecimal.valueOf(longitude).toPlainString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Coordinates)) {
+            return false;
+        }
+
+        Coordinates otherCoordinates = (Coordinates) other;
+        return Double.compare(latitude, otherCoordinates.latitude) == 0
+                && Double.compare(longitude, otherCoordinates.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+}
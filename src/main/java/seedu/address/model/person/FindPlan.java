@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The steps by which the persons of a {@code find} command are found, as chosen by a {@link FindPlanner}.
+ *
+ * Each step narrows down the persons found by the steps before it, and is given the number of persons it is
+ * estimated to leave. Once the plan is executed, each step also has the number of persons it did leave and the
+ * time it took, which {@link #explain()} lists.
+ */
+public class FindPlan {
+
+    /** The number of persons a step has left before it is executed. */
+    public static final int NOT_EXECUTED = -1;
+
+    private static final String PACKAGE_NAME = "\\b(?:[a-z]\\w*\\.)+(?=[A-Z])";
+
+    private final String summary;
+    private final List<Step> steps;
+    private final Supplier<FoundPersonsPredicate> result;
+
+    /**
+     * Creates a {@code FindPlan} of {@code steps}, whose result is given by {@code result} once they are executed.
+     * {@code summary} explains why the steps were chosen.
+     */
+    FindPlan(String summary, List<Step> steps, Supplier<FoundPersonsPredicate> result) {
+        requireAllNonNull(summary, steps, result);
+        this.summary = summary;
+        this.steps = List.copyOf(steps);
+        this.result = result;
+    }
+
+    /**
+     * Executes the steps of the plan, and returns a predicate that matches the persons found, to filter the person
+     * list with.
+     */
+    public FoundPersonsPredicate execute() {
+        for (Step step : steps) {
+            step.execute();
+        }
+        return result.get();
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the persons left by the last step, or {@link #NOT_EXECUTED} if the plan has not been executed.
+     */
+    public int getActualRows() {
+        return steps.get(steps.size() - 1).getActualRows();
+    }
+
+    /**
+     * Returns the steps of the plan, with the persons each was estimated to leave and, if the plan has been
+     * executed, the persons each left and the time it took.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder(summary);
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            explanation.append(String.format("%n  %d. %s: est. %d rows", i + 1, step.getDescription(),
+                    step.getEstimatedRows()));
+            if (step.getActualRows() != NOT_EXECUTED) {
+                explanation.append(String.format(", actual %d rows, %.3f ms", step.getActualRows(),
+                        step.getNanos() / 1e6));
+            }
+        }
+        return explanation.toString();
+    }
+
+    /**
+     * Returns a short description of {@code predicate}, without the packages of the classes named in it.
+     */
+    static String describe(Predicate<Person> predicate) {
+        return predicate.toString().replaceAll(PACKAGE_NAME, "");
+    }
+
+    /**
+     * A step of a plan, which leaves the number of persons its operation returns.
+     */
+    public static class Step {
+        private final String description;
+        private final int estimatedRows;
+        private final IntSupplier operation;
+        private int actualRows = NOT_EXECUTED;
+        private long nanos;
+
+        Step(String description, int estimatedRows, IntSupplier operation) {
+            this.description = description;
+            this.estimatedRows = estimatedRows;
+            this.operation = operation;
+        }
+
+        private void execute() {
+            long start = System.nanoTime();
+            actualRows = operation.getAsInt();
+            nanos = System.nanoTime() - start;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        public int getActualRows() {
+            return actualRows;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
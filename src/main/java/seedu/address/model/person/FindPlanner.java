@@ -0,0 +1,211 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
+import seedu.address.model.person.predicates.FindQuery;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * Chooses how the persons of a {@code find} command are found, from statistics of the address book.
+ *
+ * The predicates of a {@code find} command must all match. The persons matching a predicate on a field indexed by
+ * the {@link CategoryIndex} or the {@link AgeIndex} are counted from the index, from the persons kept for each
+ * value, while the share of persons matching any other predicate is estimated by testing a sample of persons.
+ * Persons are looked up in the indexes from the most selective, as long as that is estimated to be cheaper than
+ * testing the persons left, and the persons left are then tested against the other predicates, again from the
+ * most selective. A large address book is instead scanned over its columns when that is estimated to be cheaper.
+ */
+public class FindPlanner {
+
+    /** The number of persons from which a find command may be scanned over the columns of the address book. */
+    public static final int COLUMNAR_SCAN_THRESHOLD = 1_000;
+
+    /** The number of persons tested to estimate the share of persons a predicate on an unindexed field matches. */
+    public static final int SAMPLE_SIZE = 256;
+
+    // the costs of the operations of a plan, relative to testing a person against a predicate
+    private static final double FILTER_COST = 1;
+    private static final double INDEX_LOOKUP_COST = 0.02;
+    private static final double AGE_INDEX_LOOKUP_COST = 1;
+    private static final double COLUMNAR_SCAN_COST = 0.05;
+
+    private final ObservableList<Person> persons;
+    private final CategoryIndex categoryIndex;
+    private final AgeIndex ageIndex;
+    private final Supplier<PersonColumns> personColumns;
+
+    /**
+     * Creates a {@code FindPlanner} of finding persons in {@code persons}, which {@code categoryIndex} and
+     * {@code ageIndex} are indexes of. {@code personColumns} gives the columns of {@code persons} when they are
+     * to be scanned.
+     */
+    public FindPlanner(ObservableList<Person> persons, CategoryIndex categoryIndex, AgeIndex ageIndex,
+            Supplier<PersonColumns> personColumns) {
+        requireAllNonNull(persons, categoryIndex, ageIndex, personColumns);
+        this.persons = persons;
+        this.categoryIndex = categoryIndex;
+        this.ageIndex = ageIndex;
+        this.personColumns = personColumns;
+    }
+
+    /**
+     * Returns a plan of finding the persons of {@code personType} that match all of {@code predicates}.
+     */
+    public FindPlan plan(PersonType personType, List<Predicate<Person>> predicates) {
+        requireAllNonNull(personType, predicates);
+        String personTypeName = personType == PersonType.PATIENT ? "patients" : "specialists";
+        CompressedBitmap personsOfType = categoryIndex.getPersonsOfType(personType);
+        int typeCount = personsOfType.getCardinality();
+        List<Person> sample = categoryIndex.getSample(personsOfType, SAMPLE_SIZE);
+        List<Estimate> estimates = predicates.stream()
+                .map(predicate -> estimate(predicate, personType, personsOfType, sample))
+                .sorted(Comparator.comparingInt(estimate -> estimate.count))
+                .collect(Collectors.toList());
+
+        Execution execution = new Execution();
+        List<FindPlan.Step> steps = new ArrayList<>();
+        steps.add(new FindPlan.Step("Index lookup of " + personTypeName, typeCount, () -> {
+            execution.candidates = personsOfType;
+            return typeCount;
+        }));
+
+        double rows = typeCount;
+        double cost = 0;
+        List<Estimate> filters = new ArrayList<>();
+        for (Estimate estimate : estimates) {
+            double lookupCost = estimate.lookupCost * estimate.count;
+            if (!estimate.hasLookup() || lookupCost >= rows * FILTER_COST) {
+                filters.add(estimate);
+                continue;
+            }
+            cost += lookupCost;
+            rows *= estimate.getSelectivity(typeCount);
+            steps.add(createLookupStep(estimate, rows, execution));
+        }
+        boolean hasLookups = steps.size() > 1;
+        for (Estimate estimate : filters) {
+            cost += rows * FILTER_COST;
+            rows *= estimate.getSelectivity(typeCount);
+            String description = "Filter by " + FindPlan.describe(estimate.predicate);
+            steps.add(new FindPlan.Step(description, (int) Math.round(rows), () -> {
+                execution.candidates = categoryIndex.filter(execution.candidates, estimate.predicate);
+                return execution.candidates.getCardinality();
+            }));
+        }
+        String pathName = hasLookups ? "Index lookups and filters" : "Full scan";
+        String summary = String.format("%s of %d %s, est. cost %.0f", pathName, typeCount, personTypeName, cost);
+
+        Predicate<Person> query = person -> personType.getSearchPredicate().test(person)
+                && predicates.stream().allMatch(predicate -> predicate.test(person));
+        boolean canScanColumns = persons.size() >= COLUMNAR_SCAN_THRESHOLD
+                && predicates.stream().allMatch(predicate -> predicate instanceof ColumnarPredicate);
+        double columnarCost = persons.size() * COLUMNAR_SCAN_COST * Math.max(1, predicates.size());
+        if (!canScanColumns || cost <= columnarCost) {
+            if (canScanColumns) {
+                summary += String.format("; columnar scan est. cost %.0f", columnarCost);
+            }
+            return new FindPlan(summary, steps, () -> new FoundPersonsPredicate(
+                    categoryIndex.toPredicate(execution.candidates, query), query));
+        }
+
+        List<ColumnarPredicate> columnarPredicates = predicates.stream()
+                .map(ColumnarPredicate.class::cast)
+                .collect(Collectors.toList());
+        String description = String.format("Columnar scan for %s matching %s", personTypeName,
+                columnarPredicates.stream().map(FindPlan::describe).collect(Collectors.toList()));
+        FindPlan.Step scan = new FindPlan.Step(description, (int) Math.round(rows), () -> {
+            execution.selection = personColumns.get().select(personType, columnarPredicates);
+            return execution.selection.getSelectedCount();
+        });
+        summary = String.format("Columnar scan of %d persons, est. cost %.0f; %s est. cost %.0f", persons.size(),
+                columnarCost, pathName.toLowerCase(), cost);
+        return new FindPlan(summary, List.of(scan), () -> new FoundPersonsPredicate(execution.selection, query));
+    }
+
+    private FindPlan.Step createLookupStep(Estimate estimate, double rows, Execution execution) {
+        if (estimate.matches != null) {
+            return new FindPlan.Step("Index lookup of " + FindPlan.describe(estimate.predicate),
+                    (int) Math.round(rows), () -> {
+                        execution.candidates = execution.candidates.and(estimate.matches);
+                        return execution.candidates.getCardinality();
+                    });
+        }
+        List<AgeRange> ageRanges = ((AgeInRangesPredicate) estimate.predicate).getAgeRanges();
+        return new FindPlan.Step("Age index lookup of " + FindPlan.describe(estimate.predicate),
+                (int) Math.round(rows), () -> {
+                    CompressedBitmap patientsInRanges = categoryIndex.getIds(ageIndex.getPatientsInRanges(ageRanges));
+                    execution.candidates = execution.candidates.and(patientsInRanges);
+                    return execution.candidates.getCardinality();
+                });
+    }
+
+    /**
+     * Estimates the number of persons of {@code personType} that match {@code predicate}. The persons matching a
+     * predicate on a field of the category index are found at once, to be intersected with the others later.
+     */
+    private Estimate estimate(Predicate<Person> predicate, PersonType personType, CompressedBitmap personsOfType,
+            List<Person> sample) {
+        if (isIndexed(predicate)) {
+            CompressedBitmap matches = ((CategoryPredicate) predicate).selectFrom(categoryIndex).and(personsOfType);
+            return new Estimate(predicate, matches.getCardinality(), INDEX_LOOKUP_COST, matches);
+        }
+        if (predicate instanceof AgeInRangesPredicate && personType == PersonType.PATIENT) {
+            List<AgeRange> ageRanges = ((AgeInRangesPredicate) predicate).getAgeRanges();
+            return new Estimate(predicate, ageIndex.countPatientsInRanges(ageRanges), AGE_INDEX_LOOKUP_COST, null);
+        }
+        long sampleMatches = sample.stream().filter(predicate).count();
+        int count = sample.isEmpty() ? 0
+                : (int) Math.round((double) sampleMatches * personsOfType.getCardinality() / sample.size());
+        return new Estimate(predicate, count, Double.POSITIVE_INFINITY, null);
+    }
+
+    private static boolean isIndexed(Predicate<Person> predicate) {
+        if (predicate instanceof FindQuery) {
+            return ((FindQuery) predicate).isIndexed();
+        }
+        return predicate instanceof CategoryPredicate;
+    }
+
+    /**
+     * The estimated number of persons that match a predicate, and the cost of looking each of them up in an index,
+     * which is infinite for a predicate on an unindexed field.
+     */
+    private static class Estimate {
+        private final Predicate<Person> predicate;
+        private final int count;
+        private final double lookupCost;
+        private final CompressedBitmap matches;
+
+        Estimate(Predicate<Person> predicate, int count, double lookupCost, CompressedBitmap matches) {
+            this.predicate = predicate;
+            this.count = count;
+            this.lookupCost = lookupCost;
+            this.matches = matches;
+        }
+
+        boolean hasLookup() {
+            return lookupCost != Double.POSITIVE_INFINITY;
+        }
+
+        double getSelectivity(int typeCount) {
+            return typeCount == 0 ? 0 : Math.min(1, (double) count / typeCount);
+        }
+    }
+
+    /**
+     * The persons found by the steps of a plan executed so far.
+     */
+    private static class Execution {
+        private CompressedBitmap candidates;
+        private PersonColumns.Selection selection;
+    }
+}
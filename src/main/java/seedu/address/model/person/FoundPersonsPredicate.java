@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Matches the persons found by a {@link FindPlan}, along with the query they were found with.
+ *
+ * The persons found are matched by what the plan found them with, e.g. a copy of the persons scanned, which is too
+ * large to keep for long. The query matches the same persons, so it is kept in their place, e.g. in the undo history.
+ */
+public class FoundPersonsPredicate implements Predicate<Person> {
+
+    private final Predicate<Person> found;
+    private final Predicate<Person> query;
+
+    /**
+     * Creates a {@code FoundPersonsPredicate} that matches the persons {@code found} matches, which are the persons
+     * {@code query} matches.
+     */
+    public FoundPersonsPredicate(Predicate<Person> found, Predicate<Person> query) {
+        requireAllNonNull(found, query);
+        this.found = found;
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return found.test(person);
+    }
+
+    /**
+     * Returns a predicate that matches the same persons by testing each of them against the query.
+     */
+    public Predicate<Person> getQuery() {
+        return query;
+    }
+
+    @Override
+    public FoundPersonsPredicate and(Predicate<? super Person> other) {
+        requireNonNull(other);
+        return new FoundPersonsPredicate(found.and(other), query.and(other));
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Finds the persons whose names contain a word that is spelt like, or sounds like, a keyword.
+ * Name words are matched ignoring case.
+ *
+ * The distinct words of the names are kept in a BK-tree, in which each child of a word is stored under its edit
+ * distance from that word. As the edit distance is a metric, looking up the words within a distance of a keyword
+ * only needs to visit the children whose distances differ from the keyword's distance by at most that much, which
+ * is a small part of the tree for small distances. The words are also grouped by their Soundex code.
+ *
+ * The index is kept up to date with a list of persons as persons are added to, removed from and replaced in it.
+ * A word no longer held by any person is left in the tree, and skipped, until the tree is rebuilt once most of
+ * its words are no longer held.
+ */
+public class FuzzyNameIndex {
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final Map<String, Set<Node>> soundexGroups = new HashMap<>();
+    private Node root;
+    private int liveNodeCount;
+
+    /**
+     * Creates a {@code FuzzyNameIndex} of the names of {@code persons}, which it keeps up to date with.
+     */
+    public FuzzyNameIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the persons with a name word within {@code maxDistance} edits of, or with the same Soundex code as,
+     * any of {@code keywords}, ignoring case. Short keywords allow fewer edits, at most their length less two,
+     * so that they do not match most short words. Each person is mapped to its rank among the matches, the lower
+     * the better: the least edit distance between its name words and the keywords, or {@code maxDistance + 1} if
+     * its name words only sound like the keywords.
+     */
+    public Map<Person, Integer> getMatches(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        Map<Person, Integer> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            String word = keyword.toLowerCase();
+            int keywordMaxDistance = Math.min(maxDistance, Math.max(0, word.length() - 2));
+            String soundex = StringUtil.getSoundex(word);
+            if (!soundex.isEmpty()) {
+                for (Node node : soundexGroups.getOrDefault(soundex, Set.of())) {
+                    addMatches(matches, node, maxDistance + 1);
+                }
+            }
+            if (root == null) {
+                continue;
+            }
+
+            Deque<Node> toVisit = new ArrayDeque<>();
+            toVisit.push(root);
+            while (!toVisit.isEmpty()) {
+                Node node = toVisit.pop();
+                int distance = StringUtil.getEditDistance(word, node.word);
+                if (distance <= keywordMaxDistance) {
+                    addMatches(matches, node, distance);
+                }
+                for (int childDistance = Math.max(1, distance - keywordMaxDistance);
+                        childDistance <= distance + keywordMaxDistance; childDistance++) {
+                    Node child = node.children.get(childDistance);
+                    if (child != null) {
+                        toVisit.push(child);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static void addMatches(Map<Person, Integer> matches, Node node, int rank) {
+        for (Person person : node.persons) {
+            matches.merge(person, rank, Math::min);
+        }
+    }
+
+    private void add(Person person) {
+        for (String word : getWords(person)) {
+            Node node = nodes.get(word);
+            if (node == null) {
+                node = new Node(word);
+                nodes.put(word, node);
+                soundexGroups.computeIfAbsent(StringUtil.getSoundex(word), unused -> new HashSet<>()).add(node);
+                insert(node);
+            }
+            if (node.persons.isEmpty()) {
+                liveNodeCount++;
+            }
+            node.persons.add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (String word : getWords(person)) {
+            Node node = nodes.get(word);
+            if (node != null && node.persons.remove(person) && node.persons.isEmpty()) {
+                liveNodeCount--;
+            }
+        }
+        if (nodes.size() > 2 * liveNodeCount + 16) {
+            rebuild();
+        }
+    }
+
+    private void insert(Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node parent = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(node.word, parent.word);
+            Node child = parent.children.get(distance);
+            if (child == null) {
+                parent.children.put(distance, node);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the words still held by some person.
+     */
+    private void rebuild() {
+        List<Node> liveNodes = List.copyOf(nodes.values());
+        nodes.clear();
+        soundexGroups.clear();
+        root = null;
+        for (Node oldNode : liveNodes) {
+            if (oldNode.persons.isEmpty()) {
+                continue;
+            }
+            Node node = new Node(oldNode.word);
+            node.persons.addAll(oldNode.persons);
+            nodes.put(node.word, node);
+            soundexGroups.computeIfAbsent(StringUtil.getSoundex(node.word), unused -> new HashSet<>()).add(node);
+            insert(node);
+        }
+    }
+
+    private static Set<String> getWords(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : person.getName().fullName.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A distinct name word, the persons whose names contain it, and its children in the tree by edit distance.
+     */
+    private static class Node {
+        private final String word;
+        private final Set<Person> persons = new HashSet<>();
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+import java.util.Optional;
+
 /**
- * Represents a Person's location in the address book.
+ * Represents a Person's location in the address book, as an address with optional coordinates.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
  */
 public class Location {
@@ -18,16 +21,28 @@ public class Location {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    private final Coordinates coordinates;
 
     /**
-     * Constructs an {@code Location}.
+     * Constructs an {@code Location} without coordinates.
      *
      * @param location A valid location.
      */
     public Location(String location) {
+        this(location, null);
+    }
+
+    /**
+     * Constructs an {@code Location}.
+     *
+     * @param location A valid location.
+     * @param coordinates The coordinates of the location, or null if they are not known.
+     */
+    public Location(String location, Coordinates coordinates) {
         requireNonNull(location);
         checkArgument(isValidLocation(location), MESSAGE_CONSTRAINTS);
         value = location;
+        this.coordinates = coordinates;
     }
 
     /**
@@ -37,6 +52,17 @@ public class Location {
         return test.matches(VALIDATION_REGEX);
     }
 
+    public Optional<Coordinates> getCoordinates() {
+        return Optional.ofNullable(coordinates);
+    }
+
+    /**
+     * Returns this location with its coordinates replaced by {@code coordinates}, or removed if it is null.
+     */
+    public Location withCoordinates(Coordinates coordinates) {
+        return new Location(value, coordinates);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -54,15 +80,15 @@ public class Location {
         }
 
         Location otherLocation = (Location) other;
-        return value.equals(otherLocation.value);
+        return value.equals(otherLocation.value) && Objects.equals(coordinates, otherLocation.coordinates);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Objects.hash(value, coordinates);
     }
 
     public Location getCopy() {
-        return new Location(this.value);
+        return new Location(this.value, this.coordinates);
     }
 }
@@ -1,19 +1,23 @@
 package seedu.address.model.person;
 
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.CompactSet;
 
 /**
  * Represents a Patient in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Patient extends Person {
-    private final Age age;
+    private final int age;
     private final Set<MedicalHistory> medicalHistory;
+    /** The names of the specialists the patient is referred to. */
+    private final Set<Name> referrals;
 
     /**
      * Every field must be present and not null.
@@ -22,22 +26,48 @@ public class Patient extends Person {
 
     public Patient(Name name, Phone phone, Email email, Set<Tag> tags, Age age,
                    Set<MedicalHistory> medicalHistory) {
+        this(name, phone, email, tags, age, medicalHistory, Collections.emptySet());
+    }
+
+    /**
+     * Every field must be present and not null.
+     * {@code referrals} are the names of the specialists the patient is referred to.
+     */
+    public Patient(Name name, Phone phone, Email email, Set<Tag> tags, Age age,
+                   Set<MedicalHistory> medicalHistory, Set<Name> referrals) {
         super(name, phone, email, tags);
-        this.age = age;
-        this.medicalHistory = medicalHistory;
+        this.age = age.value;
+        this.medicalHistory = CompactSet.copyOf(medicalHistory);
+        this.referrals = CompactSet.copyOf(referrals);
     }
 
     public Age getAge() {
-        return age;
+        return Age.of(age);
     }
 
     public Set<MedicalHistory> getMedicalHistory() {
         return medicalHistory;
     }
+
+    /**
+     * Returns an immutable set of the names of the specialists the patient is referred to.
+     */
+    public Set<Name> getReferrals() {
+        return referrals;
+    }
+
+    /**
+     * Returns a copy of this patient that is referred to the specialists named in {@code referrals} instead.
+     */
+    public Patient withReferrals(Set<Name> referrals) {
+        return new Patient(getName(), getPhone(), getEmail(), getTags(), getAge(), medicalHistory, referrals);
+    }
+
     @Override
     public String toString() {
 
-        String stringToAdd = ", age=" + age + ", medical history=" + medicalHistory;
+        String stringToAdd = ", age=" + getAge() + ", medical history=" + medicalHistory
+                + ", referrals=" + referrals;
         return StringUtil.addFieldToPersonToString(stringToAdd, super.toString());
     }
     @Override
@@ -53,8 +83,9 @@ public class Patient extends Person {
 
         Patient otherPatient = (Patient) other;
         return super.equals(other)
-                && age.equals(otherPatient.getAge())
-                && medicalHistory.equals(otherPatient.medicalHistory);
+                && age == otherPatient.age
+                && medicalHistory.equals(otherPatient.medicalHistory)
+                && referrals.equals(otherPatient.referrals);
     }
 
     /**
@@ -96,8 +127,9 @@ public class Patient extends Person {
                 super.getPhone().getCopy(),
                 super.getEmail().getCopy(),
                 tagCopies,
-                this.age.getCopy(),
-                medicalHistoriesCopy
+                getAge(),
+                medicalHistoriesCopy,
+                referrals
         );
     }
 }
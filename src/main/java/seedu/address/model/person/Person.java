@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.CompactSet;
 
 /**
  * Represents a Person in the location book.
@@ -22,7 +21,10 @@ public abstract class Person {
     private final Email email;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    /** The hash code, computed on first use as persons are immutable, or 0 if not computed yet. */
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -32,7 +34,7 @@ public abstract class Person {
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
     }
 
     public Name getName() {
@@ -52,7 +54,7 @@ public abstract class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public abstract boolean isSamePerson(Person otherPerson);
@@ -82,8 +84,12 @@ public abstract class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, tags);
+        // racing threads compute the same value, so the field needs no synchronization
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, tags);
+        }
+        return hash;
     }
 
     @Override
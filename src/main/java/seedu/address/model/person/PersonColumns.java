@@ -0,0 +1,492 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A copy of a list of persons held field by field, one array per field with one row per person, so that queries
+ * over many persons read a few compact arrays rather than following references to every person.
+ *
+ * Names, phones and emails are kept as the lower case strings that keywords are matched against. Tags, medical
+ * histories, locations and specialties, of which there are few distinct values, are kept as codes into a
+ * {@link Dictionary}, so a keyword is matched once against each distinct value rather than once against each person.
+ * Codes are never reused, so a dictionary keeps every value it has seen until the columns are rebuilt.
+ *
+ * The rows are kept in the same order as the list of persons, and up to date with it as persons are added to,
+ * removed from and replaced in it.
+ */
+public class PersonColumns {
+
+    /** The number of rows from which a scan is split across threads. */
+    public static final int PARALLEL_SCAN_THRESHOLD = 1 << 15;
+    /** The age of the rows of persons that have no age. */
+    public static final int NO_AGE = -1;
+    /** The code of the rows of persons that have no value in a dictionary encoded column. */
+    public static final int NO_CODE = -1;
+
+    /** The most parts of a change to the persons applied to the rows one by one, rather than by a rebuild. */
+    private static final int MAX_PARTS_APPLIED = 16;
+    /** The fewest rows a thread scans, a multiple of 64 so that threads never write to the same word. */
+    private static final int ROWS_PER_TASK = 1 << 12;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_CODES = new int[0];
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
+    private final ObservableList<Person> source;
+    private int size;
+    private Person[] persons;
+    private boolean[] isPatient;
+    private String[] lowerCaseNames;
+    private String[] phones;
+    private String[] lowerCaseEmails;
+    private int[] ages;
+    private int[][] tagCodes;
+    private int[][] medicalHistoryCodes;
+    private int[] locationCodes;
+    private int[] specialtyCodes;
+    private Dictionary tags;
+    private Dictionary medicalHistories;
+    private Dictionary locations;
+    private Dictionary specialties;
+
+    /**
+     * Creates {@code PersonColumns} of the persons in {@code persons}, which it keeps up to date with.
+     */
+    public PersonColumns(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.source = persons;
+        rebuild();
+        persons.addListener((ListChangeListener<Person>) this::applyChange);
+    }
+
+    private void applyChange(ListChangeListener.Change<? extends Person> change) {
+        // each part of a change moves every row after it, so a change of many parts, e.g. persons removed from
+        // across the list, is applied by rebuilding the rows once instead
+        int partCount = 0;
+        while (change.next()) {
+            partCount++;
+            if (change.wasPermutated() || partCount > MAX_PARTS_APPLIED) {
+                rebuild();
+                return;
+            }
+        }
+
+        change.reset();
+        while (change.next()) {
+            int from = change.getFrom();
+            int removedCount = change.getRemovedSize();
+            List<? extends Person> added = change.getAddedSubList();
+            // persons replaced, e.g. by an edit, are overwritten in place, and only the rows left over are moved
+            int replacedCount = Math.min(removedCount, added.size());
+            for (int i = 0; i < replacedCount; i++) {
+                setRow(from + i, added.get(i));
+            }
+            if (removedCount > replacedCount) {
+                removeRows(from + replacedCount, removedCount - replacedCount);
+            }
+            if (added.size() > replacedCount) {
+                insertRows(from + replacedCount, added.subList(replacedCount, added.size()));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Person getPerson(int row) {
+        return persons[row];
+    }
+
+    public boolean isPatient(int row) {
+        return isPatient[row];
+    }
+
+    public String getLowerCaseName(int row) {
+        return lowerCaseNames[row];
+    }
+
+    public String getPhone(int row) {
+        return phones[row];
+    }
+
+    public String getLowerCaseEmail(int row) {
+        return lowerCaseEmails[row];
+    }
+
+    /**
+     * Returns the age of the patient in {@code row}, or {@link #NO_AGE} if the row is not of a patient.
+     */
+    public int getAge(int row) {
+        return ages[row];
+    }
+
+    public int[] getTagCodes(int row) {
+        return tagCodes[row];
+    }
+
+    public int[] getMedicalHistoryCodes(int row) {
+        return medicalHistoryCodes[row];
+    }
+
+    /**
+     * Returns the code of the location of the specialist in {@code row}, or {@link #NO_CODE} if the row is not of a
+     * specialist.
+     */
+    public int getLocationCode(int row) {
+        return locationCodes[row];
+    }
+
+    /**
+     * Returns the code of the specialty of the specialist in {@code row}, or {@link #NO_CODE} if the row is not of a
+     * specialist.
+     */
+    public int getSpecialtyCode(int row) {
+        return specialtyCodes[row];
+    }
+
+    public Dictionary getTags() {
+        return tags;
+    }
+
+    public Dictionary getMedicalHistories() {
+        return medicalHistories;
+    }
+
+    public Dictionary getLocations() {
+        return locations;
+    }
+
+    public Dictionary getSpecialties() {
+        return specialties;
+    }
+
+    /**
+     * Returns true if any of {@code codes} is of a value marked in {@code isMatchingValue}.
+     */
+    public static boolean containsAny(int[] codes, boolean[] isMatchingValue) {
+        for (int code : codes) {
+            if (isMatchingValue[code]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a test of whether the words of a lower case value contain any of {@code keywords}, ignoring case.
+     * The test agrees with {@link seedu.address.commons.util.StringUtil#wordsContainSubstringIgnoreCase} on the
+     * value before it was put in lower case, but without splitting the value into words.
+     */
+    public static Predicate<String> lowerCaseWordsContainAny(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> lowerCaseKeywords = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            checkArgument(!trimmedKeyword.isEmpty(), "Substring parameter cannot be empty");
+            // a keyword with whitespace in it can never be within a single word
+            if (!WHITESPACE.matcher(trimmedKeyword).find()) {
+                lowerCaseKeywords.add(trimmedKeyword.toLowerCase());
+            }
+        }
+        String[] searchedKeywords = lowerCaseKeywords.toArray(new String[0]);
+        return lowerCaseValue -> {
+            for (String keyword : searchedKeywords) {
+                if (lowerCaseValue.contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns a predicate that matches the persons of {@code personType} that match all of {@code predicates}.
+     *
+     * The rows are scanned at once, on several threads for a large list, into a bitmap of the persons selected.
+     * The predicate returned looks persons up in the bitmap when they are tested in the order of the list, as a
+     * {@code FilteredList} tests them, and tests any other person against {@code predicates} directly. It is meant
+     * to be tested on a single thread.
+     */
+    public Selection select(PersonType personType, List<? extends ColumnarPredicate> predicates) {
+        requireAllNonNull(personType, predicates);
+        final boolean isPatientSelected = personType == PersonType.PATIENT;
+        final IntPredicate[] rowTests = predicates.stream()
+                .map(predicate -> predicate.bindTo(this))
+                .toArray(IntPredicate[]::new);
+        IntPredicate rowTest = row -> {
+            if (isPatient[row] != isPatientSelected) {
+                return false;
+            }
+            for (IntPredicate test : rowTests) {
+                if (!test.test(row)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        long[] selection = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        if (size >= PARALLEL_SCAN_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new ScanTask(rowTest, selection, 0, size));
+        } else {
+            scan(rowTest, selection, 0, size);
+        }
+
+        Predicate<Person> fallback = person -> personType.getSearchPredicate().test(person)
+                && predicates.stream().allMatch(predicate -> predicate.test(person));
+        return new Selection(Arrays.copyOf(persons, size), selection, fallback);
+    }
+
+    /**
+     * Marks the rows from {@code fromRow} to {@code toRow}, exclusive, that pass {@code rowTest} in
+     * {@code selection}. {@code fromRow} must be a multiple of 64.
+     */
+    private static void scan(IntPredicate rowTest, long[] selection, int fromRow, int toRow) {
+        for (int wordStart = fromRow; wordStart < toRow; wordStart += Long.SIZE) {
+            int wordEnd = Math.min(wordStart + Long.SIZE, toRow);
+            long word = 0;
+            for (int row = wordStart; row < wordEnd; row++) {
+                if (rowTest.test(row)) {
+                    word |= 1L << (row - wordStart);
+                }
+            }
+            selection[wordStart / Long.SIZE] = word;
+        }
+    }
+
+    /**
+     * Scans a range of rows, splitting it in halves to be scanned in parallel until it is small enough.
+     */
+    private static class ScanTask extends RecursiveAction {
+        private final IntPredicate rowTest;
+        private final long[] selection;
+        private final int fromRow;
+        private final int toRow;
+
+        ScanTask(IntPredicate rowTest, long[] selection, int fromRow, int toRow) {
+            this.rowTest = rowTest;
+            this.selection = selection;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_TASK) {
+                scan(rowTest, selection, fromRow, toRow);
+                return;
+            }
+            int middleRow = fromRow + (toRow - fromRow) / 2 / ROWS_PER_TASK * ROWS_PER_TASK;
+            if (middleRow == fromRow) {
+                middleRow += ROWS_PER_TASK;
+            }
+            invokeAll(new ScanTask(rowTest, selection, fromRow, middleRow),
+                    new ScanTask(rowTest, selection, middleRow, toRow));
+        }
+    }
+
+    /**
+     * Matches the persons selected by a scan, following the rows as persons are tested in order.
+     */
+    public static class Selection implements Predicate<Person> {
+        private final Person[] persons;
+        private final long[] selection;
+        private final Predicate<Person> fallback;
+        private int nextRow;
+
+        Selection(Person[] persons, long[] selection, Predicate<Person> fallback) {
+            this.persons = persons;
+            this.selection = selection;
+            this.fallback = fallback;
+        }
+
+        /**
+         * Returns the number of persons selected by the scan.
+         */
+        public int getSelectedCount() {
+            int count = 0;
+            for (long word : selection) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            int row;
+            if (nextRow < persons.length && persons[nextRow] == person) {
+                row = nextRow;
+            } else if (persons.length > 0 && persons[0] == person) {
+                row = 0;
+            } else {
+                // the list has changed since the scan, so the person may not be in the row expected
+                return fallback.test(person);
+            }
+            nextRow = row + 1;
+            return (selection[row / Long.SIZE] & (1L << (row % Long.SIZE))) != 0;
+        }
+    }
+
+    //=========== Maintenance ================================================================================
+
+    private void rebuild() {
+        size = 0;
+        persons = new Person[INITIAL_CAPACITY];
+        isPatient = new boolean[INITIAL_CAPACITY];
+        lowerCaseNames = new String[INITIAL_CAPACITY];
+        phones = new String[INITIAL_CAPACITY];
+        lowerCaseEmails = new String[INITIAL_CAPACITY];
+        ages = new int[INITIAL_CAPACITY];
+        tagCodes = new int[INITIAL_CAPACITY][];
+        medicalHistoryCodes = new int[INITIAL_CAPACITY][];
+        locationCodes = new int[INITIAL_CAPACITY];
+        specialtyCodes = new int[INITIAL_CAPACITY];
+        tags = new Dictionary();
+        medicalHistories = new Dictionary();
+        locations = new Dictionary();
+        specialties = new Dictionary();
+        insertRows(0, source);
+    }
+
+    private void insertRows(int from, List<? extends Person> added) {
+        int count = added.size();
+        if (size + count > persons.length) {
+            grow(Math.max(size + count, persons.length * 2));
+        }
+        moveRows(from, from + count, size - from);
+        size += count;
+        for (int i = 0; i < count; i++) {
+            setRow(from + i, added.get(i));
+        }
+    }
+
+    private void removeRows(int from, int count) {
+        moveRows(from + count, from, size - from - count);
+        size -= count;
+        // lets the persons removed be collected
+        Arrays.fill(persons, size, size + count, null);
+        Arrays.fill(lowerCaseNames, size, size + count, null);
+        Arrays.fill(phones, size, size + count, null);
+        Arrays.fill(lowerCaseEmails, size, size + count, null);
+        Arrays.fill(tagCodes, size, size + count, null);
+        Arrays.fill(medicalHistoryCodes, size, size + count, null);
+    }
+
+    private void moveRows(int from, int to, int count) {
+        for (Object column : getColumns()) {
+            System.arraycopy(column, from, column, to, count);
+        }
+    }
+
+    private void grow(int capacity) {
+        persons = Arrays.copyOf(persons, capacity);
+        isPatient = Arrays.copyOf(isPatient, capacity);
+        lowerCaseNames = Arrays.copyOf(lowerCaseNames, capacity);
+        phones = Arrays.copyOf(phones, capacity);
+        lowerCaseEmails = Arrays.copyOf(lowerCaseEmails, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        tagCodes = Arrays.copyOf(tagCodes, capacity);
+        medicalHistoryCodes = Arrays.copyOf(medicalHistoryCodes, capacity);
+        locationCodes = Arrays.copyOf(locationCodes, capacity);
+        specialtyCodes = Arrays.copyOf(specialtyCodes, capacity);
+    }
+
+    private Object[] getColumns() {
+        return new Object[] {persons, isPatient, lowerCaseNames, phones, lowerCaseEmails, ages, tagCodes,
+            medicalHistoryCodes, locationCodes, specialtyCodes};
+    }
+
+    private void setRow(int row, Person person) {
+        persons[row] = person;
+        isPatient[row] = person instanceof Patient;
+        lowerCaseNames[row] = person.getName().fullName.toLowerCase();
+        phones[row] = person.getPhone().getValue();
+        lowerCaseEmails[row] = person.getEmail().value.toLowerCase();
+        tagCodes[row] = encodeTags(person);
+        ages[row] = NO_AGE;
+        medicalHistoryCodes[row] = NO_CODES;
+        locationCodes[row] = NO_CODE;
+        specialtyCodes[row] = NO_CODE;
+        if (person instanceof Patient) {
+            Patient patient = (Patient) person;
+            ages[row] = patient.getAge().value;
+            medicalHistoryCodes[row] = patient.getMedicalHistory().stream()
+                    .mapToInt(medicalHistory -> medicalHistories.encode(medicalHistory.value))
+                    .toArray();
+        } else if (person instanceof Specialist) {
+            Specialist specialist = (Specialist) person;
+            locationCodes[row] = locations.encode(specialist.getLocation().value);
+            specialtyCodes[row] = specialties.encode(specialist.getSpecialty().value);
+        }
+    }
+
+    private int[] encodeTags(Person person) {
+        if (person.getTags().isEmpty()) {
+            return NO_CODES;
+        }
+        int[] codes = new int[person.getTags().size()];
+        int i = 0;
+        for (Tag tag : person.getTags()) {
+            codes[i++] = tags.encode(tag.tagName);
+        }
+        return codes;
+    }
+
+    /**
+     * The distinct values of a column, each given the code it is kept as in the column.
+     */
+    public static class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        /**
+         * Returns the code of {@code value}, giving it the next code if it has none yet.
+         */
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        public int size() {
+            return values.size();
+        }
+
+        public String getValue(int code) {
+            return values.get(code);
+        }
+
+        /**
+         * Returns whether each value matches {@code predicate}, indexed by the code of the value.
+         */
+        public boolean[] match(Predicate<String> predicate) {
+            requireNonNull(predicate);
+            boolean[] isMatching = new boolean[values.size()];
+            for (int code = 0; code < isMatching.length; code++) {
+                isMatching[code] = predicate.test(values.get(code));
+            }
+            return isMatching;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Orders persons by one or more of their attributes, each in ascending or descending order, with the later
+ * attributes only breaking ties between the earlier ones. Persons without an attribute, such as specialists when
+ * ordering by age, are ordered after the persons with it. Text is ordered by the rules of the default locale.
+ *
+ * Comparing text by those rules is slow, so each person's values are turned into {@code CollationKey}s, which
+ * compare as plain bit strings, the first time the person is compared and kept until the person is forgotten.
+ * Sorting the person list then costs one conversion per person, and adding a person to the sorted list costs
+ * one conversion and O(log n) cheap comparisons to find where it goes.
+ */
+public class PersonSortOrder implements Comparator<Person> {
+
+    /** The order of the address book, in which persons are not sorted at all. */
+    public static final PersonSortOrder NONE = new PersonSortOrder(List.of());
+
+    private final List<Criterion> criteria;
+    private final Collator collator = Collator.getInstance();
+    private final Map<Person, Comparable<?>[]> sortKeys = new HashMap<>();
+
+    /**
+     * Creates a {@code PersonSortOrder} ordering persons by {@code criteria}, from the most significant.
+     */
+    public PersonSortOrder(List<Criterion> criteria) {
+        requireNonNull(criteria);
+        this.criteria = List.copyOf(criteria);
+    }
+
+    /**
+     * Returns true if this order does not sort persons at all.
+     */
+    public boolean isEmpty() {
+        return criteria.isEmpty();
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        Comparable<?>[] firstKeys = getSortKeys(first);
+        Comparable<?>[] secondKeys = getSortKeys(second);
+        for (int i = 0; i < criteria.size(); i++) {
+            int comparison = compareKeys(firstKeys[i], secondKeys[i]);
+            if (comparison != 0) {
+                return criteria.get(i).isDescending && firstKeys[i] != null && secondKeys[i] != null
+                        ? -comparison
+                        : comparison;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareKeys(Comparable<?> first, Comparable<?> second) {
+        if (first == null || second == null) {
+            // persons without the attribute go last
+            return first == null ? (second == null ? 0 : 1) : -1;
+        }
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    private Comparable<?>[] getSortKeys(Person person) {
+        return sortKeys.computeIfAbsent(person, this::createSortKeys);
+    }
+
+    private Comparable<?>[] createSortKeys(Person person) {
+        Comparable<?>[] keys = new Comparable<?>[criteria.size()];
+        for (int i = 0; i < criteria.size(); i++) {
+            SortField field = criteria.get(i).field;
+            Optional<String> value = field.getValue(person);
+            if (value.isPresent()) {
+                keys[i] = field.isNumeric()
+                        ? Integer.valueOf(value.get())
+                        : collator.getCollationKey(value.get());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Drops the sort keys kept for {@code person}, such as when it is removed from the person list.
+     */
+    public void forget(Person person) {
+        sortKeys.remove(person);
+    }
+
+    /**
+     * Drops the sort keys kept for every person, such as when this order is no longer in use.
+     */
+    public void forgetAll() {
+        sortKeys.clear();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherPersonSortOrder = (PersonSortOrder) other;
+        return criteria.equals(otherPersonSortOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criteria", criteria).toString();
+    }
+
+    /**
+     * Returns a description of this order for the user, e.g. "name (ascending), age (descending)".
+     */
+    public String getDescription() {
+        return criteria.stream().map(Criterion::getDescription).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * An attribute to order persons by, and whether in descending order.
+     */
+    public static class Criterion {
+        private final SortField field;
+        private final boolean isDescending;
+
+        /**
+         * Creates a {@code Criterion} ordering persons by {@code field}, descending if {@code isDescending}.
+         */
+        public Criterion(SortField field, boolean isDescending) {
+            requireNonNull(field);
+            this.field = field;
+            this.isDescending = isDescending;
+        }
+
+        public SortField getField() {
+            return field;
+        }
+
+        public boolean isDescending() {
+            return isDescending;
+        }
+
+        private String getDescription() {
+            return field + (isDescending ? " (descending)" : " (ascending)");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Criterion)) {
+                return false;
+            }
+
+            Criterion otherCriterion = (Criterion) other;
+            return field.equals(otherCriterion.field) && isDescending == otherCriterion.isDescending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, isDescending);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("field", field)
+                    .add("isDescending", isDescending)
+                    .toString();
+        }
+    }
+}
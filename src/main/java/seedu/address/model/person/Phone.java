@@ -3,17 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
  */
 public class Phone {
 
-
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
-    public final String value;
+    /** The most digits that fit in a {@code long}. Longer phone numbers are kept as strings. */
+    private static final int MAX_PACKED_DIGITS = 18;
+
+    // the digits are packed into a number, with their count so that leading zeros are kept
+    private final long packedDigits;
+    private final int digitCount;
+    /** The phone number if it is too long to be packed, or null if it is packed. */
+    private final String unpackedValue;
 
     /**
      * Constructs a {@code Phone}.
@@ -23,7 +31,14 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = phone;
+        digitCount = phone.length();
+        if (digitCount <= MAX_PACKED_DIGITS) {
+            packedDigits = Long.parseLong(phone);
+            unpackedValue = null;
+        } else {
+            packedDigits = 0;
+            unpackedValue = phone;
+        }
     }
 
     /**
@@ -33,9 +48,20 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the phone number, as it was given.
+     */
+    public String getValue() {
+        if (unpackedValue != null) {
+            return unpackedValue;
+        }
+        String digits = Long.toString(packedDigits);
+        return digits.length() == digitCount ? digits : "0".repeat(digitCount - digits.length()) + digits;
+    }
+
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -50,16 +76,18 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return packedDigits == otherPhone.packedDigits
+                && digitCount == otherPhone.digitCount
+                && Objects.equals(unpackedValue, otherPhone.unpackedValue);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return unpackedValue != null ? unpackedValue.hashCode() : 31 * Long.hashCode(packedDigits) + digitCount;
     }
 
     public Phone getCopy() {
-        return new Phone(this.value);
+        return new Phone(getValue());
     }
 
 }
@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Finds the persons on either side of the referrals of patients to specialists without checking every person.
+ *
+ * A patient keeps the names of the specialists it is referred to, so the specialists are kept by name, and the
+ * patients referred to each specialist name are kept as well. Both the specialists of a patient and the patients of
+ * a specialist are then found in O(d) time for d referrals of the person. The index is kept up to date with a list
+ * of persons as persons are added to, removed from and replaced in it.
+ */
+public class ReferralIndex {
+
+    private final Map<Name, Person> specialistsByName = new HashMap<>();
+    private final Map<Name, Set<Person>> patientsBySpecialistName = new HashMap<>();
+
+    /**
+     * Creates a {@code ReferralIndex} of the referrals in {@code persons}, which it keeps up to date with.
+     */
+    public ReferralIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the persons referred to or from {@code person}: the specialists a patient is referred to, or the
+     * patients referred to a specialist.
+     */
+    public List<Person> getReferrals(Person person) {
+        requireNonNull(person);
+        if (person instanceof Patient) {
+            List<Person> specialists = new ArrayList<>();
+            for (Name specialistName : ((Patient) person).getReferrals()) {
+                Person specialist = specialistsByName.get(specialistName);
+                if (specialist != null) {
+                    specialists.add(specialist);
+                }
+            }
+            return specialists;
+        }
+        if (person instanceof Specialist) {
+            return new ArrayList<>(getPatientsReferredTo(person.getName()));
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns the patients referred to the specialist named {@code specialistName}.
+     */
+    public Set<Person> getPatientsReferredTo(Name specialistName) {
+        requireNonNull(specialistName);
+        return Collections.unmodifiableSet(patientsBySpecialistName.getOrDefault(specialistName, Set.of()));
+    }
+
+    private void add(Person person) {
+        if (person instanceof Specialist) {
+            specialistsByName.put(person.getName(), person);
+        } else if (person instanceof Patient) {
+            for (Name specialistName : ((Patient) person).getReferrals()) {
+                patientsBySpecialistName.computeIfAbsent(specialistName, name -> new LinkedHashSet<>()).add(person);
+            }
+        }
+    }
+
+    private void remove(Person person) {
+        if (person instanceof Specialist) {
+            specialistsByName.remove(person.getName(), person);
+        } else if (person instanceof Patient) {
+            for (Name specialistName : ((Patient) person).getReferrals()) {
+                Set<Person> patients = patientsBySpecialistName.get(specialistName);
+                patients.remove(person);
+                if (patients.isEmpty()) {
+                    patientsBySpecialistName.remove(specialistName);
+                }
+            }
+        }
+    }
+}
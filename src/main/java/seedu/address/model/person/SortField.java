@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents an attribute of a {@code Person} that the person list can be sorted by.
+ */
+public enum SortField {
+    NAME("name", person -> Optional.of(person.getName().fullName), false),
+    PHONE("phone", person -> Optional.of(person.getPhone().getValue()), false),
+    EMAIL("email", person -> Optional.of(person.getEmail().value), false),
+    AGE("age", person -> person instanceof Patient
+            ? Optional.of(((Patient) person).getAge().toString())
+            : Optional.empty(), true),
+    SPECIALTY("specialty", person -> person instanceof Specialist
+            ? Optional.of(((Specialist) person).getSpecialty().value)
+            : Optional.empty(), false),
+    LOCATION("location", person -> person instanceof Specialist
+            ? Optional.of(((Specialist) person).getLocation().value)
+            : Optional.empty(), false);
+
+    private final String description;
+    private final Function<Person, Optional<String>> valueGetter;
+    private final boolean isNumeric;
+
+    SortField(String description, Function<Person, Optional<String>> valueGetter, boolean isNumeric) {
+        this.description = description;
+        this.valueGetter = valueGetter;
+        this.isNumeric = isNumeric;
+    }
+
+    /**
+     * Returns the value of this attribute of {@code person}, or {@code Optional.empty()} if the person does not
+     * have this attribute, such as the age of a specialist.
+     */
+    public Optional<String> getValue(Person person) {
+        return valueGetter.apply(person);
+    }
+
+    /**
+     * Returns true if the values of this attribute are integers, to be compared as numbers rather than as text.
+     */
+    public boolean isNumeric() {
+        return isNumeric;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.KdTree;
+
+/**
+ * Finds the specialists nearest a place without checking every specialist.
+ *
+ * The specialists whose locations have coordinates are kept in a {@link KdTree} per specialty, over the points on
+ * the unit sphere at their coordinates, as straight-line distances between those points order specialists as
+ * distances along the surface of the Earth do. The k nearest specialists of the specialties asked for are then
+ * found in O(s (log n + k)) time for s such specialties of n specialists each. A tree is rebuilt, in
+ * O(n log^2 n) time, the first time it is searched after a specialist of its specialty is added, removed or
+ * replaced, so a run of changes costs a single rebuild. The index is kept up to date with a list of persons as
+ * persons are added to, removed from and replaced in it.
+ */
+public class SpecialistLocationIndex {
+
+    private final Map<Specialty, Set<Specialist>> specialistsBySpecialty = new HashMap<>();
+    private final Map<Specialty, KdTree<Specialist>> treesBySpecialty = new HashMap<>();
+
+    /**
+     * Creates a {@code SpecialistLocationIndex} of the specialists in {@code persons}, which it keeps up to date with.
+     */
+    public SpecialistLocationIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns up to {@code count} of the specialists nearest {@code target}, nearest first, out of those with a
+     * specialty that passes {@code specialtyTest} who pass {@code filter}. Specialists without coordinates are
+     * never found.
+     */
+    public List<Specialist> findNearest(Coordinates target, int count, Predicate<String> specialtyTest,
+            Predicate<? super Person> filter) {
+        requireAllNonNull(target, specialtyTest, filter);
+        double[] targetPoint = target.toUnitVector();
+        List<Specialist> candidates = new ArrayList<>();
+        for (Specialty specialty : specialistsBySpecialty.keySet()) {
+            if (specialtyTest.test(specialty.value)) {
+                candidates.addAll(getTree(specialty).nearest(targetPoint, count, filter));
+            }
+        }
+        // the nearest specialists of all the specialties are among the nearest of each
+        candidates.sort(Comparator.comparingDouble(specialist -> getCoordinates(specialist).distanceTo(target)));
+        return new ArrayList<>(candidates.subList(0, Math.min(count, candidates.size())));
+    }
+
+    private KdTree<Specialist> getTree(Specialty specialty) {
+        return treesBySpecialty.computeIfAbsent(specialty, unused -> new KdTree<>(
+                new ArrayList<>(specialistsBySpecialty.get(specialty)),
+                specialist -> getCoordinates(specialist).toUnitVector()));
+    }
+
+    private static Coordinates getCoordinates(Specialist specialist) {
+        return specialist.getLocation().getCoordinates().orElseThrow();
+    }
+
+    private void add(Person person) {
+        if (!(person instanceof Specialist)) {
+            return;
+        }
+        Specialist specialist = (Specialist) person;
+        if (specialist.getLocation().getCoordinates().isPresent()) {
+            specialistsBySpecialty.computeIfAbsent(specialist.getSpecialty(), unused -> new LinkedHashSet<>())
+                    .add(specialist);
+            treesBySpecialty.remove(specialist.getSpecialty());
+        }
+    }
+
+    private void remove(Person person) {
+        if (!(person instanceof Specialist)) {
+            return;
+        }
+        Specialist specialist = (Specialist) person;
+        Set<Specialist> specialists = specialistsBySpecialty.get(specialist.getSpecialty());
+        if (specialists != null && specialists.remove(specialist)) {
+            if (specialists.isEmpty()) {
+                specialistsBySpecialty.remove(specialist.getSpecialty());
+            }
+            treesBySpecialty.remove(specialist.getSpecialty());
+        }
+    }
+}
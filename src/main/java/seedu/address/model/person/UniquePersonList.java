@@ -3,10 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -24,7 +32,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -68,6 +76,36 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in the list that is a key of {@code replacements} with the person it maps to,
+     * notifying listeners of a single change.
+     * The persons replaced must all exist in the list, and the person identity of each replacement must not be
+     * the same as another existing person in the list, or none of them are replaced.
+     */
+    public void replaceAll(Map<Person, Person> replacements) {
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        Map<Person, Person> notFound = new HashMap<>(replacements);
+        List<Integer> positions = new ArrayList<>(replacements.size());
+        List<Person> editedPersons = new ArrayList<>(replacements.size());
+        for (int i = 0; i < internalList.size() && !notFound.isEmpty(); i++) {
+            Person editedPerson = notFound.remove(internalList.get(i));
+            if (editedPerson != null) {
+                positions.add(i);
+                editedPersons.add(editedPerson);
+            }
+        }
+        if (!notFound.isEmpty()) {
+            throw new PersonNotFoundException();
+        }
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isSamePerson(replacement.getValue()) && contains(replacement.getValue())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.setAll(positions, editedPersons);
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
@@ -79,6 +117,25 @@ public class UniquePersonList implements Iterable<Person> {
         }
     }
 
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, notifying listeners of a single change.
+     * The persons must all exist in the list, or none of them are removed.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> notFound = new HashSet<>(toRemove);
+        BitSet marked = new BitSet(internalList.size());
+        for (int i = 0; i < internalList.size() && !notFound.isEmpty(); i++) {
+            if (notFound.remove(internalList.get(i))) {
+                marked.set(i);
+            }
+        }
+        if (!notFound.isEmpty()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.removeMarked(marked);
+    }
+
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -136,15 +193,88 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Persons with the same identity always have the same name, so only persons with the same name are compared.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Map<Name, List<Person>> personsByName = new HashMap<>();
+        for (Person person : persons) {
+            List<Person> sameName = personsByName.computeIfAbsent(person.getName(), name -> new ArrayList<>(1));
+            if (sameName.stream().anyMatch(person::isSamePerson)) {
+                return false;
             }
+            sameName.add(person);
         }
         return true;
     }
+
+    /**
+     * An observable list of persons that can remove many persons in one pass.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final ArrayList<Person> backingList = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return backingList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return backingList.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            backingList.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return backingList.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return backingList.remove(index);
+        }
+
+        /**
+         * Replaces the person at each of {@code positions} with the person at the same place in {@code persons},
+         * and notifies listeners of all the replacements as a single change.
+         */
+        void setAll(List<Integer> positions, List<Person> persons) {
+            if (positions.isEmpty()) {
+                return;
+            }
+            beginChange();
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                nextSet(position, backingList.set(position, persons.get(i)));
+            }
+            endChange();
+        }
+
+        /**
+         * Removes the persons at the positions set in {@code marked}, moving each person kept into place once,
+         * and notifies listeners of all the removals as a single change.
+         */
+        void removeMarked(BitSet marked) {
+            if (marked.isEmpty()) {
+                return;
+            }
+            beginChange();
+            int keptCount = 0;
+            for (int i = 0; i < backingList.size(); i++) {
+                Person person = backingList.get(i);
+                if (marked.get(i)) {
+                    // positions of removals are relative to the list with the earlier removals done
+                    nextRemove(keptCount, person);
+                } else {
+                    backingList.set(keptCount++, person);
+                }
+            }
+            backingList.subList(keptCount, backingList.size()).clear();
+            endChange();
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.person.predicates;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Age;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.ColumnarPredicate;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+
+/**
+ * Tests that a {@code Patient}'s {@code Age} is in any of the age ranges given.
+ */
+public class AgeInRangesPredicate implements ColumnarPredicate {
+    private final List<AgeRange> ageRanges;
+
+    public AgeInRangesPredicate(List<AgeRange> ageRanges) {
+        this.ageRanges = ageRanges;
+    }
+
+    public List<AgeRange> getAgeRanges() {
+        return ageRanges;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!(person instanceof Patient)) {
+            return false;
+        }
+
+        // It is safe to type cast Person to Patient due to the guard clause above.
+        Patient patient = (Patient) person;
+        return ageRanges.stream()
+                .anyMatch(ageRange -> ageRange.contains(patient.getAge()));
+    }
+
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        boolean[] isAgeInRanges = new boolean[Age.MAX_AGE + 1];
+        for (int age = Age.MIN_AGE; age <= Age.MAX_AGE; age++) {
+            Age ageToTest = Age.of(age);
+            isAgeInRanges[age] = ageRanges.stream().anyMatch(ageRange -> ageRange.contains(ageToTest));
+        }
+        return row -> {
+            int age = columns.getAge(row);
+            return age != PersonColumns.NO_AGE && isAgeInRanges[age];
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgeInRangesPredicate)) {
+            return false;
+        }
+
+        AgeInRangesPredicate otherAgeInRangesPredicate = (AgeInRangesPredicate) other;
+        return ageRanges.equals(otherAgeInRangesPredicate.ageRanges);
+    }
+
+    @Override
+    public int hashCode() {
+        return ageRanges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ageRanges", ageRanges).toString();
+    }
+}
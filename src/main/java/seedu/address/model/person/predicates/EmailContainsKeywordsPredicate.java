@@ -1,16 +1,19 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements ColumnarPredicate {
 
     private final List<String> keywords;
 
@@ -24,6 +27,12 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(person.getEmail().value, keyword));
     }
 
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        Predicate<String> containsKeywords = PersonColumns.lowerCaseWordsContainAny(keywords);
+        return row -> containsKeywords.test(columns.getLowerCaseEmail(row));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -39,6 +48,11 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherEmailContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
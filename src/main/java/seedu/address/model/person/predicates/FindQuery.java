@@ -0,0 +1,244 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.CategoryIndex;
+import seedu.address.model.person.CategoryPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * A boolean combination of the predicates of a {@code find} command, such as
+ * {@code (t/diabetic OR m/hypertension) AND NOT t/discharged}.
+ *
+ * A query finds its matches in a {@link CategoryIndex} by combining the bitmaps of its terms, so that only the terms
+ * on fields that are not indexed test each person.
+ */
+public abstract class FindQuery implements CategoryPredicate {
+
+    /**
+     * Returns a query of the persons matching {@code predicate}.
+     */
+    public static FindQuery of(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return new Term(predicate);
+    }
+
+    /**
+     * Returns a query of the persons matching both {@code left} and {@code right}.
+     */
+    public static FindQuery and(FindQuery left, FindQuery right) {
+        requireAllNonNull(left, right);
+        return new And(left, right);
+    }
+
+    /**
+     * Returns a query of the persons matching either {@code left} or {@code right}.
+     */
+    public static FindQuery or(FindQuery left, FindQuery right) {
+        requireAllNonNull(left, right);
+        return new Or(left, right);
+    }
+
+    /**
+     * Returns a query of the persons not matching {@code operand}.
+     */
+    public static FindQuery not(FindQuery operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    /**
+     * Returns the predicates that must all match for this query to match, so that they can be planned apart.
+     */
+    public List<Predicate<Person>> getConjuncts() {
+        return List.of(this);
+    }
+
+    /**
+     * Returns true if the matches of this query are found from the index without testing any person.
+     */
+    public abstract boolean isIndexed();
+
+    /**
+     * A single predicate, found from the index if it is on an indexed field.
+     */
+    private static class Term extends FindQuery {
+        private final Predicate<Person> predicate;
+
+        Term(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public List<Predicate<Person>> getConjuncts() {
+            return List.of(predicate);
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return predicate instanceof CategoryPredicate;
+        }
+
+        @Override
+        public CompressedBitmap selectFrom(CategoryIndex index) {
+            if (predicate instanceof CategoryPredicate) {
+                return ((CategoryPredicate) predicate).selectFrom(index);
+            }
+            return index.getPersonsMatching(predicate);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Term && predicate.equals(((Term) other).predicate));
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+
+    private static class And extends FindQuery {
+        private final FindQuery left;
+        private final FindQuery right;
+
+        And(FindQuery left, FindQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return left.test(person) && right.test(person);
+        }
+
+        @Override
+        public List<Predicate<Person>> getConjuncts() {
+            List<Predicate<Person>> conjuncts = new ArrayList<>(left.getConjuncts());
+            conjuncts.addAll(right.getConjuncts());
+            return conjuncts;
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return left.isIndexed() && right.isIndexed();
+        }
+
+        @Override
+        public CompressedBitmap selectFrom(CategoryIndex index) {
+            return left.selectFrom(index).and(right.selectFrom(index));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And
+                    && left.equals(((And) other).left) && right.equals(((And) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("AND", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    private static class Or extends FindQuery {
+        private final FindQuery left;
+        private final FindQuery right;
+
+        Or(FindQuery left, FindQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return left.test(person) || right.test(person);
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return left.isIndexed() && right.isIndexed();
+        }
+
+        @Override
+        public CompressedBitmap selectFrom(CategoryIndex index) {
+            return left.selectFrom(index).or(right.selectFrom(index));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or
+                    && left.equals(((Or) other).left) && right.equals(((Or) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("OR", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    private static class Not extends FindQuery {
+        private final FindQuery operand;
+
+        Not(FindQuery operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return operand.isIndexed();
+        }
+
+        @Override
+        public CompressedBitmap selectFrom(CategoryIndex index) {
+            return index.getAllPersons().andNot(operand.selectFrom(index));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("NOT", operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
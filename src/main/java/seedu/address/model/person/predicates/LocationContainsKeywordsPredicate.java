@@ -1,17 +1,19 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 import seedu.address.model.person.Specialist;
 
 /**
  * Tests that a {@code Person}'s {@code Location} matches any of the keywords given.
  */
-public class LocationContainsKeywordsPredicate implements Predicate<Person> {
+public class LocationContainsKeywordsPredicate implements ColumnarPredicate {
 
     private final List<String> keywords;
 
@@ -32,6 +34,16 @@ public class LocationContainsKeywordsPredicate implements Predicate<Person> {
                         StringUtil.wordsContainSubstringIgnoreCase(specialist.getLocation().value, keyword));
     }
 
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        boolean[] isMatchingLocation = columns.getLocations().match(value -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(value, keyword)));
+        return row -> {
+            int code = columns.getLocationCode(row);
+            return code != PersonColumns.NO_CODE && isMatchingLocation[code];
+        };
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -48,6 +60,11 @@ public class LocationContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherLocationContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
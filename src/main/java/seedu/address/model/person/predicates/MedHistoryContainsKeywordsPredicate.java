@@ -1,17 +1,22 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CategoryIndex;
+import seedu.address.model.person.CategoryPredicate;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Patient}'s {@code Medical History} matches any of the keywords given.
  */
-public class MedHistoryContainsKeywordsPredicate implements Predicate<Person> {
+public class MedHistoryContainsKeywordsPredicate implements ColumnarPredicate, CategoryPredicate {
 
     private final List<String> keywords;
 
@@ -34,6 +39,20 @@ public class MedHistoryContainsKeywordsPredicate implements Predicate<Person> {
                         .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(medicalHistory.value, keyword)))
                 .reduce(false, (x, y) -> x || y);
     }
+
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        boolean[] isMatchingMedicalHistory = columns.getMedicalHistories().match(medicalHistory -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(medicalHistory, keyword)));
+        return row -> PersonColumns.containsAny(columns.getMedicalHistoryCodes(row), isMatchingMedicalHistory);
+    }
+
+    @Override
+    public CompressedBitmap selectFrom(CategoryIndex index) {
+        return index.getPersonsWithMedicalHistory(medicalHistory -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(medicalHistory, keyword)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,6 +69,11 @@ public class MedHistoryContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherMedHistoryContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
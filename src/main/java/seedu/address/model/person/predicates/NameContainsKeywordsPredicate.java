@@ -1,16 +1,19 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements ColumnarPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -23,6 +26,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        Predicate<String> containsKeywords = PersonColumns.lowerCaseWordsContainAny(keywords);
+        return row -> containsKeywords.test(columns.getLowerCaseName(row));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -38,6 +47,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
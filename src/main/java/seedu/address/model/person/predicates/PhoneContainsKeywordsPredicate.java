@@ -1,16 +1,19 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements ColumnarPredicate {
     private final List<String> keywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
@@ -20,7 +23,13 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(person.getPhone().value, keyword));
+                .anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(person.getPhone().getValue(), keyword));
+    }
+
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        Predicate<String> containsKeywords = PersonColumns.lowerCaseWordsContainAny(keywords);
+        return row -> containsKeywords.test(columns.getPhone(row));
     }
 
     @Override
@@ -38,6 +47,11 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherPhoneContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
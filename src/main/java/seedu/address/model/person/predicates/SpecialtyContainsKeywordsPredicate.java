@@ -1,17 +1,22 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CategoryIndex;
+import seedu.address.model.person.CategoryPredicate;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 import seedu.address.model.person.Specialist;
+import seedu.address.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Specialist}'s {@code Specialty} matches any of the keywords given.
  */
-public class SpecialtyContainsKeywordsPredicate implements Predicate<Person> {
+public class SpecialtyContainsKeywordsPredicate implements ColumnarPredicate, CategoryPredicate {
 
     private final List<String> keywords;
 
@@ -28,9 +33,28 @@ public class SpecialtyContainsKeywordsPredicate implements Predicate<Person> {
         // It is safe to type cast Person to Specialist due to the guard clause above.
         Specialist specialist = (Specialist) person;
 
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.wordsContainSubstringIgnoreCase(specialist.getSpecialty().value, keyword));
+        return testSpecialty(specialist.getSpecialty().value);
+    }
+
+    /**
+     * Returns true if {@code specialty} matches any of the keywords.
+     */
+    public boolean testSpecialty(String specialty) {
+        return keywords.stream().anyMatch(keyword -> StringUtil.wordsContainSubstringIgnoreCase(specialty, keyword));
+    }
+
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        boolean[] isMatchingSpecialty = columns.getSpecialties().match(this::testSpecialty);
+        return row -> {
+            int code = columns.getSpecialtyCode(row);
+            return code != PersonColumns.NO_CODE && isMatchingSpecialty[code];
+        };
+    }
+
+    @Override
+    public CompressedBitmap selectFrom(CategoryIndex index) {
+        return index.getPersonsWithSpecialty(this::testSpecialty);
     }
 
     @Override
@@ -49,6 +73,11 @@ public class SpecialtyContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherSpecialtyContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -1,16 +1,21 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CategoryIndex;
+import seedu.address.model.person.CategoryPredicate;
+import seedu.address.model.person.ColumnarPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Person}'s {@code Tags} matches any of the keywords given.
  */
-public class TagsContainsKeywordsPredicate implements Predicate<Person> {
+public class TagsContainsKeywordsPredicate implements ColumnarPredicate, CategoryPredicate {
 
     private final List<String> keywords;
 
@@ -28,6 +33,19 @@ public class TagsContainsKeywordsPredicate implements Predicate<Person> {
                 .reduce(false, (x, y) -> x || y);
     }
 
+    @Override
+    public IntPredicate bindTo(PersonColumns columns) {
+        boolean[] isMatchingTag = columns.getTags().match(tagName -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(tagName, keyword)));
+        return row -> PersonColumns.containsAny(columns.getTagCodes(row), isMatchingTag);
+    }
+
+    @Override
+    public CompressedBitmap selectFrom(CategoryIndex index) {
+        return index.getPersonsWithTag(tagName -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(tagName, keyword)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -43,6 +61,11 @@ public class TagsContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherTagsContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
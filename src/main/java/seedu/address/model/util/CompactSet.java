@@ -0,0 +1,184 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set held in a single array sorted by hash code, for the small sets kept by every person.
+ *
+ * A {@code HashSet} of two elements takes a set, a map, a table of 16 buckets and a node per element, while this
+ * takes one object and an array just long enough for its elements. Lookups binary search the hash codes, which is
+ * as fast as hashing for the handful of elements these sets hold. The hash code is computed once, on creation.
+ * Every method that would change the set throws {@code UnsupportedOperationException}.
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0]);
+    private static final Comparator<Object> HASH_ORDER = Comparator.comparingInt(Object::hashCode);
+
+    private final Object[] elements;
+    private final int hash;
+
+    private CompactSet(Object[] elements) {
+        this.elements = elements;
+        int sum = 0;
+        for (Object element : elements) {
+            sum += element.hashCode();
+        }
+        this.hash = sum;
+    }
+
+    /**
+     * Returns a {@code CompactSet} of the distinct elements in {@code elements}, none of which can be null.
+     * Returns {@code elements} itself if it is already a {@code CompactSet}, and a shared instance if it is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CompactSet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof CompactSet) {
+            return (CompactSet<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return (CompactSet<E>) EMPTY;
+        }
+
+        Object[] sortedElements = elements.toArray();
+        for (Object element : sortedElements) {
+            requireNonNull(element);
+        }
+        Arrays.sort(sortedElements, HASH_ORDER);
+
+        // equal elements have equal hash codes, so duplicates are among the elements next to each other
+        int distinctCount = 0;
+        for (Object element : sortedElements) {
+            if (!isAmongPreviousWithSameHash(sortedElements, distinctCount, element)) {
+                sortedElements[distinctCount++] = element;
+            }
+        }
+        return new CompactSet<>(distinctCount == sortedElements.length
+                ? sortedElements
+                : Arrays.copyOf(sortedElements, distinctCount));
+    }
+
+    /**
+     * Returns true if any of the first {@code count} elements of {@code sortedElements} with the same hash code as
+     * {@code element} equals it.
+     */
+    private static boolean isAmongPreviousWithSameHash(Object[] sortedElements, int count, Object element) {
+        for (int i = count - 1; i >= 0 && sortedElements[i].hashCode() == element.hashCode(); i--) {
+            if (sortedElements[i].equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        int targetHash = o.hashCode();
+        // finds the first element with the same hash code, as several elements may share it
+        int low = 0;
+        int high = elements.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements[mid].hashCode() < targetHash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < elements.length && elements[i].hashCode() == targetHash; i++) {
+            if (elements[i].equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof CompactSet && hash != ((CompactSet<?>) other).hash) {
+            return false;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,541 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative integers kept in the compressed form of a Roaring bitmap.
+ *
+ * The integers are split by their upper 16 bits into chunks of up to 65536 integers. A chunk of at most
+ * {@value #ARRAY_CONTAINER_MAX} integers is kept as a sorted array of their lower 16 bits, and a fuller chunk as a
+ * bitmap of 1024 words, so a sparse set takes two bytes per integer and a dense one a bit per integer. Combining
+ * bitmaps with {@link #and}, {@link #or} and {@link #andNot} merges arrays, or works on 64 integers at a time in
+ * the chunks that are bitmaps.
+ */
+public class CompressedBitmap {
+
+    /** The most integers a chunk holds as an array; beyond this a bitmap is smaller. */
+    static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final int WORDS_PER_BITMAP = (1 << 16) / Long.SIZE;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    /**
+     * Creates an empty {@code CompressedBitmap}.
+     */
+    public CompressedBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    private CompressedBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    /**
+     * Returns a {@code CompressedBitmap} of {@code values}, none of which can be negative.
+     */
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}, which cannot be negative.
+     */
+    public void add(int value) {
+        checkValue(value);
+        int index = indexOfKey(highBits(value));
+        if (index >= 0) {
+            containers[index] = containers[index].add(lowBits(value));
+            return;
+        }
+        insertContainer(-index - 1, highBits(value), new ArrayContainer().add(lowBits(value)));
+    }
+
+    /**
+     * Removes {@code value} if it is present.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = indexOfKey(highBits(value));
+        if (index < 0) {
+            return;
+        }
+        containers[index] = containers[index].remove(lowBits(value));
+        if (containers[index].getCardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        }
+    }
+
+    /**
+     * Returns true if {@code value} is present.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOfKey(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of integers present.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].getCardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs {@code action} on each integer present, from the least.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the integers present, from the least.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns a new bitmap of the integers present in both this bitmap and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the integers present in either this bitmap or {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendIfNotEmpty(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the integers present in this bitmap but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            result.appendIfNotEmpty(keys[i], j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this bitmap, which changes independently of it.
+     */
+    public CompressedBitmap copy() {
+        Container[] copies = new Container[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            copies[i] = containers[i].copy();
+        }
+        return new CompressedBitmap(Arrays.copyOf(keys, copies.length), copies, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        return getCardinality() == otherBitmap.getCardinality()
+                && Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Bitmaps hold only non-negative integers: " + value);
+        }
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private int indexOfKey(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.getCardinality() > 0) {
+            insertContainer(size, key, container);
+        }
+    }
+
+    /**
+     * The lower 16 bits of the integers in a chunk. Adding and removing may replace the container with one of the
+     * other kind, so callers keep the container returned.
+     */
+    private abstract static class Container {
+        abstract int getCardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Container copy();
+
+        /** Returns the integers of this container as a bitmap of 1024 words that the caller may change. */
+        abstract long[] toWords();
+
+        Container and(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                words[i] &= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        Container or(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                words[i] |= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        Container andNot(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        /** Returns the smaller of the two kinds of container of the integers in {@code words}. */
+        static Container fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_CONTAINER_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int next = 0;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[next++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+
+    /**
+     * A chunk of few integers, kept as a sorted array.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CONTAINER_MAX) {
+                return new BitmapContainer(toWords(), cardinality).add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_CONTAINER_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[WORDS_PER_BITMAP];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] / Long.SIZE] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                // keeps the values of this array that are in the other container
+                char[] result = new char[cardinality];
+                int next = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[next++] = values[i];
+                    }
+                }
+                return new ArrayContainer(result, next);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] result = new char[Math.min(cardinality, otherArray.cardinality)];
+            int next = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < otherArray.cardinality) {
+                if (values[i] < otherArray.values[j]) {
+                    i++;
+                } else if (values[i] > otherArray.values[j]) {
+                    j++;
+                } else {
+                    result[next++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, next);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer)
+                    || cardinality + ((ArrayContainer) other).cardinality > ARRAY_CONTAINER_MAX) {
+                return super.or(other);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int next = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    result[next++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[next++] = otherArray.values[j++];
+                } else {
+                    result[next++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, next);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int next = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[next++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, next);
+        }
+    }
+
+    /**
+     * A chunk of many integers, kept as a bitmap of 1024 words.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value / Long.SIZE] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            if (!contains(value)) {
+                words[value / Long.SIZE] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+            words[value / Long.SIZE] &= ~(1L << value);
+            cardinality--;
+            return cardinality > ARRAY_CONTAINER_MAX ? this : fromWords(words);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(high | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            return super.and(other);
+        }
+    }
+}
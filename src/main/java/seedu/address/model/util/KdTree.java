@@ -0,0 +1,150 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable k-d tree of elements at points in space, which finds the elements nearest a point without checking
+ * every element.
+ *
+ * The points are split at the median along each axis in turn, so the tree is balanced, and is held in arrays
+ * ordered so that the median of every range is the root of the subtree over it. A search visits the side of each
+ * split nearer the target first, and skips the far side when the split is further away than the farthest of the
+ * nearest elements found so far, so the k nearest elements are found in O(log n + k) time for n well-spread
+ * elements. Building the tree takes O(n log^2 n) time.
+ */
+public final class KdTree<T> {
+
+    private final Object[] elements;
+    private final double[][] points;
+    private final int dimensions;
+
+    /**
+     * Builds a {@code KdTree} of {@code elements}, each at the point given by {@code toPoint}. All points must have
+     * the same number of dimensions.
+     */
+    public KdTree(List<? extends T> elements, Function<? super T, double[]> toPoint) {
+        requireNonNull(elements);
+        requireNonNull(toPoint);
+        int size = elements.size();
+        Integer[] order = new Integer[size];
+        double[][] unorderedPoints = new double[size][];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            unorderedPoints[i] = toPoint.apply(elements.get(i)).clone();
+        }
+        dimensions = size == 0 ? 0 : unorderedPoints[0].length;
+        for (double[] point : unorderedPoints) {
+            if (point.length != dimensions) {
+                throw new IllegalArgumentException("All points must have the same number of dimensions");
+            }
+        }
+
+        build(order, unorderedPoints, 0, size, 0);
+        this.elements = new Object[size];
+        this.points = new double[size][];
+        for (int i = 0; i < size; i++) {
+            this.elements[i] = elements.get(order[i]);
+            this.points[i] = unorderedPoints[order[i]];
+        }
+    }
+
+    /**
+     * Orders {@code order[from, to)} so that its middle is the median along the axis of {@code depth}, with the
+     * points before it no greater and the points after it no smaller along that axis, and each side is ordered
+     * likewise along the next axis.
+     */
+    private void build(Integer[] order, double[][] unorderedPoints, int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = depth % dimensions;
+        Arrays.sort(order, from, to, Comparator.comparingDouble(i -> unorderedPoints[i][axis]));
+        int middle = (from + to) >>> 1;
+        build(order, unorderedPoints, from, middle, depth + 1);
+        build(order, unorderedPoints, middle + 1, to, depth + 1);
+    }
+
+    /**
+     * Returns up to {@code count} of the elements that pass {@code filter} nearest {@code target}, nearest first.
+     * Elements that do not pass the filter are skipped, so they do not take the place of any that do.
+     */
+    public List<T> nearest(double[] target, int count, Predicate<? super T> filter) {
+        requireNonNull(target);
+        requireNonNull(filter);
+        if (count <= 0 || elements.length == 0) {
+            return new ArrayList<>();
+        }
+        if (target.length != dimensions) {
+            throw new IllegalArgumentException("The target must have as many dimensions as the points");
+        }
+
+        // the farthest of the nearest elements found so far is at the head, to be replaced by any nearer one
+        PriorityQueue<Integer> nearest = new PriorityQueue<>(count + 1,
+                Comparator.comparingDouble((Integer i) -> squaredDistance(points[i], target)).reversed());
+        search(target, count, filter, nearest, 0, elements.length, 0);
+
+        List<T> result = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            result.add(elementAt(nearest.poll()));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void search(double[] target, int count, Predicate<? super T> filter, PriorityQueue<Integer> nearest,
+            int from, int to, int depth) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        if (filter.test(elementAt(middle))) {
+            nearest.add(middle);
+            if (nearest.size() > count) {
+                nearest.poll();
+            }
+        }
+
+        int axis = depth % dimensions;
+        double offset = target[axis] - points[middle][axis];
+        boolean isTargetBefore = offset < 0;
+        if (isTargetBefore) {
+            search(target, count, filter, nearest, from, middle, depth + 1);
+        } else {
+            search(target, count, filter, nearest, middle + 1, to, depth + 1);
+        }
+        if (nearest.size() < count || offset * offset < squaredDistance(points[nearest.peek()], target)) {
+            if (isTargetBefore) {
+                search(target, count, filter, nearest, middle + 1, to, depth + 1);
+            } else {
+                search(target, count, filter, nearest, from, middle, depth + 1);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private static double squaredDistance(double[] point, double[] other) {
+        double sum = 0;
+        for (int axis = 0; axis < point.length; axis++) {
+            double difference = point[axis] - other[axis];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    public int size() {
+        return elements.length;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Age;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.MedicalHistory;
@@ -27,17 +28,18 @@ public class SampleDataUtil {
             new Patient(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 getTagSet("friends"), new Age("24"), getMedicalHistorySet("Diabetes")),
             new Specialist(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Location("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
+                new Location("Blk 30 Lorong 3 Serangoon Gardens, #07-18", new Coordinates("1.3644,103.8655")),
                 getTagSet("colleagues", "friends"), new Specialty("Physiotherapist")),
             new Patient(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 getTagSet("neighbours"), new Age("114"), getMedicalHistorySet("Anemia")),
             new Patient(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                getTagSet("family"), new Age("9"), getMedicalHistorySet("Osteoporosis")),
+                getTagSet("family"), new Age("9"), getMedicalHistorySet("Osteoporosis"),
+                Set.of(new Name("Irfan Ibrahim"))),
             new Specialist(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Location("Blk 47 Tampines Street 20, #17-35"),
+                new Location("Blk 47 Tampines Street 20, #17-35", new Coordinates("1.3541,103.9452")),
                 getTagSet("classmates"), new Specialty("Orthopaedic")),
             new Specialist(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Location("Blk 45 Aljunied Street 85, #11-31"),
+                new Location("Blk 45 Aljunied Street 85, #11-31", new Coordinates("1.3187,103.8850")),
                 getTagSet("colleagues"), new Specialty("Dermatology"))
         };
     }
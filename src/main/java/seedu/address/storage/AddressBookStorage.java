@@ -30,6 +30,13 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns AddressBook data from the binary snapshot kept alongside the data file.
+     * Returns {@code Optional.empty()} if the snapshot is not found, is out of date with the data file,
+     * or could not be loaded, in which case the data file should be read with {@link #readAddressBook()} instead.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookSnapshot();
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,371 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
+import seedu.address.model.person.Age;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Location;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Specialist;
+import seedu.address.model.person.Specialty;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes a compact binary snapshot of an address book, kept alongside its JSON data file so that
+ *   large address books can be loaded without parsing JSON.
+ * <p>
+ * Every distinct string is stored once in a string table, and records refer to strings by their index. The
+ *   snapshot is stamped with the size and modification time of the JSON file it was written with, and is
+ *   considered stale once the JSON file no longer matches the stamp. A CRC32 checksum of the whole file is
+ *   stored at the end.
+ * <pre>
+ * int magic, short version, long sourceSize, long sourceModifiedMillis
+ * int stringCount, then for each string: int byteLength, UTF-8 bytes
+ * int patientCount, then for each patient: int name, phone, email, age, int tagCount, int[] tags,
+ *     int medicalHistoryCount, int[] medicalHistories, int referralCount, int[] referredSpecialistNames
+ * int specialistCount, then for each specialist: int name, phone, email, int tagCount, int[] tags, int location,
+ *     coordinates (-1 if none), specialty
+ * int appointmentCount, then for each appointment: int patientName, specialistName,
+ *     long startEpochSecond, endEpochSecond, taking the times as UTC
+ * long crc32 of all preceding bytes
+ * </pre>
+ */
+class BinaryAddressBookSnapshot {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".snap";
+
+    static final int MAGIC = 0x44435350; // "DCSP"
+    static final short VERSION = 4;
+
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+    /** The index written in place of a string that is absent. */
+    private static final int NO_STRING = -1;
+
+    /**
+     * Returns the path of the snapshot kept alongside the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getSnapshotPath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} to {@code snapshotPath}, stamped with the current size and
+     * modification time of {@code jsonFilePath}. The snapshot is written to a temporary file first, and then
+     * moved into place, so a partially written snapshot is never read.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path jsonFilePath, Path snapshotPath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(jsonFilePath);
+        requireNonNull(snapshotPath);
+
+        BasicFileAttributes jsonAttributes = Files.readAttributes(jsonFilePath, BasicFileAttributes.class);
+        StringTable strings = new StringTable();
+        List<Patient> patients = new ArrayList<>();
+        List<Specialist> specialists = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            strings.add(person.getName().fullName);
+            strings.add(person.getPhone().getValue());
+            strings.add(person.getEmail().value);
+            person.getTags().forEach(tag -> strings.add(tag.tagName));
+            if (person instanceof Patient) {
+                Patient patient = (Patient) person;
+                strings.add(patient.getAge().toString());
+                patient.getMedicalHistory().forEach(history -> strings.add(history.value));
+                patient.getReferrals().forEach(specialistName -> strings.add(specialistName.fullName));
+                patients.add(patient);
+            } else if (person instanceof Specialist) {
+                Specialist specialist = (Specialist) person;
+                strings.add(specialist.getLocation().value);
+                specialist.getLocation().getCoordinates().ifPresent(coordinates -> strings.add(coordinates.toString()));
+                strings.add(specialist.getSpecialty().value);
+                specialists.add(specialist);
+            }
+        }
+        List<Appointment> appointments = addressBook.getAppointmentList();
+        for (Appointment appointment : appointments) {
+            strings.add(appointment.getPatientName().fullName);
+            strings.add(appointment.getSpecialistName().fullName);
+        }
+
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(
+                Files.newOutputStream(tempPath), checksum)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(jsonAttributes.size());
+            out.writeLong(jsonAttributes.lastModifiedTime().toMillis());
+
+            out.writeInt(strings.size());
+            for (String string : strings.getStrings()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(patients.size());
+            for (Patient patient : patients) {
+                writePersonFields(out, strings, patient);
+                out.writeInt(strings.indexOf(patient.getAge().toString()));
+                out.writeInt(patient.getMedicalHistory().size());
+                for (MedicalHistory history : patient.getMedicalHistory()) {
+                    out.writeInt(strings.indexOf(history.value));
+                }
+                out.writeInt(patient.getReferrals().size());
+                for (Name specialistName : patient.getReferrals()) {
+                    out.writeInt(strings.indexOf(specialistName.fullName));
+                }
+            }
+
+            out.writeInt(specialists.size());
+            for (Specialist specialist : specialists) {
+                writePersonFields(out, strings, specialist);
+                out.writeInt(strings.indexOf(specialist.getLocation().value));
+                out.writeInt(specialist.getLocation().getCoordinates()
+                        .map(coordinates -> strings.indexOf(coordinates.toString())).orElse(NO_STRING));
+                out.writeInt(strings.indexOf(specialist.getSpecialty().value));
+            }
+
+            out.writeInt(appointments.size());
+            for (Appointment appointment : appointments) {
+                out.writeInt(strings.indexOf(appointment.getPatientName().fullName));
+                out.writeInt(strings.indexOf(appointment.getSpecialistName().fullName));
+                out.writeLong(appointment.getStart().toEpochSecond(ZoneOffset.UTC));
+                out.writeLong(appointment.getEnd().toEpochSecond(ZoneOffset.UTC));
+            }
+
+            // flushing passes everything written so far through the checksum, which covers everything before it
+            out.flush();
+            out.writeLong(checksum.getValue());
+        }
+        FileUtil.moveIntoPlace(tempPath, snapshotPath);
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotPath} through a memory-mapped buffer.
+     * Returns {@code Optional.empty()} if the snapshot is not found, or if it is not stamped with the current
+     * size and modification time of {@code jsonFilePath}.
+     *
+     * @throws DataLoadingException if the snapshot is corrupted or its data violates any constraints.
+     */
+    public static Optional<ReadOnlyAddressBook> read(Path jsonFilePath, Path snapshotPath)
+            throws DataLoadingException {
+        requireNonNull(jsonFilePath);
+        requireNonNull(snapshotPath);
+
+        if (!Files.isRegularFile(snapshotPath) || !Files.isRegularFile(jsonFilePath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < CHECKSUM_BYTES || size > Integer.MAX_VALUE) {
+                throw new DataLoadingException(new IOException("Snapshot has an invalid size: " + size));
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            verifyChecksum(buffer);
+
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new DataLoadingException(new IOException("Snapshot has an unknown format"));
+            }
+            BasicFileAttributes jsonAttributes = Files.readAttributes(jsonFilePath, BasicFileAttributes.class);
+            if (buffer.getLong() != jsonAttributes.size()
+                    || buffer.getLong() != jsonAttributes.lastModifiedTime().toMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(readAddressBook(buffer));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new DataLoadingException(e);
+        } catch (IllegalArgumentException | DateTimeException | AppointmentConflictException e) {
+            // the constructors of the value classes reject invalid values with IllegalArgumentException, times out
+            // of range are rejected with DateTimeException, and overlapping appointments are rejected as conflicts
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static void writePersonFields(DataOutputStream out, StringTable strings, Person person)
+            throws IOException {
+        out.writeInt(strings.indexOf(person.getName().fullName));
+        out.writeInt(strings.indexOf(person.getPhone().getValue()));
+        out.writeInt(strings.indexOf(person.getEmail().value));
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(strings.indexOf(tag.tagName));
+        }
+    }
+
+    private static void verifyChecksum(MappedByteBuffer buffer) throws DataLoadingException {
+        int checksumPosition = buffer.limit() - CHECKSUM_BYTES;
+        ByteBuffer content = buffer.duplicate();
+        content.limit(checksumPosition);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if (checksum.getValue() != buffer.getLong(checksumPosition)) {
+            throw new DataLoadingException(new IOException("Snapshot checksum does not match"));
+        }
+        buffer.limit(checksumPosition);
+    }
+
+    private static AddressBook readAddressBook(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        // Equal strings share one value object, so each distinct value is only validated once.
+        ValueTable<Name> names = new ValueTable<>(strings, Name::new);
+        ValueTable<Phone> phones = new ValueTable<>(strings, Phone::new);
+        ValueTable<Email> emails = new ValueTable<>(strings, Email::new);
+        ValueTable<Tag> tags = new ValueTable<>(strings, Tag::new);
+        ValueTable<Age> ages = new ValueTable<>(strings, Age::new);
+        ValueTable<MedicalHistory> histories = new ValueTable<>(strings, MedicalHistory::new);
+        ValueTable<Location> locations = new ValueTable<>(strings, Location::new);
+        ValueTable<Coordinates> coordinates = new ValueTable<>(strings, Coordinates::new);
+        ValueTable<Specialty> specialties = new ValueTable<>(strings, Specialty::new);
+
+        List<Person> persons = new ArrayList<>();
+        int patientCount = buffer.getInt();
+        for (int i = 0; i < patientCount; i++) {
+            Name name = names.get(buffer.getInt());
+            Phone phone = phones.get(buffer.getInt());
+            Email email = emails.get(buffer.getInt());
+            Set<Tag> personTags = readSet(buffer, tags);
+            Age age = ages.get(buffer.getInt());
+            Set<MedicalHistory> medicalHistory = readSet(buffer, histories);
+            Set<Name> referrals = readSet(buffer, names);
+            persons.add(new Patient(name, phone, email, personTags, age, medicalHistory, referrals));
+        }
+        int specialistCount = buffer.getInt();
+        for (int i = 0; i < specialistCount; i++) {
+            Name name = names.get(buffer.getInt());
+            Phone phone = phones.get(buffer.getInt());
+            Email email = emails.get(buffer.getInt());
+            Set<Tag> personTags = readSet(buffer, tags);
+            Location location = locations.get(buffer.getInt());
+            int coordinatesIndex = buffer.getInt();
+            if (coordinatesIndex != NO_STRING) {
+                location = location.withCoordinates(coordinates.get(coordinatesIndex));
+            }
+            Specialty specialty = specialties.get(buffer.getInt());
+            persons.add(new Specialist(name, phone, email, location, personTags, specialty));
+        }
+        List<Appointment> appointments = new ArrayList<>();
+        int appointmentCount = buffer.getInt();
+        for (int i = 0; i < appointmentCount; i++) {
+            Name patientName = names.get(buffer.getInt());
+            Name specialistName = names.get(buffer.getInt());
+            LocalDateTime start = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            LocalDateTime end = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            appointments.add(new Appointment(patientName, specialistName, new TimeSlot(start, end)));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Snapshot has unexpected trailing data");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setAppointments(appointments);
+        return addressBook;
+    }
+
+    private static <T> Set<T> readSet(ByteBuffer buffer, ValueTable<T> values) {
+        int count = buffer.getInt();
+        Set<T> set = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            set.add(values.get(buffer.getInt()));
+        }
+        return set;
+    }
+
+    /**
+     * Assigns each distinct string an index, in the order they are first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        void add(String string) {
+            indexes.computeIfAbsent(string, s -> {
+                strings.add(s);
+                return strings.size() - 1;
+            });
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+
+        int size() {
+            return strings.size();
+        }
+
+        List<String> getStrings() {
+            return strings;
+        }
+    }
+
+    /**
+     * Creates the value object of each string in a string table when first needed, and reuses it afterwards.
+     */
+    private static class ValueTable<T> {
+        private final String[] strings;
+        private final Object[] values;
+        private final Function<String, T> factory;
+
+        ValueTable(String[] strings, Function<String, T> factory) {
+            this.strings = strings;
+            this.values = new Object[strings.length];
+            this.factory = factory;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            if (values[index] == null) {
+                values[index] = factory.apply(strings[index]);
+            }
+            return (T) values[index];
+        }
+    }
+}
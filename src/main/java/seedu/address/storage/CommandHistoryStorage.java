@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Represents a storage for the command strings in {@link seedu.address.model.CommandStringStash}.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the stored command strings, from least to most recently entered, including any duplicates.
+     * Returns an empty list if the storage file is not found.
+     *
+     * @throws DataLoadingException if loading the command history failed.
+     */
+    List<String> readCommandHistory() throws DataLoadingException;
+
+    /**
+     * Adds {@code commandString} to the end of the stored command history.
+     * @param commandString cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandString(String commandString) throws IOException;
+
+    /**
+     * Replaces the stored command history with {@code commandStrings}, from least to most recently entered.
+     * @param commandStrings cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveCommandHistory(List<String> commandStrings) throws IOException;
+
+}
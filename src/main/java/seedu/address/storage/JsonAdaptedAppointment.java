@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Name;
+
+/**
+ * Jackson-friendly version of {@link Appointment}.
+ */
+class JsonAdaptedAppointment {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment's %s field is missing!";
+
+    private final String patient;
+    private final String specialist;
+    private final String start;
+    private final String end;
+
+    /**
+     * Constructs a {@code JsonAdaptedAppointment} with the given appointment details.
+     */
+    @JsonCreator
+    public JsonAdaptedAppointment(@JsonProperty("patient") String patient,
+                                  @JsonProperty("specialist") String specialist,
+                                  @JsonProperty("start") String start, @JsonProperty("end") String end) {
+        this.patient = patient;
+        this.specialist = specialist;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Converts a given {@code Appointment} into this class for Jackson use.
+     */
+    public JsonAdaptedAppointment(Appointment source) {
+        patient = source.getPatientName().fullName;
+        specialist = source.getSpecialistName().fullName;
+        start = source.getStart().format(TimeSlot.DATE_TIME_FORMATTER);
+        end = source.getEnd().format(TimeSlot.DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted appointment object into the model's {@code Appointment} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted appointment.
+     */
+    public Appointment toModelType() throws IllegalValueException {
+        Name patientName = toName(patient, "patient");
+        Name specialistName = toName(specialist, "specialist");
+        LocalDateTime startTime = toDateTime(start, "start");
+        LocalDateTime endTime = toDateTime(end, "end");
+        if (!TimeSlot.isValidTimeSlot(startTime, endTime)) {
+            throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
+        }
+        return new Appointment(patientName, specialistName, new TimeSlot(startTime, endTime));
+    }
+
+    private static Name toName(String name, String fieldName) throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private static LocalDateTime toDateTime(String dateTime, String fieldName) throws IllegalValueException {
+        if (dateTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        try {
+            return LocalDateTime.parse(dateTime, TimeSlot.DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(TimeSlot.MESSAGE_DATE_TIME_CONSTRAINTS);
+        }
+    }
+}
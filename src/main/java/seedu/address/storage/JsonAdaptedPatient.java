@@ -21,31 +21,48 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPatient extends JsonAdaptedPerson {
     private final String age;
     private final List<JsonAdaptedMedicalHistory> medicalHistory = new ArrayList<>();
+    private final List<String> referrals = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPatient} with the given patient details.
+     * Data files written before referrals were added have no referrals.
+     */
     @JsonCreator
     public JsonAdaptedPatient(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
 
                              @JsonProperty("email") String email,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("age") String age,
-                              @JsonProperty("MedicalHistory") List<JsonAdaptedMedicalHistory> medicalHistory) {
+                              @JsonProperty("MedicalHistory") List<JsonAdaptedMedicalHistory> medicalHistory,
+                              @JsonProperty("referrals") List<String> referrals) {
         super(name, phone, email, tags);
         this.age = age;
         if (medicalHistory != null) {
             this.medicalHistory.addAll(medicalHistory);
         }
+        if (referrals != null) {
+            this.referrals.addAll(referrals);
+        }
     }
 
     public JsonAdaptedPatient(Patient source) {
         super(source);
-        this.age = source.getAge().value;
+        this.age = source.getAge().toString();
         medicalHistory.addAll(source.getMedicalHistory().stream()
                 .map(JsonAdaptedMedicalHistory::new)
                 .collect(Collectors.toList()));
+        referrals.addAll(source.getReferrals().stream()
+                .map(specialistName -> specialistName.fullName)
+                .collect(Collectors.toList()));
     }
 
     public List<JsonAdaptedMedicalHistory> getMedicalHistory() throws IllegalValueException {
         return medicalHistory;
     }
 
+    public List<String> getReferrals() {
+        return referrals;
+    }
+
     public String getAge() throws IllegalValueException {
         if (age == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -80,8 +97,16 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Age age = new Age(getAge());
         final Set<MedicalHistory> medicalHistory = new HashSet<>(patientMedicalHistory);
+        final Set<Name> referredSpecialistNames = new HashSet<>();
+        for (String specialistName : getReferrals()) {
+            if (!Name.isValidName(specialistName)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            referredSpecialistNames.add(new Name(specialistName));
+        }
 
-        return new Patient(modelName, modelPhone, modelEmail, modelTags, age, medicalHistory);
+        return new Patient(modelName, modelPhone, modelEmail, modelTags, age, medicalHistory,
+                referredSpecialistNames);
 
     }
 }
@@ -5,9 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Name;
@@ -19,18 +21,23 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedSpecialist extends JsonAdaptedPerson {
     private final String specialty;
     private final String location;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String coordinates;
 
     public JsonAdaptedSpecialist(Specialist source) {
         super(source);
         specialty = source.getSpecialty().value;
         location = source.getLocation().value;
+        coordinates = source.getLocation().getCoordinates().map(Coordinates::toString).orElse(null);
     }
     public JsonAdaptedSpecialist(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
                                  @JsonProperty("email") String email, @JsonProperty("location") String location,
+                                 @JsonProperty("coordinates") String coordinates,
                                  @JsonProperty("tags") List<JsonAdaptedTag> tags,
                                  @JsonProperty("Specialty") String specialty) {
         super(name, phone, email, tags);
         this.location = location;
+        this.coordinates = coordinates;
         this.specialty = specialty;
     }
     public String getLocation() throws IllegalValueException {
@@ -44,6 +51,19 @@ class JsonAdaptedSpecialist extends JsonAdaptedPerson {
         return location;
     }
 
+    /**
+     * Returns the coordinates of the location, or null if they are not known.
+     */
+    public Coordinates getCoordinates() throws IllegalValueException {
+        if (coordinates == null) {
+            return null;
+        }
+        if (!Coordinates.isValidCoordinates(coordinates)) {
+            throw new IllegalValueException(Coordinates.MESSAGE_CONSTRAINTS);
+        }
+        return new Coordinates(coordinates);
+    }
+
     public String getSpecialty() throws IllegalValueException {
         if (specialty == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -71,7 +91,7 @@ class JsonAdaptedSpecialist extends JsonAdaptedPerson {
         final Name modelName = new Name(getName());
         final Phone modelPhone = new Phone(getPhone());
         final Email modelEmail = new Email(getEmail());
-        final Location modelLocation = new Location(getLocation());
+        final Location modelLocation = new Location(getLocation(), getCoordinates());
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Specialty modelSpecialty = new Specialty(getSpecialty());
 
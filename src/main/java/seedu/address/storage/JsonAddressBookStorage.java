@@ -3,8 +3,10 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.LogUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -54,11 +57,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         try {
             return Optional.of(jsonAddressBook.get().toModelType());
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            LogUtil.log(logger, Level.INFO, "Illegal values found", "filePath", filePath, "error", ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookSnapshot() {
+        Path snapshotPath = BinaryAddressBookSnapshot.getSnapshotPath(filePath);
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = BinaryAddressBookSnapshot.read(filePath, snapshotPath);
+            if (addressBook.isPresent()) {
+                LogUtil.log(logger, Level.INFO, "Loaded snapshot", "snapshotPath", snapshotPath);
+            }
+            return addressBook;
+        } catch (DataLoadingException e) {
+            LogUtil.log(logger, Level.WARNING, "Snapshot could not be loaded", "snapshotPath", snapshotPath,
+                    "error", e.getCause());
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -75,6 +94,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        saveSnapshot(addressBook, filePath);
+    }
+
+    /**
+     * Saves a binary snapshot of {@code addressBook} alongside the JSON data file at {@code filePath}.
+     * The snapshot only speeds up loading, so failing to save it is logged rather than reported to the user.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) {
+        Path snapshotPath = BinaryAddressBookSnapshot.getSnapshotPath(filePath);
+        try {
+            BinaryAddressBookSnapshot.write(addressBook, filePath, snapshotPath);
+        } catch (IOException e) {
+            LogUtil.log(logger, Level.WARNING, "Snapshot could not be saved", "snapshotPath", snapshotPath,
+                    "error", e);
+            try {
+                // a leftover snapshot could still match the data file if it was saved within the same instant
+                Files.deleteIfExists(snapshotPath);
+            } catch (IOException deleteException) {
+                LogUtil.log(logger, Level.WARNING, "Snapshot could not be deleted", "snapshotPath", snapshotPath,
+                        "error", deleteException);
+            }
+        }
     }
 
 }
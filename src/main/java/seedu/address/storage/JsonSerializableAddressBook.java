@@ -5,12 +5,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Specialist;
@@ -22,18 +25,27 @@ import seedu.address.model.person.Specialist;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_CONFLICTING_APPOINTMENTS =
+            "Appointments list contains overlapping appointments of the same person.";
 
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
     private final List<JsonAdaptedSpecialist> specialists = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and appointments.
+     * Data saved before appointments were kept has no appointments.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("patients") List<JsonAdaptedPatient> patients,
-                                       @JsonProperty("specialists") List<JsonAdaptedSpecialist> specialists) {
+                                       @JsonProperty("specialists") List<JsonAdaptedSpecialist> specialists,
+                                       @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
         this.patients.addAll(patients);
         this.specialists.addAll(specialists);
+        if (appointments != null) {
+            this.appointments.addAll(appointments);
+        }
     }
 
     /**
@@ -42,18 +54,39 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        patients.addAll(source.getPersonList().stream()
+        this(source.getPersonList(), source.getAppointmentList());
+    }
+
+    /**
+     * Converts the given {@code persons}, without appointments, into this class for Jackson use.
+     *
+     * @param persons future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(List<Person> persons) {
+        this(persons, List.of());
+    }
+
+    /**
+     * Converts the given {@code persons} and {@code appointments} into this class for Jackson use.
+     *
+     * @param persons future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     * @param appointments future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(List<Person> persons, List<Appointment> appointments) {
+        patients.addAll(persons.stream()
                 .filter(p -> p instanceof Patient)
                 .map(p -> new JsonAdaptedPatient((Patient) p))
                 .collect(Collectors.toList()));
-        specialists.addAll(source.getPersonList().stream()
+        specialists.addAll(persons.stream()
                 .filter(p -> p instanceof Specialist)
                 .map(p -> new JsonAdaptedSpecialist((Specialist) p))
                 .collect(Collectors.toList()));
+        this.appointments.addAll(appointments.stream().map(JsonAdaptedAppointment::new).collect(Collectors.toList()));
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Appointments of persons not in this address book are left out.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
@@ -73,7 +106,26 @@ class JsonSerializableAddressBook {
             }
             addressBook.addPerson(person);
         }
+        try {
+            addressBook.setAppointments(toModelAppointments());
+        } catch (AppointmentConflictException e) {
+            throw new IllegalValueException(MESSAGE_CONFLICTING_APPOINTMENTS);
+        }
         return addressBook;
     }
 
+    /**
+     * Converts the appointments of this address book into the model's {@code Appointment} objects, whether or not
+     * their persons are in this address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Appointment> toModelAppointments() throws IllegalValueException {
+        List<Appointment> modelAppointments = new ArrayList<>();
+        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
+            modelAppointments.add(jsonAdaptedAppointment.toModelType());
+        }
+        return modelAppointments;
+    }
+
 }
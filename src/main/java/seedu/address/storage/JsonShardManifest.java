@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.PersonType;
+
+/**
+ * Ties together the shard files of a sharded address book, and is serializable to JSON format.
+ * Each save that rewrites any shard bumps the generation, which is part of the rewritten shards' file names,
+ * so the shard files listed by an older manifest are never overwritten.
+ * The appointments are kept in one more file, which is only listed if there are any appointments.
+ */
+@JsonRootName(value = "manifest")
+class JsonShardManifest {
+
+    public static final int VERSION = 1;
+    public static final String MESSAGE_INVALID_MANIFEST = "Shard manifest is invalid.";
+
+    private final int version;
+    private final long generation;
+    private final int bucketCount;
+    private final List<Shard> shards = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String appointments;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details, and no appointments.
+     */
+    public JsonShardManifest(int version, long generation, int bucketCount, List<Shard> shards) {
+        this(version, generation, bucketCount, shards, null);
+    }
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details. {@code appointments} is the name of the file
+     * holding the appointments, or null if there are none.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version, @JsonProperty("generation") long generation,
+                             @JsonProperty("bucketCount") int bucketCount,
+                             @JsonProperty("shards") List<Shard> shards,
+                             @JsonProperty("appointments") String appointments) {
+        this.version = version;
+        this.generation = generation;
+        this.bucketCount = bucketCount;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        this.appointments = appointments;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Returns the shards ordered by type, then by bucket.
+     */
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the name of the file holding the appointments, if there are any appointments.
+     */
+    public Optional<String> getAppointmentsFile() {
+        return Optional.ofNullable(appointments);
+    }
+
+    /**
+     * Returns the names of all the files listed: the shard files, then the appointments file if there is one.
+     */
+    public List<String> getFiles() {
+        List<String> files = shards.stream().map(Shard::getFile).collect(Collectors.toList());
+        getAppointmentsFile().ifPresent(files::add);
+        return files;
+    }
+
+    /**
+     * Checks that this manifest lists exactly one shard for each bucket of each {@code PersonType}, in order,
+     * and that every file it lists is in the same directory as the manifest.
+     *
+     * @throws IllegalValueException if any of these do not hold.
+     */
+    public void validate() throws IllegalValueException {
+        if (version != VERSION || bucketCount < 1
+                || shards.size() != PersonType.values().length * bucketCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            if (shard.type != PersonType.values()[i / bucketCount] || shard.bucket != i % bucketCount
+                    || !isPlainFileName(shard.file)) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+        if (appointments != null && !isPlainFileName(appointments)) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+    }
+
+    private static boolean isPlainFileName(String file) {
+        try {
+            return file != null && Paths.get(file).equals(Paths.get(file).getFileName());
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    /**
+     * One file holding the persons of a type that hash to a bucket.
+     */
+    static class Shard {
+        private final PersonType type;
+        private final int bucket;
+        private final String file;
+
+        /**
+         * Constructs a {@code Shard} with the given details.
+         */
+        @JsonCreator
+        public Shard(@JsonProperty("type") PersonType type, @JsonProperty("bucket") int bucket,
+                     @JsonProperty("file") String file) {
+            this.type = type;
+            this.bucket = bucket;
+            this.file = file;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the path of this shard's file, which is in the same directory as {@code manifestPath}.
+         */
+        public Path resolve(Path manifestPath) {
+            return manifestPath.resolveSibling(file);
+        }
+    }
+}
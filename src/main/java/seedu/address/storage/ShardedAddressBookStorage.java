@@ -0,0 +1,395 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.LogUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as several json files on the hard disk, one for each bucket of each
+ * {@code PersonType}. A person's bucket is chosen by hashing their name.
+ * A manifest file lists the current shard files. Only the shards holding changed persons are rewritten when saving,
+ * and the manifest is replaced atomically afterwards, so the shards it lists always belong to the same save.
+ * The appointments are kept in a file of their own, which is only rewritten when they have changed.
+ *
+ * The given file path names the address book as in the single-file layout, e.g. {@code data/addressbook.json},
+ * and the manifest and shards are stored alongside it, e.g. {@code data/addressbook.manifest.json}.
+ * If there is no manifest but there is a single data file at that path, the data file is read instead, and is
+ * migrated to shards by the next save, which saves every shard as there is no manifest yet. Reading never writes.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %1$s is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String JSON_EXTENSION = ".json";
+    private static final String MANIFEST_SUFFIX = ".manifest" + JSON_EXTENSION;
+    private static final String APPOINTMENTS_INFIX = ".appointments.";
+
+    private final Path filePath;
+    private final int bucketCount;
+
+    /** The manifest last read from or written to {@code lastManifestPath}, if it is known to be the current one. */
+    private JsonShardManifest lastManifest;
+    private Path lastManifestPath;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} splitting each type of person into {@code bucketCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int bucketCount) {
+        requireNonNull(filePath);
+        checkArgument(bucketCount >= 1, "Bucket count must be positive.");
+        this.filePath = filePath;
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * Returns the path of the manifest of the address book named by {@code filePath}.
+     */
+    public static Path getManifestPath(Path filePath) {
+        return filePath.resolveSibling(getFileNameStem(filePath) + MANIFEST_SUFFIX);
+    }
+
+    private static String getFileNameStem(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        return fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path manifestPath = getManifestPath(filePath);
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+        if (manifest.isPresent()) {
+            return Optional.of(readShards(manifestPath, manifest.get()));
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            LogUtil.log(logger, Level.INFO, "Read single data file, to be migrated to shards on the next save",
+                    "filePath", filePath);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads all the shards listed by {@code manifest} in parallel, then the appointments.
+     */
+    private ReadOnlyAddressBook readShards(Path manifestPath, JsonShardManifest manifest)
+            throws DataLoadingException {
+        try {
+            manifest.validate();
+        } catch (IllegalValueException ive) {
+            throw new DataLoadingException(ive);
+        }
+
+        List<JsonShardManifest.Shard> shards = manifest.getShards();
+        List<Callable<List<Person>>> tasks = shards.stream()
+                .map(shard -> (Callable<List<Person>>) () -> readShard(shard.resolve(manifestPath)))
+                .collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(shards.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "shard-reader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        List<Person> persons = new ArrayList<>();
+        boolean isEveryPersonInItsShard = true;
+        try {
+            List<Future<List<Person>>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                List<Person> shardPersons = results.get(i).get();
+                for (Person person : shardPersons) {
+                    isEveryPersonInItsShard &= getShardIndex(person, manifest.getBucketCount()) == i;
+                }
+                persons.addAll(shardPersons);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        if (manifest.getAppointmentsFile().isPresent()) {
+            Path appointmentsPath = manifestPath.resolveSibling(manifest.getAppointmentsFile().get());
+            try {
+                addressBook.setAppointments(readAppointments(appointmentsPath));
+            } catch (AppointmentConflictException e) {
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_CONFLICTING_APPOINTMENTS));
+            }
+        }
+
+        if (isEveryPersonInItsShard) {
+            rememberManifest(manifestPath, manifest);
+        } else {
+            // a person in the wrong shard would be left behind when the shard they belong in is rewritten
+            LogUtil.log(logger, Level.WARNING, "Persons found in the wrong shards", "manifestPath", manifestPath);
+            forgetManifest();
+        }
+        return addressBook;
+    }
+
+    private static List<Person> readShard(Path shardPath) throws DataLoadingException {
+        Optional<JsonSerializableAddressBook> shard = JsonUtil.readJsonFile(
+                shardPath, JsonSerializableAddressBook.class);
+        if (!shard.isPresent()) {
+            throw new DataLoadingException(new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardPath)));
+        }
+
+        try {
+            return shard.get().toModelType().getPersonList();
+        } catch (IllegalValueException ive) {
+            LogUtil.log(logger, Level.INFO, "Illegal values found", "shardPath", shardPath, "error", ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static List<Appointment> readAppointments(Path appointmentsPath) throws DataLoadingException {
+        Optional<JsonSerializableAddressBook> appointments = JsonUtil.readJsonFile(
+                appointmentsPath, JsonSerializableAddressBook.class);
+        if (!appointments.isPresent()) {
+            throw new DataLoadingException(
+                    new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, appointmentsPath)));
+        }
+
+        try {
+            return appointments.get().toModelAppointments();
+        } catch (IllegalValueException ive) {
+            LogUtil.log(logger, Level.INFO, "Illegal values found", "appointmentsPath", appointmentsPath,
+                    "error", ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Address book data is always loaded from the shards, in parallel, so there is no snapshot to read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookSnapshot() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Saves the shards of {@code addressBook} that have changed since the last save to {@code filePath}, and its
+     * appointments if they have changed, then replaces the manifest. Everything is saved if this storage did not
+     * read or write the current manifest.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path manifestPath = getManifestPath(filePath);
+        boolean isManifestKnown = manifestPath.equals(lastManifestPath);
+        JsonShardManifest previous = isManifestKnown ? lastManifest : readManifestIfValid(manifestPath).orElse(null);
+        long generation = previous == null ? 1 : previous.getGeneration() + 1;
+        boolean[] isDirty = new boolean[PersonType.values().length * bucketCount];
+        if (isManifestKnown && previous.getBucketCount() == bucketCount) {
+            markDirtyShards(isDirty, addressBook.getChanges());
+        } else {
+            // without knowing which shards are up to date, all of them are replaced
+            Arrays.fill(isDirty, true);
+        }
+
+        List<List<Person>> dirtyShardPersons = new ArrayList<>();
+        for (int i = 0; i < isDirty.length; i++) {
+            dirtyShardPersons.add(isDirty[i] ? new ArrayList<>() : null);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            int index = getShardIndex(person, bucketCount);
+            if (isDirty[index]) {
+                dirtyShardPersons.get(index).add(person);
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(manifestPath);
+        List<JsonShardManifest.Shard> shards = new ArrayList<>();
+        List<Path> writtenFiles = new ArrayList<>();
+        JsonShardManifest manifest;
+        try {
+            for (int i = 0; i < isDirty.length; i++) {
+                PersonType type = PersonType.values()[i / bucketCount];
+                int bucket = i % bucketCount;
+                if (!isDirty[i]) {
+                    shards.add(previous.getShards().get(i));
+                    continue;
+                }
+
+                String file = getFileNameStem(filePath) + "." + type.name().toLowerCase() + "-" + bucket
+                        + "." + generation + JSON_EXTENSION;
+                Path shardPath = manifestPath.resolveSibling(file);
+                writtenFiles.add(shardPath);
+                JsonUtil.saveJsonFile(new JsonSerializableAddressBook(dirtyShardPersons.get(i)), shardPath);
+                shards.add(new JsonShardManifest.Shard(type, bucket, file));
+            }
+
+            String appointmentsFile = previous == null ? null : previous.getAppointmentsFile().orElse(null);
+            if (!isManifestKnown || addressBook.getChanges().areAppointmentsChanged()) {
+                appointmentsFile = saveAppointments(addressBook.getAppointmentList(), filePath, manifestPath,
+                        generation, writtenFiles);
+            }
+
+            manifest = new JsonShardManifest(JsonShardManifest.VERSION, generation, bucketCount,
+                    shards, appointmentsFile);
+            Path tempPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+            JsonUtil.saveJsonFile(manifest, tempPath);
+            FileUtil.moveIntoPlace(tempPath, manifestPath);
+            rememberManifest(manifestPath, manifest);
+        } catch (IOException e) {
+            // the previous manifest is still in place, so the shards written by this save are not needed
+            deleteQuietly(writtenFiles.stream());
+            throw e;
+        }
+
+        LogUtil.log(logger, Level.FINE, "Saved shards", "manifestPath", manifestPath,
+                "generation", generation, "shardsSaved", writtenFiles.size());
+        if (previous != null) {
+            Set<String> currentFiles = Set.copyOf(manifest.getFiles());
+            deleteQuietly(previous.getFiles().stream()
+                    .filter(file -> !currentFiles.contains(file))
+                    .map(manifestPath::resolveSibling));
+        }
+    }
+
+    /**
+     * Saves {@code appointments} to a new file alongside the manifest at {@code manifestPath}, and returns its
+     * name, or returns null without saving anything if there are no appointments.
+     */
+    private static String saveAppointments(List<Appointment> appointments, Path filePath, Path manifestPath,
+            long generation, List<Path> writtenFiles) throws IOException {
+        if (appointments.isEmpty()) {
+            return null;
+        }
+        String file = getFileNameStem(filePath) + APPOINTMENTS_INFIX + generation + JSON_EXTENSION;
+        Path appointmentsPath = manifestPath.resolveSibling(file);
+        writtenFiles.add(appointmentsPath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(List.of(), appointments), appointmentsPath);
+        return file;
+    }
+
+    /**
+     * Marks the shards holding the persons in {@code changes} as dirty, or every shard if {@code changes} is
+     * a full reset.
+     */
+    private void markDirtyShards(boolean[] isDirty, ChangeSet changes) {
+        if (changes.isFullReset()) {
+            Arrays.fill(isDirty, true);
+            return;
+        }
+        Stream.of(changes.getAdded().stream(), changes.getRemoved().stream(),
+                        changes.getReplaced().keySet().stream(), changes.getReplaced().values().stream())
+                .flatMap(persons -> persons)
+                .forEach(person -> isDirty[getShardIndex(person, bucketCount)] = true);
+    }
+
+    /**
+     * Returns the index of the shard {@code person} belongs in, when each type is split into {@code bucketCount}
+     * buckets. Shards are ordered by type, then by bucket.
+     */
+    private static int getShardIndex(Person person, int bucketCount) {
+        int bucket = Math.floorMod(person.getName().fullName.hashCode(), bucketCount);
+        for (PersonType type : PersonType.values()) {
+            if (type.getSearchPredicate().test(person)) {
+                return type.ordinal() * bucketCount + bucket;
+            }
+        }
+        throw new IllegalArgumentException("Person has no type: " + person);
+    }
+
+    private static Optional<JsonShardManifest> readManifestIfValid(Path manifestPath) {
+        try {
+            Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+            if (manifest.isPresent()) {
+                manifest.get().validate();
+            }
+            return manifest;
+        } catch (DataLoadingException | IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void rememberManifest(Path manifestPath, JsonShardManifest manifest) {
+        lastManifestPath = manifestPath;
+        lastManifest = manifest;
+    }
+
+    private void forgetManifest() {
+        lastManifestPath = null;
+        lastManifest = null;
+    }
+
+    private static void deleteQuietly(Stream<Path> paths) {
+        paths.forEach(path -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LogUtil.log(logger, Level.WARNING, "Shard file could not be deleted", "path", path, "error", e);
+            }
+        });
+    }
+
+}
@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.LogUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,13 +22,17 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
+     * and {@code CommandHistoryStorage}.
      */
-    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,10 +67,15 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        LogUtil.log(logger, Level.FINE, "Attempting to read data", "filePath", filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookSnapshot() {
+        return addressBookStorage.readAddressBookSnapshot();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -71,8 +83,34 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        LogUtil.log(logger, Level.FINE, "Attempting to write data", "filePath", filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    // ================ Command history methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws DataLoadingException {
+        LogUtil.log(logger, Level.FINE, "Attempting to read command history",
+                "filePath", commandHistoryStorage.getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    public void appendCommandString(String commandString) throws IOException {
+        commandHistoryStorage.appendCommandString(commandString);
+    }
+
+    @Override
+    public void saveCommandHistory(List<String> commandStrings) throws IOException {
+        LogUtil.log(logger, Level.FINE, "Attempting to write command history",
+                "filePath", commandHistoryStorage.getCommandHistoryFilePath());
+        commandHistoryStorage.saveCommandHistory(commandStrings);
+    }
+
 }
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LogUtil;
+
+/**
+ * A class to access the command history stored as a text file on the hard disk, with one command string per line.
+ * Command strings are only ever appended to the file, so entering a command does not rewrite the history.
+ * Backslashes and line breaks in command strings are escaped so that each command string stays on one line.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code TextCommandHistoryStorage} for the command history file at {@code filePath}.
+     */
+    public TextCommandHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            List<String> commandStrings = new ArrayList<>();
+            for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) {
+                    commandStrings.add(unescape(line));
+                }
+            }
+            return commandStrings;
+        } catch (IOException e) {
+            LogUtil.log(logger, Level.WARNING, "Error reading command history", "filePath", filePath, "error", e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void appendCommandString(String commandString) throws IOException {
+        requireNonNull(commandString);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(escape(commandString));
+            writer.newLine();
+        }
+    }
+
+    @Override
+    public void saveCommandHistory(List<String> commandStrings) throws IOException {
+        requireNonNull(commandStrings);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            for (String commandString : commandStrings) {
+                writer.write(escape(commandString));
+                writer.newLine();
+            }
+        }
+        FileUtil.moveIntoPlace(tempPath, filePath);
+    }
+
+    private static String escape(String commandString) {
+        return commandString.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String line) {
+        StringBuilder commandString = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i == line.length() - 1) {
+                commandString.append(c);
+                continue;
+            }
+            char escaped = line.charAt(++i);
+            commandString.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return commandString.toString();
+    }
+
+}
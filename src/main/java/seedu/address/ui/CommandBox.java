@@ -1,14 +1,24 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.beans.value.ObservableBooleanValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,25 +27,57 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final String SEARCH_PROMPT_TEXT = "Search command history...";
+    private static final KeyCombination SEARCH_KEY_COMBINATION =
+            new KeyCodeCombination(KeyCode.R, KeyCombination.SHORTCUT_DOWN);
+    /** Looks up completions away from the JavaFX application thread, one at a time. */
+    private static final ExecutorService COMPLETION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final CommandExecutor commandExecutor;
     private final KeyPressExecutor keyUpExecutor;
     private final KeyPressExecutor keyDownExecutor;
+    private final CommandSearcher commandSearcher;
+    private final CommandSearcher prevCommandSearcher;
+    private final CommandCompleter commandCompleter;
     @FXML
     private TextField commandTextField;
+    @FXML
+    private ProgressIndicator busyIndicator;
+
+    /** The text being searched for in the command history, or null if the user is not searching. */
+    private String searchQuery;
+    private String textBeforeSearch;
+    private String defaultPromptText;
+
+    /** The completions last shown, and which of them is in the command box. */
+    private List<String> completions = new ArrayList<>();
+    private int completionIndex;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which shows a busy indicator while
+     * {@code isBusy} is true.
      */
-    public CommandBox(CommandExecutor commandExecutor, KeyPressExecutor keyUpExecutor, KeyPressExecutor
-            keyDownExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, ObservableBooleanValue isBusy,
+            KeyPressExecutor keyUpExecutor, KeyPressExecutor keyDownExecutor, CommandSearcher commandSearcher,
+            CommandSearcher prevCommandSearcher, CommandCompleter commandCompleter) {
         super(FXML);
+        busyIndicator.visibleProperty().bind(isBusy);
         this.commandExecutor = commandExecutor;
         this.keyUpExecutor = keyUpExecutor;
         this.keyDownExecutor = keyDownExecutor;
+        this.commandSearcher = commandSearcher;
+        this.prevCommandSearcher = prevCommandSearcher;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         commandTextField.setOnKeyPressed(this::handleOnKeyPressed);
+        // searching has to see key events before the text field edits its text
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleSearchKeyPressed);
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, this::handleSearchKeyTyped);
     }
 
     /**
@@ -48,12 +90,16 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        // the command box is cleared at once, so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            // a failed command is shown again to be corrected, unless another has been typed in the meantime
+            if (error != null && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                commandTextField.positionCaret(commandText.length());
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -86,19 +132,152 @@ public class CommandBox extends UiPart<Region> {
         } else if (event.getCode() == KeyCode.DOWN) {
             commandTextField.setText(keyDownExecutor.executeKey(commandTextField.getText()));
             commandTextField.positionCaret(commandTextField.getText().length());
+        } else if (event.getCode() == KeyCode.TAB) {
+            // Tab would otherwise move the focus out of the command box
+            event.consume();
+            handleTabPressed();
         }
     }
+
+    /**
+     * Completes the word at the end of the command box. If the command box still holds the completion last shown,
+     * the next completion is shown instead, cycling back to the first.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        if (!completions.isEmpty() && commandText.equals(completions.get(completionIndex))) {
+            showCompletion((completionIndex + 1) % completions.size());
+            return;
+        }
+
+        CompletableFuture.supplyAsync(() -> commandCompleter.complete(commandText), COMPLETION_EXECUTOR)
+                .thenAcceptAsync(newCompletions -> {
+                    // the completions are out of date if the command box has been edited in the meantime
+                    if (newCompletions.isEmpty() || !commandTextField.getText().equals(commandText)) {
+                        return;
+                    }
+                    completions = newCompletions;
+                    showCompletion(0);
+                }, Platform::runLater);
+    }
+
+    private void showCompletion(int index) {
+        completionIndex = index;
+        commandTextField.setText(completions.get(index));
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    /**
+     * Handles the key pressed events used to search the command history.
+     * Ctrl-R (Cmd-R on macOS) starts a search, or finds the next older match if already searching.
+     * While searching, Backspace shortens the search text, Escape cancels the search, and Enter executes the match.
+     * Moving the caret, or through the command history, stops the search and keeps the match for editing.
+     */
+    private void handleSearchKeyPressed(KeyEvent event) {
+        if (SEARCH_KEY_COMBINATION.match(event)) {
+            if (searchQuery == null) {
+                startSearch();
+            } else {
+                showSearchResult(prevCommandSearcher.search(searchQuery));
+            }
+            event.consume();
+            return;
+        }
+        if (searchQuery == null) {
+            return;
+        }
+
+        switch (event.getCode()) {
+        case BACK_SPACE:
+            if (!searchQuery.isEmpty()) {
+                searchQuery = searchQuery.substring(0, searchQuery.length() - 1);
+            }
+            if (!searchQuery.isEmpty()) {
+                showSearchResult(commandSearcher.search(searchQuery));
+            }
+            event.consume();
+            break;
+        case ESCAPE:
+            commandTextField.setText(textBeforeSearch);
+            commandTextField.positionCaret(textBeforeSearch.length());
+            stopSearch();
+            event.consume();
+            break;
+        case ENTER:
+        case UP:
+        case DOWN:
+        case LEFT:
+        case RIGHT:
+        case HOME:
+        case END:
+        case TAB:
+            stopSearch();
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Adds typed characters to the search text while searching the command history.
+     */
+    private void handleSearchKeyTyped(KeyEvent event) {
+        String character = event.getCharacter();
+        if (searchQuery == null || event.isShortcutDown() || character.isEmpty()
+                || Character.isISOControl(character.charAt(0))) {
+            return;
+        }
+
+        searchQuery += character;
+        showSearchResult(commandSearcher.search(searchQuery));
+        event.consume();
+    }
+
+    /**
+     * Starts searching the command history for the text currently in the command box.
+     */
+    private void startSearch() {
+        textBeforeSearch = commandTextField.getText();
+        searchQuery = textBeforeSearch;
+        defaultPromptText = commandTextField.getPromptText();
+        commandTextField.setPromptText(SEARCH_PROMPT_TEXT);
+        if (!searchQuery.isEmpty()) {
+            showSearchResult(commandSearcher.search(searchQuery));
+        }
+    }
+
+    private void stopSearch() {
+        searchQuery = null;
+        commandTextField.setPromptText(defaultPromptText);
+    }
+
+    /**
+     * Shows the matching command string with the search text selected, or indicates that there is no match.
+     */
+    private void showSearchResult(Optional<String> match) {
+        if (!match.isPresent()) {
+            setStyleToIndicateCommandFailure();
+            return;
+        }
+
+        String commandString = match.get();
+        commandTextField.setText(commandString);
+        int start = commandString.toLowerCase().indexOf(searchQuery.toLowerCase());
+        commandTextField.selectRange(start, start + searchQuery.length());
+    }
+
     /**
      * Represents a function that can execute commands.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed and returns its future result, which is completed on the JavaFX
+         * application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
     /**
@@ -111,4 +290,30 @@ public class CommandBox extends UiPart<Region> {
          */
         String executeKey(String commandText);
     }
+
+    /**
+     * Represents a function that searches the command history.
+     */
+    @FunctionalInterface
+    public interface CommandSearcher {
+        /**
+         * Returns the command string found for {@code query}, if any.
+         *
+         * @see seedu.address.logic.Logic#searchCommandString(String)
+         */
+        Optional<String> search(String query);
+    }
+
+    /**
+     * Represents a function that completes the word being typed at the end of a command.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completed command texts for {@code commandText}. Called away from the JavaFX application thread.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> complete(String commandText);
+    }
 }
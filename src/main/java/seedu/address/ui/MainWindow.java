@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ChangeListener;
@@ -17,9 +18,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Theme;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -129,7 +129,7 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        viewPersonPanel = ViewPatientPanel.updatePerson(logic.getSelectedPerson());
+        viewPersonPanel = createViewPersonPanel();
         if (viewPersonPanel != null) {
             viewPersonPanelPlaceholder.getChildren().add(viewPersonPanel.getRoot());
         }
@@ -140,8 +140,9 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand,
-                logic::getPrevCommandString, logic::getPassedCommandString);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.busyProperty(),
+                logic::getPrevCommandString, logic::getPassedCommandString,
+                logic::searchCommandString, logic::searchPrevCommandString, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -185,26 +186,52 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Returns a panel of the person currently selected and the persons referred to or from it, or null if no person
+     * is selected.
+     */
+    private ViewPersonPanel createViewPersonPanel() {
+        Person selectedPerson = logic.getSelectedPerson();
+        if (selectedPerson == null) {
+            return null;
+        }
+        return ViewPersonPanel.updatePerson(selectedPerson, logic.getReferrals(selectedPerson),
+                logic.getScheduledAppointments(selectedPerson));
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the person currently selected in the view panel, or clears the panel if no person is selected.
+     */
+    void showSelectedPerson() {
+        viewPersonPanel = createViewPersonPanel();
+        viewPersonPanelPlaceholder.getChildren().clear();
+        if (viewPersonPanel != null) {
+            viewPersonPanelPlaceholder.getChildren().add(viewPersonPanel.getRoot());
+        }
+    }
+
+    /**
+     * Submits the command to be executed, and shows its result, or the error it failed with, once it completes.
+     * The result is shown, and the view panel updated, in one go on the JavaFX application thread.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logic.addCommandString(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            viewPersonPanel = ViewPatientPanel.updatePerson(logic.getSelectedPerson());
-            viewPersonPanelPlaceholder.getChildren().clear();
-            if (viewPersonPanel != null) {
-                viewPersonPanelPlaceholder.getChildren().add(viewPersonPanel.getRoot());
-            }
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser(), commandResult.getFeedbackItems());
+            showSelectedPerson();
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -213,13 +240,7 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 
     private void addThemeListener() {
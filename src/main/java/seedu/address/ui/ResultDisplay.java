@@ -2,12 +2,21 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * Feedback listing items is shown as a summary above a list of the items, in which only the items scrolled into
+ * view are formatted and rendered, so displaying the feedback takes the same time however many items it lists.
  */
 public class ResultDisplay extends UiPart<Region> {
 
@@ -16,13 +25,54 @@ public class ResultDisplay extends UiPart<Region> {
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private VBox itemsDisplay;
+
+    @FXML
+    private Label itemsSummary;
+
+    @FXML
+    private ListView<String> itemsList;
+
+    /**
+     * Creates a {@code ResultDisplay} with no feedback.
+     */
     public ResultDisplay() {
         super(FXML);
+        itemsList.setCellFactory(listView -> new NumberedItemCell());
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
+        setFeedbackToUser(feedbackToUser, List.of());
+    }
+
+    /**
+     * Displays {@code feedbackToUser}, with the {@code feedbackItems} it summarises listed under it if there are any.
+     */
+    public void setFeedbackToUser(String feedbackToUser, List<String> feedbackItems) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        requireNonNull(feedbackItems);
+        boolean hasItems = !feedbackItems.isEmpty();
+        resultDisplay.setVisible(!hasItems);
+        resultDisplay.setManaged(!hasItems);
+        itemsDisplay.setVisible(hasItems);
+        itemsDisplay.setManaged(hasItems);
+
+        resultDisplay.setText(hasItems ? "" : feedbackToUser);
+        itemsSummary.setText(hasItems ? feedbackToUser : "");
+        // wraps rather than copies the items, so that they are only formatted as they are displayed
+        itemsList.setItems(FXCollections.observableList(feedbackItems));
+        itemsList.scrollTo(0);
     }
 
+    /**
+     * A cell displaying an item with its one-based position in the list.
+     */
+    private static class NumberedItemCell extends ListCell<String> {
+        @Override
+        protected void updateItem(String item, boolean empty) {
+            super.updateItem(item, empty);
+            setText(empty || item == null ? null : (getIndex() + 1) + ". " + item);
+        }
+    }
 }
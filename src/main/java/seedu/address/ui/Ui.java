@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows the data loaded after the UI was started, such as the person selected once the data is loaded. */
+    void showLoadedData();
+
 }
@@ -50,6 +50,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadedData() {
+        if (mainWindow != null) {
+            mainWindow.showSelectedPerson();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
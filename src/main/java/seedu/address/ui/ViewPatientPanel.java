@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import com.sun.javafx.collections.ObservableListWrapper;
@@ -8,8 +9,10 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.MedicalHistory;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the patients details.
@@ -20,14 +23,19 @@ public class ViewPatientPanel extends ViewPersonPanel {
     @FXML
     private Label age;
 
+    @FXML
+    private Label referrals;
+
     @FXML
     private ListView<MedicalHistory> medicalHistoryListView;
     /**
-     * Creates a {@code PatientCard} with the given {@code patient} and index to display.
+     * Creates a {@code PatientCard} with the given {@code patient}, the specialists it is referred to and its
+     * appointments in the schedule window, to display.
      */
-    public ViewPatientPanel(Patient patient) {
-        super(patient, card);
+    public ViewPatientPanel(Patient patient, List<Person> referredSpecialists, List<Appointment> appointments) {
+        super(patient, appointments, card);
         age.setText(": " + patient.getAge().value);
+        referrals.setText(formatReferrals(referredSpecialists));
         medicalHistoryListView.setItems(new ObservableListWrapper<>(patient.getMedicalHistory()
                 .stream().collect(Collectors.toList())));
         medicalHistoryListView.setCellFactory(listView -> new MedicalHistoryViewCell());
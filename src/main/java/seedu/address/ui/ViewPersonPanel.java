@@ -1,11 +1,14 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Specialist;
@@ -34,36 +37,67 @@ public class ViewPersonPanel extends UiPart<Region> {
     private Label email;
     @FXML
     private FlowPane viewTags;
+    @FXML
+    private Label appointments;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, and its appointments in the schedule window, to
+     * display.
      */
-    public ViewPersonPanel(Person person, String fxml) {
+    public ViewPersonPanel(Person person, List<Appointment> scheduledAppointments, String fxml) {
         super(fxml);
         this.person = person;
         name.setText(person.getName().fullName);
-        phone.setText(": " + person.getPhone().value);
+        phone.setText(": " + person.getPhone().getValue());
         email.setText(": " + person.getEmail().value);
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> viewTags.getChildren().add(new Label(tag.tagName)));
+        appointments.setText(formatAppointments(scheduledAppointments));
     }
 
     /**
      * Update the person that are going to be viewed.
      *
      * @param person the person that is going to be viewed
+     * @param referrals the persons referred to or from the person
+     * @param appointments the appointments of the person in the schedule window
      * @return updated version of ViewPersonPanel
      */
-    public static ViewPersonPanel updatePerson(Person person) {
+    public static ViewPersonPanel updatePerson(Person person, List<Person> referrals,
+            List<Appointment> appointments) {
         if (person == null) {
             return null;
         }
         if (person instanceof Patient) {
-            return new ViewPatientPanel((Patient) person);
+            return new ViewPatientPanel((Patient) person, referrals, appointments);
         } else {
-            return new ViewSpecialistPanel((Specialist) person);
+            return new ViewSpecialistPanel((Specialist) person, referrals, appointments);
         }
     }
-}
 
+    /**
+     * Returns the names of {@code referrals} in alphabetical order, to be shown on one line.
+     */
+    protected static String formatReferrals(List<Person> referrals) {
+        if (referrals.isEmpty()) {
+            return ": -";
+        }
+        return referrals.stream()
+                .map(person -> person.getName().fullName)
+                .sorted()
+                .collect(Collectors.joining(", ", ": ", ""));
+    }
+
+    /**
+     * Returns {@code appointments}, in order, one per line.
+     */
+    private static String formatAppointments(List<Appointment> appointments) {
+        if (appointments.isEmpty()) {
+            return ": -";
+        }
+        return appointments.stream()
+                .map(Appointment::format)
+                .collect(Collectors.joining("\n  ", ": ", ""));
+    }
+}
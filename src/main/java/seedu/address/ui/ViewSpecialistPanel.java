@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Specialist;
 
 /**
@@ -16,13 +20,18 @@ public class ViewSpecialistPanel extends ViewPersonPanel {
     @FXML
     private Label spLocation;
 
+    @FXML
+    private Label referrals;
 
     /**
-     * Creates a {@code SpecialistCard} with the given {@code specialist} and index to display.
+     * Creates a {@code SpecialistCard} with the given {@code specialist}, the patients referred to it and its
+     * appointments in the schedule window, to display.
      */
-    public ViewSpecialistPanel(Specialist specialist) {
-        super(specialist, card);
-        spLocation.setText(": " + specialist.getLocation().value);
+    public ViewSpecialistPanel(Specialist specialist, List<Person> referredPatients, List<Appointment> appointments) {
+        super(specialist, appointments, card);
+        spLocation.setText(": " + specialist.getLocation().value + specialist.getLocation().getCoordinates()
+                .map(coordinates -> " (" + coordinates + ")").orElse(""));
         specialty.setText(": " + specialist.getSpecialty().value);
+        referrals.setText(formatReferrals(referredPatients));
     }
 }
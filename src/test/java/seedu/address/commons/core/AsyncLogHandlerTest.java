@@ -0,0 +1,136 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void publish_manyRecords_writtenInOrderOnWriterThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(1000, target.messages.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        assertTrue(target.threadNames.stream().allMatch("log-writer"::equals));
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_dropsAndReportsRecords() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(2, OverflowPolicy.DROP, target);
+
+        // the writer takes the first record and blocks on it, the next two fill the queue, and the rest are dropped
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.awaitFirstPublish();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("first", "3 log records were dropped because the log queue was full",
+                "message 0", "message 1"), target.messages);
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void shutdown_pendingRecords_writtenBeforeReturning() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(1000, OverflowPolicy.DROP, target);
+        for (int i = 0; i < 500; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.shutdown();
+        assertEquals(500, target.messages.size());
+
+        // records published after shutdown are ignored, and the target is left open
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+        assertEquals(500, target.messages.size());
+        assertFalse(target.isClosed);
+    }
+
+    @Test
+    public void publish_belowHandlerLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(4, OverflowPolicy.DROP, target);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.publish(new LogRecord(Level.SEVERE, "written"));
+        handler.close();
+        assertEquals(List.of("written"), target.messages);
+    }
+
+    /**
+     * A handler that records the messages it receives, optionally blocking on the first until released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch release;
+        private final CountDownLatch firstPublished = new CountDownLatch(1);
+        private volatile boolean isClosed = false;
+
+        RecordingHandler() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        void awaitFirstPublish() throws InterruptedException {
+            firstPublished.await();
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+            firstPublished.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", logQueueSize=" + config.getLogQueueSize()
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", statsEnabled=" + config.isStatsEnabled()
+                + ", statsFilePath=" + config.getStatsFilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
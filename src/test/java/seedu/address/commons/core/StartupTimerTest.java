@@ -0,0 +1,57 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    @Test
+    public void time_task_returnsResultAndRecordsPhase() {
+        StartupTimer timer = new StartupTimer();
+        assertEquals("loaded", timer.time("data", () -> "loaded"));
+        timer.run("ui", () -> { });
+
+        Map<String, Long> phaseMillis = timer.getPhaseMillis();
+        assertEquals(List.of("data", "ui"), List.copyOf(phaseMillis.keySet()));
+        assertTrue(phaseMillis.values().stream().allMatch(millis -> millis >= 0));
+    }
+
+    @Test
+    public void time_taskFails_phaseStillRecorded() {
+        StartupTimer timer = new StartupTimer();
+        assertThrows(IllegalStateException.class, () -> timer.run("config", () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(timer.getPhaseMillis().containsKey("config"));
+    }
+
+    @Test
+    public void time_phasesOnManyThreads_allRecorded() {
+        StartupTimer timer = new StartupTimer();
+        CompletableFuture<?>[] phases = new CompletableFuture<?>[20];
+        for (int i = 0; i < phases.length; i++) {
+            String phase = "phase" + i;
+            phases[i] = CompletableFuture.runAsync(() -> timer.run(phase, () -> { }));
+        }
+        CompletableFuture.allOf(phases).join();
+
+        assertEquals(phases.length, timer.getPhaseMillis().size());
+    }
+
+    @Test
+    public void getSummary_phasesRecorded_listsEveryPhase() {
+        StartupTimer timer = new StartupTimer();
+        timer.run("prefs", () -> { });
+        timer.run("ui", () -> { });
+
+        String summary = timer.getSummary();
+        assertTrue(summary.matches("Started in \\d+ ms \\(prefs \\d+ ms, ui \\d+ ms\\)"));
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -82,6 +84,26 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void mapLazily() {
+        assertThrows(NullPointerException.class, () -> CollectionUtil.mapLazily(null, Object::toString));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.mapLazily(List.of(), null));
+
+        // only the elements accessed are mapped
+        List<Integer> mapped = new ArrayList<>();
+        List<String> strings = CollectionUtil.mapLazily(List.of(1, 2, 3), number -> {
+            mapped.add(number);
+            return "#" + number;
+        });
+        assertEquals(3, strings.size());
+        assertEquals("#2", strings.get(1));
+        assertEquals(List.of(2), mapped);
+        assertEquals(List.of("#1", "#2", "#3"), strings);
+
+        // the view is unmodifiable
+        assertThrows(UnsupportedOperationException.class, () -> strings.add("#4"));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
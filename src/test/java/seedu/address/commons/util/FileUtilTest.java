@@ -1,13 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.ZipException;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,33 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isCompressed() {
+        assertTrue(FileUtil.isCompressed(Paths.get("data", "addressbook.json.gz")));
+        assertFalse(FileUtil.isCompressed(Paths.get("data", "addressbook.json")));
+        assertFalse(FileUtil.isCompressed(Paths.get("data.gz", "addressbook.json")));
+    }
+
+    @Test
+    public void openForWritingAndReading_compressedFile_roundTripsCompressed() throws IOException {
+        Path file = testFolder.resolve("repeated.txt.gz");
+        byte[] content = "patient ".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        try (OutputStream outputStream = FileUtil.openForWriting(file)) {
+            outputStream.write(content);
+        }
+        assertTrue(Files.size(file) < content.length / 10);
+        try (InputStream inputStream = FileUtil.openForReading(file)) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void openForReading_uncompressedContentInCompressedFile_throwsZipException() throws IOException {
+        Path file = testFolder.resolve("plain.txt.gz");
+        FileUtil.writeToFile(file, "not compressed");
+
+        assertThrows(ZipException.class, () -> FileUtil.openForReading(file));
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -27,6 +29,19 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_serializationFails_fileUnchanged() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IOException.class, () -> JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE,
+                new UnserializableTestClass()));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        // the temporary file written to is not left behind
+        assertFalse(FileUtil.isFileExists(
+                SERIALIZATION_FILE.resolveSibling(SERIALIZATION_FILE.getFileName() + ".tmp")));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -39,4 +54,12 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    /**
+     * A class whose instances fail to be serialized after the opening brace of the JSON object is written.
+     */
+    private static class UnserializableTestClass {
+        private final String name = "unserializable";
+        private final Object value = new Object();
+    }
+
 }
@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AllocationUtil;
+
+public class LogUtilTest {
+
+    private final Logger logger = Logger.getAnonymousLogger();
+    private final List<LogRecord> records = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Test
+    public void log_enabledLevel_logsStructuredMessage() {
+        LogUtil.log(logger, Level.INFO, "Event", "key", "value");
+        LogUtil.log(logger, Level.WARNING, "Event", "a", 1, "b", null);
+        LogUtil.log(logger, Level.SEVERE, "Event", "a", "x", "b", "y", "c", "z");
+
+        assertEquals(3, records.size());
+        assertEquals("Event: key=value", records.get(0).getMessage());
+        assertEquals(Level.INFO, records.get(0).getLevel());
+        assertEquals("Event: a=1, b=null", records.get(1).getMessage());
+        assertEquals("Event: a=x, b=y, c=z", records.get(2).getMessage());
+    }
+
+    @Test
+    public void log_disabledLevel_valueNotConverted() {
+        Object value = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("toString() should not be called when the level is disabled");
+            }
+        };
+        LogUtil.log(logger, Level.FINE, "Event", "key", value);
+        LogUtil.log(logger, Level.FINE, "Event", "key", value, "key", value);
+        LogUtil.log(logger, Level.FINE, "Event", "key", value, "key", value, "key", value);
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    public void log_disabledLevel_allocatesNothing() {
+        Object value = new StringBuilder("a value that would be expensive to log");
+
+        // warm up so that class loading and compilation are not counted
+        for (int i = 0; i < 10_000; i++) {
+            LogUtil.log(logger, Level.FINE, "Event", "a", value, "b", value, "c", value);
+        }
+
+        long measurementOverhead = -AllocationUtil.getAllocatedBytes() + AllocationUtil.getAllocatedBytes();
+        long before = AllocationUtil.getAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            LogUtil.log(logger, Level.FINE, "Event", "a", value, "b", value, "c", value);
+        }
+        long allocated = AllocationUtil.getAllocatedBytes() - before;
+
+        // a single allocation per call would amount to at least 160KB
+        assertTrue(allocated <= measurementOverhead + 1024, "allocated " + allocated + " bytes");
+        assertTrue(records.isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -218,4 +219,41 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(4, StringUtil.getEditDistance("", "john"));
+        assertEquals(0, StringUtil.getEditDistance("john", "john"));
+        assertEquals(1, StringUtil.getEditDistance("john", "jon")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("jon", "john")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("john", "joan")); // substitution
+        assertEquals(2, StringUtil.getEditDistance("john", "jonh")); // transposition
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.getEditDistance("John", "john")); // case sensitive
+    }
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "john"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("john", null));
+    }
+
+    //---------------- Tests for getSoundex --------------------------------------
+
+    @Test
+    public void getSoundex() {
+        assertEquals("R163", StringUtil.getSoundex("Robert"));
+        assertEquals("R163", StringUtil.getSoundex("Rupert"));
+        assertEquals("J500", StringUtil.getSoundex("John"));
+        assertEquals("J500", StringUtil.getSoundex("jonh"));
+        assertEquals("A261", StringUtil.getSoundex("Ashcraft")); // letters separated by H are coded once
+        assertEquals("T522", StringUtil.getSoundex("Tymczak")); // letters separated by a vowel are coded twice
+        assertEquals("P236", StringUtil.getSoundex("Pfister")); // letters coded like the first letter
+        assertEquals("O165", StringUtil.getSoundex("O'Brien")); // characters other than letters are ignored
+        assertEquals("", StringUtil.getSoundex("123"));
+    }
+
 }
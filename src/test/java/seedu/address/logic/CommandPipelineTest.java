@@ -0,0 +1,260 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_TYPE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
+
+public class CommandPipelineTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + PERSON_TYPE_AMY + NAME_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY + AGE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    /** Stands in for the JavaFX application thread. */
+    private final ExecutorService modelThread = Executors.newSingleThreadExecutor();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @AfterEach
+    public void tearDown() {
+        modelThread.shutdown();
+    }
+
+    @Test
+    public void submit_manyCommands_runInOrderAndSaved() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        LogicManager logic = createLogic(addressBookStorage);
+
+        List<CompletableFuture<CommandResult>> outcomes = new ArrayList<>();
+        outcomes.add(submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1"));
+        outcomes.add(submitOnModelThread(logic, ADD_AMY_COMMAND));
+        outcomes.add(submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1"));
+        for (CompletableFuture<CommandResult> outcome : outcomes) {
+            outcome.get();
+        }
+
+        // each deletion sees the persons left by the commands before it
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(BENSON));
+        assertTrue(model.hasPerson(AMY));
+        // the address book is saved with patients before specialists
+        assertEquals(new HashSet<>(model.getAddressBook().getPersonList()),
+                new HashSet<>(addressBookStorage.readAddressBook().get().getPersonList()));
+        assertTrue(model.getAddressBook().getChanges().isEmpty());
+        assertFalse(callOnModelThread(() -> logic.busyProperty().get()));
+    }
+
+    @Test
+    public void submit_commandRunning_busyUntilAllCommandsComplete() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch saveAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveStarted.countDown();
+                        try {
+                            saveAllowed.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        LogicManager logic = createLogic(addressBookStorage);
+
+        CompletableFuture<CommandResult> first = submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1");
+        saveStarted.await();
+        // the model thread is free while the first command is saved, and the next command is queued
+        CompletableFuture<CommandResult> second = submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1");
+        assertTrue(callOnModelThread(() -> logic.busyProperty().get()));
+        assertFalse(first.isDone());
+
+        saveAllowed.countDown();
+        first.get();
+        second.get();
+        assertFalse(callOnModelThread(() -> logic.busyProperty().get()));
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithoutStoppingLaterCommands() throws Exception {
+        LogicManager logic = createLogic(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")));
+
+        CompletableFuture<CommandResult> invalid = submitOnModelThread(logic, "uicfhmowqewca");
+        CompletableFuture<CommandResult> valid = submitOnModelThread(logic, ADD_AMY_COMMAND);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, invalid::get);
+        assertTrue(exception.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, exception.getCause().getMessage());
+        valid.get();
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void submit_commandsHeld_runOnceReleased() throws Exception {
+        LogicManager logic = createLogic(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")));
+        CompletableFuture<Void> dataLoaded = new CompletableFuture<>();
+        logic.holdCommandsUntil(dataLoaded);
+
+        CompletableFuture<CommandResult> outcome = submitOnModelThread(logic, ADD_AMY_COMMAND);
+        // the model thread stays free while the command waits
+        assertFalse(callOnModelThread(() -> model.hasPerson(AMY)));
+        assertFalse(outcome.isDone());
+
+        dataLoaded.complete(null);
+        outcome.get();
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void submit_saveFails_failsAndAddressBookMarkedUnsaved() throws Exception {
+        IOException saveException = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw saveException;
+                    }
+                };
+        LogicManager logic = createLogic(addressBookStorage);
+
+        CompletableFuture<CommandResult> outcome = submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, outcome::get);
+        assertTrue(exception.getCause() instanceof CommandException);
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, saveException.getMessage()),
+                exception.getCause().getMessage());
+        assertTrue(callOnModelThread(() -> model.getAddressBook().getChanges().isFullReset()));
+    }
+
+    @Test
+    public void shutdown_saveUnderWay_waitsForSaveAndDropsHeldCommands() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch saveAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveStarted.countDown();
+                        try {
+                            saveAllowed.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        LogicManager logic = createLogic(addressBookStorage);
+
+        CompletableFuture<CommandResult> saved = submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1");
+        saveStarted.await();
+        logic.holdCommandsUntil(new CompletableFuture<Void>());
+        CompletableFuture<CommandResult> dropped = submitOnModelThread(logic, ADD_AMY_COMMAND);
+
+        Future<?> shutdown = modelThread.submit(logic::shutdown);
+        saveAllowed.countDown();
+        shutdown.get();
+
+        // the deletion was saved before shutting down, and the held command was never executed
+        assertFalse(addressBookStorage.readAddressBook().get().getPersonList().contains(ALICE));
+        assertFalse(callOnModelThread(() -> model.hasPerson(AMY)));
+        saved.get();
+        assertThrows(CancellationException.class, dropped::get);
+    }
+
+    @Test
+    public void shutdown_commandsQueued_executedAndSaved() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch saveAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveStarted.countDown();
+                        try {
+                            saveAllowed.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        LogicManager logic = createLogic(addressBookStorage);
+
+        CompletableFuture<CommandResult> deleted = submitOnModelThread(logic, DeleteCommand.COMMAND_WORD + " 1");
+        saveStarted.await();
+        CompletableFuture<CommandResult> added = submitOnModelThread(logic, ADD_AMY_COMMAND);
+
+        Future<?> shutdown = modelThread.submit(logic::shutdown);
+        saveAllowed.countDown();
+        shutdown.get();
+
+        // the command queued behind the save was executed and saved while shutting down
+        ReadOnlyAddressBook saved = addressBookStorage.readAddressBook().get();
+        assertFalse(saved.getPersonList().contains(ALICE));
+        assertTrue(saved.getPersonList().stream().anyMatch(AMY::isSamePerson));
+        deleted.get();
+        added.get();
+        assertFalse(callOnModelThread(() -> logic.busyProperty().get()));
+    }
+
+    private LogicManager createLogic(JsonAddressBookStorage addressBookStorage) {
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new TextCommandHistoryStorage(temporaryFolder.resolve("commandHistory.txt")));
+        return new LogicManager(model, storage, modelThread);
+    }
+
+    private CompletableFuture<CommandResult> submitOnModelThread(Logic logic, String commandText) throws Exception {
+        return callOnModelThread(() -> logic.submit(commandText));
+    }
+
+    private <T> T callOnModelThread(Callable<T> task) throws Exception {
+        return modelThread.submit(task).get();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_AMY;
@@ -11,10 +12,13 @@ import static seedu.address.logic.commands.CommandTestUtil.PERSON_TYPE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +26,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,6 +41,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.testutil.PatientBuilder;
 
 public class LogicManagerTest {
@@ -51,7 +59,9 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("commandHistory.txt"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -85,6 +95,36 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommands_addressBookNotSaved() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new TextCommandHistoryStorage(temporaryFolder.resolve("commandHistory.txt")));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD + " " + CliSyntax.PATIENT_TAG);
+        logic.execute(FindCommand.COMMAND_WORD + " " + CliSyntax.PATIENT_TAG + " " + CliSyntax.PREFIX_NAME + "Alice");
+        logic.execute(ViewCommand.COMMAND_WORD + " 1");
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(1, saveCount[0]);
+        assertTrue(model.getAddressBook().getChanges().isEmpty());
+
+        logic.execute(ListCommand.COMMAND_WORD + " " + CliSyntax.PATIENT_TAG);
+        assertEquals(1, saveCount[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -95,6 +135,27 @@ public class LogicManagerTest {
         assertEquals(logic.getSelectedPerson(), null);
     }
 
+    @Test
+    public void getCompletions_personAdded_completesNewName() throws Exception {
+        assertTrue(logic.getCompletions("find -pa n/Amy").isEmpty());
+        logic.execute(AddCommand.COMMAND_WORD + PERSON_TYPE_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + AGE_DESC_AMY);
+        assertEquals(List.of("find -pa n/" + AMY.getName().fullName), logic.getCompletions("find -pa n/Amy"));
+    }
+
+    @Test
+    public void addCommandString_validCommandString_savedAndSearchable() throws Exception {
+        logic.addCommandString("list -pa");
+        logic.addCommandString("find -sp n/Alice");
+        // the command strings are appended to the file on the worker, which is drained on shutdown
+        logic.shutdown();
+
+        assertEquals(List.of("list -pa", "find -sp n/Alice"),
+                new TextCommandHistoryStorage(temporaryFolder.resolve("commandHistory.txt")).readCommandHistory());
+        assertEquals(Optional.of("find -sp n/Alice"), logic.searchCommandString("ALI"));
+        assertEquals(Optional.empty(), logic.searchPrevCommandString("ALI"));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -168,7 +229,8 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                new TextCommandHistoryStorage(temporaryFolder.resolve("ExceptionCommandHistory.txt")));
         logic = new LogicManager(model, storage);
 
         // Triggers the saveAddressBook method by executing an add command
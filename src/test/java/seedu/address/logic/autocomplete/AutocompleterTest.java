@@ -0,0 +1,102 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ShortcutSettings;
+import seedu.address.logic.commands.CommandWord;
+import seedu.address.logic.commands.ShortcutAlias;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class AutocompleterTest {
+
+    private final Person amy = new PatientBuilder().withMedicalHistory("Asthma")
+            .withName("Amy Bee").withTags("friends").build();
+    private final Person alex = new PatientBuilder().withMedicalHistory("Arthritis")
+            .withName("Alex Yeoh").withTags("family").build();
+    private final Person bob = new SpecialistBuilder().withSpecialty("Dermatology").withLocation("Ang Mo Kio")
+            .withName("Bob Choo").withTags("friends").build();
+
+    private final AddressBook addressBook = new AddressBook();
+    private final ShortcutSettings shortcutSettings = new ShortcutSettings();
+
+    @Test
+    public void getCompletions_commandWord_completesCommandWordsAndAliases() {
+        shortcutSettings.registerShortcut(new ShortcutAlias("ls"), new CommandWord("list"));
+        Autocompleter autocompleter = new Autocompleter(addressBook.getPersonList(), shortcutSettings);
+
+        assertEquals(List.of("list", "ls"), autocompleter.getCompletions("l"));
+        assertEquals(List.of(" edit"), autocompleter.getCompletions(" ed"));
+        assertTrue(autocompleter.getCompletions("").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_fieldValues_completesLastPrefix() {
+        addressBook.setPersons(List.of(amy, alex, bob));
+        Autocompleter autocompleter = new Autocompleter(addressBook.getPersonList(), shortcutSettings);
+
+        assertEquals(List.of("find -pa n/Alex Yeoh", "find -pa n/Amy Bee"),
+                autocompleter.getCompletions("find -pa n/a"));
+        assertEquals(List.of("find -pa n/Amy Bee t/family", "find -pa n/Amy Bee t/friends"),
+                autocompleter.getCompletions("find -pa n/Amy Bee t/f"));
+        assertEquals(List.of("add -pa m/Arthritis", "add -pa m/Asthma"), autocompleter.getCompletions("add -pa m/"));
+        assertEquals(List.of("find -sp s/Dermatology"), autocompleter.getCompletions("find -sp s/d"));
+        assertEquals(List.of("find -sp l/Ang Mo Kio"), autocompleter.getCompletions("find -sp l/ang mo"));
+        assertEquals(List.of("addshortcut sc/ls kw/list"), autocompleter.getCompletions("addshortcut sc/ls kw/li"));
+
+        // values cannot be completed without a prefix
+        assertTrue(autocompleter.getCompletions("delete 1").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_addressBookChanged_completesCurrentValues() {
+        addressBook.setPersons(List.of(amy, bob));
+        Autocompleter autocompleter = new Autocompleter(addressBook.getPersonList(), shortcutSettings);
+
+        addressBook.addPerson(alex);
+        assertEquals(List.of("find n/Alex Yeoh", "find n/Amy Bee"), autocompleter.getCompletions("find n/a"));
+
+        addressBook.setPerson(amy, new PatientBuilder((Patient) amy).withName("Zed").withTags().build());
+        assertEquals(List.of("find n/Alex Yeoh"), autocompleter.getCompletions("find n/a"));
+        // bob still has the friends tag
+        assertEquals(List.of("find t/friends"), autocompleter.getCompletions("find t/fr"));
+
+        addressBook.removePerson(bob);
+        assertTrue(autocompleter.getCompletions("find t/fr").isEmpty());
+
+        addressBook.resetData(new AddressBook());
+        assertTrue(autocompleter.getCompletions("find n/").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_manyPersons_fast() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            persons.add(new PatientBuilder().withName("Person " + i).withTags("tag" + (i % 1000)).build());
+        }
+        addressBook.setPersons(persons);
+        Autocompleter autocompleter = new Autocompleter(addressBook.getPersonList(), shortcutSettings);
+
+        // warm up so that class loading and compilation are not counted
+        for (int i = 0; i < 1000; i++) {
+            autocompleter.getCompletions("find -pa n/Person " + i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1, autocompleter.getCompletions("find -pa t/tag" + i + " n/Person " + (i + 50_000)).size());
+        }
+        long averageNanos = (System.nanoTime() - start) / 1000;
+
+        // well under a millisecond each, with plenty of room for slow test machines
+        assertTrue(averageNanos < 1_000_000, "average lookup took " + averageNanos + "ns");
+    }
+}
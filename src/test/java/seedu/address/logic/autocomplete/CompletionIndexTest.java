@@ -0,0 +1,56 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionIndexTest {
+
+    private final CompletionIndex index = new CompletionIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getCompletions_prefix_sortedMatchesIgnoringCase() {
+        index.add("Bob");
+        index.add("alice");
+        index.add("Alex");
+        index.add("Albert");
+
+        assertEquals(List.of("Albert", "Alex", "alice"), index.getCompletions("AL", 10));
+        assertEquals(List.of("Albert", "Alex"), index.getCompletions("al", 2));
+        assertEquals(List.of("Albert", "Alex", "alice", "Bob"), index.getCompletions("", 10));
+        assertEquals(List.of(), index.getCompletions("c", 10));
+    }
+
+    @Test
+    public void add_differentCase_completesToFirstAdded() {
+        index.add("Diabetes");
+        index.add("diabetes");
+
+        assertEquals(1, index.size());
+        assertEquals(List.of("Diabetes"), index.getCompletions("dia", 10));
+    }
+
+    @Test
+    public void remove_valueAddedTwice_keptUntilRemovedTwice() {
+        index.add("friends");
+        index.add("friends");
+
+        index.remove("friends");
+        assertEquals(List.of("friends"), index.getCompletions("f", 10));
+        index.remove("FRIENDS");
+        assertEquals(List.of(), index.getCompletions("f", 10));
+
+        // removing a value that is not in the index does nothing
+        index.remove("friends");
+        assertEquals(0, index.size());
+    }
+
+}
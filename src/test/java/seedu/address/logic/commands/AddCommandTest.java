@@ -8,8 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,11 +27,20 @@ import seedu.address.commons.core.ShortcutSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Theme;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.FindPlan;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Specialist;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddCommandTest {
@@ -137,6 +152,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookUnsaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ShortcutSettings getShortcutSettings() {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +207,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replacePersons(Map<Person, Person> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -187,6 +232,87 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateSortedPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersonSortOrder(PersonSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonSortOrder getPersonSortOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> getFuzzyNameMatches(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPatientsInAgeRanges(List<AgeRange> ageRanges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Specialist> findNearestSpecialists(Coordinates target, int count,
+                Predicate<String> specialtyTest, Predicate<Person> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FindPlan planFind(PersonType personType, List<Predicate<Person>> predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getReferrals(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Appointment> findAppointmentConflict(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAppointment(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteAppointment(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Appointment> getAppointmentAt(Person person, LocalDateTime start) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getAppointments(Person person, TimeSlot window) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> getFreeSlots(Person person, TimeSlot window) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TimeSlot getScheduleWindow() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateScheduleWindow(TimeSlot window) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person getSelectedPerson() {
             throw new AssertionError("This method should not be called.");
@@ -241,6 +367,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<String> searchCommandString(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> searchPrevCommandString(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getCommandStrings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called.");
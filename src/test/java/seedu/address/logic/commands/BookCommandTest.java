@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.appointment;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalAppointments.timeSlot;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.PersonType;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code BookCommand}.
+ */
+public class BookCommandTest {
+
+    private static final TimeSlot FREE_SLOT = timeSlot("2023-11-20 11:00", "2023-11-20 11:30");
+
+    private Model model = new ModelManager(getTypicalAddressBookWithAppointments(), new UserPrefs());
+
+    @Test
+    public void execute_patientViewedSpecialistIndex_success() {
+        model.updateSelectedPerson(DANIEL);
+        model.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        Appointment danielWithElle = new Appointment(DANIEL.getName(), ELLE.getName(), FREE_SLOT);
+
+        String expectedMessage = String.format(BookCommand.MESSAGE_BOOK_SUCCESS, danielWithElle.format());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        expectedModel.updateSelectedPerson(DANIEL);
+        expectedModel.addAppointment(danielWithElle);
+        expectedModel.commit();
+
+        assertCommandSuccess(new BookCommand(INDEX_FIRST_PERSON, FREE_SLOT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_specialistViewedPatientIndex_success() {
+        model.updateSelectedPerson(FIONA);
+        Appointment bensonWithFiona = new Appointment(BENSON.getName(), FIONA.getName(), FREE_SLOT);
+
+        String expectedMessage = String.format(BookCommand.MESSAGE_BOOK_SUCCESS, bensonWithFiona.format());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateSelectedPerson(FIONA);
+        expectedModel.addAppointment(bensonWithFiona);
+        expectedModel.commit();
+
+        assertCommandSuccess(new BookCommand(INDEX_SECOND_PERSON, FREE_SLOT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_specialistBusy_throwsCommandException() {
+        model.updateSelectedPerson(ELLE);
+        TimeSlot overlapping = timeSlot("2023-11-20 09:30", "2023-11-20 10:00");
+
+        // Daniel is free, but Elle sees Alice then
+        assertCommandFailure(new BookCommand(Index.fromOneBased(4), overlapping), model,
+                String.format(BookCommand.MESSAGE_CONFLICT, ALICE_WITH_ELLE.format()));
+    }
+
+    @Test
+    public void execute_patientBusy_throwsCommandException() {
+        model.updateSelectedPerson(ALICE);
+        model.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        TimeSlot overlapping = timeSlot("2023-11-20 08:30", "2023-11-20 09:30");
+
+        // George is free, but Alice sees Elle then
+        assertCommandFailure(new BookCommand(Index.fromOneBased(3), overlapping), model,
+                String.format(BookCommand.MESSAGE_CONFLICT, ALICE_WITH_ELLE.format()));
+    }
+
+    @Test
+    public void execute_adjacentAppointment_success() throws Exception {
+        model.updateSelectedPerson(ELLE);
+        TimeSlot adjacent = timeSlot("2023-11-20 08:00", "2023-11-20 09:00");
+
+        new BookCommand(Index.fromOneBased(4), adjacent).execute(model);
+
+        assertEquals(Optional.of(appointment(DANIEL, ELLE, "2023-11-20 08:00", "2023-11-20 09:00")),
+                model.getAppointmentAt(ELLE, adjacent.getStart()));
+    }
+
+    @Test
+    public void execute_samePersonType_throwsCommandException() {
+        model.updateSelectedPerson(ALICE);
+
+        assertCommandFailure(new BookCommand(INDEX_SECOND_PERSON, FREE_SLOT), model,
+                BookCommand.MESSAGE_NOT_PATIENT_AND_SPECIALIST);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+
+        assertCommandFailure(new BookCommand(outOfBoundIndex, FREE_SLOT), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noPersonViewed_throwsCommandException() {
+        assertCommandFailure(new BookCommand(INDEX_FIRST_PERSON, FREE_SLOT), new ModelManager(),
+                BookCommand.MESSAGE_NO_PERSON_VIEWED);
+    }
+
+    @Test
+    public void equals() {
+        BookCommand bookFirstCommand = new BookCommand(INDEX_FIRST_PERSON, FREE_SLOT);
+
+        // same object -> returns true
+        assertTrue(bookFirstCommand.equals(bookFirstCommand));
+
+        // same values -> returns true
+        assertTrue(bookFirstCommand.equals(new BookCommand(INDEX_FIRST_PERSON, FREE_SLOT)));
+
+        // different types -> returns false
+        assertFalse(bookFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(bookFirstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(bookFirstCommand.equals(new BookCommand(INDEX_SECOND_PERSON, FREE_SLOT)));
+
+        // different time slot -> returns false
+        assertFalse(bookFirstCommand.equals(new BookCommand(INDEX_FIRST_PERSON, ALICE_WITH_ELLE.getTimeSlot())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        BookCommand bookCommand = new BookCommand(INDEX_FIRST_PERSON, FREE_SLOT);
+        String expected = BookCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON
+                + ", timeSlot=" + FREE_SLOT + "}";
+        assertEquals(expected, bookCommand.toString());
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditCommand.EditPatientDescriptor;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EditCommand.EditSpecialistDescriptor;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EditPatientDescriptorBuilder;
+import seedu.address.testutil.EditSpecialistDescriptorBuilder;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for BulkEditCommand.
+ */
+public class BulkEditCommandTest {
+
+    private static final Tag TAG_EAST = new Tag("EastClinic");
+    private static final Tag TAG_FRIENDS = new Tag("friends");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_tagsAddedAndRemovedAllShownPatients_success() {
+        BulkEditCommand bulkEditCommand = new BulkEditCommand(new EditPatientDescriptor(), Set.of(TAG_EAST),
+                Set.of(TAG_FRIENDS));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        List<String> expectedFeedbackItems = new ArrayList<>();
+        for (Person person : model.getFilteredPersonList()) {
+            Set<Tag> editedTags = new HashSet<>(person.getTags());
+            editedTags.add(TAG_EAST);
+            editedTags.remove(TAG_FRIENDS);
+            Person editedPerson = new PatientBuilder((Patient) person).withTags(toTagNames(editedTags)).build();
+            boolean isSelected = person.equals(expectedModel.getSelectedPerson());
+            expectedModel.setPerson(person, editedPerson);
+            if (isSelected) {
+                expectedModel.updateSelectedPerson(editedPerson);
+            }
+            expectedFeedbackItems.add(Messages.formatShortForm(editedPerson));
+        }
+        expectedModel.commit();
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(BulkEditCommand.MESSAGE_BULK_EDIT_SUCCESS_HEADER, expectedFeedbackItems.size()),
+                expectedFeedbackItems);
+
+        assertCommandSuccess(bulkEditCommand, model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_fieldsEditedAllShownSpecialists_success() {
+        model.updateFilteredPersonList(person -> person instanceof Specialist);
+        EditSpecialistDescriptor descriptor = new EditSpecialistDescriptorBuilder()
+                .withLocation(VALID_LOCATION_BOB).build();
+        BulkEditCommand bulkEditCommand = new BulkEditCommand(descriptor, Set.of(TAG_EAST), Set.of());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person instanceof Specialist);
+        List<String> expectedFeedbackItems = new ArrayList<>();
+        for (Person person : model.getFilteredPersonList()) {
+            Set<Tag> editedTags = new HashSet<>(person.getTags());
+            editedTags.add(TAG_EAST);
+            Person editedPerson = new SpecialistBuilder((Specialist) person).withLocation(VALID_LOCATION_BOB)
+                    .withTags(toTagNames(editedTags)).build();
+            expectedModel.setPerson(person, editedPerson);
+            expectedFeedbackItems.add(Messages.formatShortForm(editedPerson));
+        }
+        expectedModel.commit();
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(BulkEditCommand.MESSAGE_BULK_EDIT_SUCCESS_HEADER, expectedFeedbackItems.size()),
+                expectedFeedbackItems);
+
+        assertCommandSuccess(bulkEditCommand, model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownPatients_singleChangeAndUndoEntry() throws Exception {
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        List<Integer> changeCounts = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                changeCounts.add(1));
+        EditPersonDescriptor descriptor = new EditPatientDescriptorBuilder().withTags("EastClinic").build();
+
+        new BulkEditCommand(descriptor, Set.of(), Set.of()).execute(model);
+        assertEquals(1, changeCounts.size());
+        assertTrue(model.getFilteredPersonList().stream()
+                .allMatch(person -> person.getTags().equals(Set.of(TAG_EAST))));
+
+        model.undo();
+        assertEquals(originalAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_emptyList_throwsCommandException() {
+        model.updateFilteredPersonList(person -> false);
+        BulkEditCommand bulkEditCommand = new BulkEditCommand(new EditPatientDescriptor(), Set.of(TAG_EAST),
+                Set.of());
+
+        assertCommandFailure(bulkEditCommand, model, BulkEditCommand.MESSAGE_NO_PERSONS_SHOWN);
+    }
+
+    @Test
+    public void execute_personTypeMismatch_throwsCommandException() {
+        BulkEditCommand bulkEditCommand = new BulkEditCommand(new EditSpecialistDescriptor(), Set.of(TAG_EAST),
+                Set.of());
+
+        assertCommandFailure(bulkEditCommand, model, BulkEditCommand.MESSAGE_PERSON_TYPE_MISMATCH);
+    }
+
+    @Test
+    public void equals() {
+        BulkEditCommand standardCommand = new BulkEditCommand(new EditPatientDescriptor(), Set.of(TAG_EAST),
+                Set.of(TAG_FRIENDS));
+
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new BulkEditCommand(new EditPatientDescriptor(), Set.of(TAG_EAST),
+                Set.of(TAG_FRIENDS))));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different descriptor -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand(new EditSpecialistDescriptor(), Set.of(TAG_EAST),
+                Set.of(TAG_FRIENDS))));
+
+        // different tags to add -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand(new EditPatientDescriptor(), Set.of(),
+                Set.of(TAG_FRIENDS))));
+
+        // different tags to remove -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand(new EditPatientDescriptor(), Set.of(TAG_EAST),
+                Set.of())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        EditPatientDescriptor descriptor = new EditPatientDescriptor();
+        BulkEditCommand bulkEditCommand = new BulkEditCommand(descriptor, Set.of(TAG_EAST), Set.of());
+        String expected = BulkEditCommand.class.getCanonicalName() + "{editPersonDescriptor=" + descriptor
+                + ", tagsToAdd=" + Set.of(TAG_EAST) + ", tagsToRemove=" + Set.of() + "}";
+        assertEquals(expected, bulkEditCommand.toString());
+    }
+
+    private static String[] toTagNames(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).toArray(String[]::new);
+    }
+}
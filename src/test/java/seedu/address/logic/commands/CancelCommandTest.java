@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.BENSON_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code CancelCommand}.
+ */
+public class CancelCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBookWithAppointments(), new UserPrefs());
+
+    @Test
+    public void execute_patientViewed_success() {
+        // Alice is viewed at first
+        String expectedMessage = String.format(CancelCommand.MESSAGE_CANCEL_SUCCESS, ALICE_WITH_ELLE.format());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.deleteAppointment(ALICE_WITH_ELLE);
+        expectedModel.commit();
+
+        assertCommandSuccess(new CancelCommand(ALICE_WITH_ELLE.getStart()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_specialistViewed_success() {
+        model.updateSelectedPerson(ELLE);
+        String expectedMessage = String.format(CancelCommand.MESSAGE_CANCEL_SUCCESS, BENSON_WITH_ELLE.format());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateSelectedPerson(ELLE);
+        expectedModel.deleteAppointment(BENSON_WITH_ELLE);
+        expectedModel.commit();
+
+        assertCommandSuccess(new CancelCommand(BENSON_WITH_ELLE.getStart()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noAppointmentAtStart_throwsCommandException() {
+        model.updateSelectedPerson(CARL);
+        String expectedMessage = String.format(CancelCommand.MESSAGE_NO_APPOINTMENT,
+                ALICE_WITH_ELLE.getStart().format(TimeSlot.DATE_TIME_FORMATTER));
+
+        // Carl has no appointment at the time Alice has one
+        assertCommandFailure(new CancelCommand(ALICE_WITH_ELLE.getStart()), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_noPersonViewed_throwsCommandException() {
+        assertCommandFailure(new CancelCommand(ALICE_WITH_ELLE.getStart()), new ModelManager(),
+                CancelCommand.MESSAGE_NO_PERSON_VIEWED);
+    }
+
+    @Test
+    public void equals() {
+        CancelCommand cancelFirstCommand = new CancelCommand(ALICE_WITH_ELLE.getStart());
+
+        // same object -> returns true
+        assertTrue(cancelFirstCommand.equals(cancelFirstCommand));
+
+        // same values -> returns true
+        assertTrue(cancelFirstCommand.equals(new CancelCommand(ALICE_WITH_ELLE.getStart())));
+
+        // different types -> returns false
+        assertFalse(cancelFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(cancelFirstCommand.equals(null));
+
+        // different start -> returns false
+        assertFalse(cancelFirstCommand.equals(new CancelCommand(BENSON_WITH_ELLE.getStart())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CancelCommand cancelCommand = new CancelCommand(ALICE_WITH_ELLE.getStart());
+        String expected = CancelCommand.class.getCanonicalName() + "{start=" + ALICE_WITH_ELLE.getStart() + "}";
+        assertEquals(expected, cancelCommand.toString());
+    }
+}
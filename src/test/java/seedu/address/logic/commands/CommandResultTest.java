@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,14 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // same feedback items -> returns true
+        CommandResult listingResult = new CommandResult("feedback", List.of("first", "second"));
+        assertTrue(listingResult.equals(new CommandResult("feedback", List.of("first", "second"))));
+
+        // different feedback items -> returns false
+        assertFalse(listingResult.equals(commandResult));
+        assertFalse(listingResult.equals(new CommandResult("feedback", List.of("first", "third"))));
     }
 
     @Test
@@ -56,7 +66,7 @@ public class CommandResultTest {
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
-                + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
+                + commandResult.getFeedbackToUser() + ", feedbackItemCount=0, showHelp=" + commandResult.isShowHelp()
                 + ", exit=" + commandResult.isExit() + "}";
         assertEquals(expected, commandResult.toString());
     }
@@ -35,16 +35,15 @@ public class DeleteCommandTest {
     public void execute_validSingleIndexUnfilteredList_success() {
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON));
-        StringBuilder expectedMessageBuilder =
-                new StringBuilder(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, 1));
-        expectedMessageBuilder.append(String.format("\n%1$d. %2$s", 1,
-                Messages.formatShortForm(personToDelete)));
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, 1),
+                List.of(Messages.formatShortForm(personToDelete)));
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deletePerson(personToDelete);
         expectedModel.canRedo();
 
-        assertCommandSuccess(deleteCommand, model, expectedMessageBuilder.toString(), expectedModel);
+        assertCommandSuccess(deleteCommand, model, expectedCommandResult, expectedModel);
     }
 
     @Test
@@ -52,23 +51,63 @@ public class DeleteCommandTest {
         List<Index> indexList = Arrays.asList(Index.fromOneBased(1),
                 Index.fromOneBased(2),
                 Index.fromOneBased(4));
-        StringBuilder expectedMessageBuilder =
-                new StringBuilder(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, indexList.size()));
         List<Person> personsToDelete = new ArrayList<>();
-        for (int i = 0; i < indexList.size(); i++) {
-            Index index = indexList.get(i);
+        List<String> expectedFeedbackItems = new ArrayList<>();
+        for (Index index : indexList) {
             Person currPerson = model.getFilteredPersonList().get(index.getZeroBased());
             personsToDelete.add(currPerson);
-            expectedMessageBuilder.append(String.format("\n%1$d. %2$s", i + 1,
-                            Messages.formatShortForm(currPerson)));
+            expectedFeedbackItems.add(Messages.formatShortForm(currPerson));
         }
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, indexList.size()),
+                expectedFeedbackItems);
         DeleteCommand deleteCommand = new DeleteCommand(indexList);
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         for (Person person: personsToDelete) {
             expectedModel.deletePerson(person);
         }
         expectedModel.commit();
-        assertCommandSuccess(deleteCommand, model, expectedMessageBuilder.toString(), expectedModel);
+        assertCommandSuccess(deleteCommand, model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_allIndexes_summaryListsDeletedPersonsSeparately() throws Exception {
+        List<Person> personsToDelete = new ArrayList<>(model.getFilteredPersonList());
+        List<Index> indexList = new ArrayList<>();
+        for (int i = 1; i <= personsToDelete.size(); i++) {
+            indexList.add(Index.fromOneBased(i));
+        }
+
+        CommandResult result = new DeleteCommand(indexList).execute(model);
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, personsToDelete.size()),
+                result.getFeedbackToUser());
+        assertEquals(personsToDelete.size(), result.getFeedbackItems().size());
+        assertEquals(Messages.formatShortForm(personsToDelete.get(personsToDelete.size() - 1)),
+                result.getFeedbackItems().get(personsToDelete.size() - 1));
+    }
+
+    @Test
+    public void execute_allShownFilteredList_deletesShownPersonsOnly() {
+        Person personToKeep = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person personToDelete = model.getFilteredPersonList().get(0);
+
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, 1),
+                List.of(Messages.formatShortForm(personToDelete)));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        showNoPerson(expectedModel);
+        expectedModel.commit();
+
+        assertCommandSuccess(new DeleteCommand(), model, expectedCommandResult, expectedModel);
+        assertTrue(model.hasPerson(personToKeep));
+    }
+
+    @Test
+    public void execute_allShownEmptyList_throwsCommandException() {
+        showNoPerson(model);
+        assertCommandFailure(new DeleteCommand(), model, DeleteCommand.MESSAGE_NO_PERSONS_SHOWN);
     }
 
     @Test
@@ -87,17 +126,16 @@ public class DeleteCommandTest {
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON));
 
-        StringBuilder expectedMessageBuilder =
-                new StringBuilder(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, 1));
-        expectedMessageBuilder.append(String.format("\n%1$d. %2$s", 1,
-                Messages.formatShortForm(personToDelete)));
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS_HEADER, 1),
+                List.of(Messages.formatShortForm(personToDelete)));
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deletePerson(personToDelete);
         showNoPerson(expectedModel);
         expectedModel.commit();
 
-        assertCommandSuccess(deleteCommand, model, expectedMessageBuilder.toString(), expectedModel);
+        assertCommandSuccess(deleteCommand, model, expectedCommandResult, expectedModel);
     }
 
     @Test
@@ -136,6 +174,10 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // all shown -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteCommand()));
+        assertTrue(new DeleteCommand().equals(new DeleteCommand()));
     }
 
     @Test
@@ -143,7 +185,7 @@ public class DeleteCommandTest {
         List<Index> indexList = Arrays.asList(Index.fromOneBased(1), Index.fromOneBased(2));
         DeleteCommand deleteCommand = new DeleteCommand(indexList);
         String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes=" + indexList
-                + "}";
+                + ", isAllShown=false}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -13,6 +13,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -21,13 +22,17 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditCommand.EditPatientDescriptor;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EditCommand.EditSpecialistDescriptor;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.Location;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Specialist;
 import seedu.address.testutil.EditPatientDescriptorBuilder;
 import seedu.address.testutil.EditSpecialistDescriptorBuilder;
@@ -132,6 +137,41 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void createEditedSpecialist_locationEditedWithoutCoordinates_dropsCoordinates() {
+        Specialist specialist = new SpecialistBuilder(GEORGE).withCoordinates("1.3521,103.8198").build();
+        EditSpecialistDescriptor descriptor = new EditSpecialistDescriptor();
+        descriptor.setLocation(new Location("New Street"));
+        assertEquals(new Location("New Street"),
+                EditCommand.createEditedSpecialist(specialist, descriptor).getLocation());
+
+        descriptor.setCoordinates(new Coordinates("1.3000,103.8000"));
+        assertEquals(new Location("New Street", new Coordinates("1.3000,103.8000")),
+                EditCommand.createEditedSpecialist(specialist, descriptor).getLocation());
+
+        // the same location given again is not moved away from
+        EditSpecialistDescriptor sameLocationDescriptor = new EditSpecialistDescriptor();
+        sameLocationDescriptor.setLocation(new Location(specialist.getLocation().value));
+        assertEquals(specialist.getLocation(),
+                EditCommand.createEditedSpecialist(specialist, sameLocationDescriptor).getLocation());
+
+        // other fields edited keep the coordinates
+        EditSpecialistDescriptor phoneDescriptor = new EditSpecialistDescriptor();
+        phoneDescriptor.setPhone(new Phone("91234567"));
+        assertEquals(specialist.getLocation(),
+                EditCommand.createEditedSpecialist(specialist, phoneDescriptor).getLocation());
+    }
+
+    @Test
+    public void createEditedSpecialist_coordinatesCleared_dropsCoordinates() {
+        Specialist specialist = new SpecialistBuilder(GEORGE).withCoordinates("1.3521,103.8198").build();
+        EditSpecialistDescriptor descriptor = new EditSpecialistDescriptor();
+        descriptor.clearCoordinates();
+        assertTrue(descriptor.isAnyFieldEdited());
+        assertEquals(new Location(specialist.getLocation().value),
+                EditCommand.createEditedSpecialist(specialist, descriptor).getLocation());
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(DESC_AMY);
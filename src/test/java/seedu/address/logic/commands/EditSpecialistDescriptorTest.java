@@ -76,7 +76,8 @@ public class EditSpecialistDescriptorTest {
                 + editSpecialistDescriptor.getPhone().orElse(null) + ", email="
                 + editSpecialistDescriptor.getEmail().orElse(null) + ", tags="
                 + editSpecialistDescriptor.getTags().orElse(null) + ", location="
-                + editSpecialistDescriptor.getLocation().orElse(null) + ", specialty="
+                + editSpecialistDescriptor.getLocation().orElse(null) + ", coordinates="
+                + editSpecialistDescriptor.getCoordinates().orElse(null) + ", specialty="
                 + editSpecialistDescriptor.getSpecialty().orElse(null) + "}";
         assertEquals(expected, editSpecialistDescriptor.toString());
     }
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+
+public class ExplainCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_findCommand_explainsPlanWithoutListingPersons() {
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_NAME, new NameContainsKeywordsPredicate(List.of("Daniel")));
+        findPredicateMap.put(PREFIX_MEDICALHISTORY, new MedHistoryContainsKeywordsPredicate(List.of("Asthma")));
+        List<Person> listedPersons = List.copyOf(model.getFilteredPersonList());
+
+        String feedback = new ExplainCommand(new FindCommand(findPredicateMap, PersonType.PATIENT))
+                .execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("1. Index lookup of patients"));
+        assertTrue(feedback.contains("MedHistoryContainsKeywordsPredicate"));
+        assertTrue(feedback.contains("NameContainsKeywordsPredicate"));
+        assertTrue(feedback.contains("actual 1 rows"));
+        assertTrue(feedback.contains("Planned in "));
+        assertEquals(listedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyNameKeywords_explainsFuzzyNameLookup() {
+        FindCommand findCommand = new FindCommand(new FindPredicateMap(), PersonType.PATIENT, List.of("Alise"));
+        String feedback = new ExplainCommand(findCommand).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("fuzzy name index lookup of [Alise]"));
+    }
+
+    @Test
+    public void equals() {
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_NAME, new NameContainsKeywordsPredicate(List.of("Daniel")));
+        ExplainCommand explainCommand = new ExplainCommand(new FindCommand(findPredicateMap, PersonType.PATIENT));
+
+        // same values -> returns true
+        assertTrue(explainCommand.equals(new ExplainCommand(new FindCommand(findPredicateMap, PersonType.PATIENT))));
+
+        // same object -> returns true
+        assertTrue(explainCommand.equals(explainCommand));
+
+        // null -> returns false
+        assertFalse(explainCommand.equals(null));
+
+        // different find command -> returns false
+        assertFalse(explainCommand.equals(new ExplainCommand(
+                new FindCommand(findPredicateMap, PersonType.SPECIALIST))));
+    }
+}
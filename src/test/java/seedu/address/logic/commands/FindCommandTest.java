@@ -14,6 +14,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
@@ -21,17 +22,21 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AgeRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
-import seedu.address.model.person.predicates.AgeContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FindQuery;
 import seedu.address.model.person.predicates.LocationContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
@@ -107,8 +112,8 @@ public class FindCommandTest {
                 new PhoneContainsKeywordsPredicate(Collections.singletonList("89934991"));
         EmailContainsKeywordsPredicate emailContainsKeywordsPredicate =
                 new EmailContainsKeywordsPredicate(Collections.singletonList("patient@gmail.com"));
-        AgeContainsKeywordsPredicate ageContainsKeywordsPredicate =
-                new AgeContainsKeywordsPredicate(Arrays.asList("35", "40"));
+        AgeInRangesPredicate ageInRangesPredicate =
+                new AgeInRangesPredicate(Arrays.asList(new AgeRange("35"), new AgeRange(">=40")));
         TagsContainsKeywordsPredicate tagsContainsKeywordsPredicate =
                 new TagsContainsKeywordsPredicate(Arrays.asList("tag1", "tag2"));
         MedHistoryContainsKeywordsPredicate medHistoryContainsKeywordsPredicate =
@@ -118,7 +123,7 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_NAME, nameContainsKeywordsPredicate);
         findPredicateMap.put(PREFIX_PHONE, phoneContainsKeywordsPredicate);
         findPredicateMap.put(PREFIX_EMAIL, emailContainsKeywordsPredicate);
-        findPredicateMap.put(PREFIX_AGE, ageContainsKeywordsPredicate);
+        findPredicateMap.put(PREFIX_AGE, ageInRangesPredicate);
         findPredicateMap.put(PREFIX_TAG, tagsContainsKeywordsPredicate);
         findPredicateMap.put(PREFIX_MEDICALHISTORY, medHistoryContainsKeywordsPredicate);
         return findPredicateMap;
@@ -199,13 +204,70 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_prepared_preparedPersonsListed() {
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_NAME, prepareNamePredicate("Alice Kunz Daniel"));
+        FindCommand command = new FindCommand(findPredicateMap, PersonType.PATIENT);
+        command.prepare(model);
+        // the filtered list is only changed once the command is executed
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+
+        command.execute(model);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_ageRanges_patientsInRangesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_AGE, prepareAgePredicate("<20 40-50 >=75"));
+        Predicate<Person> predicate = combinePersonPredicates(findPredicateMap, PersonType.PATIENT);
+        FindCommand command = new FindCommand(findPredicateMap, PersonType.PATIENT);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_ageRangeAndName_patientsMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_AGE, prepareAgePredicate(">=29"));
+        findPredicateMap.put(PREFIX_NAME, prepareNamePredicate("Alice Carl"));
+        Predicate<Person> predicate = combinePersonPredicates(findPredicateMap, PersonType.PATIENT);
+        FindCommand command = new FindCommand(findPredicateMap, PersonType.PATIENT);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyNameKeywords_closestPatientsListedFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(new FindPredicateMap(), PersonType.PATIENT,
+                Arrays.asList("Alise", "Kurz"));
+        expectedModel.updateFilteredPersonList(List.of(ALICE, CARL)::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // Carl's name has an exact match, while Alice's name is one edit away
+        assertEquals(Arrays.asList(CARL, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals_differentFuzzyNameKeywords_returnsFalse() {
+        FindCommand findCommand = new FindCommand(new FindPredicateMap(), PersonType.PATIENT, List.of("Alise"));
+        assertTrue(findCommand.equals(new FindCommand(new FindPredicateMap(), PersonType.PATIENT, List.of("Alise"))));
+        assertFalse(findCommand.equals(new FindCommand(new FindPredicateMap(), PersonType.PATIENT, List.of("Kurz"))));
+        assertFalse(findCommand.equals(new FindCommand(new FindPredicateMap(), PersonType.PATIENT)));
+    }
+
     @Test
     public void nameContainsKeywordsPredicateToStringMethod() {
         FindPredicateMap findPredicateMap = new FindPredicateMap();
         findPredicateMap.put(PREFIX_NAME, prepareNamePredicate("keyword"));
         FindCommand findCommand = new FindCommand(findPredicateMap, PersonType.PATIENT);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + findPredicateMap
-                + ", personType=" + PersonType.PATIENT + "}";
+                + ", personType=" + PersonType.PATIENT + ", fuzzyNameKeywords=[]}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -215,7 +277,7 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_PHONE, preparePhonePredicate("keyword"));
         FindCommand findCommand = new FindCommand(findPredicateMap, PersonType.PATIENT);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + findPredicateMap
-                + ", personType=" + PersonType.PATIENT + "}";
+                + ", personType=" + PersonType.PATIENT + ", fuzzyNameKeywords=[]}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -225,7 +287,7 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_EMAIL, prepareEmailPredicate("keyword"));
         FindCommand findCommand = new FindCommand(findPredicateMap, PersonType.PATIENT);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + findPredicateMap
-                + ", personType=" + PersonType.PATIENT + "}";
+                + ", personType=" + PersonType.PATIENT + ", fuzzyNameKeywords=[]}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -235,7 +297,7 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_TAG, prepareTagsPredicate("keyword"));
         FindCommand findCommand = new FindCommand(findPredicateMap, PersonType.PATIENT);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + findPredicateMap
-                + ", personType=" + PersonType.PATIENT + "}";
+                + ", personType=" + PersonType.PATIENT + ", fuzzyNameKeywords=[]}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -245,7 +307,7 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_MEDICALHISTORY, prepareMedHistPredicate("keyword"));
         FindCommand findCommand = new FindCommand(findPredicateMap, PersonType.PATIENT);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + findPredicateMap
-                + ", personType=" + PersonType.PATIENT + "}";
+                + ", personType=" + PersonType.PATIENT + ", fuzzyNameKeywords=[]}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -255,7 +317,7 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_SPECIALTY, prepareSpecialtyPredicate("keyword"));
         FindCommand findCommand = new FindCommand(findPredicateMap, PersonType.SPECIALIST);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + findPredicateMap
-                + ", personType=" + PersonType.SPECIALIST + "}";
+                + ", personType=" + PersonType.SPECIALIST + ", fuzzyNameKeywords=[]}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -303,10 +365,13 @@ public class FindCommandTest {
     }
 
     /**
-     * Parses {@code userInput} into a {@code AgeContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code AgeInRangesPredicate}.
      */
-    private AgeContainsKeywordsPredicate prepareAgePredicate(String userInput) {
-        return new AgeContainsKeywordsPredicate(Arrays.asList(userInput.split(WHITESPACE_REGEX)));
+    private AgeInRangesPredicate prepareAgePredicate(String userInput) {
+        return new AgeInRangesPredicate(Arrays.stream(userInput.split(WHITESPACE_REGEX))
+                .filter(keyword -> !keyword.isEmpty())
+                .map(AgeRange::new)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -331,4 +396,17 @@ public class FindCommandTest {
         findPredicateMap.put(PREFIX_TAG, prepareTagsPredicate(" "));
         return findPredicateMap;
     }
+
+    @Test
+    public void execute_query_matchingPatientsFound() {
+        FindQuery query = FindQuery.and(
+                FindQuery.or(FindQuery.of(new TagsContainsKeywordsPredicate(List.of("friends"))),
+                        FindQuery.of(new MedHistoryContainsKeywordsPredicate(List.of("Asthma")))),
+                FindQuery.not(FindQuery.of(new NameContainsKeywordsPredicate(List.of("Benson")))));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(query, PersonType.PATIENT);
+        expectedModel.updateFilteredPersonList(PersonType.PATIENT.getSearchPredicate().and(query));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
 }
@@ -0,0 +1,129 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.Specialist;
+import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+import seedu.address.testutil.SpecialistBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code NearestCommand}.
+ */
+public class NearestCommandTest {
+
+    private static final Coordinates TARGET = new Coordinates("1.3090,103.8090");
+
+    private final Specialist elle = new SpecialistBuilder(ELLE).withCoordinates("1.3000,103.8000").build();
+    private final Specialist fiona = (Specialist) new SpecialistBuilder(FIONA).withCoordinates("1.3100,103.8100")
+            .withTags("weekends").build();
+    private final Specialist george = new SpecialistBuilder(GEORGE).withCoordinates("1.2000,103.7000").build();
+
+    private final Model model = new ModelManager(getAddressBookWithCoordinates(), new UserPrefs());
+
+    @Test
+    public void execute_noFilters_nearestSpecialistsListedNearestFirst() {
+        CommandResult result = new NearestCommand(TARGET, 2, Optional.empty(), Optional.empty()).execute(model);
+
+        assertEquals(String.format(NearestCommand.MESSAGE_SUCCESS, 2, TARGET), result.getFeedbackToUser());
+        assertEquals(List.of(
+                String.format(NearestCommand.MESSAGE_SPECIALIST_DISTANCE, fiona.getName(), fiona.getSpecialty(),
+                        fiona.getLocation().getCoordinates().get().distanceTo(TARGET)),
+                String.format(NearestCommand.MESSAGE_SPECIALIST_DISTANCE, elle.getName(), elle.getSpecialty(),
+                        elle.getLocation().getCoordinates().get().distanceTo(TARGET))),
+                result.getFeedbackItems());
+        assertEquals(List.of(fiona, elle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_specialtyAndTagFilters_onlyMatchingSpecialistsListed() {
+        NearestCommand physiotherapyCommand = new NearestCommand(TARGET, 5,
+                Optional.of(new SpecialtyContainsKeywordsPredicate(List.of("physio"))), Optional.empty());
+        physiotherapyCommand.execute(model);
+        assertEquals(List.of(george), model.getFilteredPersonList());
+
+        NearestCommand notTaggedCommand = new NearestCommand(TARGET, 5,
+                Optional.of(new SpecialtyContainsKeywordsPredicate(List.of("Dermatology", "Orthopaedic"))),
+                Optional.of(new TagsContainsKeywordsPredicate(List.of("weekdays"))));
+        CommandResult result = notTaggedCommand.execute(model);
+        assertEquals(String.format(NearestCommand.MESSAGE_SUCCESS, 0, TARGET), result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+
+        NearestCommand taggedCommand = new NearestCommand(TARGET, 5, Optional.empty(),
+                Optional.of(new TagsContainsKeywordsPredicate(List.of("weekends"))));
+        taggedCommand.execute(model);
+        assertEquals(List.of(fiona), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_specialistsWithoutCoordinates_notListed() {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new NearestCommand(TARGET, 5, Optional.empty(), Optional.empty()).execute(typicalModel);
+        assertTrue(typicalModel.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        Optional<SpecialtyContainsKeywordsPredicate> specialtyPredicate =
+                Optional.of(new SpecialtyContainsKeywordsPredicate(List.of("physio")));
+        NearestCommand nearestCommand = new NearestCommand(TARGET, 3, specialtyPredicate, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(nearestCommand.equals(nearestCommand));
+
+        // same values -> returns true
+        assertTrue(nearestCommand.equals(new NearestCommand(new Coordinates("1.309,103.809"), 3,
+                Optional.of(new SpecialtyContainsKeywordsPredicate(List.of("physio"))), Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(nearestCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(nearestCommand.equals(null));
+
+        // different target -> returns false
+        assertFalse(nearestCommand.equals(new NearestCommand(new Coordinates("0,0"), 3, specialtyPredicate,
+                Optional.empty())));
+
+        // different count -> returns false
+        assertFalse(nearestCommand.equals(new NearestCommand(TARGET, 4, specialtyPredicate, Optional.empty())));
+
+        // different filters -> returns false
+        assertFalse(nearestCommand.equals(new NearestCommand(TARGET, 3, Optional.empty(), Optional.empty())));
+        assertFalse(nearestCommand.equals(new NearestCommand(TARGET, 3, specialtyPredicate,
+                Optional.of(new TagsContainsKeywordsPredicate(List.of("weekends"))))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NearestCommand nearestCommand = new NearestCommand(TARGET, 3, Optional.empty(), Optional.empty());
+        String expected = NearestCommand.class.getCanonicalName() + "{target=" + TARGET + ", count=3"
+                + ", specialtyPredicate=" + Optional.empty() + ", tagsPredicate=" + Optional.empty() + "}";
+        assertEquals(expected, nearestCommand.toString());
+    }
+
+    private AddressBook getAddressBookWithCoordinates() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setPerson(ELLE, elle);
+        addressBook.setPerson(FIONA, fiona);
+        addressBook.setPerson(GEORGE, george);
+        return addressBook;
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +56,29 @@ public class RedoCommandTest {
                 return Optional.empty();
             }
 
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBookSnapshot() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Path getCommandHistoryFilePath() {
+                return null;
+            }
+
+            @Override
+            public List<String> readCommandHistory() throws DataLoadingException {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public void appendCommandString(String commandString) throws IOException {
+            }
+
+            @Override
+            public void saveCommandHistory(List<String> commandStrings) throws IOException {
+            }
+
             @Override
             public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
 
@@ -138,22 +163,22 @@ public class RedoCommandTest {
         model.redo();
         model.redo();
 
-        String expectedFeedback = "Deleted 1 Person(s):\n"
-                + "1. Patient: Alice Pauline; Phone: 94351253";
+        CommandResult expectedCommandResult = new CommandResult("Deleted 1 Person(s):",
+                List.of("Patient: Alice Pauline; Phone: 94351253"));
 
         //redone addsc should be executable
         assertCommandResultExecutedFromLogicManager(logicManager, "del 1",
-                new CommandResult(expectedFeedback));
+                expectedCommandResult);
 
         //final addsc to make sure previous unknown command errors are not flukes
         model.getShortcutSettings().registerShortcut(new ShortcutAlias("del4"),
                 new CommandWord(DeleteCommand.COMMAND_WORD));
         model.commit();
 
-        String commandResultString = "Deleted 1 Person(s):\n"
-                + "1. Patient: Benson Meier; Phone: 98765432";
+        expectedCommandResult = new CommandResult("Deleted 1 Person(s):",
+                List.of("Patient: Benson Meier; Phone: 98765432"));
         assertCommandResultExecutedFromLogicManager(logicManager, "del4 1",
-                new CommandResult(commandResultString));
+                expectedCommandResult);
     }
 
     @Test
@@ -165,10 +190,10 @@ public class RedoCommandTest {
         model.getShortcutSettings().registerShortcut(new ShortcutAlias("del2"),
                 new CommandWord(DeleteCommand.COMMAND_WORD));
         model.commit();
-        String commandResultString = "Deleted 1 Person(s):\n"
-                + "1. Patient: Alice Pauline; Phone: 94351253";
+        CommandResult expectedCommandResult = new CommandResult("Deleted 1 Person(s):",
+                List.of("Patient: Alice Pauline; Phone: 94351253"));
         assertCommandResultExecutedFromLogicManager(logicManager, "del2 1",
-                new CommandResult(commandResultString));
+                expectedCommandResult);
 
         //remove and test shortcut doesn't work
         model.getShortcutSettings().removeShortcut(new ShortcutAlias("del2"));
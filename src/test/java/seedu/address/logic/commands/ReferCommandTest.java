@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.PersonType;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code ReferCommand}.
+ */
+public class ReferCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_patientViewedSpecialistIndex_success() {
+        model.updateSelectedPerson(ALICE);
+        model.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        Patient referredAlice = new PatientBuilder(ALICE).withReferrals(ELLE.getName().fullName).build();
+
+        String expectedMessage = String.format(ReferCommand.MESSAGE_REFER_SUCCESS, ALICE.getName(), ELLE.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        expectedModel.setPerson(ALICE, referredAlice);
+        expectedModel.updateSelectedPerson(referredAlice);
+        expectedModel.commit();
+
+        assertCommandSuccess(new ReferCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_specialistViewedPatientIndex_success() {
+        model.updateSelectedPerson(ELLE);
+        Patient referredBenson = new PatientBuilder(BENSON).withReferrals(ELLE.getName().fullName).build();
+
+        String expectedMessage = String.format(ReferCommand.MESSAGE_REFER_SUCCESS, BENSON.getName(), ELLE.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(BENSON, referredBenson);
+        expectedModel.updateSelectedPerson(ELLE);
+        expectedModel.commit();
+
+        assertCommandSuccess(new ReferCommand(INDEX_SECOND_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_alreadyReferred_throwsCommandException() {
+        Patient referredAlice = new PatientBuilder(ALICE).withReferrals(ELLE.getName().fullName).build();
+        model.setPerson(ALICE, referredAlice);
+        model.updateSelectedPerson(ELLE);
+
+        assertCommandFailure(new ReferCommand(INDEX_FIRST_PERSON), model, ReferCommand.MESSAGE_DUPLICATE_REFERRAL);
+    }
+
+    @Test
+    public void execute_samePersonType_throwsCommandException() {
+        model.updateSelectedPerson(ALICE);
+
+        assertCommandFailure(new ReferCommand(INDEX_SECOND_PERSON), model,
+                ReferralCommand.MESSAGE_NOT_PATIENT_AND_SPECIALIST);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+
+        assertCommandFailure(new ReferCommand(outOfBoundIndex), model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noPersonViewed_throwsCommandException() {
+        assertCommandFailure(new ReferCommand(INDEX_FIRST_PERSON), new ModelManager(),
+                ReferralCommand.MESSAGE_NO_PERSON_VIEWED);
+    }
+
+    @Test
+    public void equals() {
+        ReferCommand referFirstCommand = new ReferCommand(INDEX_FIRST_PERSON);
+        ReferCommand referSecondCommand = new ReferCommand(INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(referFirstCommand.equals(referFirstCommand));
+
+        // same values -> returns true
+        assertTrue(referFirstCommand.equals(new ReferCommand(INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(referFirstCommand.equals(1));
+        assertFalse(referFirstCommand.equals(new UnreferCommand(INDEX_FIRST_PERSON)));
+
+        // null -> returns false
+        assertFalse(referFirstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(referFirstCommand.equals(referSecondCommand));
+    }
+}
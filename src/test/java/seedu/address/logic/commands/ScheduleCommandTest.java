@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_FIONA;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code ScheduleCommand}.
+ */
+public class ScheduleCommandTest {
+
+    private static final TimeSlot DAY = TimeSlot.ofDay(LocalDate.of(2023, 11, 20));
+    private static final TimeSlot WEEK = TimeSlot.ofWeek(LocalDate.of(2023, 11, 20));
+
+    private Model model = new ModelManager(getTypicalAddressBookWithAppointments(), new UserPrefs());
+
+    @Test
+    public void execute_day_showsAppointmentsAndFreeSlots() {
+        // Alice is viewed at first
+        CommandResult expectedResult = new CommandResult(
+                String.format(ScheduleCommand.MESSAGE_SUCCESS, 2, ALICE.getName(), "2023-11-20", "2023-11-20"),
+                List.of(ALICE_WITH_ELLE.format(),
+                        String.format(ScheduleCommand.MESSAGE_FREE_SLOT, "2023-11-20 10:00-14:00"),
+                        ALICE_WITH_FIONA.format(),
+                        String.format(ScheduleCommand.MESSAGE_FREE_SLOT, "2023-11-20 15:00-18:00")));
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+
+        assertCommandSuccess(new ScheduleCommand(DAY), model, expectedResult, expectedModel);
+        assertEquals(DAY, model.getScheduleWindow());
+    }
+
+    @Test
+    public void execute_week_showsEveryDay() throws Exception {
+        CommandResult result = new ScheduleCommand(WEEK).execute(model);
+
+        assertEquals(String.format(ScheduleCommand.MESSAGE_SUCCESS, 2, ALICE.getName(), "2023-11-20", "2023-11-26"),
+                result.getFeedbackToUser());
+        // the two free slots and two appointments on Monday, and a free day for each of the other six days
+        assertEquals(10, result.getFeedbackItems().size());
+        assertEquals(String.format(ScheduleCommand.MESSAGE_FREE_SLOT, "2023-11-26 09:00-18:00"),
+                result.getFeedbackItems().get(9));
+        assertEquals(WEEK, model.getScheduleWindow());
+    }
+
+    @Test
+    public void execute_noPersonViewed_throwsCommandException() {
+        assertCommandFailure(new ScheduleCommand(DAY), new ModelManager(), ScheduleCommand.MESSAGE_NO_PERSON_VIEWED);
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand scheduleDayCommand = new ScheduleCommand(DAY);
+
+        // same object -> returns true
+        assertTrue(scheduleDayCommand.equals(scheduleDayCommand));
+
+        // same values -> returns true
+        assertTrue(scheduleDayCommand.equals(new ScheduleCommand(DAY)));
+
+        // different types -> returns false
+        assertFalse(scheduleDayCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(scheduleDayCommand.equals(null));
+
+        // different window -> returns false
+        assertFalse(scheduleDayCommand.equals(new ScheduleCommand(WEEK)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ScheduleCommand scheduleCommand = new ScheduleCommand(DAY);
+        String expected = ScheduleCommand.class.getCanonicalName() + "{window=" + DAY + "}";
+        assertEquals(expected, scheduleCommand.toString());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.SortField;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private static final PersonSortOrder AGE_DESCENDING =
+            new PersonSortOrder(List.of(new Criterion(SortField.AGE, true)));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_sortOrder_personsSorted() {
+        expectedModel.updatePersonSortOrder(AGE_DESCENDING);
+        assertCommandSuccess(new SortCommand(AGE_DESCENDING), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "age (descending)"), expectedModel);
+        assertEquals(List.of(DANIEL, CARL, BENSON, ALICE), model.getFilteredPersonList().subList(0, 4));
+    }
+
+    @Test
+    public void execute_personsChangedAfterSorting_staySorted() {
+        new SortCommand(AGE_DESCENDING).execute(model);
+
+        // added and edited persons take their place in the order
+        Person middleAged = new PatientBuilder().withAge("35").withName("Middle Aged").build();
+        model.addPerson(middleAged);
+        model.setPerson(ALICE, new PatientBuilder(ALICE).withAge("99").build());
+        model.updateFilteredPersonList(PersonType.PATIENT.getSearchPredicate());
+        assertEquals(List.of(99, 78, 47, 35, 29), model.getFilteredPersonList().stream()
+                .limit(5)
+                .map(person -> ((Patient) person).getAge().value)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_noSortOrder_personsUnsorted() {
+        model.updatePersonSortOrder(AGE_DESCENDING);
+        assertCommandSuccess(new SortCommand(PersonSortOrder.NONE), model, SortCommand.MESSAGE_UNSORTED,
+                expectedModel);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), model.getFilteredPersonList().subList(0, 4));
+    }
+
+    @Test
+    public void execute_undo_previousOrderRestored() {
+        new SortCommand(AGE_DESCENDING).execute(model);
+        model.undo();
+        assertEquals(PersonSortOrder.NONE, model.getPersonSortOrder());
+        model.redo();
+        assertEquals(AGE_DESCENDING, model.getPersonSortOrder());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(AGE_DESCENDING);
+
+        assertTrue(sortCommand.equals(sortCommand));
+        assertTrue(sortCommand.equals(new SortCommand(new PersonSortOrder(
+                List.of(new Criterion(SortField.AGE, true))))));
+
+        assertFalse(sortCommand.equals(null));
+        assertFalse(sortCommand.equals(1));
+        assertFalse(sortCommand.equals(new SortCommand(PersonSortOrder.NONE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(AGE_DESCENDING);
+        String expected = SortCommand.class.getCanonicalName() + "{sortOrder=" + AGE_DESCENDING + "}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
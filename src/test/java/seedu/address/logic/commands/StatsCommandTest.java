@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.commons.core.StatsCenter.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @AfterEach
+    public void tearDown() {
+        StatsCenter.setEnabled(true);
+        StatsCenter.reset();
+    }
+
+    @Test
+    public void execute_statsDisabled_showsDisabledMessage() {
+        StatsCenter.setEnabled(false);
+        assertCommandSuccess(new StatsCommand(), model, StatsCommand.MESSAGE_STATS_DISABLED, expectedModel);
+    }
+
+    @Test
+    public void execute_statsEnabled_showsRecordedLatencies() {
+        StatsCenter.reset();
+        long start = StatsCenter.startTimer();
+        StatsCenter.stopTimer(Phase.PARSE, start);
+        StatsCenter.stopCommandTimer(ListCommand.COMMAND_WORD, start);
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_HEADER));
+        assertTrue(feedback.contains(Phase.PARSE.toString()));
+        assertTrue(feedback.contains(Phase.SAVE.toString()));
+        assertTrue(feedback.contains(ListCommand.COMMAND_WORD));
+        assertFalse(feedback.contains(FindCommand.COMMAND_WORD));
+        assertEquals(1, StatsCenter.getReport().get("commands").get(ListCommand.COMMAND_WORD).getCount());
+    }
+
+    @Test
+    public void getThreadNanos_commitTimed_addsCommitTime() {
+        long commitNanos = StatsCenter.getThreadNanos(Phase.COMMIT);
+        long start = StatsCenter.startTimer();
+        long committed = StatsCenter.stopTimer(Phase.COMMIT, start);
+
+        assertEquals(committed - start, StatsCenter.getThreadNanos(Phase.COMMIT) - commitNanos);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand();
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand()));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new HelpCommand()));
+    }
+}
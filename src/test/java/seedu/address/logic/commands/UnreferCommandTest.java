@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.PersonType;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code UnreferCommand}.
+ */
+public class UnreferCommandTest {
+
+    private static final Patient REFERRED_ALICE = new PatientBuilder(ALICE)
+            .withReferrals(ELLE.getName().fullName, FIONA.getName().fullName).build();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_referredPatientViewed_success() {
+        model.setPerson(ALICE, REFERRED_ALICE);
+        model.updateSelectedPerson(REFERRED_ALICE);
+        model.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        Patient unreferredAlice = new PatientBuilder(ALICE).withReferrals(FIONA.getName().fullName).build();
+
+        String expectedMessage = String.format(UnreferCommand.MESSAGE_UNREFER_SUCCESS, ALICE.getName(),
+                ELLE.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.updateFilteredPersonList(PersonType.SPECIALIST.getSearchPredicate());
+        expectedModel.setPerson(REFERRED_ALICE, unreferredAlice);
+        expectedModel.updateSelectedPerson(unreferredAlice);
+        expectedModel.commit();
+
+        assertCommandSuccess(new UnreferCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+        assertEquals(List.of(FIONA), model.getReferrals(unreferredAlice));
+    }
+
+    @Test
+    public void execute_notReferred_throwsCommandException() {
+        model.updateSelectedPerson(ELLE);
+
+        assertCommandFailure(new UnreferCommand(INDEX_FIRST_PERSON), model, UnreferCommand.MESSAGE_NOT_REFERRED);
+    }
+
+    @Test
+    public void equals() {
+        UnreferCommand unreferFirstCommand = new UnreferCommand(INDEX_FIRST_PERSON);
+
+        // same object -> returns true
+        assertTrue(unreferFirstCommand.equals(unreferFirstCommand));
+
+        // same values -> returns true
+        assertTrue(unreferFirstCommand.equals(new UnreferCommand(INDEX_FIRST_PERSON)));
+
+        // null -> returns false
+        assertFalse(unreferFirstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(unreferFirstCommand.equals(new UnreferCommand(INDEX_SECOND_PERSON)));
+    }
+}
@@ -33,6 +33,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SPECIALTY_DERMA
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -98,6 +99,14 @@ public class AddCommandParserTest {
                 NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + LOCATION_DESC_BOB
                         + TAG_DESC_HUSBAND + TAG_DESC_FRIEND + SPECIALTY_DESC_BOB,
                 new AddCommand(expectedSpecialistMultipleTags), PersonType.SPECIALIST);
+
+        // coordinates - accepted with the location
+        Person expectedSpecialistWithCoordinates = new SpecialistBuilder(BOB).withCoordinates("1.3521,103.8198")
+                .withTags(VALID_TAG_FRIEND).build();
+        assertParseComplexSuccess(parser,
+                NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + LOCATION_DESC_BOB + " " + PREFIX_COORDINATES
+                        + "1.3521,103.8198" + TAG_DESC_FRIEND + SPECIALTY_DESC_BOB,
+                new AddCommand(expectedSpecialistWithCoordinates), PersonType.SPECIALIST);
     }
 
     @Test
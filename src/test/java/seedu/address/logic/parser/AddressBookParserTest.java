@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_TYPE;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.COMMANDWORD_DESC_VALID;
 import static seedu.address.logic.commands.CommandTestUtil.COMMAND_WORD_1;
@@ -15,9 +16,13 @@ import static seedu.address.logic.parser.CliSyntax.SPECIALIST_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +30,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddShortcutCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteShortcutCommand;
@@ -32,22 +40,34 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPatientDescriptor;
 import seedu.address.logic.commands.EditCommand.EditSpecialistDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindPredicateMap;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NearestCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReferCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnreferCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.person.PersonType;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.Specialist;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPatientDescriptorBuilder;
 import seedu.address.testutil.EditSpecialistDescriptorBuilder;
 import seedu.address.testutil.PatientBuilder;
@@ -210,12 +230,74 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_explain() throws Exception {
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(ExplainCommand.COMMAND_WORD + " "
+                + FindCommand.COMMAND_WORD + " " + CliSyntax.PATIENT_TAG + " " + PREFIX_NAME + "foo");
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_NAME, new NameContainsKeywordsPredicate(List.of("foo")));
+        assertEquals(new ExplainCommand(new FindCommand(findPredicateMap, PersonType.PATIENT)), command);
+    }
+
+    @Test
+    public void parseCommand_referAndUnrefer() throws Exception {
+        assertEquals(new ReferCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(ReferCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+        assertEquals(new UnreferCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(UnreferCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_appointments() throws Exception {
+        TimeSlot timeSlot = new TimeSlot(LocalDateTime.of(2023, 11, 20, 14, 0), LocalDateTime.of(2023, 11, 20, 14, 30));
+        assertEquals(new BookCommand(INDEX_FIRST_PERSON, timeSlot), parser.parseCommand(BookCommand.COMMAND_WORD
+                + " " + INDEX_FIRST_PERSON.getOneBased() + " at/2023-11-20 14:00 to/14:30"));
+        assertEquals(new CancelCommand(timeSlot.getStart()),
+                parser.parseCommand(CancelCommand.COMMAND_WORD + " at/2023-11-20 14:00"));
+        assertEquals(new ScheduleCommand(TimeSlot.ofWeek(LocalDate.of(2023, 11, 20))),
+                parser.parseCommand(ScheduleCommand.COMMAND_WORD + " w/2023-11-20"));
+    }
+
+    @Test
+    public void parseCommand_nearest() throws Exception {
+        assertEquals(new NearestCommand(new Coordinates("1.3521,103.8198"), 3, Optional.empty(),
+                Optional.of(new TagsContainsKeywordsPredicate(List.of("weekends")))),
+                parser.parseCommand(NearestCommand.COMMAND_WORD + " g/1.3521,103.8198 k/3 t/weekends"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                NearestCommand.MESSAGE_USAGE), () -> parser.parseCommand(NearestCommand.COMMAND_WORD + " "
+                + SPECIALIST_TAG + " g/1.3521,103.8198"));
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " a/desc n/");
+        assertEquals(new SortCommand(new PersonSortOrder(List.of(
+                new PersonSortOrder.Criterion(SortField.AGE, true),
+                new PersonSortOrder.Criterion(SortField.NAME, false)))), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(
                 ListCommand.COMMAND_WORD + " " + CliSyntax.PATIENT_TAG) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_bulkEdit() throws Exception {
+        BulkEditCommand command = (BulkEditCommand) parser.parseCommand(
+                BulkEditCommand.COMMAND_WORD + " " + PATIENT_TAG + " t+/EastClinic t-/WestClinic");
+        assertEquals(new BulkEditCommand(new EditPatientDescriptor(), Set.of(new Tag("EastClinic")),
+                Set.of(new Tag("WestClinic"))), command);
+
+        assertThrows(ParseException.class, MESSAGE_INVALID_PERSON_TYPE, ()
+                -> parser.parseCommand(BulkEditCommand.COMMAND_WORD + " t+/EastClinic"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -265,5 +347,15 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ThemeCommand.MESSAGE_USAGE), ()
                         -> parser.parseCommand(themeInput));
+
+        String statsInput = StatsCommand.COMMAND_WORD + " " + SPECIALIST_TAG;
+        assertThrows(ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE), ()
+                        -> parser.parseCommand(statsInput));
+
+        String sortInput = SortCommand.COMMAND_WORD + " " + PATIENT_TAG;
+        assertThrows(ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE), ()
+                        -> parser.parseCommand(sortInput));
     }
 }
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicSuccess;
+import static seedu.address.testutil.TypicalAppointments.timeSlot;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.model.appointment.TimeSlot;
+
+public class BookCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BookCommand.MESSAGE_USAGE);
+
+    private BookCommandParser parser = new BookCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBookCommand() {
+        assertParseBasicSuccess(parser, " 1 at/2023-11-20 14:00 to/14:30",
+                new BookCommand(INDEX_FIRST_PERSON, timeSlot("2023-11-20 14:00", "2023-11-20 14:30")));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseBasicFailure(parser, " at/2023-11-20 14:00 to/14:30", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " 1 to/14:30", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " 1 at/2023-11-20 14:00", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " a at/2023-11-20 14:00 to/14:30", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseBasicFailure(parser, " 1 at/2023-11-31 14:00 to/14:30", TimeSlot.MESSAGE_DATE_TIME_CONSTRAINTS);
+        assertParseBasicFailure(parser, " 1 at/2023-11-20 14:00 to/2pm", TimeSlot.MESSAGE_TIME_CONSTRAINTS);
+        // the appointment ends on the day it starts
+        assertParseBasicFailure(parser, " 1 at/2023-11-20 14:00 to/13:00", TimeSlot.MESSAGE_CONSTRAINTS);
+        assertParseBasicFailure(parser, " 1 at/2023-11-20 14:00 to/14:00", TimeSlot.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedPrefix_failure() {
+        assertParseBasicFailure(parser, " 1 at/2023-11-20 14:00 at/2023-11-20 15:00 to/16:00",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_START));
+    }
+}
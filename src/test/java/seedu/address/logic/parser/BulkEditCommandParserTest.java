@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.LOCATION_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_AGE_THIRTY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_REMOVE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseComplexFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseComplexSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.EditCommand.EditPatientDescriptor;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EditCommand.EditSpecialistDescriptor;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EditPatientDescriptorBuilder;
+import seedu.address.testutil.EditSpecialistDescriptorBuilder;
+
+public class BulkEditCommandParserTest {
+
+    private static final String TAG_ADD_DESC_HUSBAND = " " + PREFIX_TAG_ADD + VALID_TAG_HUSBAND;
+    private static final String TAG_REMOVE_DESC_FRIEND = " " + PREFIX_TAG_REMOVE + VALID_TAG_FRIEND;
+
+    private BulkEditCommandParser parser = new BulkEditCommandParser();
+
+    @Test
+    public void parse_tagsAddedAndRemoved_success() {
+        BulkEditCommand expectedCommand = new BulkEditCommand(new EditPatientDescriptor(),
+                Set.of(new Tag(VALID_TAG_HUSBAND)), Set.of(new Tag(VALID_TAG_FRIEND)));
+        assertParseComplexSuccess(parser, TAG_ADD_DESC_HUSBAND + TAG_REMOVE_DESC_FRIEND, expectedCommand,
+                PersonType.PATIENT);
+    }
+
+    @Test
+    public void parse_fieldsSpecified_success() {
+        EditPersonDescriptor patientDescriptor = new EditPatientDescriptorBuilder().withAge(VALID_AGE_THIRTY)
+                .withTags(VALID_TAG_FRIEND).build();
+        assertParseComplexSuccess(parser, AGE_DESC_AMY + TAG_DESC_FRIEND,
+                new BulkEditCommand(patientDescriptor, Set.of(), Set.of()), PersonType.PATIENT);
+
+        EditSpecialistDescriptor specialistDescriptor = new EditSpecialistDescriptorBuilder()
+                .withLocation(VALID_LOCATION_BOB).build();
+        assertParseComplexSuccess(parser, LOCATION_DESC_BOB + TAG_ADD_DESC_HUSBAND,
+                new BulkEditCommand(specialistDescriptor, Set.of(new Tag(VALID_TAG_HUSBAND)), Set.of()),
+                PersonType.SPECIALIST);
+    }
+
+    @Test
+    public void parse_nothingEdited_failure() {
+        assertParseComplexFailure(parser, "", BulkEditCommand.MESSAGE_NOT_EDITED + "\n"
+                + BulkEditCommand.MESSAGE_USAGE_PATIENT, PersonType.PATIENT);
+    }
+
+    @Test
+    public void parse_tagsSetAndAdded_failure() {
+        assertParseComplexFailure(parser, TAG_DESC_FRIEND + TAG_ADD_DESC_HUSBAND,
+                BulkEditCommand.MESSAGE_TAGS_SET_AND_CHANGED, PersonType.PATIENT);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseComplexFailure(parser, PREAMBLE_NON_EMPTY + TAG_ADD_DESC_HUSBAND,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditCommand.MESSAGE_USAGE_SPECIALIST),
+                PersonType.SPECIALIST);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CancelCommand;
+import seedu.address.model.appointment.TimeSlot;
+
+public class CancelCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelCommand.MESSAGE_USAGE);
+
+    private CancelCommandParser parser = new CancelCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCancelCommand() {
+        assertParseBasicSuccess(parser, " at/2023-11-20 14:00",
+                new CancelCommand(LocalDateTime.of(2023, 11, 20, 14, 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseBasicFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " 1 at/2023-11-20 14:00", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " at/2023-11-20", TimeSlot.MESSAGE_DATE_TIME_CONSTRAINTS);
+    }
+}
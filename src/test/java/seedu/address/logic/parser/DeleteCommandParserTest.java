@@ -39,6 +39,11 @@ public class DeleteCommandParserTest {
         assertParseBasicSuccess(parser, "1 2 3", new DeleteCommand(indexList));
     }
 
+    @Test
+    public void parse_allShownArg_returnsDeleteCommand() {
+        assertParseBasicSuccess(parser, " " + DeleteCommand.ALL_SHOWN_KEYWORD + " ", new DeleteCommand());
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseBasicFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
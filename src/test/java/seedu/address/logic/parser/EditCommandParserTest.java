@@ -26,6 +26,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SPECIALTY_DERMA
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COORDINATES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -44,9 +45,11 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EditCommand.EditSpecialistDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Patient;
@@ -185,6 +188,20 @@ public class EditCommandParserTest {
         descriptor.setTags(testTags);
         expectedCommand = new EditCommand(descriptor);
         assertParseComplexSuccess(parser, userInput, expectedCommand, PersonType.PATIENT);
+
+        // coordinates
+        userInput = " " + PREFIX_COORDINATES + "1.3521,103.8198";
+        EditSpecialistDescriptor specialistDescriptor = new EditSpecialistDescriptor();
+        specialistDescriptor.setCoordinates(new Coordinates("1.3521,103.8198"));
+        expectedCommand = new EditCommand(specialistDescriptor);
+        assertParseComplexSuccess(parser, userInput, expectedCommand, PersonType.SPECIALIST);
+
+        // empty coordinates
+        userInput = " " + PREFIX_COORDINATES;
+        specialistDescriptor = new EditSpecialistDescriptor();
+        specialistDescriptor.clearCoordinates();
+        expectedCommand = new EditCommand(specialistDescriptor);
+        assertParseComplexSuccess(parser, userInput, expectedCommand, PersonType.SPECIALIST);
     }
 
     @Test
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindPredicateMap;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+
+public class ExplainCommandParserTest {
+
+    private ExplainCommandParser parser = new ExplainCommandParser(new AddressBookParser(new ModelManager()));
+
+    @Test
+    public void parse_findCommand_returnsExplainCommand() {
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_TAG, new TagsContainsKeywordsPredicate(List.of("diabetic")));
+        ExplainCommand expectedCommand = new ExplainCommand(new FindCommand(findPredicateMap, PersonType.SPECIALIST));
+
+        assertParseBasicSuccess(parser, " find -sp t/diabetic", expectedCommand);
+        assertParseBasicSuccess(parser, " \n find -sp t/diabetic \t", expectedCommand);
+    }
+
+    @Test
+    public void parse_notFindCommand_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE);
+        assertParseBasicFailure(parser, "", expectedMessage);
+        assertParseBasicFailure(parser, "   ", expectedMessage);
+        assertParseBasicFailure(parser, " list -pa", expectedMessage);
+        assertParseBasicFailure(parser, " explain find -pa", expectedMessage);
+
+        // the find command is parsed as it would be on its own
+        assertParseBasicFailure(parser, " find t/diabetic", MESSAGE_INVALID_PERSON_TYPE);
+    }
+}
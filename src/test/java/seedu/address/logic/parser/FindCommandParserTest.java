@@ -3,11 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICALHISTORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseComplexFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseComplexSuccess;
 
@@ -18,14 +20,17 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindPredicateMap;
+import seedu.address.model.person.AgeRange;
 import seedu.address.model.person.PersonType;
-import seedu.address.model.person.predicates.AgeContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FindQuery;
 import seedu.address.model.person.predicates.LocationContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
 
 
 public class FindCommandParserTest {
@@ -62,6 +67,20 @@ public class FindCommandParserTest {
                 expectedCommand, PersonType.PATIENT);
     }
 
+    @Test
+    public void parse_validFuzzyNameArgs_returnsFindCommand() {
+        List<String> keywords = Arrays.asList("Jonh", "Smyth");
+        FindPredicateMap findPredicateMap = new FindPredicateMap();
+        findPredicateMap.put(PREFIX_NAME, new NameContainsKeywordsPredicate(List.of("Al")));
+
+        FindCommand expectedCommand = new FindCommand(findPredicateMap, PersonType.SPECIALIST, keywords);
+        assertParseComplexSuccess(parser, " " + PREFIX_NAME + "Al " + PREFIX_FUZZY_NAME + " Jonh \t Smyth",
+                expectedCommand, PersonType.SPECIALIST);
+        // fuzzy name keywords are not mistaken for name keywords
+        assertParseComplexSuccess(parser, " " + PREFIX_FUZZY_NAME + "Jonh Smyth",
+                new FindCommand(new FindPredicateMap(), PersonType.PATIENT, keywords), PersonType.PATIENT);
+    }
+
     @Test
     public void parse_validPhoneArgs_returnsFindCommand() {
         List<String> keywords = Arrays.asList("92773291", "88765321");
@@ -93,16 +112,16 @@ public class FindCommandParserTest {
 
     @Test
     public void parse_validAgeAndMedHistArgs_returnsFindCommand() {
-        List<String> ageKeywords = Arrays.asList("21", "37");
+        List<AgeRange> ageRanges = Arrays.asList(new AgeRange("21"), new AgeRange("60-75"), new AgeRange(">=80"));
         List<String> medHistKeywords = Arrays.asList("Bronchitis", "ADHD", "Diabetes");
         FindPredicateMap findPredicateMap = new FindPredicateMap();
-        findPredicateMap.put(PREFIX_AGE, new AgeContainsKeywordsPredicate(ageKeywords));
+        findPredicateMap.put(PREFIX_AGE, new AgeInRangesPredicate(ageRanges));
         findPredicateMap.put(PREFIX_MEDICALHISTORY, new MedHistoryContainsKeywordsPredicate(medHistKeywords));
 
-        String userInputArgs1 = String.format(" %s 21 37 %s Bronchitis ADHD Diabetes",
+        String userInputArgs1 = String.format(" %s 21 60-75 >=80 %s Bronchitis ADHD Diabetes",
                 PREFIX_AGE, PREFIX_MEDICALHISTORY);
 
-        String userInputArgs2 = String.format(" %s 21 \n 37 \t %s Bronchitis \n ADHD \t Diabetes \t",
+        String userInputArgs2 = String.format(" %s 21 \n 60-75 \t >=80 %s Bronchitis \n ADHD \t Diabetes \t",
                 PREFIX_AGE, PREFIX_MEDICALHISTORY);
 
         FindCommand expectedCommand = new FindCommand(findPredicateMap, PersonType.PATIENT);
@@ -134,4 +153,44 @@ public class FindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseComplexSuccess(parser, userInputArgs2, expectedCommand, PersonType.SPECIALIST);
     }
+
+    @Test
+    public void parse_parenthesesInKeywords_returnsFindCommand() {
+        FindPredicateMap locationPredicateMap = new FindPredicateMap();
+        locationPredicateMap.put(PREFIX_LOCATION,
+                new LocationContainsKeywordsPredicate(Arrays.asList("Blk", "5", "(East)")));
+        assertParseComplexSuccess(parser, String.format(" %s Blk 5 (East)", PREFIX_LOCATION),
+                new FindCommand(locationPredicateMap, PersonType.SPECIALIST), PersonType.SPECIALIST);
+
+        FindPredicateMap medHistPredicateMap = new FindPredicateMap();
+        medHistPredicateMap.put(PREFIX_MEDICALHISTORY,
+                new MedHistoryContainsKeywordsPredicate(Arrays.asList("Diabetes", "(type", "2)")));
+        assertParseComplexSuccess(parser, String.format(" %s Diabetes (type 2)", PREFIX_MEDICALHISTORY),
+                new FindCommand(medHistPredicateMap, PersonType.PATIENT), PersonType.PATIENT);
+    }
+
+    @Test
+    public void parse_validQuery_returnsFindCommand() {
+        FindQuery query = FindQuery.and(
+                FindQuery.or(FindQuery.of(new TagsContainsKeywordsPredicate(List.of("friends"))),
+                        FindQuery.of(new MedHistoryContainsKeywordsPredicate(List.of("Asthma")))),
+                FindQuery.not(FindQuery.of(new NameContainsKeywordsPredicate(List.of("Benson", "Meier")))));
+        FindCommand expectedCommand = new FindCommand(query, PersonType.PATIENT);
+
+        assertParseComplexSuccess(parser, String.format(" (%s friends OR %s Asthma) AND NOT %s Benson Meier",
+                PREFIX_TAG, PREFIX_MEDICALHISTORY, PREFIX_NAME), expectedCommand, PersonType.PATIENT);
+        // AND left out between terms
+        assertParseComplexSuccess(parser, String.format(" (%s friends OR %s Asthma) NOT %s \n Benson \t Meier",
+                PREFIX_TAG, PREFIX_MEDICALHISTORY, PREFIX_NAME), expectedCommand, PersonType.PATIENT);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        // unbalanced parentheses
+        assertParseComplexFailure(parser, " (t/friends OR m/Asthma", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE_PATIENT), PersonType.PATIENT);
+        // prefix of the other person type
+        assertParseComplexFailure(parser, " s/Physiotherapist OR a/21", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE_SPECIALIST), PersonType.SPECIALIST);
+    }
 }
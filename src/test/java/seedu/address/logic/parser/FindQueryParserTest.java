@@ -0,0 +1,126 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_BLANK_ARGUMENTS;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.FindQuery;
+import seedu.address.model.person.predicates.LocationContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+
+public class FindQueryParserTest {
+
+    private static final String MESSAGE_USAGE = "usage";
+
+    private final FindQueryParser parser = new FindQueryParser(List.of(PREFIX_NAME, PREFIX_TAG, PREFIX_LOCATION),
+            FindQueryParserTest::parseTerm, MESSAGE_USAGE);
+
+    @Test
+    public void isQuery() {
+        assertTrue(FindQueryParser.isQuery(" t/diabetic OR t/asthmatic"));
+        assertTrue(FindQueryParser.isQuery(" NOT t/discharged"));
+        assertTrue(FindQueryParser.isQuery(" (t/diabetic)"));
+        assertTrue(FindQueryParser.isQuery(" t/diabetic AND"));
+
+        // operators in lower case, or within words, are keywords
+        assertFalse(FindQueryParser.isQuery(" n/Ben and Jerry"));
+        assertFalse(FindQueryParser.isQuery(" n/ANDREW NOTT"));
+        assertFalse(FindQueryParser.isQuery(" t/diabetic t/asthmatic"));
+
+        // parentheses that group terms, or stand on their own, are a query's
+        assertTrue(FindQueryParser.isQuery(" t/diabetic AND ((m/asthma) OR NOT n/Alex)"));
+        assertTrue(FindQueryParser.isQuery(" (NOT t/discharged)"));
+        assertTrue(FindQueryParser.isQuery(" ( t/diabetic )"));
+
+        // parentheses within keywords are keywords
+        assertFalse(FindQueryParser.isQuery(" l/Blk 5 (East)"));
+        assertFalse(FindQueryParser.isQuery(" m/Diabetes (type 2)"));
+        assertFalse(FindQueryParser.isQuery(" n/Alex(Ben) t/friends"));
+    }
+
+    @Test
+    public void parse_operators_notBeforeAndBeforeOr() throws Exception {
+        assertEquals(FindQuery.or(tag("diabetic"), FindQuery.and(tag("asthmatic"), FindQuery.not(name("Alex")))),
+                parser.parse(" t/diabetic OR t/asthmatic AND NOT n/Alex"));
+        assertEquals(FindQuery.and(FindQuery.or(tag("diabetic"), tag("asthmatic")), FindQuery.not(name("Alex"))),
+                parser.parse(" (t/diabetic OR t/asthmatic) AND NOT n/Alex"));
+        assertEquals(FindQuery.not(FindQuery.not(tag("diabetic"))), parser.parse(" NOT NOT t/diabetic"));
+    }
+
+    @Test
+    public void parse_sameQueryTwice_equalAndSameHashCode() throws Exception {
+        String args = " (t/diabetic OR l/Clementi Ave 2) AND NOT n/Alex Yeoh";
+        FindQuery query = parser.parse(args);
+        FindQuery otherQuery = parser.parse(args);
+        assertEquals(query, otherQuery);
+        assertEquals(query.hashCode(), otherQuery.hashCode());
+    }
+
+    @Test
+    public void parse_termsWithoutOperator_bothMatch() throws Exception {
+        assertEquals(FindQuery.or(FindQuery.and(tag("diabetic"), name("Alex Yeoh")), tag("asthmatic")),
+                parser.parse(" t/diabetic n/Alex Yeoh OR t/asthmatic"));
+        assertEquals(FindQuery.and(name("Alex"), FindQuery.or(tag("diabetic"), tag("asthmatic"))),
+                parser.parse("n/Alex(t/diabetic OR t/asthmatic)"));
+    }
+
+    @Test
+    public void parse_keywordsWithSpaces_endAtOperatorOrPrefix() throws Exception {
+        assertEquals(FindQuery.or(location("Clementi Ave 2"), location("Bukit and Timah")),
+                parser.parse(" l/Clementi Ave 2   OR l/Bukit and Timah  "));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+        assertParseFailure(" (t/diabetic OR t/asthmatic", invalidFormat);
+        assertParseFailure(" t/diabetic)", invalidFormat);
+        assertParseFailure(" t/diabetic AND", invalidFormat);
+        assertParseFailure(" OR t/diabetic", invalidFormat);
+        assertParseFailure(" ()", invalidFormat);
+        assertParseFailure(" diabetic OR t/asthmatic", invalidFormat);
+        assertParseFailure(" a/65 OR t/asthmatic", invalidFormat);
+        assertParseFailure(" t/ OR t/asthmatic", String.format(MESSAGE_BLANK_ARGUMENTS, MESSAGE_USAGE));
+    }
+
+    private void assertParseFailure(String args, String expectedMessage) {
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse(args));
+    }
+
+    private static FindQuery tag(String keywords) {
+        return FindQuery.of(new TagsContainsKeywordsPredicate(Arrays.asList(keywords.split(" "))));
+    }
+
+    private static FindQuery name(String keywords) {
+        return FindQuery.of(new NameContainsKeywordsPredicate(Arrays.asList(keywords.split(" "))));
+    }
+
+    private static FindQuery location(String keywords) {
+        return FindQuery.of(new LocationContainsKeywordsPredicate(Arrays.asList(keywords.split(" "))));
+    }
+
+    private static Predicate<Person> parseTerm(Prefix prefix, String keywords) {
+        List<String> splitKeywords = Arrays.asList(keywords.split("\\s+"));
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(splitKeywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagsContainsKeywordsPredicate(splitKeywords);
+        }
+        return new LocationContainsKeywordsPredicate(splitKeywords);
+    }
+}
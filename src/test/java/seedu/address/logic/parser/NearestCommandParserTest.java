@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicSuccess;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.NearestCommand;
+import seedu.address.model.person.Coordinates;
+import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+
+public class NearestCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, NearestCommand.MESSAGE_USAGE);
+    private static final Coordinates TARGET = new Coordinates("1.3521,103.8198");
+
+    private NearestCommandParser parser = new NearestCommandParser();
+
+    @Test
+    public void parse_coordinatesOnly_returnsNearestCommandWithDefaultCount() {
+        assertParseBasicSuccess(parser, " g/1.3521,103.8198", new NearestCommand(TARGET,
+                NearestCommand.DEFAULT_COUNT, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_allFields_returnsNearestCommand() {
+        NearestCommand expectedCommand = new NearestCommand(TARGET, 3,
+                Optional.of(new SpecialtyContainsKeywordsPredicate(List.of("physio", "ortho"))),
+                Optional.of(new TagsContainsKeywordsPredicate(List.of("weekends"))));
+        assertParseBasicSuccess(parser, " g/ 1.3521, 103.8198 k/3 s/physio  ortho t/weekends", expectedCommand);
+        assertParseBasicSuccess(parser, " t/weekends s/physio ortho k/3 g/1.3521,103.8198", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // missing coordinates
+        assertParseBasicFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " k/3", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseBasicFailure(parser, " 1 g/1.3521,103.8198", MESSAGE_INVALID_FORMAT);
+
+        // invalid values
+        assertParseBasicFailure(parser, " g/1.3521", Coordinates.MESSAGE_CONSTRAINTS);
+        assertParseBasicFailure(parser, " g/1.3521,103.8198 k/0", NearestCommand.MESSAGE_INVALID_COUNT);
+        assertParseBasicFailure(parser, " g/1.3521,103.8198 k/three", NearestCommand.MESSAGE_INVALID_COUNT);
+        assertParseBasicFailure(parser, " g/1.3521,103.8198 s/", MESSAGE_INVALID_FORMAT);
+
+        // duplicate prefixes
+        assertParseBasicFailure(parser, " g/1.3521,103.8198 k/3 k/4",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_COUNT));
+    }
+}
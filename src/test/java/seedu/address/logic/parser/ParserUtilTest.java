@@ -17,6 +17,8 @@ import seedu.address.logic.commands.CommandWord;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ShortcutAlias;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Name;
@@ -29,6 +31,7 @@ public class ParserUtilTest {
     private static final String INVALID_ADDRESS = " ";
     private static final String INVALID_EMAIL = "example.com";
     private static final String INVALID_TAG = "#friend";
+    private static final String INVALID_AGE_RANGE = "75-60";
 
     private static final String VALID_NAME = "Rachel Walker";
     private static final String VALID_PHONE = "123456";
@@ -36,6 +39,7 @@ public class ParserUtilTest {
     private static final String VALID_EMAIL = "rachel@example.com";
     private static final String VALID_TAG_1 = "friend";
     private static final String VALID_TAG_2 = "neighbour";
+    private static final String VALID_AGE_RANGE = ">=65";
     private static final String VALID_SHORTCUT = "del";
 
     private static final String VALID_COMMANDWORD = ListCommand.COMMAND_WORD;
@@ -163,6 +167,23 @@ public class ParserUtilTest {
         assertEquals(expectedLocation, ParserUtil.parseLocation(addressWithWhitespace));
     }
 
+    @Test
+    public void parseCoordinates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseCoordinates(null));
+    }
+
+    @Test
+    public void parseCoordinates_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCoordinates("91,103.8198"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCoordinates("1.3521"));
+    }
+
+    @Test
+    public void parseCoordinates_validValueWithWhitespace_returnsTrimmedCoordinates() throws Exception {
+        Coordinates expectedCoordinates = new Coordinates("1.3521,103.8198");
+        assertEquals(expectedCoordinates, ParserUtil.parseCoordinates(WHITESPACE + "1.3521, 103.8198" + WHITESPACE));
+    }
+
     @Test
     public void parseEmail_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseEmail((String) null));
@@ -231,4 +252,21 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseAgeRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseAgeRange(null));
+    }
+
+    @Test
+    public void parseAgeRange_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseAgeRange(INVALID_AGE_RANGE));
+    }
+
+    @Test
+    public void parseAgeRange_validValueWithWhitespace_returnsTrimmedAgeRange() throws Exception {
+        String ageRangeWithWhitespace = WHITESPACE + VALID_AGE_RANGE + WHITESPACE;
+        AgeRange expectedAgeRange = new AgeRange(VALID_AGE_RANGE);
+        assertEquals(expectedAgeRange, ParserUtil.parseAgeRange(ageRangeWithWhitespace));
+    }
 }
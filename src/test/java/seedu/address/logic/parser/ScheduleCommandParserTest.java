@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.model.appointment.TimeSlot;
+
+public class ScheduleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE);
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsScheduleCommand() {
+        LocalDate date = LocalDate.of(2023, 11, 22);
+        assertParseBasicSuccess(parser, " d/2023-11-22", new ScheduleCommand(TimeSlot.ofDay(date)));
+        assertParseBasicSuccess(parser, " w/2023-11-22", new ScheduleCommand(TimeSlot.ofWeek(date)));
+    }
+
+    @Test
+    public void parse_noArgs_returnsScheduleOfToday() {
+        assertParseBasicSuccess(parser, "", new ScheduleCommand(TimeSlot.ofDay(LocalDate.now())));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseBasicFailure(parser, " 1", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " d/2023-11-22 w/2023-11-22", MESSAGE_INVALID_FORMAT);
+        assertParseBasicFailure(parser, " d/22-11-2023", TimeSlot.MESSAGE_DATE_CONSTRAINTS);
+    }
+}
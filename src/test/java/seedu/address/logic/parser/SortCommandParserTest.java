@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseBasicSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.SortField;
+
+public class SortCommandParserTest {
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noAttributes_returnsUnsortedSortCommand() {
+        assertParseBasicSuccess(parser, "", new SortCommand(PersonSortOrder.NONE));
+        assertParseBasicSuccess(parser, "   ", new SortCommand(PersonSortOrder.NONE));
+    }
+
+    @Test
+    public void parse_attributes_returnsSortCommandInGivenOrder() {
+        SortCommand expectedCommand = new SortCommand(new PersonSortOrder(List.of(
+                new Criterion(SortField.SPECIALTY, false),
+                new Criterion(SortField.AGE, true),
+                new Criterion(SortField.NAME, false))));
+        assertParseBasicSuccess(parser, " s/ a/desc n/asc", expectedCommand);
+        assertParseBasicSuccess(parser, " s/ASC  a/ Desc \t n/", expectedCommand);
+
+        assertParseBasicSuccess(parser, " n/desc s/ a/desc", new SortCommand(new PersonSortOrder(List.of(
+                new Criterion(SortField.NAME, true),
+                new Criterion(SortField.SPECIALTY, false),
+                new Criterion(SortField.AGE, true)))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseBasicFailure(parser, " name", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+
+        // invalid direction
+        assertParseBasicFailure(parser, " n/up", SortCommandParser.MESSAGE_INVALID_DIRECTION);
+
+        // duplicate attribute
+        assertParseBasicFailure(parser, " n/ a/ n/desc",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_NAME));
+    }
+}
@@ -2,27 +2,48 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_FIONA;
+import static seedu.address.testutil.TypicalAppointments.BENSON_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.CARL_WITH_GEORGE;
+import static seedu.address.testutil.TypicalAppointments.appointment;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
 
 public class AddressBookTest {
 
+    private static final Person REFERRED_ALICE = new PatientBuilder(ALICE)
+            .withReferrals(ELLE.getName().fullName, FIONA.getName().fullName).build();
+    private static final Person REFERRED_BENSON = new PatientBuilder(BENSON)
+            .withReferrals(ELLE.getName().fullName).build();
+
     private final AddressBook addressBook = new AddressBook();
 
     @Test
@@ -82,9 +103,118 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_addressBookChanged_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        // unchanged -> the same snapshot is returned
+        assertSame(snapshot, addressBook.getSnapshot());
+
+        Person editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+
+        AddressBookSnapshot newSnapshot = addressBook.getSnapshot();
+        assertEquals(List.of(editedAlice), newSnapshot.getPersonList());
+        assertTrue(newSnapshot.getVersion() > snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> newSnapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void removePerson_referredSpecialist_referralsRemoved() {
+        addressBook.setPersons(List.of(ELLE, FIONA, REFERRED_ALICE, REFERRED_BENSON));
+
+        addressBook.removePerson(ELLE);
+
+        Person alice = new PatientBuilder(ALICE).withReferrals(FIONA.getName().fullName).build();
+        assertEquals(List.of(FIONA, alice, BENSON), addressBook.getPersonList());
+        assertEquals(List.of(FIONA), addressBook.getReferrals(alice));
+        assertEquals(List.of(alice), addressBook.getReferrals(FIONA));
+    }
+
+    @Test
+    public void removePersons_specialistWithReferredPatient_otherReferralsRemoved() {
+        addressBook.setPersons(List.of(ELLE, FIONA, REFERRED_ALICE, REFERRED_BENSON));
+
+        addressBook.removePersons(List.of(ELLE, FIONA, REFERRED_ALICE));
+
+        assertEquals(List.of(BENSON), addressBook.getPersonList());
+    }
+
+    @Test
+    public void setPerson_renamedSpecialist_referralsRenamed() {
+        addressBook.setPersons(List.of(ELLE, FIONA, REFERRED_ALICE, REFERRED_BENSON));
+        Person renamedElle = new SpecialistBuilder(ELLE).withName("Elle Mayer").build();
+
+        addressBook.setPerson(ELLE, renamedElle);
+
+        Person alice = new PatientBuilder(ALICE).withReferrals("Elle Mayer", FIONA.getName().fullName).build();
+        Person benson = new PatientBuilder(BENSON).withReferrals("Elle Mayer").build();
+        assertEquals(List.of(renamedElle, FIONA, alice, benson), addressBook.getPersonList());
+        assertEquals(List.of(alice, benson), addressBook.getReferrals(renamedElle));
+        assertEquals(List.of(renamedElle), addressBook.getReferrals(benson));
+    }
+
+    @Test
+    public void resetData_unknownReferrals_referralsDropped() {
+        addressBook.resetData(new AddressBookStub(List.of(FIONA, REFERRED_ALICE, REFERRED_BENSON)));
+
+        Person alice = new PatientBuilder(ALICE).withReferrals(FIONA.getName().fullName).build();
+        assertEquals(List.of(FIONA, alice, BENSON), addressBook.getPersonList());
+    }
+
+    @Test
+    public void removePerson_personWithAppointments_appointmentsRemoved() {
+        addressBook.resetData(getTypicalAddressBookWithAppointments());
+
+        addressBook.removePerson(ELLE);
+
+        assertEquals(List.of(ALICE_WITH_FIONA, CARL_WITH_GEORGE), addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void setPerson_renamedPatient_appointmentsRenamed() {
+        addressBook.resetData(getTypicalAddressBookWithAppointments());
+        Person renamedAlice = new PatientBuilder(ALICE).withName("Alice Paulina").build();
+
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        assertEquals(List.of(ALICE_WITH_ELLE.withPatientName(renamedAlice.getName()), BENSON_WITH_ELLE,
+                ALICE_WITH_FIONA.withPatientName(renamedAlice.getName()), CARL_WITH_GEORGE),
+                addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void setAppointments_unknownPersons_appointmentsDropped() {
+        addressBook.setPersons(List.of(ALICE, BENSON, ELLE));
+
+        addressBook.setAppointments(getTypicalAppointments());
+
+        assertEquals(List.of(ALICE_WITH_ELLE, BENSON_WITH_ELLE), addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void setPersons_personsGone_appointmentsDropped() {
+        addressBook.resetData(getTypicalAddressBookWithAppointments());
+
+        addressBook.setPersons(List.of(ALICE, FIONA, CARL));
+
+        assertEquals(List.of(ALICE_WITH_FIONA), addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void addAppointment_conflictingAppointment_throwsAppointmentConflictException() {
+        addressBook.resetData(getTypicalAddressBookWithAppointments());
+        Appointment conflicting = appointment(BENSON, FIONA, "2023-11-20 10:30", "2023-11-20 11:30");
+
+        assertEquals(Optional.of(BENSON_WITH_ELLE), addressBook.findAppointmentConflict(conflicting));
+        assertThrows(AppointmentConflictException.class, () -> addressBook.addAppointment(conflicting));
+    }
+
     @Test
     public void toStringMethod() {
-        String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
+        String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList()
+                + ", appointments=" + addressBook.getAppointmentList() + "}";
         assertEquals(expected, addressBook.toString());
     }
 
@@ -0,0 +1,155 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PatientBuilder;
+
+public class ChangeSetTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    public ChangeSetTest() {
+        addressBook.markSaved();
+    }
+
+    @Test
+    public void getChanges_savedAddressBook_empty() {
+        assertTrue(addressBook.getChanges().isEmpty());
+        assertEquals(EnumSet.noneOf(PersonType.class), addressBook.getChanges().getAffectedTypes());
+    }
+
+    @Test
+    public void getChanges_personAdded_recordsAdded() {
+        addressBook.addPerson(AMY);
+        ChangeSet changes = addressBook.getChanges();
+        assertFalse(changes.isEmpty());
+        assertEquals(List.of(AMY), changes.getAdded());
+        assertEquals(EnumSet.of(PersonType.PATIENT), changes.getAffectedTypes());
+    }
+
+    @Test
+    public void getChanges_personAddedThenRemoved_empty() {
+        addressBook.addPerson(AMY);
+        addressBook.removePerson(AMY);
+        assertTrue(addressBook.getChanges().isEmpty());
+    }
+
+    @Test
+    public void getChanges_personEditedTwiceThenRemoved_recordsOriginalRemoved() {
+        Person editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person reeditedAlice = new PatientBuilder(ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.setPerson(editedAlice, reeditedAlice);
+        assertEquals(Map.of(ALICE, reeditedAlice), addressBook.getChanges().getReplaced());
+
+        addressBook.removePerson(reeditedAlice);
+        ChangeSet changes = addressBook.getChanges();
+        assertEquals(List.of(ALICE), changes.getRemoved());
+        assertTrue(changes.getReplaced().isEmpty());
+    }
+
+    @Test
+    public void getChanges_addedPersonEdited_recordsEditedAsAdded() {
+        Person editedAmy = new PatientBuilder(AMY).withPhone("99999999").build();
+        addressBook.addPerson(AMY);
+        addressBook.setPerson(AMY, editedAmy);
+        assertEquals(List.of(editedAmy), addressBook.getChanges().getAdded());
+        assertTrue(addressBook.getChanges().getReplaced().isEmpty());
+    }
+
+    @Test
+    public void getChanges_failedChange_notRecorded() {
+        Assert.assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(BENSON));
+        assertTrue(addressBook.getChanges().isEmpty());
+    }
+
+    @Test
+    public void getChanges_resetWithDifferentData_fullReset() {
+        addressBook.removePerson(ELLE);
+        addressBook.resetData(getTypicalAddressBook());
+        ChangeSet changes = addressBook.getChanges();
+        assertTrue(changes.isFullReset());
+        assertTrue(changes.getRemoved().isEmpty());
+        assertEquals(EnumSet.allOf(PersonType.class), changes.getAffectedTypes());
+    }
+
+    @Test
+    public void getChanges_resetWithSameData_empty() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getChanges().isEmpty());
+    }
+
+    @Test
+    public void getChanges_appointmentAdded_recordsAppointmentsChanged() {
+        assertFalse(addressBook.getChanges().areAppointmentsChanged());
+        addressBook.addAppointment(ALICE_WITH_ELLE);
+        ChangeSet changes = addressBook.getChanges();
+        assertFalse(changes.isEmpty());
+        assertTrue(changes.areAppointmentsChanged());
+        assertTrue(changes.getAffectedTypes().isEmpty());
+    }
+
+    @Test
+    public void getChanges_personWithAppointmentRemoved_recordsAppointmentsChanged() {
+        addressBook.addAppointment(ALICE_WITH_ELLE);
+        addressBook.markSaved();
+        addressBook.removePerson(ELLE);
+        assertTrue(addressBook.getChanges().areAppointmentsChanged());
+    }
+
+    @Test
+    public void getChanges_personWithoutAppointmentEdited_appointmentsUnchanged() {
+        addressBook.addAppointment(ALICE_WITH_ELLE);
+        addressBook.markSaved();
+        addressBook.setPerson(BENSON, new PatientBuilder(BENSON).withName("Benson Meyer").build());
+        assertFalse(addressBook.getChanges().areAppointmentsChanged());
+    }
+
+    @Test
+    public void getChanges_returnsCopy() {
+        ChangeSet changes = addressBook.getChanges();
+        addressBook.addPerson(AMY);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void markSaved_afterChanges_empty() {
+        addressBook.addPerson(AMY);
+        addressBook.markSaved();
+        assertTrue(addressBook.getChanges().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ChangeSet changes = new ChangeSet();
+        assertTrue(changes.equals(changes));
+        assertTrue(changes.equals(new ChangeSet()));
+        assertFalse(changes.equals(null));
+        assertFalse(changes.equals(ChangeSet.fullReset()));
+        assertTrue(ChangeSet.fullReset().equals(ChangeSet.fullReset()));
+
+        ChangeSet appointmentsChanged = new ChangeSet();
+        appointmentsChanged.recordAppointmentsChange();
+        assertFalse(changes.equals(appointmentsChanged));
+        assertTrue(ChangeSet.fullReset().areAppointmentsChanged());
+    }
+}
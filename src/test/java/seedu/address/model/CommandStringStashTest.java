@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -135,6 +136,85 @@ public class CommandStringStashTest {
         assertThrows(AssertionError.class, () -> commandStringStash.getPassedCommandString(null));
     }
 
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandStringStash(0));
+    }
+
+    @Test
+    public void addCommandString_largeCapacity_evictsLeastRecentlyAdded() {
+        CommandStringStash commandStringStash = new CommandStringStash(1000);
+        for (int i = 0; i < 1500; i++) {
+            commandStringStash.addCommandString(String.valueOf(i % 1200));
+        }
+
+        // 0 to 299 are added again after 1199, evicting 200 to 499
+        List<String> expectedCommandStrings = createCmdStringStackIntegers(500, 1199);
+        expectedCommandStrings.addAll(createCmdStringStackIntegers(0, 299));
+        assertEquals(expectedCommandStrings, commandStringStash.getCommandStrings());
+    }
+
+    @Test
+    public void searchCommandString_substring_findsMostRecentMatch() {
+        CommandStringStash commandStringStash = new CommandStringStash(
+                List.of("find n/Alice", "list", "find n/Bob", "edit 1 n/ALICE"), 4);
+
+        assertEquals(Optional.of("edit 1 n/ALICE"), commandStringStash.searchCommandString("alice"));
+        // searching again from the match keeps it, as it still matches
+        assertEquals(Optional.of("edit 1 n/ALICE"), commandStringStash.searchCommandString("alic"));
+        assertEquals(Optional.of("find n/Alice"), commandStringStash.searchPrevCommandString("alice"));
+        assertEquals(Optional.empty(), commandStringStash.searchPrevCommandString("alice"));
+
+        // navigation continues from the match
+        assertEquals("list", commandStringStash.getPassedCommandString("0"));
+    }
+
+    @Test
+    public void searchCommandString_shortQuery_findsMostRecentMatch() {
+        CommandStringStash commandStringStash = new CommandStringStash(List.of("add", "list", "clear"), 3);
+
+        assertEquals(Optional.of("list"), commandStringStash.searchCommandString("i"));
+        assertEquals(Optional.of("list"), commandStringStash.searchCommandString("li"));
+        assertEquals(Optional.empty(), commandStringStash.searchPrevCommandString("li"));
+        assertEquals(Optional.empty(), commandStringStash.searchCommandString(""));
+    }
+
+    @Test
+    public void searchCommandString_noMatch_stateUnchanged() {
+        CommandStringStash commandStringStash = new CommandStringStash(createCmdStringStackIntegers(0, 9), 10);
+
+        assertEquals(Optional.empty(), commandStringStash.searchCommandString("list"));
+        assertEquals(new CommandStringStash(createCmdStringStackIntegers(0, 9), 10), commandStringStash);
+    }
+
+    @Test
+    public void searchCommandString_removedCommandStrings_notFound() {
+        CommandStringStash commandStringStash = new CommandStringStash(2);
+        commandStringStash.addCommandString("find n/Alice");
+        commandStringStash.addCommandString("list");
+        commandStringStash.addCommandString("clear");
+
+        assertEquals(Optional.empty(), commandStringStash.searchCommandString("alice"));
+
+        // re-adding a command string moves it, so its older copy is not found again
+        commandStringStash.addCommandString("clear");
+        assertEquals(Optional.of("clear"), commandStringStash.searchCommandString("lea"));
+        assertEquals(Optional.empty(), commandStringStash.searchPrevCommandString("lea"));
+    }
+
+    @Test
+    public void searchCommandString_manyCommandStrings_findsMatch() {
+        CommandStringStash commandStringStash = new CommandStringStash(100_000);
+        for (int i = 0; i < 200_000; i++) {
+            commandStringStash.addCommandString("find n/Person " + i);
+        }
+
+        assertEquals(Optional.of("find n/Person 199999"), commandStringStash.searchCommandString("person 1"));
+        assertEquals(Optional.of("find n/Person 123456"), commandStringStash.searchCommandString("person 123456"));
+        assertEquals(Optional.empty(), commandStringStash.searchCommandString("person 12345 "));
+        assertEquals(Optional.empty(), commandStringStash.searchCommandString("person 99999"));
+    }
+
     /**
      * Helper function to create an array of integers in increasing or decreasing order
      * from {@code start} to {@code end}
@@ -2,22 +2,45 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.FindPlanner;
+import seedu.address.model.person.FoundPersonsPredicate;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.SortField;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.AllocationUtil;
 import seedu.address.testutil.PatientBuilder;
 
 public class ModelManagerTest {
@@ -31,6 +54,41 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void constructor_fiftyThousandPersonsWithFineLoggingDisabled_addressBookNotStringified() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            persons.add(new PatientBuilder().withName("Patient " + i).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        UserPrefs userPrefs = new UserPrefs();
+        long stringifiedLength = addressBook.toString().length();
+
+        // the logger used by ModelManager, detached from the log files so that nothing is written
+        Logger logger = LogsCenter.getLogger(ModelManager.class);
+        logger.setUseParentHandlers(false);
+        try {
+            logger.setLevel(Level.INFO);
+            long before = AllocationUtil.getAllocatedBytes();
+            new ModelManager(addressBook, userPrefs);
+            long allocatedWhenDisabled = AllocationUtil.getAllocatedBytes() - before;
+
+            logger.setLevel(Level.FINE);
+            before = AllocationUtil.getAllocatedBytes();
+            new ModelManager(addressBook, userPrefs);
+            long allocatedWhenEnabled = AllocationUtil.getAllocatedBytes() - before;
+
+            // only the enabled log statement builds the string form of the address book
+            assertTrue(allocatedWhenEnabled - allocatedWhenDisabled >= stringifiedLength,
+                    "allocated " + allocatedWhenDisabled + " bytes when disabled and "
+                            + allocatedWhenEnabled + " bytes when enabled");
+        } finally {
+            logger.setLevel(null);
+            logger.setUseParentHandlers(true);
+        }
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -130,6 +188,153 @@ public class ModelManagerTest {
         modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Test
+    public void deletePerson_referredSpecialist_selectedPatientFollowsReferrals() {
+        Patient referredAlice = new PatientBuilder(ALICE).withReferrals(ELLE.getName().fullName).build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(referredAlice).withPerson(ELLE).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateSelectedPerson(referredAlice);
+        assertEquals(List.of(ELLE), modelManager.getReferrals(referredAlice));
+
+        modelManager.deletePerson(ELLE);
+        assertEquals(ALICE, modelManager.getSelectedPerson());
+        assertTrue(modelManager.getReferrals(ALICE).isEmpty());
+    }
+
+    @Test
+    public void loadAddressBook_afterChanges_loadedAsSavedWithFreshHistory() {
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+
+        modelManager.loadAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(modelManager.getAddressBook()));
+        assertEquals(ALICE, modelManager.getSelectedPerson());
+        assertTrue(modelManager.getAddressBook().getChanges().isEmpty());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+        assertFalse(modelManager.hasHistory());
+    }
+
+    @Test
+    public void planFind_smallAndLargeAddressBooks_findSamePersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < FindPlanner.COLUMNAR_SCAN_THRESHOLD; i++) {
+            persons.add(new PatientBuilder().withAge(String.valueOf(i % 150)).withName("Patient " + i).build());
+        }
+        List<Predicate<Person>> predicates = List.of(new NameContainsKeywordsPredicate(List.of("1")),
+                new AgeInRangesPredicate(List.of(new AgeRange(">=65"))));
+        Predicate<Person> expected = person -> predicates.stream().allMatch(predicate -> predicate.test(person));
+
+        // a small address book is searched through the indexes, and a large one over its columns
+        for (int size : new int[] {FindPlanner.COLUMNAR_SCAN_THRESHOLD - 1, FindPlanner.COLUMNAR_SCAN_THRESHOLD}) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons.subList(0, size));
+            ModelManager model = new ModelManager(addressBook, new UserPrefs());
+            model.updateFilteredPersonList(model.planFind(PersonType.PATIENT, new ArrayList<>(predicates)).execute());
+            model.commit();
+            List<Person> found = List.copyOf(model.getFilteredPersonList());
+            assertEquals(persons.subList(0, size).stream().filter(expected).collect(Collectors.toList()), found);
+
+            model.deletePerson(found.get(0));
+            model.commit();
+            model.undo();
+            assertEquals(found, model.getFilteredPersonList());
+            assertTrue(model.planFind(PersonType.SPECIALIST, new ArrayList<>(predicates)).execute().negate()
+                    .test(found.get(0)));
+        }
+    }
+
+    @Test
+    public void updateSortedPersonList_sortOrderSet_breaksTiesAndRestoredOnUndo() {
+        Person ann = new PatientBuilder().withAge("30").withName("Ann").build();
+        Person bob = new PatientBuilder().withAge("30").withName("Bob").build();
+        Person cat = new PatientBuilder().withAge("20").withName("Cat").build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ann).withPerson(bob).withPerson(cat)
+                .build(), new UserPrefs());
+        modelManager.updatePersonSortOrder(new PersonSortOrder(List.of(new Criterion(SortField.AGE, false))));
+        List<Person> byRelevance = List.of(bob, ann, cat);
+
+        // the sort order set by the user comes first, and the relevance order only breaks its ties
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateSortedPersonList(Comparator.comparing(byRelevance::indexOf));
+        modelManager.commit();
+        assertEquals(List.of(cat, bob, ann), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updatePersonSortOrder(new PersonSortOrder(List.of(new Criterion(SortField.NAME, false))));
+        modelManager.commit();
+        assertEquals(List.of(ann, bob, cat), modelManager.getFilteredPersonList());
+
+        modelManager.undo();
+        assertEquals(List.of(cat, bob, ann), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commit_foundPersonsListed_undoHistoryKeepsQuery() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        List<Person> foundWith = new ArrayList<>(List.of(ALICE));
+        modelManager.updateFilteredPersonList(
+                new FoundPersonsPredicate(foundWith::contains, person -> person.isSamePerson(ALICE)));
+        modelManager.commit();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.commit();
+
+        // the persons found with are no longer needed once committed, as undo lists the persons matching the query
+        foundWith.clear();
+        modelManager.undo();
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_modelChanged_publishedOnCommitAndUndo() {
+        AddressBookSnapshot initialSnapshot = modelManager.getAddressBookSnapshot();
+        assertEquals(List.of(), initialSnapshot.getPersonList());
+
+        // uncommitted changes are not published
+        modelManager.addPerson(ALICE);
+        assertSame(initialSnapshot, modelManager.getAddressBookSnapshot());
+
+        modelManager.commit();
+        assertEquals(List.of(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+
+        modelManager.undo();
+        assertEquals(List.of(), modelManager.getAddressBookSnapshot().getPersonList());
+        modelManager.redo();
+        assertEquals(List.of(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_readOnOtherThread_consistentWhileModelChanged() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PatientBuilder().withName("Person " + Integer.toString(i, 26)).build());
+        }
+        modelManager.setAddressBook(new AddressBookBuilder().build());
+        persons.forEach(modelManager::addPerson);
+        modelManager.commit();
+
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> count = reader.submit(() -> {
+                int total = 0;
+                for (int i = 0; i < 100; i++) {
+                    total += (int) snapshot.getPersonList().stream().count();
+                }
+                return total;
+            });
+            persons.forEach(modelManager::deletePerson);
+            modelManager.commit();
+
+            assertEquals(100 * persons.size(), count.get());
+        } finally {
+            reader.shutdown();
+        }
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(List.of(), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
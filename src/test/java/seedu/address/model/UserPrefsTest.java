@@ -1,9 +1,16 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.CommandWord;
+import seedu.address.logic.commands.ShortcutAlias;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +25,21 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void getCopy_customPrefs_copiesAllPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(Paths.get("custom", "addressbook.json"));
+        userPrefs.setShardedStorage(true);
+        userPrefs.setShardBucketCount(4);
+        userPrefs.setCommandHistoryCapacity(50);
+        userPrefs.getShortcutSettings().registerShortcut(new ShortcutAlias("ls"), new CommandWord("list"));
+
+        UserPrefs copy = userPrefs.getCopy();
+        assertEquals(userPrefs, copy);
+
+        // the shortcut settings are not shared
+        copy.getShortcutSettings().removeShortcut(new ShortcutAlias("ls"));
+        assertNotEquals(userPrefs, copy);
+    }
+
 }
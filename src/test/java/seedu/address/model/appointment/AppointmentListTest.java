@@ -0,0 +1,194 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_FIONA;
+import static seedu.address.testutil.TypicalAppointments.BENSON_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.CARL_WITH_GEORGE;
+import static seedu.address.testutil.TypicalAppointments.appointment;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalAppointments.timeSlot;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Specialist;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class AppointmentListTest {
+
+    private final AppointmentList appointmentList = new AppointmentList();
+
+    @Test
+    public void findConflict_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> appointmentList.findConflict(null));
+    }
+
+    @Test
+    public void findConflict_specialistBusy_returnsSpecialistAppointment() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        Appointment carlWithElle = appointment(CARL, ELLE, "2023-11-20 09:30", "2023-11-20 10:30");
+        assertEquals(Optional.of(ALICE_WITH_ELLE), appointmentList.findConflict(carlWithElle));
+    }
+
+    @Test
+    public void findConflict_patientBusy_returnsPatientAppointment() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        Appointment aliceWithFiona = appointment(ALICE, FIONA, "2023-11-20 09:30", "2023-11-20 10:30");
+        assertEquals(Optional.of(ALICE_WITH_ELLE), appointmentList.findConflict(aliceWithFiona));
+    }
+
+    @Test
+    public void findConflict_othersBusy_returnsEmpty() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        Appointment carlWithFiona = appointment(CARL, FIONA, "2023-11-20 09:00", "2023-11-20 10:00");
+        assertEquals(Optional.empty(), appointmentList.findConflict(carlWithFiona));
+    }
+
+    @Test
+    public void findConflict_patientSharesNameWithSpecialist_returnsEmpty() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        // the patient Elle Meyer is not the specialist Elle Meyer
+        Patient patientElle = (Patient) new PatientBuilder().withName(ELLE.getName().fullName).build();
+        Appointment patientElleWithFiona = appointment(patientElle, FIONA, "2023-11-20 09:00", "2023-11-20 10:00");
+        assertEquals(Optional.empty(), appointmentList.findConflict(patientElleWithFiona));
+    }
+
+    @Test
+    public void add_overlappingAppointment_throwsAppointmentConflictException() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        Appointment aliceWithFiona = appointment(ALICE, FIONA, "2023-11-20 09:30", "2023-11-20 10:30");
+        assertThrows(AppointmentConflictException.class, () -> appointmentList.add(aliceWithFiona));
+        assertEquals(List.of(ALICE_WITH_ELLE), appointmentList.asList());
+        assertEquals(1, appointmentList.size());
+    }
+
+    @Test
+    public void remove_appointmentNotInList_throwsAppointmentNotFoundException() {
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentList.remove(ALICE_WITH_ELLE));
+    }
+
+    @Test
+    public void remove_onlySpecialistHasAppointmentAtStart_throwsAndListUnchanged() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        Appointment bensonWithElle = appointment(BENSON, ELLE, "2023-11-20 09:00", "2023-11-20 10:00");
+
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentList.remove(bensonWithElle));
+        assertEquals(List.of(ALICE_WITH_ELLE), appointmentList.asList());
+        assertEquals(Optional.of(ALICE_WITH_ELLE), appointmentList.getAppointmentAt(ELLE, ALICE_WITH_ELLE.getStart()));
+        assertEquals(Optional.of(ALICE_WITH_ELLE),
+                appointmentList.getAppointmentAt(ALICE, ALICE_WITH_ELLE.getStart()));
+    }
+
+    @Test
+    public void asList_unchangedSinceLastCall_sameList() {
+        appointmentList.setAppointments(getTypicalAppointments());
+        List<Appointment> appointments = appointmentList.asList();
+        assertSame(appointments, appointmentList.asList());
+        assertThrows(UnsupportedOperationException.class, () -> appointments.remove(0));
+
+        appointmentList.remove(ALICE_WITH_ELLE);
+        assertNotSame(appointments, appointmentList.asList());
+        assertEquals(3, appointmentList.asList().size());
+    }
+
+    @Test
+    public void remove_appointmentInList_removesAppointment() {
+        appointmentList.add(ALICE_WITH_ELLE);
+        appointmentList.add(ALICE_WITH_FIONA);
+        appointmentList.remove(ALICE_WITH_ELLE);
+        assertEquals(List.of(ALICE_WITH_FIONA), appointmentList.asList());
+        assertEquals(Optional.empty(), appointmentList.getAppointmentAt(ELLE, ALICE_WITH_ELLE.getStart()));
+        assertEquals(Optional.empty(), appointmentList.getAppointmentAt(ALICE, ALICE_WITH_ELLE.getStart()));
+    }
+
+    @Test
+    public void setAppointments_conflictingAppointments_listUnchanged() {
+        appointmentList.add(CARL_WITH_GEORGE);
+        Appointment bensonWithElle = appointment(BENSON, ELLE, "2023-11-20 09:30", "2023-11-20 10:30");
+        assertThrows(AppointmentConflictException.class, () ->
+                appointmentList.setAppointments(List.of(ALICE_WITH_ELLE, bensonWithElle)));
+        assertEquals(List.of(CARL_WITH_GEORGE), appointmentList.asList());
+    }
+
+    @Test
+    public void setAppointments_validAppointments_replacesAppointments() {
+        appointmentList.add(appointment(DANIEL, FIONA, "2023-11-20 09:00", "2023-11-20 10:00"));
+        appointmentList.setAppointments(getTypicalAppointments());
+        assertEquals(getTypicalAppointments(), appointmentList.asList());
+        assertEquals(4, appointmentList.size());
+    }
+
+    @Test
+    public void getAppointmentsAndFreeSlotsIn() {
+        appointmentList.setAppointments(getTypicalAppointments());
+        TimeSlot day = timeSlot("2023-11-20 00:00", "2023-11-21 00:00");
+
+        assertEquals(List.of(ALICE_WITH_ELLE, ALICE_WITH_FIONA), appointmentList.getAppointmentsIn(ALICE, day));
+        assertEquals(List.of(ALICE_WITH_ELLE, BENSON_WITH_ELLE), appointmentList.getAppointmentsIn(ELLE, day));
+        assertEquals(List.of(), appointmentList.getAppointmentsIn(DANIEL, day));
+
+        TimeSlot workingHours = timeSlot("2023-11-20 09:00", "2023-11-20 18:00");
+        assertEquals(List.of(timeSlot("2023-11-20 11:00", "2023-11-20 18:00")),
+                appointmentList.getFreeSlotsIn(ELLE, workingHours));
+        assertEquals(List.of(workingHours), appointmentList.getFreeSlotsIn(DANIEL, workingHours));
+    }
+
+    @Test
+    public void removeAppointmentsOf() {
+        appointmentList.setAppointments(getTypicalAppointments());
+
+        assertTrue(appointmentList.removeAppointmentsOf(ALICE));
+        assertEquals(List.of(BENSON_WITH_ELLE, CARL_WITH_GEORGE), appointmentList.asList());
+
+        assertFalse(appointmentList.removeAppointmentsOf(DANIEL));
+        assertEquals(2, appointmentList.size());
+    }
+
+    @Test
+    public void rename() {
+        appointmentList.setAppointments(getTypicalAppointments());
+        Specialist renamedElle = (Specialist) new SpecialistBuilder(ELLE).withName("Elle Meyers").build();
+
+        assertTrue(appointmentList.rename(ELLE, renamedElle));
+        assertEquals(List.of(), appointmentList.getAppointmentsIn(ELLE, ALICE_WITH_ELLE.getTimeSlot()));
+        assertEquals(List.of(ALICE_WITH_ELLE.withSpecialistName(renamedElle.getName())),
+                appointmentList.getAppointmentsIn(renamedElle, ALICE_WITH_ELLE.getTimeSlot()));
+        assertEquals(List.of(ALICE_WITH_ELLE.withSpecialistName(renamedElle.getName())),
+                appointmentList.getAppointmentsIn(ALICE, ALICE_WITH_ELLE.getTimeSlot()));
+
+        // same name, or no appointments
+        assertFalse(appointmentList.rename(renamedElle, renamedElle));
+        assertFalse(appointmentList.rename(DANIEL, new PatientBuilder(DANIEL).withName("Daniel Mayer").build()));
+    }
+
+    @Test
+    public void equals() {
+        appointmentList.setAppointments(getTypicalAppointments());
+        AppointmentList sameList = new AppointmentList();
+        sameList.setAppointments(List.of(CARL_WITH_GEORGE, ALICE_WITH_FIONA, BENSON_WITH_ELLE, ALICE_WITH_ELLE));
+
+        assertTrue(appointmentList.equals(sameList));
+        assertTrue(appointmentList.equals(appointmentList));
+        assertFalse(appointmentList.equals(null));
+        assertFalse(appointmentList.equals(5));
+        assertFalse(appointmentList.equals(new AppointmentList()));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.timeSlot;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import org.junit.jupiter.api.Test;
+
+public class AppointmentTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Appointment(null, FIONA.getName(),
+                ALICE_WITH_ELLE.getTimeSlot()));
+        assertThrows(NullPointerException.class, () -> new Appointment(BENSON.getName(), null,
+                ALICE_WITH_ELLE.getTimeSlot()));
+        assertThrows(NullPointerException.class, () -> new Appointment(BENSON.getName(), FIONA.getName(), null));
+    }
+
+    @Test
+    public void withNames() {
+        Appointment bensonWithElle = ALICE_WITH_ELLE.withPatientName(BENSON.getName());
+        assertEquals(BENSON.getName(), bensonWithElle.getPatientName());
+        assertEquals(ALICE_WITH_ELLE.getSpecialistName(), bensonWithElle.getSpecialistName());
+        assertEquals(ALICE_WITH_ELLE.getTimeSlot(), bensonWithElle.getTimeSlot());
+
+        Appointment aliceWithFiona = ALICE_WITH_ELLE.withSpecialistName(FIONA.getName());
+        assertEquals(ALICE_WITH_ELLE.getPatientName(), aliceWithFiona.getPatientName());
+        assertEquals(FIONA.getName(), aliceWithFiona.getSpecialistName());
+    }
+
+    @Test
+    public void format() {
+        assertEquals("2023-11-20 09:00-10:00: Alice Pauline with Elle Meyer", ALICE_WITH_ELLE.format());
+    }
+
+    @Test
+    public void equals() {
+        Appointment copy = new Appointment(ALICE_WITH_ELLE.getPatientName(), ALICE_WITH_ELLE.getSpecialistName(),
+                ALICE_WITH_ELLE.getTimeSlot());
+
+        assertTrue(ALICE_WITH_ELLE.equals(copy));
+        assertTrue(ALICE_WITH_ELLE.equals(ALICE_WITH_ELLE));
+        assertFalse(ALICE_WITH_ELLE.equals(null));
+        assertFalse(ALICE_WITH_ELLE.equals(5));
+        assertFalse(ALICE_WITH_ELLE.equals(ALICE_WITH_ELLE.withPatientName(BENSON.getName())));
+        assertFalse(ALICE_WITH_ELLE.equals(ALICE_WITH_ELLE.withSpecialistName(FIONA.getName())));
+        assertFalse(ALICE_WITH_ELLE.equals(new Appointment(ALICE_WITH_ELLE.getPatientName(),
+                ALICE_WITH_ELLE.getSpecialistName(), timeSlot("2023-11-20 09:00", "2023-11-20 09:30"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = Appointment.class.getCanonicalName() + "{patientName=" + ALICE_WITH_ELLE.getPatientName()
+                + ", specialistName=" + ALICE_WITH_ELLE.getSpecialistName()
+                + ", timeSlot=" + ALICE_WITH_ELLE.getTimeSlot() + "}";
+        assertEquals(expected, ALICE_WITH_ELLE.toString());
+    }
+}
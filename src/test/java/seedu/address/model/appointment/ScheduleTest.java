@@ -0,0 +1,126 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.BENSON_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.appointment;
+import static seedu.address.testutil.TypicalAppointments.timeSlot;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.exceptions.AppointmentConflictException;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+
+public class ScheduleTest {
+
+    private static final Appointment CARL_WITH_ELLE =
+            appointment(CARL, ELLE, "2023-11-20 13:00", "2023-11-20 14:00");
+
+    private final Schedule schedule = new Schedule();
+
+    @Test
+    public void findConflict_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> schedule.findConflict(null));
+    }
+
+    @Test
+    public void findConflict() {
+        schedule.add(ALICE_WITH_ELLE);
+        schedule.add(CARL_WITH_ELLE);
+
+        assertEquals(Optional.of(ALICE_WITH_ELLE),
+                schedule.findConflict(timeSlot("2023-11-20 09:59", "2023-11-20 11:00")));
+        assertEquals(Optional.of(CARL_WITH_ELLE),
+                schedule.findConflict(timeSlot("2023-11-20 08:00", "2023-11-20 18:00")));
+        assertEquals(Optional.of(CARL_WITH_ELLE),
+                schedule.findConflict(timeSlot("2023-11-20 13:30", "2023-11-20 13:45")));
+
+        // slots that only meet an appointment do not conflict with it
+        assertEquals(Optional.empty(), schedule.findConflict(timeSlot("2023-11-20 10:00", "2023-11-20 13:00")));
+        assertEquals(Optional.empty(), schedule.findConflict(timeSlot("2023-11-20 08:00", "2023-11-20 09:00")));
+        assertEquals(Optional.empty(), schedule.findConflict(timeSlot("2023-11-20 14:00", "2023-11-20 15:00")));
+    }
+
+    @Test
+    public void add_overlappingAppointment_throwsAppointmentConflictException() {
+        schedule.add(ALICE_WITH_ELLE);
+        Appointment overlapping = appointment(CARL, ELLE, "2023-11-20 09:30", "2023-11-20 10:30");
+        assertThrows(AppointmentConflictException.class, () -> schedule.add(overlapping));
+        assertEquals(List.of(ALICE_WITH_ELLE), schedule.getAppointments());
+    }
+
+    @Test
+    public void remove_appointmentNotInSchedule_throwsAppointmentNotFoundException() {
+        assertThrows(AppointmentNotFoundException.class, () -> schedule.remove(ALICE_WITH_ELLE));
+
+        // an appointment at the same start time with someone else is not removed
+        schedule.add(ALICE_WITH_ELLE);
+        assertThrows(AppointmentNotFoundException.class, () -> schedule.remove(
+                ALICE_WITH_ELLE.withPatientName(CARL.getName())));
+    }
+
+    @Test
+    public void remove_appointmentInSchedule_removesAppointment() {
+        schedule.add(ALICE_WITH_ELLE);
+        schedule.remove(ALICE_WITH_ELLE);
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test
+    public void getAppointmentAt() {
+        schedule.add(ALICE_WITH_ELLE);
+        assertEquals(Optional.of(ALICE_WITH_ELLE), schedule.getAppointmentAt(ALICE_WITH_ELLE.getStart()));
+        assertEquals(Optional.empty(), schedule.getAppointmentAt(ALICE_WITH_ELLE.getStart().plusMinutes(1)));
+    }
+
+    @Test
+    public void getAppointmentsIn() {
+        schedule.add(CARL_WITH_ELLE);
+        schedule.add(BENSON_WITH_ELLE);
+        schedule.add(ALICE_WITH_ELLE);
+
+        assertEquals(List.of(ALICE_WITH_ELLE, BENSON_WITH_ELLE, CARL_WITH_ELLE),
+                schedule.getAppointmentsIn(timeSlot("2023-11-20 00:00", "2023-11-21 00:00")));
+        // includes the appointment going on when the window starts, but not the one starting when it ends
+        assertEquals(List.of(ALICE_WITH_ELLE, BENSON_WITH_ELLE),
+                schedule.getAppointmentsIn(timeSlot("2023-11-20 09:30", "2023-11-20 13:00")));
+        assertEquals(List.of(), schedule.getAppointmentsIn(timeSlot("2023-11-20 11:00", "2023-11-20 13:00")));
+    }
+
+    @Test
+    public void getFreeSlotsIn() {
+        schedule.add(ALICE_WITH_ELLE);
+        schedule.add(BENSON_WITH_ELLE);
+        schedule.add(CARL_WITH_ELLE);
+
+        assertEquals(List.of(timeSlot("2023-11-20 11:00", "2023-11-20 13:00"),
+                        timeSlot("2023-11-20 14:00", "2023-11-20 18:00")),
+                schedule.getFreeSlotsIn(timeSlot("2023-11-20 09:30", "2023-11-20 18:00")));
+        assertEquals(List.of(timeSlot("2023-11-20 08:00", "2023-11-20 09:00")),
+                schedule.getFreeSlotsIn(timeSlot("2023-11-20 08:00", "2023-11-20 10:30")));
+        assertEquals(List.of(), schedule.getFreeSlotsIn(timeSlot("2023-11-20 09:00", "2023-11-20 11:00")));
+        assertEquals(List.of(timeSlot("2023-11-21 09:00", "2023-11-21 18:00")),
+                schedule.getFreeSlotsIn(timeSlot("2023-11-21 09:00", "2023-11-21 18:00")));
+    }
+
+    @Test
+    public void equals() {
+        schedule.add(ALICE_WITH_ELLE);
+        Schedule sameSchedule = new Schedule();
+        sameSchedule.add(ALICE_WITH_ELLE);
+
+        assertTrue(schedule.equals(sameSchedule));
+        assertTrue(schedule.equals(schedule));
+        assertFalse(schedule.equals(null));
+        assertFalse(schedule.equals(5));
+        assertFalse(schedule.equals(new Schedule()));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.timeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeSlotTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2023, 11, 20, 9, 0);
+    private static final LocalDateTime TEN = LocalDateTime.of(2023, 11, 20, 10, 0);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TimeSlot(null, TEN));
+        assertThrows(NullPointerException.class, () -> new TimeSlot(NINE, null));
+    }
+
+    @Test
+    public void constructor_invalidTimeSlot_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(TEN, NINE));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(NINE, NINE));
+    }
+
+    @Test
+    public void isValidTimeSlot() {
+        assertTrue(TimeSlot.isValidTimeSlot(NINE, TEN));
+        assertFalse(TimeSlot.isValidTimeSlot(NINE, NINE));
+        assertFalse(TimeSlot.isValidTimeSlot(TEN, NINE));
+    }
+
+    @Test
+    public void ofDay() {
+        assertEquals(timeSlot("2023-11-22 00:00", "2023-11-23 00:00"), TimeSlot.ofDay(LocalDate.of(2023, 11, 22)));
+    }
+
+    @Test
+    public void ofWeek_startsOnMonday() {
+        TimeSlot week = timeSlot("2023-11-20 00:00", "2023-11-27 00:00");
+        assertEquals(week, TimeSlot.ofWeek(LocalDate.of(2023, 11, 20)));
+        assertEquals(week, TimeSlot.ofWeek(LocalDate.of(2023, 11, 22)));
+        assertEquals(week, TimeSlot.ofWeek(LocalDate.of(2023, 11, 26)));
+    }
+
+    @Test
+    public void overlaps() {
+        TimeSlot slot = timeSlot("2023-11-20 09:00", "2023-11-20 10:00");
+
+        assertTrue(slot.overlaps(slot));
+        assertTrue(slot.overlaps(timeSlot("2023-11-20 09:30", "2023-11-20 10:30")));
+        assertTrue(slot.overlaps(timeSlot("2023-11-20 08:00", "2023-11-20 11:00")));
+        assertTrue(slot.overlaps(timeSlot("2023-11-20 09:15", "2023-11-20 09:45")));
+
+        // slots that only meet do not overlap
+        assertFalse(slot.overlaps(timeSlot("2023-11-20 10:00", "2023-11-20 11:00")));
+        assertFalse(slot.overlaps(timeSlot("2023-11-20 08:00", "2023-11-20 09:00")));
+        assertFalse(slot.overlaps(timeSlot("2023-11-21 09:00", "2023-11-21 10:00")));
+    }
+
+    @Test
+    public void format() {
+        assertEquals("2023-11-20 09:00-10:00", timeSlot("2023-11-20 09:00", "2023-11-20 10:00").format());
+        assertEquals("2023-11-20 23:00-2023-11-21 01:00",
+                timeSlot("2023-11-20 23:00", "2023-11-21 01:00").format());
+    }
+
+    @Test
+    public void equals() {
+        TimeSlot slot = new TimeSlot(NINE, TEN);
+
+        assertTrue(slot.equals(new TimeSlot(NINE, TEN)));
+        assertTrue(slot.equals(slot));
+        assertFalse(slot.equals(null));
+        assertFalse(slot.equals(5.0f));
+        assertFalse(slot.equals(new TimeSlot(NINE, TEN.plusMinutes(1))));
+        assertFalse(slot.equals(new TimeSlot(NINE.minusMinutes(1), TEN)));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class AgeInRangesPredicateTest {
+    @Test
+    public void equals() {
+        List<AgeRange> firstPredicateRanges = Collections.singletonList(new AgeRange("60-75"));
+        List<AgeRange> secondPredicateRanges = List.of(new AgeRange("60-75"), new AgeRange(">=80"));
+
+        AgeInRangesPredicate firstPredicate = new AgeInRangesPredicate(firstPredicateRanges);
+        AgeInRangesPredicate secondPredicate = new AgeInRangesPredicate(secondPredicateRanges);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AgeInRangesPredicate(List.of(new AgeRange("60-75")))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ranges -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_ageInRanges_returnsTrue() {
+        AgeInRangesPredicate predicate = new AgeInRangesPredicate(List.of(new AgeRange("<18"), new AgeRange(">=65")));
+        assertTrue(predicate.test(new PatientBuilder().withAge("17").build()));
+        assertTrue(predicate.test(new PatientBuilder().withAge("65").build()));
+    }
+
+    @Test
+    public void test_ageNotInRanges_returnsFalse() {
+        // zero ranges
+        AgeInRangesPredicate predicate = new AgeInRangesPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PatientBuilder().withAge("30").build()));
+
+        // age outside ranges
+        predicate = new AgeInRangesPredicate(List.of(new AgeRange("<18"), new AgeRange(">=65")));
+        assertFalse(predicate.test(new PatientBuilder().withAge("18").build()));
+        assertFalse(predicate.test(new PatientBuilder().withAge("64").build()));
+
+        // specialists have no age
+        assertFalse(predicate.test(new SpecialistBuilder().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<AgeRange> ageRanges = List.of(new AgeRange("60-75"));
+        AgeInRangesPredicate predicate = new AgeInRangesPredicate(ageRanges);
+
+        String expected = AgeInRangesPredicate.class.getCanonicalName() + "{ageRanges=" + ageRanges + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class AgeIndexTest {
+
+    private final Person child = new PatientBuilder().withAge("8").withName("Child").build();
+    private final Person adult = new PatientBuilder().withAge("40").withName("Adult").build();
+    private final Person senior = new PatientBuilder().withAge("70").withName("Senior").build();
+    private final Person specialist = new SpecialistBuilder().withName("Specialist").build();
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AgeIndex(null));
+    }
+
+    @Test
+    public void getPatientsInRanges_ranges_patientsFromYoungest() {
+        addressBook.setPersons(List.of(senior, specialist, adult, child));
+        AgeIndex index = new AgeIndex(addressBook.getPersonList());
+
+        assertEquals(List.of(child, adult, senior),
+                List.copyOf(index.getPatientsInRanges(List.of(new AgeRange(">=0")))));
+        assertEquals(List.of(child, senior),
+                List.copyOf(index.getPatientsInRanges(List.of(new AgeRange(">=65"), new AgeRange("<10")))));
+        assertEquals(Set.of(adult), index.getPatientsInRanges(List.of(new AgeRange("40"), new AgeRange("30-45"))));
+        assertTrue(index.getPatientsInRanges(List.of(new AgeRange("41-69"))).isEmpty());
+        assertTrue(index.getPatientsInRanges(List.of()).isEmpty());
+    }
+
+    @Test
+    public void getPatientsInRanges_addressBookChanged_patientsWithCurrentAges() {
+        addressBook.setPersons(List.of(adult));
+        AgeIndex index = new AgeIndex(addressBook.getPersonList());
+
+        addressBook.addPerson(senior);
+        assertEquals(Set.of(senior), index.getPatientsInRanges(List.of(new AgeRange(">=65"))));
+
+        Person olderAdult = new PatientBuilder((Patient) adult).withAge("66").build();
+        addressBook.setPerson(adult, olderAdult);
+        assertEquals(Set.of(olderAdult, senior), index.getPatientsInRanges(List.of(new AgeRange(">=65"))));
+        assertTrue(index.getPatientsInRanges(List.of(new AgeRange("40"))).isEmpty());
+
+        addressBook.removePerson(senior);
+        assertEquals(Set.of(olderAdult), index.getPatientsInRanges(List.of(new AgeRange(">=65"))));
+    }
+
+    @Test
+    public void countPatientsInRanges_ranges_numberOfPatientsInRanges() {
+        addressBook.setPersons(List.of(senior, specialist, adult, child));
+        AgeIndex index = new AgeIndex(addressBook.getPersonList());
+
+        assertEquals(3, index.countPatientsInRanges(List.of(new AgeRange(">=0"))));
+        assertEquals(2, index.countPatientsInRanges(List.of(new AgeRange(">=65"), new AgeRange("<10"))));
+        assertEquals(1, index.countPatientsInRanges(List.of(new AgeRange("40"), new AgeRange("30-45"))));
+        assertEquals(0, index.countPatientsInRanges(List.of()));
+    }
+}
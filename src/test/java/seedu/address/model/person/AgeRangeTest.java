@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class AgeRangeTest {
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AgeRange(null));
+    }
+
+    @Test
+    public void constructor_invalidAgeRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AgeRange("75-60"));
+    }
+
+    @Test
+    public void isValidAgeRange() {
+        // null age range
+        assertThrows(NullPointerException.class, () -> AgeRange.isValidAgeRange(null));
+
+        // invalid age ranges
+        assertFalse(AgeRange.isValidAgeRange("")); // empty string
+        assertFalse(AgeRange.isValidAgeRange("age")); // non-numeric
+        assertFalse(AgeRange.isValidAgeRange("150")); // invalid age
+        assertFalse(AgeRange.isValidAgeRange("60-150")); // invalid upper bound
+        assertFalse(AgeRange.isValidAgeRange("60 - 75")); // spaces within range
+        assertFalse(AgeRange.isValidAgeRange("75-60")); // bounds reversed
+        assertFalse(AgeRange.isValidAgeRange(">=60-75")); // comparison with range
+        assertFalse(AgeRange.isValidAgeRange("=>60")); // unknown comparison
+        assertFalse(AgeRange.isValidAgeRange("<0")); // no ages below 0
+        assertFalse(AgeRange.isValidAgeRange(">149")); // no ages above 149
+
+        // valid age ranges
+        assertTrue(AgeRange.isValidAgeRange("65")); // single age
+        assertTrue(AgeRange.isValidAgeRange("60-75")); // range
+        assertTrue(AgeRange.isValidAgeRange("60-60")); // range of one age
+        assertTrue(AgeRange.isValidAgeRange(">=65"));
+        assertTrue(AgeRange.isValidAgeRange("<=65"));
+        assertTrue(AgeRange.isValidAgeRange(">0"));
+        assertTrue(AgeRange.isValidAgeRange("<149"));
+    }
+
+    @Test
+    public void constructor_validAgeRange_boundsInclusive() {
+        assertRange(65, 65, "65");
+        assertRange(60, 75, "60-75");
+        assertRange(65, Age.MAX_AGE, ">=65");
+        assertRange(Age.MIN_AGE, 65, "<=65");
+        assertRange(66, Age.MAX_AGE, ">65");
+        assertRange(Age.MIN_AGE, 64, "<65");
+    }
+
+    @Test
+    public void contains() {
+        AgeRange ageRange = new AgeRange("60-75");
+        assertTrue(ageRange.contains(new Age("60")));
+        assertTrue(ageRange.contains(new Age("75")));
+        assertFalse(ageRange.contains(new Age("59")));
+        assertFalse(ageRange.contains(new Age("76")));
+    }
+
+    @Test
+    public void equals() {
+        AgeRange ageRange = new AgeRange(">=140");
+
+        // same bounds -> returns true
+        assertTrue(ageRange.equals(new AgeRange("140-149")));
+        assertEquals(ageRange.hashCode(), new AgeRange("140-149").hashCode());
+
+        // same object -> returns true
+        assertTrue(ageRange.equals(ageRange));
+
+        // null -> returns false
+        assertFalse(ageRange.equals(null));
+
+        // different types -> returns false
+        assertFalse(ageRange.equals(140));
+
+        // different bounds -> returns false
+        assertFalse(ageRange.equals(new AgeRange(">140")));
+    }
+
+    private static void assertRange(int expectedMin, int expectedMax, String ageRange) {
+        AgeRange actual = new AgeRange(ageRange);
+        assertEquals(expectedMin, actual.min);
+        assertEquals(expectedMax, actual.max);
+        assertEquals(ageRange, actual.toString());
+    }
+}
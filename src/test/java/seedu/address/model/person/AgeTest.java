@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -18,6 +20,20 @@ public class AgeTest {
         assertThrows(IllegalArgumentException.class, () -> new Age(invalidAge));
     }
 
+    @Test
+    public void of_validAge_returnsSharedAge() {
+        assertEquals(new Age("30"), Age.of(30));
+        assertSame(Age.of(30), Age.of(30));
+        assertEquals(Age.MIN_AGE, Age.of(Age.MIN_AGE).value);
+        assertEquals(Age.MAX_AGE, Age.of(Age.MAX_AGE).value);
+    }
+
+    @Test
+    public void of_invalidAge_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Age.of(Age.MIN_AGE - 1));
+        assertThrows(IllegalArgumentException.class, () -> Age.of(Age.MAX_AGE + 1));
+    }
+
     @Test
     public void isValidAge() {
         // null Age
@@ -0,0 +1,156 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.util.SampleDataUtil.getMedicalHistorySet;
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.predicates.FindQuery;
+import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+import seedu.address.model.util.CompressedBitmap;
+import seedu.address.testutil.PatientBuilder;
+
+public class CategoryIndexTest {
+
+    private static final String[] TAGS = {"diabetic", "discharged", "vip", "friends"};
+    private static final String[] MEDICAL_HISTORIES = {"Hypertension", "Heart Disease", "Diabetes", "Asthma"};
+    private static final String[] SPECIALTIES = {"Physiotherapist", "Orthopaedic Surgeon", "Dermatologist"};
+
+    private static final FindQuery QUERY = FindQuery.and(
+            FindQuery.or(FindQuery.of(new TagsContainsKeywordsPredicate(List.of("diabetic"))),
+                    FindQuery.of(new MedHistoryContainsKeywordsPredicate(List.of("hypertension")))),
+            FindQuery.not(FindQuery.of(new TagsContainsKeywordsPredicate(List.of("discharged")))));
+
+    private final Random random = new Random(2103);
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CategoryIndex(null));
+    }
+
+    @Test
+    public void selectFrom_queries_samePersonsAsPredicates() {
+        addressBook.setPersons(generatePersons(0, 5000));
+        CategoryIndex index = new CategoryIndex(addressBook.getPersonList());
+
+        assertSelected(index, QUERY);
+        assertSelected(index, FindQuery.of(new SpecialtyContainsKeywordsPredicate(List.of("surgeon", "derm"))));
+        assertSelected(index, FindQuery.or(FindQuery.of(new NameContainsKeywordsPredicate(List.of("12"))),
+                FindQuery.not(FindQuery.of(new TagsContainsKeywordsPredicate(List.of("VIP", "friends"))))));
+        assertEquals(addressBook.getPersonList().stream().filter(person -> person instanceof Patient).count(),
+                index.getPersonsOfType(PersonType.PATIENT).getCardinality());
+    }
+
+    @Test
+    public void selectFrom_addressBookChanged_followsPersonList() {
+        addressBook.setPersons(generatePersons(0, 3000));
+        CategoryIndex index = new CategoryIndex(addressBook.getPersonList());
+
+        addressBook.addPerson(generatePerson(3000));
+        addressBook.setPerson(addressBook.getPersonList().get(7), generatePerson(3001));
+        addressBook.removePersons(addressBook.getPersonList().stream()
+                .filter(person -> random.nextInt(3) == 0)
+                .collect(Collectors.toList()));
+        assertSelected(index, QUERY);
+
+        // removing most persons makes the index give every person a new id
+        for (int i = 0; i < 5; i++) {
+            addressBook.removePersons(new ArrayList<>(addressBook.getPersonList().subList(0, 300)));
+            addressBook.setPersons(new ArrayList<>(addressBook.getPersonList()));
+            assertSelected(index, QUERY);
+        }
+        addressBook.setPersons(List.of());
+        assertTrue(index.getAllPersons().isEmpty());
+        assertTrue(index.getPersonsWithTag(tagName -> true).isEmpty());
+    }
+
+    @Test
+    public void toPredicate_personsChangedAfterSelection_testedWithFallback() {
+        addressBook.setPersons(generatePersons(0, 100));
+        CategoryIndex index = new CategoryIndex(addressBook.getPersonList());
+        Predicate<Person> predicate = index.toPredicate(QUERY.selectFrom(index), QUERY);
+
+        Person added = new PatientBuilder().withName("Late Arrival").withTags("diabetic").build();
+        Person removed = addressBook.getPersonList().get(0);
+        addressBook.addPerson(added);
+        addressBook.removePerson(removed);
+
+        assertTrue(predicate.test(added));
+        assertEquals(QUERY.test(removed), predicate.test(removed));
+        assertFalse(predicate.test(new PatientBuilder().withName("Never Added").withTags("discharged").build()));
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(QUERY.test(person), predicate.test(person));
+        }
+    }
+
+    @Test
+    public void toPredicate_personsChangedBetweenSelections_laterSelectionSeesChanges() {
+        addressBook.setPersons(generatePersons(0, 100));
+        CategoryIndex index = new CategoryIndex(addressBook.getPersonList());
+        Predicate<Person> before = index.toPredicate(QUERY.selectFrom(index), QUERY);
+
+        Person added = new PatientBuilder().withName("Late Arrival").withTags("diabetic").build();
+        addressBook.addPerson(added);
+        Predicate<Person> after = index.toPredicate(QUERY.selectFrom(index), person -> {
+            throw new AssertionError("All persons should be in the index");
+        });
+
+        assertTrue(before.test(added));
+        assertTrue(after.test(added));
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(QUERY.test(person), after.test(person));
+        }
+    }
+
+    /**
+     * Asserts that the persons {@code query} selects from {@code index} are those it matches.
+     */
+    private void assertSelected(CategoryIndex index, FindQuery query) {
+        CompressedBitmap selection = query.selectFrom(index);
+        Predicate<Person> selected = index.toPredicate(selection, person -> {
+            throw new AssertionError("All persons should be in the index");
+        });
+        List<Person> expected = addressBook.getPersonList().stream().filter(query).collect(Collectors.toList());
+        assertEquals(expected, addressBook.getPersonList().stream().filter(selected).collect(Collectors.toList()));
+        assertEquals(expected.size(), selection.getCardinality());
+    }
+
+    private List<Person> generatePersons(int firstId, int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = firstId; id < firstId + count; id++) {
+            persons.add(generatePerson(id));
+        }
+        return persons;
+    }
+
+    private Person generatePerson(int id) {
+        Name name = new Name("Person " + id);
+        Phone phone = new Phone(String.valueOf(80000000 + id));
+        Email email = new Email("user" + id + "@example.com");
+        if (random.nextInt(3) == 0) {
+            return new Specialist(name, phone, email, new Location("Clementi"), getTagSet(pick(TAGS)),
+                    new Specialty(pick(SPECIALTIES)));
+        }
+        return new Patient(name, phone, email, random.nextBoolean() ? getTagSet() : getTagSet(pick(TAGS), pick(TAGS)),
+                Age.of(random.nextInt(Age.MAX_AGE + 1)), getMedicalHistorySet(pick(MEDICAL_HISTORIES)));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
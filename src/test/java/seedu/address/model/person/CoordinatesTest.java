@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CoordinatesTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Coordinates(null));
+    }
+
+    @Test
+    public void constructor_invalidCoordinates_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates("1.35"));
+    }
+
+    @Test
+    public void isValidCoordinates() {
+        // null coordinates
+        assertThrows(NullPointerException.class, () -> Coordinates.isValidCoordinates(null));
+
+        // invalid coordinates
+        assertFalse(Coordinates.isValidCoordinates("")); // empty string
+        assertFalse(Coordinates.isValidCoordinates("1.35")); // latitude only
+        assertFalse(Coordinates.isValidCoordinates("1.35,103.8,5")); // too many parts
+        assertFalse(Coordinates.isValidCoordinates("north,east")); // not numbers
+        assertFalse(Coordinates.isValidCoordinates("1e2,103")); // exponent
+        assertFalse(Coordinates.isValidCoordinates("90.01,0")); // latitude out of range
+        assertFalse(Coordinates.isValidCoordinates("0,-180.5")); // longitude out of range
+
+        // valid coordinates
+        assertTrue(Coordinates.isValidCoordinates("1.3521,103.8198"));
+        assertTrue(Coordinates.isValidCoordinates(" -33.8688 , +151.2093 ")); // signs and spaces
+        assertTrue(Coordinates.isValidCoordinates("90,-180")); // bounds
+        assertTrue(Coordinates.isValidCoordinates("0,0"));
+    }
+
+    @Test
+    public void distanceTo_knownPlaces_distanceAlongSurface() {
+        Coordinates singapore = new Coordinates("1.3521,103.8198");
+        Coordinates kualaLumpur = new Coordinates("3.1390,101.6869");
+        assertEquals(0, singapore.distanceTo(singapore), 1e-9);
+        assertEquals(309, singapore.distanceTo(kualaLumpur), 1);
+        assertEquals(singapore.distanceTo(kualaLumpur), kualaLumpur.distanceTo(singapore), 1e-9);
+
+        // a quarter of the way around the Earth
+        assertEquals(Math.PI * Coordinates.EARTH_RADIUS_KM / 2,
+                new Coordinates("0,0").distanceTo(new Coordinates("90,0")), 1e-6);
+        // the far side of the Earth
+        assertEquals(Math.PI * Coordinates.EARTH_RADIUS_KM,
+                new Coordinates("0,0").distanceTo(new Coordinates("0,180")), 1e-6);
+    }
+
+    @Test
+    public void toString_smallValues_readBackAsEqualCoordinates() {
+        Coordinates coordinates = new Coordinates("0.00001,-103.885");
+        assertEquals("0.000010,-103.885", coordinates.toString());
+        assertEquals(coordinates, new Coordinates(coordinates.toString()));
+    }
+
+    @Test
+    public void equals() {
+        Coordinates coordinates = new Coordinates("1.3521,103.8198");
+
+        // same values -> returns true
+        assertTrue(coordinates.equals(new Coordinates("1.35210, 103.8198")));
+
+        // same object -> returns true
+        assertTrue(coordinates.equals(coordinates));
+
+        // null -> returns false
+        assertFalse(coordinates.equals(null));
+
+        // different types -> returns false
+        assertFalse(coordinates.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(coordinates.equals(new Coordinates("1.3521,103.8199")));
+    }
+}
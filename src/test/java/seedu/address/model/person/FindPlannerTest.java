@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.util.SampleDataUtil.getMedicalHistorySet;
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
+import seedu.address.model.person.predicates.FindQuery;
+import seedu.address.model.person.predicates.LocationContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+
+public class FindPlannerTest {
+
+    private static final String[] MEDICAL_HISTORIES = {"Hypertension", "Heart Disease", "Diabetes", "Asthma"};
+
+    private final Random random = new Random(2103);
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FindPlanner(null, null, null, null));
+    }
+
+    @Test
+    public void plan_predicates_findsPersonsMatchingAllPredicates() {
+        for (int size : new int[] {0, 50, FindPlanner.COLUMNAR_SCAN_THRESHOLD * 3}) {
+            addressBook.setPersons(generatePersons(size));
+            FindPlanner planner = createPlanner();
+            List<List<Predicate<Person>>> predicateLists = List.of(
+                    List.of(),
+                    List.of(new TagsContainsKeywordsPredicate(List.of("rare"))),
+                    List.of(new NameContainsKeywordsPredicate(List.of("7")),
+                            new AgeInRangesPredicate(List.of(new AgeRange(">=65")))),
+                    List.of(new TagsContainsKeywordsPredicate(List.of("common")),
+                            new MedHistoryContainsKeywordsPredicate(List.of("diabetes")),
+                            new PhoneContainsKeywordsPredicate(List.of("1"))),
+                    FindQuery.and(FindQuery.of(new TagsContainsKeywordsPredicate(List.of("rare"))),
+                            FindQuery.or(FindQuery.of(new NameContainsKeywordsPredicate(List.of("3"))),
+                                    FindQuery.not(FindQuery.of(
+                                            new AgeInRangesPredicate(List.of(new AgeRange("<50"))))))).getConjuncts());
+
+            for (List<Predicate<Person>> predicates : predicateLists) {
+                for (PersonType personType : PersonType.values()) {
+                    assertFound(planner.plan(personType, predicates), personType, predicates);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void plan_selectiveIndexedPredicate_lookedUpBeforeOtherPredicatesAreTested() {
+        addressBook.setPersons(generatePersons(500));
+        List<Predicate<Person>> predicates = List.of(new NameContainsKeywordsPredicate(List.of("1")),
+                new AgeInRangesPredicate(List.of(new AgeRange(">=0"))),
+                new TagsContainsKeywordsPredicate(List.of("rare")));
+        FindPlan plan = createPlanner().plan(PersonType.PATIENT, predicates);
+
+        // the rare tag is looked up, after which it is cheaper to test the few patients left than to look up ages
+        List<String> descriptions = plan.getSteps().stream()
+                .map(FindPlan.Step::getDescription)
+                .collect(Collectors.toList());
+        assertEquals(4, descriptions.size());
+        assertEquals("Index lookup of patients", descriptions.get(0));
+        assertTrue(descriptions.get(1).startsWith("Index lookup of TagsContainsKeywordsPredicate"));
+        assertTrue(descriptions.get(2).startsWith("Filter by "));
+        assertTrue(descriptions.get(3).startsWith("Filter by "));
+        assertTrue(plan.explain().startsWith("Index lookups and filters of "));
+        assertEquals(FindPlan.NOT_EXECUTED, plan.getActualRows());
+
+        assertFound(plan, PersonType.PATIENT, predicates);
+        long rarePatients = addressBook.getPersonList().stream()
+                .filter(person -> person instanceof Patient)
+                .filter(predicates.get(2))
+                .count();
+        assertEquals(rarePatients, plan.getSteps().get(1).getActualRows());
+        assertTrue(plan.explain().contains("actual"));
+    }
+
+    @Test
+    public void plan_largeAddressBookUnindexedPredicates_scansColumns() {
+        addressBook.setPersons(generatePersons(FindPlanner.COLUMNAR_SCAN_THRESHOLD * 3));
+        FindPlanner planner = createPlanner();
+
+        List<Predicate<Person>> unindexedPredicates = List.of(new NameContainsKeywordsPredicate(List.of("1")));
+        FindPlan plan = planner.plan(PersonType.PATIENT, unindexedPredicates);
+        assertEquals(1, plan.getSteps().size());
+        assertTrue(plan.getSteps().get(0).getDescription().startsWith("Columnar scan for patients"));
+        assertFound(plan, PersonType.PATIENT, unindexedPredicates);
+
+        // a selective index lookup is cheaper than a scan
+        List<Predicate<Person>> indexedPredicates = List.of(new TagsContainsKeywordsPredicate(List.of("rare")));
+        assertTrue(planner.plan(PersonType.PATIENT, indexedPredicates).explain().startsWith("Index lookups"));
+
+        // a query with an operator other than AND cannot be scanned over the columns
+        List<Predicate<Person>> queryPredicates = FindQuery.or(
+                FindQuery.of(new LocationContainsKeywordsPredicate(List.of("Clementi"))),
+                FindQuery.of(new NameContainsKeywordsPredicate(List.of("2")))).getConjuncts();
+        plan = planner.plan(PersonType.SPECIALIST, queryPredicates);
+        assertTrue(plan.explain().startsWith("Full scan of "));
+        assertFound(plan, PersonType.SPECIALIST, queryPredicates);
+    }
+
+    /**
+     * Asserts that executing {@code plan} finds the persons of {@code personType} matching all of
+     * {@code predicates}, which its last step left.
+     */
+    private void assertFound(FindPlan plan, PersonType personType, List<Predicate<Person>> predicates) {
+        Predicate<Person> found = plan.execute();
+        List<Person> expected = addressBook.getPersonList().stream()
+                .filter(personType.getSearchPredicate())
+                .filter(person -> predicates.stream().allMatch(predicate -> predicate.test(person)))
+                .collect(Collectors.toList());
+        assertEquals(expected, addressBook.getPersonList().stream().filter(found).collect(Collectors.toList()));
+        assertEquals(expected.size(), plan.getActualRows());
+    }
+
+    private FindPlanner createPlanner() {
+        return new FindPlanner(addressBook.getPersonList(), new CategoryIndex(addressBook.getPersonList()),
+                new AgeIndex(addressBook.getPersonList()), () -> new PersonColumns(addressBook.getPersonList()));
+    }
+
+    private List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            Name name = new Name("Person " + id);
+            Phone phone = new Phone(String.valueOf(80000000 + random.nextInt(10000000)));
+            Email email = new Email("user" + id + "@example.com");
+            // about one in a hundred persons is tagged as rare, and most as common
+            String tag = random.nextInt(100) == 0 ? "rare" : "common";
+            if (random.nextInt(3) == 0) {
+                Location location = new Location(random.nextBoolean() ? "Clementi" : "Jurong");
+                persons.add(new Specialist(name, phone, email, location, getTagSet(tag),
+                        new Specialty("Physiotherapist")));
+            } else {
+                persons.add(new Patient(name, phone, email, getTagSet(tag), Age.of(random.nextInt(Age.MAX_AGE + 1)),
+                        getMedicalHistorySet(MEDICAL_HISTORIES[random.nextInt(MEDICAL_HISTORIES.length)])));
+            }
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class FoundPersonsPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FoundPersonsPredicate(null, person -> true));
+        assertThrows(NullPointerException.class, () -> new FoundPersonsPredicate(person -> true, null));
+    }
+
+    @Test
+    public void test_personFound_testedWithoutQuery() {
+        FoundPersonsPredicate predicate = new FoundPersonsPredicate(ALICE::equals, person -> {
+            throw new AssertionError("the query is only tested once the persons found are dropped");
+        });
+
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void and_otherPredicate_appliedToFoundAndQuery() {
+        Predicate<Person> isAliceOrBenson = person -> person.equals(ALICE) || person.equals(BENSON);
+        Predicate<Person> isNotBenson = person -> !person.equals(BENSON);
+
+        // the result is still a predicate of found persons, so that the query can replace it later
+        Predicate<Person> combined = ((Predicate<Person>) new FoundPersonsPredicate(isAliceOrBenson, isAliceOrBenson))
+                .and(isNotBenson);
+        assertTrue(combined instanceof FoundPersonsPredicate);
+        assertTrue(combined.test(ALICE));
+        assertFalse(combined.test(BENSON));
+        assertTrue(((FoundPersonsPredicate) combined).getQuery().test(ALICE));
+        assertFalse(((FoundPersonsPredicate) combined).getQuery().test(BENSON));
+    }
+}
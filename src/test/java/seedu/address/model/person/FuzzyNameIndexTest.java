@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private final Person john = new PatientBuilder().withName("John Smith").build();
+    private final Person joan = new PatientBuilder().withName("Joan Smyth").build();
+    private final Person jonathan = new SpecialistBuilder().withName("Jonathan Lee").build();
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FuzzyNameIndex(null));
+    }
+
+    @Test
+    public void getMatches_misspeltKeyword_matchesRankedByEditDistance() {
+        addressBook.setPersons(List.of(john, joan, jonathan));
+        FuzzyNameIndex index = new FuzzyNameIndex(addressBook.getPersonList());
+
+        // "jonh" is two edits from "john" and "joan"
+        assertEquals(Map.of(john, 2, joan, 2), index.getMatches(List.of("Jonh"), 2));
+        assertEquals(Map.of(john, 2, joan, 2), index.getMatches(List.of("Jonh"), 1)); // only sound alike
+
+        // the best rank of each person over all keywords is kept
+        assertEquals(Map.of(john, 0, joan, 1), index.getMatches(List.of("smith", "john"), 1));
+
+        // short keywords allow fewer edits
+        assertEquals(Map.of(jonathan, 0), index.getMatches(List.of("lee"), 2));
+        assertTrue(index.getMatches(List.of("jo"), 2).isEmpty());
+
+        assertTrue(index.getMatches(List.of("Xavier"), 2).isEmpty());
+    }
+
+    @Test
+    public void getMatches_soundsLikeKeyword_matchesAfterCloseSpellings() {
+        addressBook.setPersons(List.of(john, joan, jonathan));
+        FuzzyNameIndex index = new FuzzyNameIndex(addressBook.getPersonList());
+
+        // "smythe" is one edit from "smyth", and two edits from but sounds like "smith"
+        assertEquals(Map.of(joan, 1, john, 2), index.getMatches(List.of("Smythe"), 1));
+    }
+
+    @Test
+    public void getMatches_addressBookChanged_matchesCurrentNames() {
+        addressBook.setPersons(List.of(john));
+        FuzzyNameIndex index = new FuzzyNameIndex(addressBook.getPersonList());
+
+        addressBook.addPerson(joan);
+        assertEquals(Map.of(joan, 0, john, 1), index.getMatches(List.of("joan"), 2));
+
+        Person renamedJohn = new PatientBuilder((Patient) john).withName("Xavier Smith").build();
+        addressBook.setPerson(john, renamedJohn);
+        assertEquals(Map.of(joan, 0), index.getMatches(List.of("joan"), 2));
+        assertEquals(Map.of(renamedJohn, 1), index.getMatches(List.of("xavir"), 2));
+
+        addressBook.removePerson(joan);
+        assertTrue(index.getMatches(List.of("joan"), 2).isEmpty());
+        assertEquals(Map.of(renamedJohn, 0), index.getMatches(List.of("smith"), 2));
+    }
+
+    @Test
+    public void getMatches_manyPersonsRemoved_matchesRemainingPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            persons.add(new PatientBuilder().withName("Person " + Integer.toString(i, 26)).build());
+        }
+        addressBook.setPersons(persons);
+        FuzzyNameIndex index = new FuzzyNameIndex(addressBook.getPersonList());
+
+        // removing most persons rebuilds the index from the persons left
+        persons.subList(1, persons.size()).forEach(addressBook::removePerson);
+        assertEquals(Map.of(persons.get(0), 0), index.getMatches(List.of("person"), 2));
+        assertEquals(Map.of(persons.get(0), 0), index.getMatches(List.of("0"), 2));
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class LocationTest {
@@ -52,5 +55,20 @@ public class LocationTest {
 
         // different values -> returns false
         assertFalse(location.equals(new Location("Other Valid Location")));
+
+        // different coordinates -> returns false
+        Coordinates coordinates = new Coordinates("1.3521,103.8198");
+        assertFalse(location.equals(location.withCoordinates(coordinates)));
+        assertTrue(location.withCoordinates(coordinates).equals(new Location("Valid Location", coordinates)));
+    }
+
+    @Test
+    public void withCoordinates() {
+        Coordinates coordinates = new Coordinates("1.3521,103.8198");
+        Location location = new Location("Valid Location").withCoordinates(coordinates);
+        assertEquals(Optional.of(coordinates), location.getCoordinates());
+        assertEquals(location, location.getCopy());
+        assertEquals("Valid Location", location.toString());
+        assertEquals(Optional.empty(), location.withCoordinates(null).getCoordinates());
     }
 }
@@ -32,6 +32,7 @@ public class MedHistoryContainsKeywordsPredicateTest {
         MedHistoryContainsKeywordsPredicate firstPredicateCopy =
                 new MedHistoryContainsKeywordsPredicate(firstPredicateKeywordList);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
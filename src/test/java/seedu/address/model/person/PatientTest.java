@@ -7,8 +7,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_AGE_THIRTY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MEDICAL_HISTORY_OSTEOPOROSIS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AllocationUtil;
 import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.SpecialistBuilder;
 
@@ -24,13 +28,18 @@ public class PatientTest {
         // different medical history -> returns false
         editedAlice = new PatientBuilder(ALICE).withMedicalHistory(VALID_MEDICAL_HISTORY_OSTEOPOROSIS).build();
         assertFalse(ALICE.equals(editedAlice));
+
+        // different referrals -> returns false
+        editedAlice = new PatientBuilder(ALICE).withReferrals("Elle Meyer").build();
+        assertFalse(ALICE.equals(editedAlice));
     }
     @Test
     public void toStringMethod() {
         String expected = Patient.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
                 + ", email=" + ALICE.getEmail() + ", tags=" + ALICE.getTags()
                 + ", age=" + ALICE.getAge()
-                + ", medical history=" + ALICE.getMedicalHistory() + "}";
+                + ", medical history=" + ALICE.getMedicalHistory()
+                + ", referrals=" + ALICE.getReferrals() + "}";
         assertEquals(expected, ALICE.toString());
     }
 
@@ -56,4 +65,63 @@ public class PatientTest {
         assertTrue(amyBee.isSamePerson(evilAmyBee));
     }
 
+    /**
+     * Patients hold their tags and medical histories in compact sets, their age as a number and their phone as packed
+     * digits. Each patient is built from field values of its own, so nothing but the strings it was parsed from is
+     * shared, and the heap it retains, fields included, is measured. Such a patient with two tags and a medical
+     * history retained 386 bytes while its sets were hash sets and its fields wrapped strings.
+     * The retained heap depends on the JVM and on when it collects garbage, so this is tagged as a benchmark, which
+     * the test task leaves out; run it with {@code gradlew benchmark}.
+     */
+    @Test
+    @org.junit.jupiter.api.Tag("benchmark")
+    public void constructor_distinctFieldValues_retainsUnder300BytesPerPatient() {
+        int patientCount = 20_000;
+        String[] names = new String[patientCount];
+        String[] phones = new String[patientCount];
+        String[] emails = new String[patientCount];
+        String[] tagNames = new String[patientCount];
+        String[] histories = new String[patientCount];
+        for (int i = 0; i < patientCount; i++) {
+            names[i] = "Patient " + i;
+            phones[i] = String.valueOf(80_000_000 + i);
+            emails[i] = "patient" + i + "@example.com";
+            tagNames[i] = "ward" + i;
+            histories[i] = "Condition " + i;
+        }
+        Patient[] patients = new Patient[patientCount];
+
+        long before = AllocationUtil.getRetainedBytes();
+        for (int i = 0; i < patientCount; i++) {
+            patients[i] = new Patient(new Name(names[i]), new Phone(phones[i]), new Email(emails[i]),
+                    Set.of(new Tag(tagNames[i]), new Tag("friends")), new Age(String.valueOf(i % 120)),
+                    Set.of(new MedicalHistory(histories[i])));
+        }
+        long bytesPerPatient = (AllocationUtil.getRetainedBytes() - before) / patientCount;
+
+        assertTrue(bytesPerPatient < 300, "retained " + bytesPerPatient + " bytes per patient");
+        assertEquals(new Name(names[patientCount - 1]), patients[patientCount - 1].getName());
+    }
+
+    @Test
+    public void getTagsAndAge_calledRepeatedly_allocateNothing() {
+        Patient patient = (Patient) new PatientBuilder(ALICE).build();
+
+        // warm up so that class loading and compilation are not counted
+        for (int i = 0; i < 10_000; i++) {
+            patient.getTags();
+            patient.getAge();
+        }
+
+        long measurementOverhead = -AllocationUtil.getAllocatedBytes() + AllocationUtil.getAllocatedBytes();
+        long before = AllocationUtil.getAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            patient.getTags();
+            patient.getAge();
+        }
+        long allocated = AllocationUtil.getAllocatedBytes() - before;
+
+        // a single allocation per call would amount to at least 160KB
+        assertTrue(allocated <= measurementOverhead + 1024, "allocated " + allocated + " bytes");
+    }
 }
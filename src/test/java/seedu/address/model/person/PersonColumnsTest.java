@@ -0,0 +1,283 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.util.SampleDataUtil.getMedicalHistorySet;
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.predicates.AgeInRangesPredicate;
+import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.LocationContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.MedHistoryContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.SpecialtyContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class PersonColumnsTest {
+
+    private static final String[] TAGS = {"friends", "colleagues", "owesMoney", "vip"};
+    private static final String[] MEDICAL_HISTORIES = {"Osteoporosis", "Heart Disease", "Diabetes", "Asthma"};
+    private static final String[] LOCATIONS = {"Clementi Ave 2", "Jurong East", "Tampines Central"};
+    private static final String[] SPECIALTIES = {"Physiotherapist", "Orthopaedic Surgeon", "Dermatologist"};
+
+    private final Random random = new Random(2103);
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonColumns(null));
+    }
+
+    @Test
+    public void rows_addressBookChanged_followPersonList() {
+        addressBook.setPersons(generatePersons(0, 200));
+        PersonColumns columns = new PersonColumns(addressBook.getPersonList());
+        assertRowsFollow(columns);
+
+        addressBook.addPerson(generatePerson(200));
+        assertRowsFollow(columns);
+
+        Person edited = new PatientBuilder().withAge("70").withName("Edited Person").withTags("vip").build();
+        addressBook.setPerson(addressBook.getPersonList().get(10), edited);
+        assertRowsFollow(columns);
+
+        List<Person> toRemove = addressBook.getPersonList().stream()
+                .filter(person -> random.nextInt(4) == 0)
+                .collect(Collectors.toList());
+        addressBook.removePersons(toRemove);
+        assertRowsFollow(columns);
+
+        Map<Person, Person> replacements = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            replacements.put(addressBook.getPersonList().get(i * 5), generatePerson(1000 + i));
+        }
+        addressBook.replacePersons(replacements);
+        assertRowsFollow(columns);
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertRowsFollow(columns);
+
+        // changes of a few parts are applied row by row rather than by a rebuild
+        addressBook.removePersons(List.of(addressBook.getPersonList().get(3), addressBook.getPersonList().get(40),
+                addressBook.getPersonList().get(90)));
+        assertRowsFollow(columns);
+
+        addressBook.replacePersons(Map.of(addressBook.getPersonList().get(7), generatePerson(1100),
+                addressBook.getPersonList().get(60), generatePerson(1101)));
+        assertRowsFollow(columns);
+
+        addressBook.setPersons(generatePersons(2000, 50));
+        assertRowsFollow(columns);
+    }
+
+    @Test
+    public void select_queries_matchPredicates() {
+        addressBook.setPersons(generatePersons(0, 3000));
+        PersonColumns columns = new PersonColumns(addressBook.getPersonList());
+
+        for (int i = 0; i < 200; i++) {
+            assertSelectionMatchesPredicates(columns, randomQuery());
+        }
+    }
+
+    @Test
+    public void select_largeAddressBook_scannedInParallelAndMatchPredicates() {
+        addressBook.setPersons(generatePersons(0, PersonColumns.PARALLEL_SCAN_THRESHOLD + 100));
+        PersonColumns columns = new PersonColumns(addressBook.getPersonList());
+
+        for (int i = 0; i < 5; i++) {
+            assertSelectionMatchesPredicates(columns, randomQuery());
+        }
+    }
+
+    @Test
+    public void select_personsChangedAfterScan_testedAgainstPredicates() {
+        addressBook.setPersons(generatePersons(0, 100));
+        PersonColumns columns = new PersonColumns(addressBook.getPersonList());
+        List<ColumnarPredicate> predicates = List.of(new TagsContainsKeywordsPredicate(List.of("vip")));
+        Predicate<Person> selection = columns.select(PersonType.PATIENT, predicates);
+
+        Person vip = new PatientBuilder().withName("Late Arrival").withTags("vip").build();
+        Person specialist = new SpecialistBuilder().withName("Late Specialist").withTags("vip").build();
+        addressBook.addPerson(vip);
+        addressBook.addPerson(specialist);
+        addressBook.removePerson(addressBook.getPersonList().get(50));
+
+        FilteredList<Person> filtered = new FilteredList<>(addressBook.getPersonList(), selection);
+        assertEquals(addressBook.getPersonList().stream()
+                .filter(person -> person instanceof Patient && predicates.get(0).test(person))
+                .collect(Collectors.toList()), filtered);
+        assertTrue(filtered.contains(vip));
+        assertFalse(filtered.contains(specialist));
+    }
+
+    @Test
+    public void lowerCaseWordsContainAny_keywords_agreesWithStringUtil() {
+        List<String> values = List.of("ABc def", "Heart Disease", "owesMoney", "98765432", "a  b");
+        List<String> keywords = List.of("abc", "De", "c de", " def ", "money", "765", "x", "a b");
+        for (String value : values) {
+            for (String keyword : keywords) {
+                assertEquals(StringUtil.wordsContainSubstringIgnoreCase(value, keyword),
+                        PersonColumns.lowerCaseWordsContainAny(List.of(keyword)).test(value.toLowerCase()),
+                        value + " / " + keyword);
+            }
+        }
+    }
+
+    @Test
+    public void lowerCaseWordsContainAny_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonColumns.lowerCaseWordsContainAny(List.of("  ")));
+    }
+
+    /**
+     * Asserts that filtering the persons with the selection scanned from {@code columns}, and filtering them again
+     * as the commit of a model does, finds the persons that the query predicates match.
+     */
+    private void assertSelectionMatchesPredicates(PersonColumns columns, Query query) {
+        List<Person> expected = addressBook.getPersonList().stream()
+                .filter(person -> query.personType.getSearchPredicate().test(person)
+                        && query.predicates.stream().allMatch(predicate -> predicate.test(person)))
+                .collect(Collectors.toList());
+        Predicate<Person> selection = columns.select(query.personType, query.predicates);
+
+        FilteredList<Person> filtered = new FilteredList<>(addressBook.getPersonList(), selection);
+        assertEquals(expected, filtered, query.toString());
+        FilteredList<Person> filteredAgain = new FilteredList<>(addressBook.getPersonList(), selection);
+        assertEquals(expected, filteredAgain, query.toString());
+    }
+
+    private void assertRowsFollow(PersonColumns columns) {
+        ObservableList<Person> persons = addressBook.getPersonList();
+        assertEquals(persons.size(), columns.size());
+        for (int row = 0; row < persons.size(); row++) {
+            Person person = persons.get(row);
+            assertSame(person, columns.getPerson(row));
+            assertEquals(person instanceof Patient, columns.isPatient(row));
+            assertEquals(person.getName().fullName.toLowerCase(), columns.getLowerCaseName(row));
+            assertEquals(person.getPhone().getValue(), columns.getPhone(row));
+            assertEquals(person.getEmail().value.toLowerCase(), columns.getLowerCaseEmail(row));
+            assertEquals(person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet()),
+                    decode(columns.getTags(), columns.getTagCodes(row)));
+            if (person instanceof Patient) {
+                Patient patient = (Patient) person;
+                assertEquals(patient.getAge().value, columns.getAge(row));
+                assertEquals(patient.getMedicalHistory().stream().map(history -> history.value)
+                        .collect(Collectors.toSet()),
+                        decode(columns.getMedicalHistories(), columns.getMedicalHistoryCodes(row)));
+                assertEquals(PersonColumns.NO_CODE, columns.getLocationCode(row));
+            } else {
+                Specialist specialist = (Specialist) person;
+                assertEquals(PersonColumns.NO_AGE, columns.getAge(row));
+                assertEquals(specialist.getLocation().value,
+                        columns.getLocations().getValue(columns.getLocationCode(row)));
+                assertEquals(specialist.getSpecialty().value,
+                        columns.getSpecialties().getValue(columns.getSpecialtyCode(row)));
+            }
+        }
+    }
+
+    private static Set<String> decode(PersonColumns.Dictionary dictionary, int[] codes) {
+        Set<String> values = new HashSet<>();
+        for (int code : codes) {
+            values.add(dictionary.getValue(code));
+        }
+        return values;
+    }
+
+    private List<Person> generatePersons(int firstId, int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = firstId; id < firstId + count; id++) {
+            persons.add(generatePerson(id));
+        }
+        return persons;
+    }
+
+    private Person generatePerson(int id) {
+        Name name = new Name("Person " + id);
+        Phone phone = new Phone(String.valueOf(80000000 + id));
+        Email email = new Email("User" + id + "@example.com");
+        Set<Tag> tags = random.nextBoolean() ? getTagSet() : getTagSet(pick(TAGS));
+        if (random.nextInt(3) == 0) {
+            return new Specialist(name, phone, email, new Location(pick(LOCATIONS)), tags,
+                    new Specialty(pick(SPECIALTIES)));
+        }
+        return new Patient(name, phone, email, tags, Age.of(random.nextInt(Age.MAX_AGE + 1)),
+                getMedicalHistorySet(pick(MEDICAL_HISTORIES), pick(MEDICAL_HISTORIES)));
+    }
+
+    private Query randomQuery() {
+        PersonType personType = random.nextBoolean() ? PersonType.PATIENT : PersonType.SPECIALIST;
+        List<ColumnarPredicate> predicates = new ArrayList<>();
+        if (random.nextInt(3) == 0) {
+            predicates.add(new NameContainsKeywordsPredicate(List.of("son " + random.nextInt(10),
+                    String.valueOf(random.nextInt(100)))));
+        }
+        if (random.nextInt(3) == 0) {
+            predicates.add(new PhoneContainsKeywordsPredicate(List.of(String.valueOf(random.nextInt(1000)))));
+        }
+        if (random.nextInt(4) == 0) {
+            predicates.add(new EmailContainsKeywordsPredicate(List.of("USER" + random.nextInt(100), "nowhere")));
+        }
+        if (random.nextInt(3) == 0) {
+            predicates.add(new TagsContainsKeywordsPredicate(List.of(pick(TAGS).toUpperCase(), "friend")));
+        }
+        if (random.nextInt(3) == 0) {
+            predicates.add(new MedHistoryContainsKeywordsPredicate(List.of(pick(MEDICAL_HISTORIES).substring(2))));
+        }
+        if (random.nextInt(3) == 0) {
+            int min = random.nextInt(Age.MAX_AGE);
+            int max = Math.min(Age.MAX_AGE, min + random.nextInt(40));
+            predicates.add(new AgeInRangesPredicate(List.of(new AgeRange(min + "-" + max),
+                    new AgeRange(">=140"))));
+        }
+        if (random.nextInt(3) == 0) {
+            predicates.add(new LocationContainsKeywordsPredicate(List.of("EAST", "ave")));
+        }
+        if (random.nextInt(3) == 0) {
+            predicates.add(new SpecialtyContainsKeywordsPredicate(List.of(pick(SPECIALTIES).substring(0, 5))));
+        }
+        return new Query(personType, predicates);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static class Query {
+        private final PersonType personType;
+        private final List<ColumnarPredicate> predicates;
+
+        Query(PersonType personType, List<ColumnarPredicate> predicates) {
+            this.personType = personType;
+            this.predicates = predicates;
+        }
+
+        @Override
+        public String toString() {
+            return personType + " " + predicates;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSortOrder.Criterion;
+import seedu.address.testutil.PatientBuilder;
+
+public class PersonSortOrderTest {
+
+    @Test
+    public void compare_singleAttribute_sortsInDirection() {
+        // ages are compared as numbers, so 78 comes after 9
+        Person nineYearOld = new PatientBuilder(ALICE).withAge("9").withName("Young").build();
+        List<Person> persons = new ArrayList<>(List.of(DANIEL, nineYearOld, CARL, ALICE));
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(SortField.AGE, false))));
+        assertEquals(List.of(nineYearOld, ALICE, CARL, DANIEL), persons);
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(SortField.AGE, true))));
+        assertEquals(List.of(DANIEL, CARL, ALICE, nineYearOld), persons);
+    }
+
+    @Test
+    public void compare_multipleAttributes_laterAttributesBreakTies() {
+        Person olderAlice = new PatientBuilder(ALICE).withAge("78").withName("alice Zee").build();
+        List<Person> persons = new ArrayList<>(List.of(DANIEL, olderAlice, ALICE, BENSON));
+
+        persons.sort(new PersonSortOrder(List.of(
+                new Criterion(SortField.AGE, true), new Criterion(SortField.NAME, false))));
+        assertEquals(List.of(olderAlice, DANIEL, BENSON, ALICE), persons);
+
+        // names are compared ignoring case before case is used to break ties
+        persons.sort(new PersonSortOrder(List.of(new Criterion(SortField.NAME, false))));
+        assertEquals(List.of(ALICE, olderAlice, BENSON, DANIEL), persons);
+    }
+
+    @Test
+    public void compare_missingAttribute_sortsLastInBothDirections() {
+        List<Person> persons = new ArrayList<>(List.of(FIONA, ALICE, ELLE, CARL));
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(SortField.AGE, false))));
+        assertEquals(List.of(ALICE, CARL, FIONA, ELLE), persons);
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(SortField.AGE, true))));
+        assertEquals(List.of(CARL, ALICE, FIONA, ELLE), persons);
+
+        persons.sort(new PersonSortOrder(List.of(new Criterion(SortField.SPECIALTY, true))));
+        assertEquals(List.of(FIONA, ELLE, CARL, ALICE), persons);
+    }
+
+    @Test
+    public void equals() {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(new Criterion(SortField.NAME, false)));
+
+        assertTrue(sortOrder.equals(sortOrder));
+        assertTrue(sortOrder.equals(new PersonSortOrder(List.of(new Criterion(SortField.NAME, false)))));
+
+        assertFalse(sortOrder.equals(null));
+        assertFalse(sortOrder.equals(1));
+        assertFalse(sortOrder.equals(new PersonSortOrder(List.of(new Criterion(SortField.NAME, true)))));
+        assertFalse(sortOrder.equals(PersonSortOrder.NONE));
+        assertTrue(PersonSortOrder.NONE.isEmpty());
+    }
+
+    @Test
+    public void getDescription() {
+        assertEquals("age (descending), name (ascending)", new PersonSortOrder(List.of(
+                new Criterion(SortField.AGE, true), new Criterion(SortField.NAME, false))).getDescription());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -57,4 +58,19 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void getValue_packedOrTooLongToPack_returnsPhoneAsGiven() {
+        assertEquals("911", new Phone("911").getValue());
+        assertEquals("0065123", new Phone("0065123").getValue());
+        assertEquals("000", new Phone("000").getValue());
+        assertEquals("999999999999999999", new Phone("999999999999999999").getValue());
+        assertEquals("00123456789012345678", new Phone("00123456789012345678").getValue());
+
+        // leading zeros and long numbers still distinguish phones
+        assertFalse(new Phone("0065123").equals(new Phone("65123")));
+        assertFalse(new Phone("00123456789012345678").equals(new Phone("123456789012345678")));
+        assertEquals(new Phone("00123456789012345678"), new Phone("00123456789012345678"));
+        assertEquals(new Phone("0065123").hashCode(), new Phone("0065123").hashCode());
+    }
 }
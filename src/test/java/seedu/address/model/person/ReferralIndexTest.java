@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PatientBuilder;
+
+public class ReferralIndexTest {
+
+    private static final Person REFERRED_ALICE = new PatientBuilder(ALICE)
+            .withReferrals(ELLE.getName().fullName, FIONA.getName().fullName).build();
+    private static final Person REFERRED_BENSON = new PatientBuilder(BENSON)
+            .withReferrals(ELLE.getName().fullName).build();
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReferralIndex(null));
+    }
+
+    @Test
+    public void getReferrals_patientsAndSpecialists_referralsOnBothSides() {
+        persons.setAll(ELLE, FIONA, REFERRED_ALICE, REFERRED_BENSON, CARL);
+        ReferralIndex index = new ReferralIndex(persons);
+
+        assertEquals(Set.of(ELLE, FIONA), Set.copyOf(index.getReferrals(REFERRED_ALICE)));
+        assertEquals(List.of(ELLE), index.getReferrals(REFERRED_BENSON));
+        assertTrue(index.getReferrals(CARL).isEmpty());
+        assertEquals(List.of(REFERRED_ALICE, REFERRED_BENSON), index.getReferrals(ELLE));
+        assertEquals(List.of(REFERRED_ALICE), index.getReferrals(FIONA));
+    }
+
+    @Test
+    public void getReferrals_personsChanged_followsPersonList() {
+        persons.setAll(ELLE, REFERRED_ALICE, CARL);
+        ReferralIndex index = new ReferralIndex(persons);
+
+        // a referral to a specialist that is not in the list is only found once the specialist is added
+        assertEquals(List.of(ELLE), index.getReferrals(REFERRED_ALICE));
+        persons.add(FIONA);
+        assertEquals(Set.of(ELLE, FIONA), Set.copyOf(index.getReferrals(REFERRED_ALICE)));
+
+        persons.set(persons.indexOf(REFERRED_ALICE), ALICE);
+        persons.add(REFERRED_BENSON);
+        assertTrue(index.getReferrals(FIONA).isEmpty());
+        assertEquals(List.of(REFERRED_BENSON), index.getReferrals(ELLE));
+        assertEquals(Set.of(REFERRED_BENSON), index.getPatientsReferredTo(ELLE.getName()));
+
+        persons.remove(ELLE);
+        assertTrue(index.getReferrals(REFERRED_BENSON).isEmpty());
+        persons.clear();
+        assertTrue(index.getPatientsReferredTo(ELLE.getName()).isEmpty());
+    }
+}
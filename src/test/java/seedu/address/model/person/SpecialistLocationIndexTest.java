@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class SpecialistLocationIndexTest {
+
+    private static final Coordinates TARGET = new Coordinates("1.3000,103.8000");
+
+    private final Specialist nearPhysio = specialist("Near Physio", "Physiotherapy", "1.3010,103.8010", "weekends");
+    private final Specialist farPhysio = specialist("Far Physio", "Physiotherapy", "1.4000,103.9000");
+    private final Specialist middleDermatologist =
+            specialist("Middle Dermatologist", "Dermatology", "1.3200,103.8200", "weekends");
+    private final Specialist unplacedPhysio = specialist("Unplaced Physio", "Physiotherapy", null);
+    private final Person patient = new PatientBuilder().withName("Patient").build();
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SpecialistLocationIndex(null));
+    }
+
+    @Test
+    public void findNearest_specialtiesAndFilter_nearestFirst() {
+        addressBook.setPersons(List.of(farPhysio, patient, unplacedPhysio, middleDermatologist, nearPhysio));
+        SpecialistLocationIndex index = new SpecialistLocationIndex(addressBook.getPersonList());
+
+        // specialists without coordinates are never found
+        assertEquals(List.of(nearPhysio, middleDermatologist, farPhysio),
+                index.findNearest(TARGET, 5, specialty -> true, person -> true));
+        assertEquals(List.of(nearPhysio, middleDermatologist),
+                index.findNearest(TARGET, 2, specialty -> true, person -> true));
+        assertEquals(List.of(nearPhysio, farPhysio),
+                index.findNearest(TARGET, 5, "Physiotherapy"::equals, person -> true));
+        assertEquals(List.of(middleDermatologist, nearPhysio),
+                index.findNearest(new Coordinates("1.3300,103.8300"), 2, specialty -> true, person -> true));
+
+        // specialists that do not pass the filter do not take the place of those that do
+        assertEquals(List.of(nearPhysio, middleDermatologist),
+                index.findNearest(TARGET, 2, specialty -> true, person -> !person.getTags().isEmpty()));
+        assertEquals(List.of(farPhysio),
+                index.findNearest(TARGET, 1, "Physiotherapy"::equals, person -> person.getTags().isEmpty()));
+        assertTrue(index.findNearest(TARGET, 5, "Cardiology"::equals, person -> true).isEmpty());
+    }
+
+    @Test
+    public void findNearest_addressBookChanged_currentLocations() {
+        addressBook.setPersons(List.of(farPhysio, unplacedPhysio));
+        SpecialistLocationIndex index = new SpecialistLocationIndex(addressBook.getPersonList());
+        assertEquals(List.of(farPhysio), index.findNearest(TARGET, 5, specialty -> true, person -> true));
+
+        addressBook.addPerson(nearPhysio);
+        assertEquals(List.of(nearPhysio, farPhysio), index.findNearest(TARGET, 5, specialty -> true, person -> true));
+
+        Specialist placedPhysio = new SpecialistBuilder(unplacedPhysio).withCoordinates("1.3001,103.8001").build();
+        addressBook.setPerson(unplacedPhysio, placedPhysio);
+        Specialist movedPhysio = new SpecialistBuilder(nearPhysio).withCoordinates("1.5000,104.0000").build();
+        addressBook.setPerson(nearPhysio, movedPhysio);
+        assertEquals(List.of(placedPhysio, farPhysio, movedPhysio),
+                index.findNearest(TARGET, 5, specialty -> true, person -> true));
+
+        Specialist dermatologist = new SpecialistBuilder(placedPhysio).withSpecialty("Dermatology").build();
+        addressBook.setPerson(placedPhysio, dermatologist);
+        assertEquals(List.of(farPhysio, movedPhysio),
+                index.findNearest(TARGET, 5, "Physiotherapy"::equals, person -> true));
+
+        addressBook.removePerson(farPhysio);
+        assertEquals(List.of(dermatologist, movedPhysio),
+                index.findNearest(TARGET, 5, specialty -> true, person -> true));
+    }
+
+    private static Specialist specialist(String name, String specialty, String coordinates, String... tags) {
+        SpecialistBuilder builder = new SpecialistBuilder().withSpecialty(specialty);
+        if (coordinates != null) {
+            builder.withCoordinates(coordinates);
+        }
+        builder.withName(name).withTags(tags);
+        return builder.build();
+    }
+}
@@ -8,12 +8,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PatientBuilder;
@@ -126,6 +130,79 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndRemovesNothing() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInSingleChange() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            persons.add(new PatientBuilder().withName("Person " + (char) ('a' + i)).build());
+        }
+        uniquePersonList.setPersons(persons);
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        List<Person> removed = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            changes.add(change);
+            while (change.next()) {
+                assertTrue(change.wasRemoved() && !change.wasAdded());
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        List<Person> toRemove = List.of(persons.get(8), persons.get(0), persons.get(1), persons.get(5));
+        uniquePersonList.removeAll(toRemove);
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(persons.get(0), persons.get(1), persons.get(5), persons.get(8)), removed);
+        assertEquals(List.of(persons.get(2), persons.get(3), persons.get(4), persons.get(6), persons.get(7),
+                persons.get(9)), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_personDoesNotExist_throwsPersonNotFoundExceptionAndReplacesNothing() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAll(Map.of(ALICE, editedAlice,
+                BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void replaceAll_existingPersons_replacesPersonsInSingleChange() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            persons.add(new PatientBuilder().withName("Person " + (char) ('a' + i)).build());
+        }
+        uniquePersonList.setPersons(persons);
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        Person editedFirst = new PatientBuilder((Patient) persons.get(0)).withTags(VALID_TAG_HUSBAND).build();
+        Person editedFourth = new PatientBuilder((Patient) persons.get(3)).withTags(VALID_TAG_HUSBAND).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(persons.get(3), editedFourth);
+        replacements.put(persons.get(0), editedFirst);
+        uniquePersonList.replaceAll(replacements);
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(editedFirst, persons.get(1), persons.get(2), editedFourth, persons.get(4)),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
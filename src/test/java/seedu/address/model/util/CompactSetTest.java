@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactSetTest {
+
+    /** Distinct strings with the same hash code. */
+    private static final String COLLIDING_FIRST = "Aa";
+    private static final String COLLIDING_SECOND = "BB";
+
+    @Test
+    public void copyOf_duplicates_keepsDistinctElements() {
+        CompactSet<String> set = CompactSet.copyOf(List.of("friends", COLLIDING_FIRST, "friends", COLLIDING_SECOND,
+                COLLIDING_FIRST));
+
+        assertEquals(3, set.size());
+        assertEquals(Set.of("friends", COLLIDING_FIRST, COLLIDING_SECOND), set);
+        assertEquals(Set.of("friends", COLLIDING_FIRST, COLLIDING_SECOND).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(Arrays.asList("friends", null)));
+    }
+
+    @Test
+    public void copyOf_compactSetOrEmpty_returnsSharedInstance() {
+        CompactSet<String> set = CompactSet.copyOf(List.of("friends"));
+        assertSame(set, CompactSet.copyOf(set));
+        assertSame(CompactSet.copyOf(List.of()), CompactSet.copyOf(new HashSet<Integer>()));
+    }
+
+    @Test
+    public void contains_manyElements_findsEveryElement() {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add("tag" + i);
+        }
+        elements.add(COLLIDING_FIRST);
+        elements.add(COLLIDING_SECOND);
+        CompactSet<String> set = CompactSet.copyOf(elements);
+
+        assertTrue(elements.stream().allMatch(set::contains));
+        assertFalse(set.contains("tag100"));
+        assertFalse(set.contains(null));
+        assertEquals(new HashSet<>(elements), new HashSet<>(set));
+    }
+
+    @Test
+    public void equals() {
+        CompactSet<String> set = CompactSet.copyOf(List.of("friends", "owesMoney"));
+
+        assertTrue(set.equals(CompactSet.copyOf(List.of("owesMoney", "friends"))));
+        assertTrue(set.equals(new HashSet<>(List.of("friends", "owesMoney"))));
+        assertTrue(new HashSet<>(List.of("friends", "owesMoney")).equals(set));
+        assertFalse(set.equals(CompactSet.copyOf(List.of("friends"))));
+        assertFalse(set.equals(List.of("friends", "owesMoney")));
+        assertFalse(set.equals(null));
+    }
+
+    @Test
+    public void modify_anyChange_throwsUnsupportedOperationException() {
+        CompactSet<String> set = CompactSet.copyOf(List.of("friends"));
+
+        assertThrows(UnsupportedOperationException.class, () -> set.add("owesMoney"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("owesMoney"));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(List.of("owesMoney")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(List.of("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    private final Random random = new Random(2103);
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void addAndRemove_valuesAcrossChunks_sameAsBitSet() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet expected = new BitSet();
+        // enough values in one chunk for it to turn into a bitmap, and back into an array as values are removed
+        for (int i = 0; i < 20_000; i++) {
+            int value = randomValue();
+            bitmap.add(value);
+            expected.set(value);
+        }
+        assertSameValues(expected, bitmap);
+
+        for (int i = 0; i < 30_000; i++) {
+            int value = randomValue();
+            bitmap.remove(value);
+            expected.clear(value);
+        }
+        assertSameValues(expected, bitmap);
+
+        expected.stream().forEach(bitmap::remove);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.getCardinality());
+    }
+
+    @Test
+    public void contains_values_trueOnlyForValuesAdded() {
+        CompressedBitmap bitmap = CompressedBitmap.of(0, 65_535, 65_536, Integer.MAX_VALUE);
+        assertTrue(bitmap.contains(0));
+        assertTrue(bitmap.contains(65_536));
+        assertTrue(bitmap.contains(Integer.MAX_VALUE));
+        assertFalse(bitmap.contains(1));
+        assertFalse(bitmap.contains(131_072));
+        assertFalse(bitmap.contains(-1));
+        assertArrayEquals(new int[] {0, 65_535, 65_536, Integer.MAX_VALUE}, bitmap.toArray());
+    }
+
+    @Test
+    public void andOrAndNot_sparseAndDenseBitmaps_sameAsBitSet() {
+        for (int density : new int[] {2, 50, 2000}) {
+            BitSet first = new BitSet();
+            BitSet second = new BitSet();
+            CompressedBitmap firstBitmap = new CompressedBitmap();
+            CompressedBitmap secondBitmap = new CompressedBitmap();
+            for (int value = 0; value < 200_000; value++) {
+                if (random.nextInt(density) == 0) {
+                    first.set(value);
+                    firstBitmap.add(value);
+                }
+                if (random.nextInt(3) == 0) {
+                    second.set(value);
+                    secondBitmap.add(value);
+                }
+            }
+
+            BitSet and = (BitSet) first.clone();
+            and.and(second);
+            assertSameValues(and, firstBitmap.and(secondBitmap));
+            assertSameValues(and, secondBitmap.and(firstBitmap));
+
+            BitSet or = (BitSet) first.clone();
+            or.or(second);
+            assertSameValues(or, firstBitmap.or(secondBitmap));
+
+            BitSet andNot = (BitSet) first.clone();
+            andNot.andNot(second);
+            assertSameValues(andNot, firstBitmap.andNot(secondBitmap));
+            BitSet otherAndNot = (BitSet) second.clone();
+            otherAndNot.andNot(first);
+            assertSameValues(otherAndNot, secondBitmap.andNot(firstBitmap));
+
+            // combining bitmaps leaves them unchanged
+            assertSameValues(first, firstBitmap);
+            assertSameValues(second, secondBitmap);
+        }
+    }
+
+    @Test
+    public void copy_copyChanged_originalUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2, 3);
+        CompressedBitmap copy = bitmap.copy();
+        copy.add(4);
+        copy.remove(1);
+        assertArrayEquals(new int[] {1, 2, 3}, bitmap.toArray());
+        assertArrayEquals(new int[] {2, 3, 4}, copy.toArray());
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 70_000);
+
+        // same values -> returns true
+        assertTrue(bitmap.equals(CompressedBitmap.of(70_000, 1)));
+
+        // same object -> returns true
+        assertTrue(bitmap.equals(bitmap));
+
+        // null -> returns false
+        assertFalse(bitmap.equals(null));
+
+        // different values -> returns false
+        assertFalse(bitmap.equals(CompressedBitmap.of(1)));
+    }
+
+    private int randomValue() {
+        // most values in the first chunk, so that it fills up
+        return random.nextBoolean() ? random.nextInt(1 << 16) : random.nextInt(1 << 20);
+    }
+
+    private static void assertSameValues(BitSet expected, CompressedBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.getCardinality());
+        expected.stream().limit(100).forEach(value -> assertTrue(actual.contains(value)));
+    }
+}
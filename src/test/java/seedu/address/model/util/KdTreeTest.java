@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class KdTreeTest {
+
+    private final Random random = new Random(2103);
+
+    @Test
+    public void constructor_differentDimensions_throwsIllegalArgumentException() {
+        List<double[]> points = List.of(new double[] {0, 0}, new double[] {1, 1, 1});
+        assertThrows(IllegalArgumentException.class, () -> new KdTree<>(points, point -> point));
+    }
+
+    @Test
+    public void nearest_emptyTreeOrNoCount_empty() {
+        KdTree<double[]> emptyTree = new KdTree<>(List.of(), point -> point);
+        assertTrue(emptyTree.nearest(new double[] {0, 0}, 3, point -> true).isEmpty());
+
+        KdTree<double[]> tree = new KdTree<>(List.of(new double[] {0, 0}), point -> point);
+        assertTrue(tree.nearest(new double[] {0, 0}, 0, point -> true).isEmpty());
+    }
+
+    @Test
+    public void nearest_fewerElementsThanCount_allElementsNearestFirst() {
+        double[] far = {10, 0};
+        double[] near = {1, 0};
+        double[] middle = {5, 0};
+        KdTree<double[]> tree = new KdTree<>(List.of(far, near, middle), point -> point);
+        assertEquals(List.of(near, middle, far), tree.nearest(new double[] {0, 0}, 5, point -> true));
+        assertEquals(List.of(middle), tree.nearest(new double[] {6, 0}, 1, point -> true));
+    }
+
+    @Test
+    public void nearest_randomPoints_sameAsBruteForce() {
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            points.add(new double[] {random.nextDouble(), random.nextDouble(), random.nextDouble()});
+        }
+        // duplicate points are kept as separate elements
+        points.add(points.get(0).clone());
+        KdTree<double[]> tree = new KdTree<>(points, point -> point);
+        assertEquals(points.size(), tree.size());
+
+        for (int i = 0; i < 200; i++) {
+            double[] target = {random.nextDouble(), random.nextDouble(), random.nextDouble()};
+            int count = 1 + random.nextInt(20);
+            Predicate<double[]> filter = i % 2 == 0 ? point -> true : point -> point[0] > 0.5;
+            assertEquals(bruteForceNearest(points, target, count, filter), tree.nearest(target, count, filter));
+        }
+    }
+
+    private static List<double[]> bruteForceNearest(List<double[]> points, double[] target, int count,
+            Predicate<double[]> filter) {
+        return points.stream()
+                .filter(filter)
+                .sorted(Comparator.comparingDouble(point -> squaredDistance(point, target)))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    private static double squaredDistance(double[] point, double[] other) {
+        double sum = 0;
+        for (int axis = 0; axis < point.length; axis++) {
+            sum += (point[axis] - other[axis]) * (point[axis] - other[axis]);
+        }
+        return sum;
+    }
+}
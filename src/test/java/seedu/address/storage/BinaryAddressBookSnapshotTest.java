@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class BinaryAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSnapshotPath_jsonFile_snapshotAlongside() {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.snap"),
+                BinaryAddressBookSnapshot.getSnapshotPath(jsonFilePath));
+    }
+
+    @Test
+    public void read_missingSnapshot_emptyResult() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Files.writeString(jsonFilePath, "{}");
+        assertFalse(BinaryAddressBookSnapshot.read(jsonFilePath,
+                BinaryAddressBookSnapshot.getSnapshotPath(jsonFilePath)).isPresent());
+    }
+
+    @Test
+    public void writeAndRead_typicalAddressBook_sameAddressBook() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Optional<ReadOnlyAddressBook> snapshot = storage.readAddressBookSnapshot();
+        assertTrue(snapshot.isPresent());
+        // the snapshot holds the same persons as the JSON file, in the same order
+        assertEquals(storage.readAddressBook().get(), new AddressBook(snapshot.get()));
+        assertEquals(original.getPersonList().size(), snapshot.get().getPersonList().size());
+    }
+
+    @Test
+    public void writeAndRead_referrals_sameReferrals() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ELLE);
+        original.addPerson(FIONA);
+        Person referredAlice = new PatientBuilder(ALICE).withReferrals("Elle Meyer", "Fiona Kunz").build();
+        original.addPerson(referredAlice);
+        storage.saveAddressBook(original);
+
+        AddressBook snapshot = new AddressBook(storage.readAddressBookSnapshot().get());
+        assertEquals(new AddressBook(storage.readAddressBook().get()), snapshot);
+        assertEquals(List.of(referredAlice), snapshot.getReferrals(FIONA));
+    }
+
+    @Test
+    public void writeAndRead_appointments_sameAppointments() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        storage.saveAddressBook(original);
+
+        AddressBook snapshot = new AddressBook(storage.readAddressBookSnapshot().get());
+        assertEquals(original, snapshot);
+        assertEquals(getTypicalAppointments(), snapshot.getAppointmentList());
+    }
+
+    @Test
+    public void writeAndRead_coordinates_sameCoordinates() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBook original = new AddressBook();
+        Specialist placedElle = new SpecialistBuilder(ELLE).withCoordinates("1.3521,103.8198").build();
+        original.addPerson(placedElle);
+        original.addPerson(FIONA);
+        storage.saveAddressBook(original);
+
+        AddressBook snapshot = new AddressBook(storage.readAddressBookSnapshot().get());
+        assertEquals(new AddressBook(storage.readAddressBook().get()), snapshot);
+        assertEquals(List.of(placedElle, FIONA), snapshot.getPersonList());
+    }
+
+    @Test
+    public void read_equalValues_shareValueObjects() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PatientBuilder().withName("Amy").withTags("friends").build());
+        original.addPerson(new PatientBuilder().withName("Bob").withTags("friends").build());
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook snapshot = storage.readAddressBookSnapshot().get();
+        Person amy = snapshot.getPersonList().get(0);
+        Person bob = snapshot.getPersonList().get(1);
+        assertSame(amy.getPhone(), bob.getPhone());
+        assertSame(amy.getTags().iterator().next(), bob.getTags().iterator().next());
+    }
+
+    @Test
+    public void read_jsonFileChanged_emptyResult() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // the JSON file is edited by hand after the snapshot was saved
+        AddressBook edited = getTypicalAddressBook();
+        edited.removePerson(ALICE);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(edited), jsonFilePath);
+
+        assertFalse(storage.readAddressBookSnapshot().isPresent());
+        assertEquals(edited, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void read_corruptedSnapshot_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(jsonFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path snapshotPath = BinaryAddressBookSnapshot.getSnapshotPath(jsonFilePath);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(snapshotPath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> BinaryAddressBookSnapshot.read(jsonFilePath, snapshotPath));
+        // storage falls back to the JSON file instead of failing
+        assertFalse(storage.readAddressBookSnapshot().isPresent());
+    }
+
+    @Test
+    public void read_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        Path snapshotPath = BinaryAddressBookSnapshot.getSnapshotPath(jsonFilePath);
+        Files.write(snapshotPath, new byte[] {1, 2, 3});
+
+        assertThrows(DataLoadingException.class, () -> BinaryAddressBookSnapshot.read(jsonFilePath, snapshotPath));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedAppointment.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Name;
+
+public class JsonAdaptedAppointmentTest {
+    private static final String INVALID_NAME = "R@chel";
+    private static final String INVALID_DATE_TIME = "2023-11-31 09:00";
+
+    private static final String VALID_PATIENT = ALICE_WITH_ELLE.getPatientName().toString();
+    private static final String VALID_SPECIALIST = ALICE_WITH_ELLE.getSpecialistName().toString();
+    private static final String VALID_START = "2023-11-20 09:00";
+    private static final String VALID_END = "2023-11-20 10:00";
+
+    @Test
+    public void toModelType_validAppointmentDetails_returnsAppointment() throws Exception {
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(ALICE_WITH_ELLE);
+        assertEquals(ALICE_WITH_ELLE, appointment.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidPatient_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment =
+                new JsonAdaptedAppointment(INVALID_NAME, VALID_SPECIALIST, VALID_START, VALID_END);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, appointment::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullSpecialist_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment =
+                new JsonAdaptedAppointment(VALID_PATIENT, null, VALID_START, VALID_END);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "specialist");
+        assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidStart_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment =
+                new JsonAdaptedAppointment(VALID_PATIENT, VALID_SPECIALIST, INVALID_DATE_TIME, VALID_END);
+        assertThrows(IllegalValueException.class, TimeSlot.MESSAGE_DATE_TIME_CONSTRAINTS, appointment::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullEnd_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment =
+                new JsonAdaptedAppointment(VALID_PATIENT, VALID_SPECIALIST, VALID_START, null);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "end");
+        assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
+    }
+
+    @Test
+    public void toModelType_endBeforeStart_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment =
+                new JsonAdaptedAppointment(VALID_PATIENT, VALID_SPECIALIST, VALID_END, VALID_START);
+        assertThrows(IllegalValueException.class, TimeSlot.MESSAGE_CONSTRAINTS, appointment::toModelType);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -12,6 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Age;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
 
 public class JsonAdaptedPatientTest {
     private static final String VALID_NAME = BENSON.getName().toString();
@@ -25,6 +29,7 @@ public class JsonAdaptedPatientTest {
             .stream()
             .map(JsonAdaptedMedicalHistory::new)
             .collect(Collectors.toList());;
+    private static final List<String> VALID_REFERRALS = new ArrayList<>();
     private static final String VALID_AGE = BENSON.getAge().toString();
     private static final String INVALID_MEDICAL_HISTORY = "#anemia";
     private static final String INVALID_AGE = "-1";
@@ -34,20 +39,37 @@ public class JsonAdaptedPatientTest {
         invalidMedicalHistory.add(new JsonAdaptedMedicalHistory(INVALID_MEDICAL_HISTORY));
         JsonAdaptedPerson person =
                 new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TAGS,
-                        VALID_AGE, invalidMedicalHistory);
+                        VALID_AGE, invalidMedicalHistory, VALID_REFERRALS);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
     @Test
+    public void toModelType_invalidReferral_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY, List.of("Dr. R@chel"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+    @Test
+    public void toModelType_noReferrals_notReferred() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY, null);
+        assertEquals(BENSON, person.toModelType());
+    }
+    @Test
+    public void toModelType_withReferrals_referred() throws Exception {
+        Patient referredBenson = new PatientBuilder(BENSON).withReferrals("Elle Meyer").build();
+        assertEquals(referredBenson, new JsonAdaptedPatient(referredBenson).toModelType());
+    }
+    @Test
     public void toModelType_invalidAge_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_TAGS, INVALID_AGE, VALID_MEDICAL_HISTORY);
+                VALID_TAGS, INVALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = Age.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
     @Test
     public void toModelType_nullAge_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_TAGS, null, VALID_MEDICAL_HISTORY);
+                VALID_TAGS, null, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Age.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -32,12 +32,13 @@ public class JsonAdaptedPersonTest {
             .stream()
             .map(JsonAdaptedMedicalHistory::new)
             .collect(Collectors.toList());;
+    private static final List<String> VALID_REFERRALS = new ArrayList<>();
 
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPatient(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TAGS,
-                        VALID_AGE, VALID_MEDICAL_HISTORY);
+                        VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -45,7 +46,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPatient(null, VALID_PHONE, VALID_EMAIL,
-                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY);
+                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -54,7 +55,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPatient(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_TAGS,
-                        VALID_AGE, VALID_MEDICAL_HISTORY);
+                        VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -62,7 +63,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPatient(VALID_NAME, null, VALID_EMAIL,
-                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY);
+                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -71,7 +72,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_TAGS,
-                        VALID_AGE, VALID_MEDICAL_HISTORY);
+                        VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -79,7 +80,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, null,
-                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY);
+                VALID_TAGS, VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -90,7 +91,7 @@ public class JsonAdaptedPersonTest {
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPerson person =
                 new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL, invalidTags,
-                        VALID_AGE, VALID_MEDICAL_HISTORY);
+                        VALID_AGE, VALID_MEDICAL_HISTORY, VALID_REFERRALS);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
@@ -11,13 +11,17 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Location;
+import seedu.address.model.person.Specialist;
 import seedu.address.model.person.Specialty;
+import seedu.address.testutil.SpecialistBuilder;
 
 
 public class JsonAdaptedSpecialistTest {
     private static final String INVALID_LOCATION = " ";
     private static final String INVALID_SPECIALTY = "";
+    private static final String INVALID_COORDINATES = "91,0";
 
     private static final String VALID_NAME = GEORGE.getName().toString();
     private static final String VALID_PHONE = GEORGE.getPhone().toString();
@@ -32,7 +36,7 @@ public class JsonAdaptedSpecialistTest {
     @Test
     public void toModelType_invalidLocation_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_LOCATION, VALID_TAGS,
+                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_LOCATION, null, VALID_TAGS,
                         VALID_SPECIALTY);
         String expectedMessage = Location.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -41,7 +45,7 @@ public class JsonAdaptedSpecialistTest {
     @Test
     public void toModelType_nullLocation_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_TAGS,
+                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, null, null, VALID_TAGS,
                         VALID_SPECIALTY);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Location.class.getSimpleName());
@@ -54,10 +58,26 @@ public class JsonAdaptedSpecialistTest {
         assertEquals(GEORGE, specialist.toModelType());
     }
 
+    @Test
+    public void toModelType_withCoordinates_returnsSpecialist() throws Exception {
+        Specialist specialistWithCoordinates = new SpecialistBuilder(GEORGE).withCoordinates("1.3521,103.8198").build();
+        JsonAdaptedSpecialist specialist = new JsonAdaptedSpecialist(specialistWithCoordinates);
+        assertEquals(specialistWithCoordinates, specialist.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidCoordinates_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_LOCATION, INVALID_COORDINATES,
+                        VALID_TAGS, VALID_SPECIALTY);
+        String expectedMessage = Coordinates.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidSpecialty_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_LOCATION, VALID_TAGS,
+                new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_LOCATION, null, VALID_TAGS,
                         INVALID_SPECIALTY);
         String expectedMessage = Specialty.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -66,7 +86,7 @@ public class JsonAdaptedSpecialistTest {
     @Test
     public void toModelType_nullSpeciality_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedSpecialist(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_LOCATION,
-                VALID_TAGS, null);
+                null, VALID_TAGS, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Specialty.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.util.SampleDataUtil.getMedicalHistorySet;
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Age;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Times saving and loading the JSON data file, plain and gzip-compressed.
+ * Tagged so that it is left out of the usual test run; run it with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class JsonAddressBookStorageBenchmarkTest {
+
+    private static final String[] MEDICAL_HISTORIES = {"Hypertension", "Heart Disease", "Diabetes", "Asthma"};
+    private static final int PATIENT_COUNT = 20_000;
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Random random = new Random(2103);
+
+    @Test
+    public void saveAndLoad_plainAndCompressed() throws Exception {
+        AddressBook addressBook = generateAddressBook(PATIENT_COUNT);
+
+        for (String fileName : new String[] {"addressbook.json", "addressbook.json.gz"}) {
+            Path filePath = temporaryFolder.resolve(fileName);
+            long[] saveNanos = new long[MEASURED_RUNS];
+            long[] loadNanos = new long[MEASURED_RUNS];
+            for (int run = -WARM_UP_RUNS; run < MEASURED_RUNS; run++) {
+                long startNanos = System.nanoTime();
+                save(addressBook, filePath);
+                long savedNanos = System.nanoTime();
+                read(filePath);
+                long loadedNanos = System.nanoTime();
+
+                if (run >= 0) {
+                    saveNanos[run] = savedNanos - startNanos;
+                    loadNanos[run] = loadedNanos - savedNanos;
+                }
+            }
+            assertEquals(PATIENT_COUNT, read(filePath).toModelType().getPersonList().size());
+            System.out.printf("%s: %d patients, %d KiB, median save %d ms, median read %d ms%n", fileName,
+                    PATIENT_COUNT, Files.size(filePath) / 1024, median(saveNanos) / 1_000_000,
+                    median(loadNanos) / 1_000_000);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} the way {@link JsonAddressBookStorage} does, without its binary snapshot.
+     */
+    private static void save(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, without converting it into the model, which takes as long whether or
+     * not the file is compressed.
+     */
+    private static JsonSerializableAddressBook read(Path filePath) throws DataLoadingException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private AddressBook generateAddressBook(int count) {
+        List<Person> patients = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            patients.add(new Patient(new Name("Patient " + id),
+                    new Phone(String.valueOf(80000000 + random.nextInt(10000000))),
+                    new Email("patient" + id + "@example.com"), getTagSet(random.nextBoolean() ? "urgent" : "stable"),
+                    Age.of(random.nextInt(Age.MAX_AGE + 1)),
+                    getMedicalHistorySet(MEDICAL_HISTORIES[random.nextInt(MEDICAL_HISTORIES.length)])));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(patients);
+        return addressBook;
+    }
+}
@@ -2,15 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.appointment;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -45,4 +53,21 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_withAppointments_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        AddressBook addressBook = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, addressBook);
+        assertEquals(getTypicalAppointments(), addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void toModelType_conflictingAppointments_throwsIllegalValueException() {
+        Appointment overlapping = appointment(BENSON, ELLE, "2023-11-20 09:30", "2023-11-20 10:30");
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(
+                TypicalPersons.getTypicalPersons(), List.of(ALICE_WITH_ELLE, overlapping));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CONFLICTING_APPOINTMENTS,
+                data::toModelType);
+    }
+
 }
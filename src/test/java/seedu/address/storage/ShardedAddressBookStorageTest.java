@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_WITH_ELLE;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Specialist;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SpecialistBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveBucketCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.json"), 0));
+    }
+
+    @Test
+    public void getManifestPath_jsonFile_manifestAlongside() {
+        assertEquals(testFolder.resolve("addressbook.manifest.json"),
+                ShardedAddressBookStorage.getManifestPath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("addressbook.json"), 1)
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_oneBucket_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, 1).saveAddressBook(original);
+
+        // one shard per type and the manifest
+        assertEquals(3, listFiles().size());
+        assertFalse(Files.exists(filePath));
+        // with one bucket per type, patients are still read before specialists, in the same order
+        assertEquals(original, new ShardedAddressBookStorage(filePath, 1).readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_manyBuckets_samePersons() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, 4).saveAddressBook(original);
+
+        assertEquals(9, listFiles().size());
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath, 4).readAddressBook().get();
+        assertEquals(new HashSet<>(original.getPersonList()), new HashSet<>(readBack.getPersonList()));
+    }
+
+    @Test
+    public void saveAddressBook_specialistEdited_onlySpecialistShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.markSaved();
+        List<String> firstShards = readShardFiles(filePath);
+
+        Person specialist = addressBook.getPersonList().stream()
+                .filter(person -> person instanceof Specialist)
+                .findFirst().get();
+        addressBook.setPerson(specialist, new SpecialistBuilder((Specialist) specialist).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        List<String> secondShards = readShardFiles(filePath);
+
+        assertEquals(firstShards.get(0), secondShards.get(0));
+        assertNotEquals(firstShards.get(1), secondShards.get(1));
+        // the replaced specialist shard is deleted
+        assertEquals(Set.of("addressbook.manifest.json", secondShards.get(0), secondShards.get(1)), listFiles());
+        assertEquals(addressBook, new ShardedAddressBookStorage(filePath, 1).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherStorageSaved_allShardsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, 1).saveAddressBook(addressBook);
+        addressBook.markSaved();
+        List<String> firstShards = readShardFiles(filePath);
+
+        addressBook.addPerson(new PatientBuilder().withName("Zed").build());
+        new ShardedAddressBookStorage(filePath, 2).saveAddressBook(addressBook);
+
+        List<String> secondShards = readShardFiles(filePath);
+        assertEquals(4, secondShards.size());
+        assertTrue(secondShards.stream().noneMatch(firstShards::contains));
+        assertEquals(5, listFiles().size());
+        assertEquals(new HashSet<>(addressBook.getPersonList()), new HashSet<>(
+                new ShardedAddressBookStorage(filePath, 2).readAddressBook().get().getPersonList()));
+    }
+
+    @Test
+    public void readAddressBook_singleFileLayout_migratedToShardsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        Set<String> filesBeforeRead = listFiles();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1);
+        assertEquals(original, storage.readAddressBook().get());
+        // reading leaves the data directory as it was
+        assertEquals(filesBeforeRead, listFiles());
+
+        // the next save writes every shard, even though only one person changed
+        original.markSaved();
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getManifestPath(filePath)));
+        // the single data file is kept, but the shards are read from now on
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, new ShardedAddressBookStorage(filePath, 1).readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_withAppointments_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1);
+        AddressBook addressBook = getTypicalAddressBookWithAppointments();
+        storage.saveAddressBook(addressBook);
+        addressBook.markSaved();
+
+        // the appointments are kept in a file of their own, alongside the shards and the manifest
+        assertEquals(4, listFiles().size());
+        assertEquals(addressBook, new ShardedAddressBookStorage(filePath, 1).readAddressBook().get());
+
+        // a person edit without appointment changes leaves the appointments file as it is
+        String appointmentsFile = readAppointmentsFile(filePath);
+        addressBook.setPerson(ALICE, new PatientBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.markSaved();
+        assertEquals(appointmentsFile, readAppointmentsFile(filePath));
+
+        addressBook.removeAppointment(ALICE_WITH_ELLE);
+        storage.saveAddressBook(addressBook);
+        assertNotEquals(appointmentsFile, readAppointmentsFile(filePath));
+        assertEquals(4, listFiles().size());
+        assertEquals(addressBook, new ShardedAddressBookStorage(filePath, 1).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath, 1).saveAddressBook(getTypicalAddressBook());
+        Files.delete(testFolder.resolve(readShardFiles(filePath).get(0)));
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(filePath, 1).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonShardManifest(JsonShardManifest.VERSION, 1, 1, List.of()),
+                ShardedAddressBookStorage.getManifestPath(filePath));
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(filePath, 1).readAddressBook());
+    }
+
+    private List<String> readShardFiles(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(ShardedAddressBookStorage.getManifestPath(filePath), JsonShardManifest.class)
+                .get().getShards().stream()
+                .map(JsonShardManifest.Shard::getFile)
+                .collect(Collectors.toList());
+    }
+
+    private String readAppointmentsFile(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(ShardedAddressBookStorage.getManifestPath(filePath), JsonShardManifest.class)
+                .get().getAppointmentsFile().get();
+    }
+
+    private Set<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(path -> path.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        assertTrue(new TextCommandHistoryStorage(testFolder.resolve("missing.txt")).readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void appendCommandString_nullCommandString_throwsNullPointerException() {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        assertThrows(NullPointerException.class, () -> storage.appendCommandString(null));
+    }
+
+    @Test
+    public void appendCommandString_missingFolder_createsFileAndAppends() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        storage.appendCommandString("list");
+        storage.appendCommandString("list");
+        storage.appendCommandString("find n/Alice");
+
+        // duplicates are kept in the file, and removed when added to the stash
+        assertEquals(List.of("list", "list", "find n/Alice"), storage.readCommandHistory());
+        assertEquals(List.of("list", "list", "find n/Alice"), Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void appendCommandString_lineBreaksAndBackslashes_readBackUnchanged() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        List<String> commandStrings = List.of("add n/A\\nB", "add n/A\nB", "edit 1 t/\\", "a\r\\\\n");
+        for (String commandString : commandStrings) {
+            storage.appendCommandString(commandString);
+        }
+
+        assertEquals(commandStrings, storage.readCommandHistory());
+    }
+
+    @Test
+    public void saveCommandHistory_existingFile_replacesHistory() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        storage.appendCommandString("list");
+        storage.appendCommandString("clear");
+
+        storage.saveCommandHistory(List.of("find n/Bob"));
+        storage.appendCommandString("list");
+        assertEquals(List.of("find n/Bob", "list"), storage.readCommandHistory());
+    }
+
+}
@@ -0,0 +1,41 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A utility class for measuring the memory allocated by the current thread, and the memory retained on the heap.
+ */
+public class AllocationUtil {
+
+    /**
+     * Returns the total number of bytes allocated by the current thread so far.
+     * Skips the calling test if the JVM cannot measure thread allocations.
+     */
+    public static long getAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the number of bytes in use on the heap once garbage has been collected, so that the difference between
+     * two calls is the memory retained by the objects created in between that are still reachable.
+     */
+    public static long getRetainedBytes() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long retainedBytes = Long.MAX_VALUE;
+        // a single collection may leave some garbage behind, so the least heap in use over a few is taken
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            retainedBytes = Math.min(retainedBytes, memoryBean.getHeapMemoryUsage().getUsed());
+        }
+        return retainedBytes;
+    }
+}
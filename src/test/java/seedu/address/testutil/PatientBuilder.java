@@ -1,10 +1,13 @@
 package seedu.address.testutil;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.model.person.Age;
 import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Patient;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -15,6 +18,7 @@ public class PatientBuilder extends PersonBuilder {
     public static final String DEFAULT_AGE = "30";
     private Age age;
     private Set<MedicalHistory> medicalHistory;
+    private Set<Name> referrals;
 
     /**
      * Creates a {@code PatientBuilder} with the default details.
@@ -23,6 +27,7 @@ public class PatientBuilder extends PersonBuilder {
         super();
         age = new Age(DEFAULT_AGE);
         medicalHistory = new HashSet<>();
+        referrals = new HashSet<>();
     }
 
     /**
@@ -32,6 +37,7 @@ public class PatientBuilder extends PersonBuilder {
         super(patientToCopy);
         age = patientToCopy.getAge();
         medicalHistory = patientToCopy.getMedicalHistory();
+        referrals = patientToCopy.getReferrals();
     }
 
     public Age getAge() {
@@ -57,9 +63,17 @@ public class PatientBuilder extends PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the names of the specialists the {@code Patient} that we are building is referred to.
+     */
+    public PatientBuilder withReferrals(String ... specialistNames) {
+        this.referrals = Arrays.stream(specialistNames).map(Name::new).collect(Collectors.toSet());
+        return this;
+    }
+
     @Override
     public Patient build() {
-        return new Patient(getName(), getPhone(), getEmail(), getTags(), getAge(), getMedicalHistory());
+        return new Patient(getName(), getPhone(), getEmail(), getTags(), getAge(), getMedicalHistory(), referrals);
     }
 
 }
@@ -34,10 +34,10 @@ public class PatientUtil {
     public static String getPatientDetails(Patient patient) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + patient.getName().fullName + " ");
-        sb.append(PREFIX_PHONE + patient.getPhone().value + " ");
+        sb.append(PREFIX_PHONE + patient.getPhone().getValue() + " ");
         sb.append(PREFIX_EMAIL + patient.getEmail().value + " ");
         patient.getMedicalHistory().stream().forEach(s -> sb.append(PREFIX_MEDICALHISTORY + s.value + " "));
-        sb.append(PREFIX_AGE + patient.getAge().value + " ");
+        sb.append(PREFIX_AGE + patient.getAge().toString() + " ");
         patient.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
@@ -50,7 +50,7 @@ public class PatientUtil {
     public static String getEditPatientDescriptorDetails(EditPatientDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
-        descriptor.getPhone().ifPresent(phone -> sb.append(PREFIX_PHONE).append(phone.value).append(" "));
+        descriptor.getPhone().ifPresent(phone -> sb.append(PREFIX_PHONE).append(phone.getValue()).append(" "));
         descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_EMAIL).append(email.value).append(" "));
         descriptor.getAge().ifPresent(age -> sb.append(PREFIX_AGE).append(age.value).append(" "));
         if (descriptor.getTags().isPresent()) {
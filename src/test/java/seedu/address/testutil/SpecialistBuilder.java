@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Specialist;
 import seedu.address.model.person.Specialty;
@@ -52,10 +53,18 @@ public class SpecialistBuilder extends PersonBuilder {
     }
 
     /**
-     * Sets the {@code Location} of the {@code Specialist} that we are building.
+     * Sets the {@code Location} of the {@code Specialist} that we are building, keeping its coordinates.
      */
     public SpecialistBuilder withLocation(String location) {
-        this.location = new Location(location);
+        this.location = new Location(location, this.location.getCoordinates().orElse(null));
+        return this;
+    }
+
+    /**
+     * Sets the {@code Coordinates} of the {@code Location} of the {@code Specialist} that we are building.
+     */
+    public SpecialistBuilder withCoordinates(String coordinates) {
+        this.location = location.withCoordinates(new Coordinates(coordinates));
         return this;
     }
 
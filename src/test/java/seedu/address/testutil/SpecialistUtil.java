@@ -33,7 +33,7 @@ public class SpecialistUtil {
     public static String getSpecialistDetails(Specialist specialist) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + specialist.getName().fullName + " ");
-        sb.append(PREFIX_PHONE + specialist.getPhone().value + " ");
+        sb.append(PREFIX_PHONE + specialist.getPhone().getValue() + " ");
         sb.append(PREFIX_EMAIL + specialist.getEmail().value + " ");
         sb.append(PREFIX_LOCATION + specialist.getLocation().value + " ");
         specialist.getTags().stream().forEach(
@@ -49,7 +49,7 @@ public class SpecialistUtil {
     public static String getEditSpecialistDescriptorDetails(EditSpecialistDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
-        descriptor.getPhone().ifPresent(phone -> sb.append(PREFIX_PHONE).append(phone.value).append(" "));
+        descriptor.getPhone().ifPresent(phone -> sb.append(PREFIX_PHONE).append(phone.getValue()).append(" "));
         descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_EMAIL).append(email.value).append(" "));
         descriptor.getLocation().ifPresent(address -> sb.append(PREFIX_LOCATION).append(address.value).append(" "));
         descriptor.getSpecialty().ifPresent(specialty -> sb.append(PREFIX_SPECIALTY).append(specialty.value)
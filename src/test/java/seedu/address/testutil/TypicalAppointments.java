@@ -0,0 +1,63 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Specialist;
+
+/**
+ * A utility class containing a list of {@code Appointment} objects between the typical persons to be used in tests.
+ */
+public class TypicalAppointments {
+
+    public static final Appointment ALICE_WITH_ELLE = appointment(ALICE, ELLE, "2023-11-20 09:00", "2023-11-20 10:00");
+    public static final Appointment BENSON_WITH_ELLE =
+            appointment(BENSON, ELLE, "2023-11-20 10:00", "2023-11-20 11:00");
+    public static final Appointment ALICE_WITH_FIONA =
+            appointment(ALICE, FIONA, "2023-11-20 14:00", "2023-11-20 15:00");
+    public static final Appointment CARL_WITH_GEORGE =
+            appointment(CARL, GEORGE, "2023-11-22 09:30", "2023-11-22 10:30");
+
+    private TypicalAppointments() {} // prevents instantiation
+
+    /**
+     * Returns the appointment between {@code patient} and {@code specialist} from {@code start} to {@code end}, both
+     * in the format YYYY-MM-DD HH:MM.
+     */
+    public static Appointment appointment(Patient patient, Specialist specialist, String start, String end) {
+        return new Appointment(patient.getName(), specialist.getName(), timeSlot(start, end));
+    }
+
+    /**
+     * Returns the time slot from {@code start} to {@code end}, both in the format YYYY-MM-DD HH:MM.
+     */
+    public static TimeSlot timeSlot(String start, String end) {
+        return new TimeSlot(LocalDateTime.parse(start, TimeSlot.DATE_TIME_FORMATTER),
+                LocalDateTime.parse(end, TimeSlot.DATE_TIME_FORMATTER));
+    }
+
+    /**
+     * Returns an {@code AddressBook} with all the typical persons and appointments.
+     */
+    public static AddressBook getTypicalAddressBookWithAppointments() {
+        AddressBook ab = getTypicalAddressBook();
+        ab.setAppointments(getTypicalAppointments());
+        return ab;
+    }
+
+    public static List<Appointment> getTypicalAppointments() {
+        return List.of(ALICE_WITH_ELLE, BENSON_WITH_ELLE, ALICE_WITH_FIONA, CARL_WITH_GEORGE);
+    }
+}